@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.benchmarks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.provider.Arguments;
+
+public class Corpus {
+
+  private final Object[][] samples;
+  private int cursor;
+
+  private Corpus(Object[][] samples) {
+    if (samples.length == 0)
+      throw new IllegalStateException("corpus must contain at least one usable sample");
+    this.samples = samples;
+  }
+
+  /*
+   * Builds a corpus from the JSON sample based test arguments by dropping the expected
+   * result (i.e. the last argument), all samples with null parameters and all samples
+   * for which the probe throws when applying the UDF under benchmark.
+   */
+  public static Corpus of(Stream<Arguments> arguments, Consumer<Object[]> probe) {
+    return new Corpus(arguments
+        .map(Arguments::get)
+        .map(a -> Arrays.copyOf(a, a.length - 1))
+        .filter(a -> Arrays.stream(a).allMatch(Objects::nonNull))
+        .filter(a -> {
+          try {
+            probe.accept(a);
+            return true;
+          } catch (RuntimeException e) {
+            return false;
+          }
+        })
+        .toArray(Object[][]::new)
+    );
+  }
+
+  public static Corpus of(Object[]... samples) {
+    return new Corpus(samples);
+  }
+
+  /*
+   * replaces the argument at the given index with a list repeating it the given number of times
+   * which allows to feed the samples of single value UDFs into their array based overloads
+   */
+  public static Arguments withList(Arguments arguments, int index, int times) {
+    Object[] a = arguments.get().clone();
+    a[index] = a[index] != null ? Collections.nCopies(times, a[index]) : null;
+    return Arguments.of(a);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> List<T> list(Object argument) {
+    return (List<T>) argument;
+  }
+
+  public Object[] next() {
+    if (cursor == samples.length)
+      cursor = 0;
+    return samples[cursor++];
+  }
+
+  public int size() {
+    return samples.length;
+  }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.benchmarks;
+
+import com.github.hpgrahsl.ksqldb.functions.DurationUdfsArgumentsProvider;
+import com.github.hpgrahsl.ksqldb.functions.UdfDuration;
+import com.github.hpgrahsl.ksqldb.functions.UdfDurationBetween;
+import com.github.hpgrahsl.ksqldb.functions.UdfDurationDivide;
+import com.github.hpgrahsl.ksqldb.functions.UdfDurationMinus;
+import com.github.hpgrahsl.ksqldb.functions.UdfDurationMultiply;
+import com.github.hpgrahsl.ksqldb.functions.UdfDurationPlus;
+import com.github.hpgrahsl.ksqldb.functions.UdfDurationStringify;
+import com.github.hpgrahsl.ksqldb.functions.UdfTryDuration;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DurationUdfsBenchmark {
+
+  private final UdfDuration udfDuration = new UdfDuration();
+  private final UdfDurationBetween udfDurationBetween = new UdfDurationBetween();
+  private final UdfDurationDivide udfDurationDivide = new UdfDurationDivide();
+  private final UdfDurationMinus udfDurationMinus = new UdfDurationMinus();
+  private final UdfDurationMultiply udfDurationMultiply = new UdfDurationMultiply();
+  private final UdfDurationPlus udfDurationPlus = new UdfDurationPlus();
+  private final UdfDurationStringify udfDurationStringify = new UdfDurationStringify();
+  private final UdfTryDuration udfTryDuration = new UdfTryDuration();
+
+  private Corpus createSeconds;
+  private Corpus createSecondsNanos;
+  private Corpus createText;
+  private Corpus betweenLocalTimes;
+  private Corpus divideByLong;
+  private Corpus divideByDuration;
+  private Corpus minusDuration;
+  private Corpus minusDurations;
+  private Corpus multiplyByLong;
+  private Corpus plusDuration;
+  private Corpus plusDurations;
+  private Corpus stringify;
+  private Corpus tryCreateText;
+
+  @Setup
+  public void setup() {
+    createSeconds = Corpus.of(DurationUdfsArgumentsProvider.createDurationSamplesSeconds(),
+        a -> udfDuration.createDuration((Long) a[0]));
+    createSecondsNanos = Corpus.of(DurationUdfsArgumentsProvider.createDurationSamplesSecondsNanos(),
+        a -> udfDuration.createDuration((Long) a[0], (Long) a[1]));
+    createText = Corpus.of(DurationUdfsArgumentsProvider.createDurationSamplesString(),
+        a -> udfDuration.createDuration((String) a[0]));
+    betweenLocalTimes = Corpus.of(DurationUdfsArgumentsProvider.betweenSamplesStructStruct(),
+        a -> udfDurationBetween.between((Struct) a[0], (Struct) a[1]));
+    divideByLong = Corpus.of(DurationUdfsArgumentsProvider.divideSamplesStructLong(),
+        a -> udfDurationDivide.divide((Struct) a[0], (Long) a[1]));
+    divideByDuration = Corpus.of(DurationUdfsArgumentsProvider.divideSamplesStructStruct(),
+        a -> udfDurationDivide.divide((Struct) a[0], (Struct) a[1]));
+    minusDuration = Corpus.of(DurationUdfsArgumentsProvider.minusSamplesStructStruct(),
+        a -> udfDurationMinus.minus((Struct) a[0], (Struct) a[1]));
+    minusDurations = Corpus.of(DurationUdfsArgumentsProvider.minusSamplesStructStruct()
+            .map(a -> Corpus.withList(a, 1, 8)),
+        a -> udfDurationMinus.minus((Struct) a[0], Corpus.<Struct>list(a[1])));
+    multiplyByLong = Corpus.of(DurationUdfsArgumentsProvider.multiplySamplesStructLong(),
+        a -> udfDurationMultiply.multiply((Struct) a[0], (Long) a[1]));
+    plusDuration = Corpus.of(DurationUdfsArgumentsProvider.plusSamplesStructStruct(),
+        a -> udfDurationPlus.plus((Struct) a[0], (Struct) a[1]));
+    plusDurations = Corpus.of(DurationUdfsArgumentsProvider.plusSamplesStructStruct()
+            .map(a -> Corpus.withList(a, 1, 8)),
+        a -> udfDurationPlus.plus((Struct) a[0], Corpus.<Struct>list(a[1])));
+    stringify = Corpus.of(DurationUdfsArgumentsProvider.stringifySamples(),
+        a -> udfDurationStringify.stringify((Struct) a[0]));
+    tryCreateText = Corpus.of(DurationUdfsArgumentsProvider.tryCreateDurationSamplesText(),
+        a -> udfTryDuration.tryCreateDuration((String) a[0], (Struct) a[1]));
+  }
+
+  @Benchmark
+  public Struct createDurationZero() {
+    return udfDuration.createDuration();
+  }
+
+  @Benchmark
+  public Struct createDurationSeconds() {
+    Object[] a = createSeconds.next();
+    return udfDuration.createDuration((Long) a[0]);
+  }
+
+  @Benchmark
+  public Struct createDurationSecondsNanos() {
+    Object[] a = createSecondsNanos.next();
+    return udfDuration.createDuration((Long) a[0], (Long) a[1]);
+  }
+
+  @Benchmark
+  public Struct createDurationText() {
+    Object[] a = createText.next();
+    return udfDuration.createDuration((String) a[0]);
+  }
+
+  @Benchmark
+  public Struct betweenLocalTimes() {
+    Object[] a = betweenLocalTimes.next();
+    return udfDurationBetween.between((Struct) a[0], (Struct) a[1]);
+  }
+
+  @Benchmark
+  public Struct betweenLocalTimeAndNow() {
+    Object[] a = betweenLocalTimes.next();
+    return udfDurationBetween.between((Struct) a[0]);
+  }
+
+  @Benchmark
+  public Struct divideByLong() {
+    Object[] a = divideByLong.next();
+    return udfDurationDivide.divide((Struct) a[0], (Long) a[1]);
+  }
+
+  @Benchmark
+  public Long divideByDuration() {
+    Object[] a = divideByDuration.next();
+    return udfDurationDivide.divide((Struct) a[0], (Struct) a[1]);
+  }
+
+  @Benchmark
+  public Struct minusDuration() {
+    Object[] a = minusDuration.next();
+    return udfDurationMinus.minus((Struct) a[0], (Struct) a[1]);
+  }
+
+  @Benchmark
+  public Struct minusDurations() {
+    Object[] a = minusDurations.next();
+    return udfDurationMinus.minus((Struct) a[0], Corpus.<Struct>list(a[1]));
+  }
+
+  @Benchmark
+  public Struct multiplyByLong() {
+    Object[] a = multiplyByLong.next();
+    return udfDurationMultiply.multiply((Struct) a[0], (Long) a[1]);
+  }
+
+  @Benchmark
+  public Struct plusDuration() {
+    Object[] a = plusDuration.next();
+    return udfDurationPlus.plus((Struct) a[0], (Struct) a[1]);
+  }
+
+  @Benchmark
+  public Struct plusDurations() {
+    Object[] a = plusDurations.next();
+    return udfDurationPlus.plus((Struct) a[0], Corpus.<Struct>list(a[1]));
+  }
+
+  @Benchmark
+  public String stringify() {
+    Object[] a = stringify.next();
+    return udfDurationStringify.stringify((Struct) a[0]);
+  }
+
+  @Benchmark
+  public Struct tryCreateDurationText() {
+    Object[] a = tryCreateText.next();
+    return udfTryDuration.tryCreateDuration((String) a[0], (Struct) a[1]);
+  }
+
+}
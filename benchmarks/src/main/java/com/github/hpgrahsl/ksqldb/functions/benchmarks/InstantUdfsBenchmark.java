@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.benchmarks;
+
+import com.github.hpgrahsl.ksqldb.functions.InstantUdfsArgumentsProvider;
+import com.github.hpgrahsl.ksqldb.functions.UdfInstant;
+import com.github.hpgrahsl.ksqldb.functions.UdfInstantAtZone;
+import com.github.hpgrahsl.ksqldb.functions.UdfInstantChronology;
+import com.github.hpgrahsl.ksqldb.functions.UdfInstantMinus;
+import com.github.hpgrahsl.ksqldb.functions.UdfInstantPlus;
+import com.github.hpgrahsl.ksqldb.functions.UdfInstantStringify;
+import com.github.hpgrahsl.ksqldb.functions.UdfInstantTruncate;
+import com.github.hpgrahsl.ksqldb.functions.UdfTryInstant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InstantUdfsBenchmark {
+
+  private final UdfInstant udfInstant = new UdfInstant();
+  private final UdfInstantAtZone udfInstantAtZone = new UdfInstantAtZone();
+  private final UdfInstantChronology udfInstantChronology = new UdfInstantChronology();
+  private final UdfInstantMinus udfInstantMinus = new UdfInstantMinus();
+  private final UdfInstantPlus udfInstantPlus = new UdfInstantPlus();
+  private final UdfInstantStringify udfInstantStringify = new UdfInstantStringify();
+  private final UdfInstantTruncate udfInstantTruncate = new UdfInstantTruncate();
+  private final UdfTryInstant udfTryInstant = new UdfTryInstant();
+
+  private Corpus atZone;
+  private Corpus atZones;
+  private Corpus createMillis;
+  private Corpus createSecondsNanos;
+  private Corpus createText;
+  private Corpus chronology;
+  private Corpus minusDuration;
+  private Corpus minusSecondsNanos;
+  private Corpus plusDuration;
+  private Corpus plusSecondsNanos;
+  private Corpus stringify;
+  private Corpus truncateDuration;
+  private Corpus truncateCalendarUnit;
+  private Corpus tryCreateText;
+
+  @Setup
+  public void setup() {
+    atZone = Corpus.of(InstantUdfsArgumentsProvider.atZoneSamples(),
+        a -> udfInstantAtZone.atZone((Struct) a[0], (Struct) a[1]));
+    atZones = Corpus.of(InstantUdfsArgumentsProvider.atZoneSamples()
+            .map(a -> Corpus.withList(a, 1, 10)),
+        a -> udfInstantAtZone.atZone((Struct) a[0], Corpus.<Struct>list(a[1])));
+    createMillis = Corpus.of(InstantUdfsArgumentsProvider.createInstantSamplesMillis(),
+        a -> udfInstant.createInstant((Long) a[0]));
+    createSecondsNanos = Corpus.of(InstantUdfsArgumentsProvider.createInstantSamplesSecondsNanos(),
+        a -> udfInstant.createInstant((Long) a[0], (Long) a[1]));
+    createText = Corpus.of(InstantUdfsArgumentsProvider.createInstantSamplesString(),
+        a -> udfInstant.createInstant((String) a[0]));
+    chronology = Corpus.of(InstantUdfsArgumentsProvider.checkChronologySamples(),
+        a -> udfInstantChronology.checkChronology((Struct) a[0], (Struct) a[1], (String) a[2]));
+    minusDuration = Corpus.of(InstantUdfsArgumentsProvider.minusSamplesDuration(),
+        a -> udfInstantMinus.minus((Struct) a[0], (Struct) a[1]));
+    minusSecondsNanos = Corpus.of(InstantUdfsArgumentsProvider.minusSamplesSecondsNanos(),
+        a -> udfInstantMinus.minus((Struct) a[0], (Long) a[1], (Long) a[2]));
+    plusDuration = Corpus.of(InstantUdfsArgumentsProvider.plusSamplesDuration(),
+        a -> udfInstantPlus.plus((Struct) a[0], (Struct) a[1]));
+    plusSecondsNanos = Corpus.of(InstantUdfsArgumentsProvider.plusSamplesSecondsNanos(),
+        a -> udfInstantPlus.plus((Struct) a[0], (Long) a[1], (Long) a[2]));
+    stringify = Corpus.of(InstantUdfsArgumentsProvider.stringifySamples(),
+        a -> udfInstantStringify.stringify((Struct) a[0]));
+    truncateDuration = Corpus.of(InstantUdfsArgumentsProvider.truncateSamplesDuration(),
+        a -> udfInstantTruncate.truncate((Struct) a[0], (Struct) a[1], (Struct) a[2]));
+    truncateCalendarUnit = Corpus.of(InstantUdfsArgumentsProvider.truncateSamplesCalendarUnit(),
+        a -> udfInstantTruncate.truncate((Struct) a[0], (String) a[1], (Struct) a[2]));
+    tryCreateText = Corpus.of(InstantUdfsArgumentsProvider.tryCreateInstantSamplesText(),
+        a -> udfTryInstant.tryCreateInstant((String) a[0], (Struct) a[1]));
+  }
+
+  @Benchmark
+  public Struct createInstantNow() {
+    return udfInstant.createInstant();
+  }
+
+  @Benchmark
+  public Struct createInstantMillis() {
+    Object[] a = createMillis.next();
+    return udfInstant.createInstant((Long) a[0]);
+  }
+
+  @Benchmark
+  public Struct createInstantSecondsNanos() {
+    Object[] a = createSecondsNanos.next();
+    return udfInstant.createInstant((Long) a[0], (Long) a[1]);
+  }
+
+  @Benchmark
+  public Struct createInstantText() {
+    Object[] a = createText.next();
+    return udfInstant.createInstant((String) a[0]);
+  }
+
+  @Benchmark
+  public Boolean checkChronology() {
+    Object[] a = chronology.next();
+    return udfInstantChronology.checkChronology((Struct) a[0], (Struct) a[1], (String) a[2]);
+  }
+
+  @Benchmark
+  public Struct minusDuration() {
+    Object[] a = minusDuration.next();
+    return udfInstantMinus.minus((Struct) a[0], (Struct) a[1]);
+  }
+
+  @Benchmark
+  public Struct minusSecondsNanos() {
+    Object[] a = minusSecondsNanos.next();
+    return udfInstantMinus.minus((Struct) a[0], (Long) a[1], (Long) a[2]);
+  }
+
+  @Benchmark
+  public Struct plusDuration() {
+    Object[] a = plusDuration.next();
+    return udfInstantPlus.plus((Struct) a[0], (Struct) a[1]);
+  }
+
+  @Benchmark
+  public Struct plusSecondsNanos() {
+    Object[] a = plusSecondsNanos.next();
+    return udfInstantPlus.plus((Struct) a[0], (Long) a[1], (Long) a[2]);
+  }
+
+  @Benchmark
+  public String stringify() {
+    Object[] a = stringify.next();
+    return udfInstantStringify.stringify((Struct) a[0]);
+  }
+
+  @Benchmark
+  public Struct truncateDuration() {
+    Object[] a = truncateDuration.next();
+    return udfInstantTruncate.truncate((Struct) a[0], (Struct) a[1], (Struct) a[2]);
+  }
+
+  @Benchmark
+  public Struct truncateCalendarUnit() {
+    Object[] a = truncateCalendarUnit.next();
+    return udfInstantTruncate.truncate((Struct) a[0], (String) a[1], (Struct) a[2]);
+  }
+
+  @Benchmark
+  public Struct atZone() {
+    Object[] a = atZone.next();
+    return udfInstantAtZone.atZone((Struct) a[0], (Struct) a[1]);
+  }
+
+  @Benchmark
+  public List<Struct> atZones() {
+    Object[] a = atZones.next();
+    return udfInstantAtZone.atZone((Struct) a[0], Corpus.<Struct>list(a[1]));
+  }
+
+  @Benchmark
+  public Struct tryCreateInstantText() {
+    Object[] a = tryCreateText.next();
+    return udfTryInstant.tryCreateInstant((String) a[0], (Struct) a[1]);
+  }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.benchmarks;
+
+import com.github.hpgrahsl.ksqldb.functions.LocalDateTimeUdfsArgumentsProvider;
+import com.github.hpgrahsl.ksqldb.functions.UdfLocalDateTime;
+import com.github.hpgrahsl.ksqldb.functions.UdfLocalDateTimeChronology;
+import com.github.hpgrahsl.ksqldb.functions.UdfLocalDateTimeFormat;
+import com.github.hpgrahsl.ksqldb.functions.UdfLocalDateTimeMinus;
+import com.github.hpgrahsl.ksqldb.functions.UdfLocalDateTimePlus;
+import com.github.hpgrahsl.ksqldb.functions.UdfTryLocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocalDateTimeUdfsBenchmark {
+
+  private final UdfLocalDateTime udfLocalDateTime = new UdfLocalDateTime();
+  private final UdfLocalDateTimeChronology udfLocalDateTimeChronology = new UdfLocalDateTimeChronology();
+  private final UdfLocalDateTimeFormat udfLocalDateTimeFormat = new UdfLocalDateTimeFormat();
+  private final UdfLocalDateTimeMinus udfLocalDateTimeMinus = new UdfLocalDateTimeMinus();
+  private final UdfLocalDateTimePlus udfLocalDateTimePlus = new UdfLocalDateTimePlus();
+  private final UdfTryLocalDateTime udfTryLocalDateTime = new UdfTryLocalDateTime();
+
+  private Corpus createLocalDateLocalTime;
+  private Corpus createAllParts;
+  private Corpus createEpochMillis;
+  private Corpus createText;
+  private Corpus createTextPattern;
+  private Corpus chronology;
+  private Corpus format;
+  private Corpus formatPattern;
+  private Corpus minusPeriodDuration;
+  private Corpus plusPeriodDuration;
+  private Corpus tryCreateText;
+
+  @Setup
+  public void setup() {
+    createLocalDateLocalTime = Corpus.of(LocalDateTimeUdfsArgumentsProvider.createLocalDateTimeSamplesLocalDateLocalTime(),
+        a -> udfLocalDateTime.createLocalDateTime((Struct) a[0], (Struct) a[1]));
+    createAllParts = Corpus.of(LocalDateTimeUdfsArgumentsProvider.createLocalDateTimeSamplesAllParts(),
+        a -> udfLocalDateTime.createLocalDateTime((Integer) a[0], (Integer) a[1], (Integer) a[2], (Integer) a[3], (Integer) a[4], (Integer) a[5], (Integer) a[6]));
+    createEpochMillis = Corpus.of(LocalDateTimeUdfsArgumentsProvider.createLocalDateTimeSamplesEpochMillis(),
+        a -> udfLocalDateTime.createLocalDateTime((Long) a[0]));
+    createText = Corpus.of(LocalDateTimeUdfsArgumentsProvider.createLocalDateTimeSamplesText(),
+        a -> udfLocalDateTime.createLocalDateTime((String) a[0]));
+    createTextPattern = Corpus.of(LocalDateTimeUdfsArgumentsProvider.createLocalDateTimeSamplesTextPattern(),
+        a -> udfLocalDateTime.createLocalDateTime((String) a[0], (String) a[1]));
+    chronology = Corpus.of(LocalDateTimeUdfsArgumentsProvider.chronologySamples(),
+        a -> udfLocalDateTimeChronology.check((Struct) a[0], (Struct) a[1], (String) a[2]));
+    format = Corpus.of(LocalDateTimeUdfsArgumentsProvider.formatSamples(),
+        a -> udfLocalDateTimeFormat.format((Struct) a[0]));
+    formatPattern = Corpus.of(LocalDateTimeUdfsArgumentsProvider.formatPatternSamples(),
+        a -> udfLocalDateTimeFormat.format((Struct) a[0], (String) a[1]));
+    minusPeriodDuration = Corpus.of(LocalDateTimeUdfsArgumentsProvider.minusSamplesBaseLocalDateTimePeriodDuration(),
+        a -> udfLocalDateTimeMinus.minus((Struct) a[0], (Struct) a[1], (Struct) a[2]));
+    plusPeriodDuration = Corpus.of(LocalDateTimeUdfsArgumentsProvider.plusSamplesBaseLocalDateTimePeriodDuration(),
+        a -> udfLocalDateTimePlus.plus((Struct) a[0], (Struct) a[1], (Struct) a[2]));
+    tryCreateText = Corpus.of(LocalDateTimeUdfsArgumentsProvider.tryCreateLocalDateTimeSamplesText(),
+        a -> udfTryLocalDateTime.tryCreateLocalDateTime((String) a[0], (Struct) a[1]));
+  }
+
+  @Benchmark
+  public Struct createLocalDateTimeNow() {
+    return udfLocalDateTime.createLocalDateTime();
+  }
+
+  @Benchmark
+  public Struct createLocalDateTimeLocalDateLocalTime() {
+    Object[] a = createLocalDateLocalTime.next();
+    return udfLocalDateTime.createLocalDateTime((Struct) a[0], (Struct) a[1]);
+  }
+
+  @Benchmark
+  public Struct createLocalDateTimeAllParts() {
+    Object[] a = createAllParts.next();
+    return udfLocalDateTime.createLocalDateTime((Integer) a[0], (Integer) a[1], (Integer) a[2], (Integer) a[3], (Integer) a[4], (Integer) a[5], (Integer) a[6]);
+  }
+
+  @Benchmark
+  public Struct createLocalDateTimeEpochMillis() {
+    Object[] a = createEpochMillis.next();
+    return udfLocalDateTime.createLocalDateTime((Long) a[0]);
+  }
+
+  @Benchmark
+  public Struct createLocalDateTimeText() {
+    Object[] a = createText.next();
+    return udfLocalDateTime.createLocalDateTime((String) a[0]);
+  }
+
+  @Benchmark
+  public Struct createLocalDateTimeTextPattern() {
+    Object[] a = createTextPattern.next();
+    return udfLocalDateTime.createLocalDateTime((String) a[0], (String) a[1]);
+  }
+
+  @Benchmark
+  public Boolean check() {
+    Object[] a = chronology.next();
+    return udfLocalDateTimeChronology.check((Struct) a[0], (Struct) a[1], (String) a[2]);
+  }
+
+  @Benchmark
+  public String format() {
+    Object[] a = format.next();
+    return udfLocalDateTimeFormat.format((Struct) a[0]);
+  }
+
+  @Benchmark
+  public String formatPattern() {
+    Object[] a = formatPattern.next();
+    return udfLocalDateTimeFormat.format((Struct) a[0], (String) a[1]);
+  }
+
+  @Benchmark
+  public Struct minusPeriodDuration() {
+    Object[] a = minusPeriodDuration.next();
+    return udfLocalDateTimeMinus.minus((Struct) a[0], (Struct) a[1], (Struct) a[2]);
+  }
+
+  @Benchmark
+  public Struct minusAllParts() {
+    Object[] a = minusPeriodDuration.next();
+    return udfLocalDateTimeMinus.minus((Struct) a[0], 1, 2, 3, 4, 5, 6, 7);
+  }
+
+  @Benchmark
+  public Struct plusPeriodDuration() {
+    Object[] a = plusPeriodDuration.next();
+    return udfLocalDateTimePlus.plus((Struct) a[0], (Struct) a[1], (Struct) a[2]);
+  }
+
+  @Benchmark
+  public Struct plusAllParts() {
+    Object[] a = plusPeriodDuration.next();
+    return udfLocalDateTimePlus.plus((Struct) a[0], 1, 2, 3, 4, 5, 6, 7);
+  }
+
+  @Benchmark
+  public Struct tryCreateLocalDateTimeText() {
+    Object[] a = tryCreateText.next();
+    return udfTryLocalDateTime.tryCreateLocalDateTime((String) a[0], (Struct) a[1]);
+  }
+
+}
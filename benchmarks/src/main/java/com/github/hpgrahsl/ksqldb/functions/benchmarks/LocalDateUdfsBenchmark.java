@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.benchmarks;
+
+import com.github.hpgrahsl.ksqldb.functions.LocalDateUdfsArgumentsProvider;
+import com.github.hpgrahsl.ksqldb.functions.UdfLocalDate;
+import com.github.hpgrahsl.ksqldb.functions.UdfLocalDateChronology;
+import com.github.hpgrahsl.ksqldb.functions.UdfLocalDateFormat;
+import com.github.hpgrahsl.ksqldb.functions.UdfLocalDateMinus;
+import com.github.hpgrahsl.ksqldb.functions.UdfLocalDatePlus;
+import com.github.hpgrahsl.ksqldb.functions.UdfTryLocalDate;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocalDateUdfsBenchmark {
+
+  private final UdfLocalDate udfLocalDate = new UdfLocalDate();
+  private final UdfLocalDateChronology udfLocalDateChronology = new UdfLocalDateChronology();
+  private final UdfLocalDateFormat udfLocalDateFormat = new UdfLocalDateFormat();
+  private final UdfLocalDateMinus udfLocalDateMinus = new UdfLocalDateMinus();
+  private final UdfLocalDatePlus udfLocalDatePlus = new UdfLocalDatePlus();
+  private final UdfTryLocalDate udfTryLocalDate = new UdfTryLocalDate();
+
+  private Corpus createYearMonthDay;
+  private Corpus createEpochDays;
+  private Corpus createText;
+  private Corpus createTextPattern;
+  private Corpus chronology;
+  private Corpus format;
+  private Corpus formatPattern;
+  private Corpus minusPeriod;
+  private Corpus plusPeriod;
+  private Corpus tryCreateText;
+
+  @Setup
+  public void setup() {
+    createYearMonthDay = Corpus.of(LocalDateUdfsArgumentsProvider.createLocalDateSamplesYearsMonthsDays(),
+        a -> udfLocalDate.createLocalDate((Integer) a[0], (Integer) a[1], (Integer) a[2]));
+    createEpochDays = Corpus.of(LocalDateUdfsArgumentsProvider.createLocalDateSamplesEpochDays(),
+        a -> udfLocalDate.createLocalDate((Long) a[0]));
+    createText = Corpus.of(LocalDateUdfsArgumentsProvider.createLocalDateSamplesText(),
+        a -> udfLocalDate.createLocalDate((String) a[0]));
+    createTextPattern = Corpus.of(LocalDateUdfsArgumentsProvider.createLocalDateSamplesTextPattern(),
+        a -> udfLocalDate.createLocalDate((String) a[0], (String) a[1]));
+    chronology = Corpus.of(LocalDateUdfsArgumentsProvider.chronologySamples(),
+        a -> udfLocalDateChronology.check((Struct) a[0], (Struct) a[1], (String) a[2]));
+    format = Corpus.of(LocalDateUdfsArgumentsProvider.formatSamples(),
+        a -> udfLocalDateFormat.format((Struct) a[0]));
+    formatPattern = Corpus.of(LocalDateUdfsArgumentsProvider.formatPatternSamples(),
+        a -> udfLocalDateFormat.format((Struct) a[0], (String) a[1]));
+    minusPeriod = Corpus.of(LocalDateUdfsArgumentsProvider.minusSamplesBaseLocalDatePeriod(),
+        a -> udfLocalDateMinus.minus((Struct) a[0], (Struct) a[1]));
+    plusPeriod = Corpus.of(LocalDateUdfsArgumentsProvider.plusSamplesBaseLocalDatePeriod(),
+        a -> udfLocalDatePlus.plus((Struct) a[0], (Struct) a[1]));
+    tryCreateText = Corpus.of(LocalDateUdfsArgumentsProvider.tryCreateLocalDateSamplesText(),
+        a -> udfTryLocalDate.tryCreateLocalDate((String) a[0], (Struct) a[1]));
+  }
+
+  @Benchmark
+  public Struct createLocalDateNow() {
+    return udfLocalDate.createLocalDate();
+  }
+
+  @Benchmark
+  public Struct createLocalDateYearMonthDay() {
+    Object[] a = createYearMonthDay.next();
+    return udfLocalDate.createLocalDate((Integer) a[0], (Integer) a[1], (Integer) a[2]);
+  }
+
+  @Benchmark
+  public Struct createLocalDateEpochDays() {
+    Object[] a = createEpochDays.next();
+    return udfLocalDate.createLocalDate((Long) a[0]);
+  }
+
+  @Benchmark
+  public Struct createLocalDateText() {
+    Object[] a = createText.next();
+    return udfLocalDate.createLocalDate((String) a[0]);
+  }
+
+  @Benchmark
+  public Struct createLocalDateTextPattern() {
+    Object[] a = createTextPattern.next();
+    return udfLocalDate.createLocalDate((String) a[0], (String) a[1]);
+  }
+
+  @Benchmark
+  public Boolean check() {
+    Object[] a = chronology.next();
+    return udfLocalDateChronology.check((Struct) a[0], (Struct) a[1], (String) a[2]);
+  }
+
+  @Benchmark
+  public String format() {
+    Object[] a = format.next();
+    return udfLocalDateFormat.format((Struct) a[0]);
+  }
+
+  @Benchmark
+  public String formatPattern() {
+    Object[] a = formatPattern.next();
+    return udfLocalDateFormat.format((Struct) a[0], (String) a[1]);
+  }
+
+  @Benchmark
+  public Struct minusPeriod() {
+    Object[] a = minusPeriod.next();
+    return udfLocalDateMinus.minus((Struct) a[0], (Struct) a[1]);
+  }
+
+  @Benchmark
+  public Struct minusYearsMonthsDays() {
+    Object[] a = minusPeriod.next();
+    return udfLocalDateMinus.minus((Struct) a[0], 1, 2, 3);
+  }
+
+  @Benchmark
+  public Struct plusPeriod() {
+    Object[] a = plusPeriod.next();
+    return udfLocalDatePlus.plus((Struct) a[0], (Struct) a[1]);
+  }
+
+  @Benchmark
+  public Struct plusYearsMonthsDays() {
+    Object[] a = plusPeriod.next();
+    return udfLocalDatePlus.plus((Struct) a[0], 1, 2, 3);
+  }
+
+  @Benchmark
+  public Struct tryCreateLocalDateText() {
+    Object[] a = tryCreateText.next();
+    return udfTryLocalDate.tryCreateLocalDate((String) a[0], (Struct) a[1]);
+  }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.benchmarks;
+
+import com.github.hpgrahsl.ksqldb.functions.LocalTimeUdfsArgumentsProvider;
+import com.github.hpgrahsl.ksqldb.functions.UdfLocalTime;
+import com.github.hpgrahsl.ksqldb.functions.UdfLocalTimeChronology;
+import com.github.hpgrahsl.ksqldb.functions.UdfLocalTimeFormat;
+import com.github.hpgrahsl.ksqldb.functions.UdfLocalTimeMinus;
+import com.github.hpgrahsl.ksqldb.functions.UdfLocalTimePlus;
+import com.github.hpgrahsl.ksqldb.functions.UdfTryLocalTime;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocalTimeUdfsBenchmark {
+
+  private final UdfLocalTime udfLocalTime = new UdfLocalTime();
+  private final UdfLocalTimeChronology udfLocalTimeChronology = new UdfLocalTimeChronology();
+  private final UdfLocalTimeFormat udfLocalTimeFormat = new UdfLocalTimeFormat();
+  private final UdfLocalTimeMinus udfLocalTimeMinus = new UdfLocalTimeMinus();
+  private final UdfLocalTimePlus udfLocalTimePlus = new UdfLocalTimePlus();
+  private final UdfTryLocalTime udfTryLocalTime = new UdfTryLocalTime();
+
+  private Corpus createHourMinuteSecond;
+  private Corpus createHourMinuteSecondNano;
+  private Corpus createText;
+  private Corpus createTextPattern;
+  private Corpus chronology;
+  private Corpus format;
+  private Corpus formatPattern;
+  private Corpus minusDuration;
+  private Corpus plusDuration;
+  private Corpus tryCreateText;
+
+  @Setup
+  public void setup() {
+    createHourMinuteSecond = Corpus.of(LocalTimeUdfsArgumentsProvider.createLocalTimeSamplesHoursMinutesSeconds(),
+        a -> udfLocalTime.createLocalTime((Integer) a[0], (Integer) a[1], (Integer) a[2]));
+    createHourMinuteSecondNano = Corpus.of(LocalTimeUdfsArgumentsProvider.createLocalTimeSamplesHoursMinutesSecondsNanos(),
+        a -> udfLocalTime.createLocalTime((Integer) a[0], (Integer) a[1], (Integer) a[2], (Integer) a[3]));
+    createText = Corpus.of(LocalTimeUdfsArgumentsProvider.createLocalTimeSamplesText(),
+        a -> udfLocalTime.createLocalTime((String) a[0]));
+    createTextPattern = Corpus.of(LocalTimeUdfsArgumentsProvider.createLocalTimeSamplesTextPattern(),
+        a -> udfLocalTime.createLocalTime((String) a[0], (String) a[1]));
+    chronology = Corpus.of(LocalTimeUdfsArgumentsProvider.chronologySamples(),
+        a -> udfLocalTimeChronology.check((Struct) a[0], (Struct) a[1], (String) a[2]));
+    format = Corpus.of(LocalTimeUdfsArgumentsProvider.formatSamples(),
+        a -> udfLocalTimeFormat.format((Struct) a[0]));
+    formatPattern = Corpus.of(LocalTimeUdfsArgumentsProvider.formatPatternSamples(),
+        a -> udfLocalTimeFormat.format((Struct) a[0], (String) a[1]));
+    minusDuration = Corpus.of(LocalTimeUdfsArgumentsProvider.minusSamplesBaseLocalTimeDuration(),
+        a -> udfLocalTimeMinus.minus((Struct) a[0], (Struct) a[1]));
+    plusDuration = Corpus.of(LocalTimeUdfsArgumentsProvider.plusSamplesBaseLocalTimeDuration(),
+        a -> udfLocalTimePlus.plus((Struct) a[0], (Struct) a[1]));
+    tryCreateText = Corpus.of(LocalTimeUdfsArgumentsProvider.tryCreateLocalTimeSamplesText(),
+        a -> udfTryLocalTime.tryCreateLocalTime((String) a[0], (Struct) a[1]));
+  }
+
+  @Benchmark
+  public Struct createLocalTimeNow() {
+    return udfLocalTime.createLocalTime();
+  }
+
+  @Benchmark
+  public Struct createLocalTimeHourMinuteSecond() {
+    Object[] a = createHourMinuteSecond.next();
+    return udfLocalTime.createLocalTime((Integer) a[0], (Integer) a[1], (Integer) a[2]);
+  }
+
+  @Benchmark
+  public Struct createLocalTimeHourMinuteSecondNano() {
+    Object[] a = createHourMinuteSecondNano.next();
+    return udfLocalTime.createLocalTime((Integer) a[0], (Integer) a[1], (Integer) a[2], (Integer) a[3]);
+  }
+
+  @Benchmark
+  public Struct createLocalTimeText() {
+    Object[] a = createText.next();
+    return udfLocalTime.createLocalTime((String) a[0]);
+  }
+
+  @Benchmark
+  public Struct createLocalTimeTextPattern() {
+    Object[] a = createTextPattern.next();
+    return udfLocalTime.createLocalTime((String) a[0], (String) a[1]);
+  }
+
+  @Benchmark
+  public Boolean check() {
+    Object[] a = chronology.next();
+    return udfLocalTimeChronology.check((Struct) a[0], (Struct) a[1], (String) a[2]);
+  }
+
+  @Benchmark
+  public String format() {
+    Object[] a = format.next();
+    return udfLocalTimeFormat.format((Struct) a[0]);
+  }
+
+  @Benchmark
+  public String formatPattern() {
+    Object[] a = formatPattern.next();
+    return udfLocalTimeFormat.format((Struct) a[0], (String) a[1]);
+  }
+
+  @Benchmark
+  public Struct minusDuration() {
+    Object[] a = minusDuration.next();
+    return udfLocalTimeMinus.minus((Struct) a[0], (Struct) a[1]);
+  }
+
+  @Benchmark
+  public Struct minusHoursMinutesSecondsNanos() {
+    Object[] a = minusDuration.next();
+    return udfLocalTimeMinus.minus((Struct) a[0], 1, 2, 3, 4);
+  }
+
+  @Benchmark
+  public Struct plusDuration() {
+    Object[] a = plusDuration.next();
+    return udfLocalTimePlus.plus((Struct) a[0], (Struct) a[1]);
+  }
+
+  @Benchmark
+  public Struct plusHoursMinutesSecondsNanos() {
+    Object[] a = plusDuration.next();
+    return udfLocalTimePlus.plus((Struct) a[0], 1, 2, 3, 4);
+  }
+
+  @Benchmark
+  public Struct tryCreateLocalTimeText() {
+    Object[] a = tryCreateText.next();
+    return udfTryLocalTime.tryCreateLocalTime((String) a[0], (Struct) a[1]);
+  }
+
+}
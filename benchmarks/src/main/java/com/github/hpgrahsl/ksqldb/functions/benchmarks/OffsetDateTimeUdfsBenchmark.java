@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.benchmarks;
+
+import com.github.hpgrahsl.ksqldb.functions.OffsetDateTimeUdfsArgumentsProvider;
+import com.github.hpgrahsl.ksqldb.functions.UdfOffsetDateTime;
+import com.github.hpgrahsl.ksqldb.functions.UdfOffsetDateTimeChronology;
+import com.github.hpgrahsl.ksqldb.functions.UdfOffsetDateTimeFormat;
+import com.github.hpgrahsl.ksqldb.functions.UdfOffsetDateTimeMinus;
+import com.github.hpgrahsl.ksqldb.functions.UdfOffsetDateTimePlus;
+import com.github.hpgrahsl.ksqldb.functions.UdfTryOffsetDateTime;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OffsetDateTimeUdfsBenchmark {
+
+  private final UdfOffsetDateTime udfOffsetDateTime = new UdfOffsetDateTime();
+  private final UdfOffsetDateTimeChronology udfOffsetDateTimeChronology = new UdfOffsetDateTimeChronology();
+  private final UdfOffsetDateTimeFormat udfOffsetDateTimeFormat = new UdfOffsetDateTimeFormat();
+  private final UdfOffsetDateTimeMinus udfOffsetDateTimeMinus = new UdfOffsetDateTimeMinus();
+  private final UdfOffsetDateTimePlus udfOffsetDateTimePlus = new UdfOffsetDateTimePlus();
+  private final UdfTryOffsetDateTime udfTryOffsetDateTime = new UdfTryOffsetDateTime();
+
+  private Corpus createLocalDateTimeZoneOffset;
+  private Corpus createLocalDateLocalTimeZoneOffset;
+  private Corpus createText;
+  private Corpus createTextPattern;
+  private Corpus chronology;
+  private Corpus format;
+  private Corpus formatPattern;
+  private Corpus minusPeriodDuration;
+  private Corpus plusPeriodDuration;
+  private Corpus tryCreateText;
+
+  @Setup
+  public void setup() {
+    createLocalDateTimeZoneOffset = Corpus.of(OffsetDateTimeUdfsArgumentsProvider.createOffsetDateTimeSamplesLocalDateTimeZoneOffset(),
+        a -> udfOffsetDateTime.createOffsetDateTime((Struct) a[0], (Struct) a[1]));
+    createLocalDateLocalTimeZoneOffset = Corpus.of(OffsetDateTimeUdfsArgumentsProvider.createOffsetDateTimeSamplesLocalDateLocalTimeZoneOffset(),
+        a -> udfOffsetDateTime.createOffsetDateTime((Struct) a[0], (Struct) a[1], (Struct) a[2]));
+    createText = Corpus.of(OffsetDateTimeUdfsArgumentsProvider.createOffsetDateTimeSamplesText(),
+        a -> udfOffsetDateTime.createOffsetDateTime((String) a[0]));
+    createTextPattern = Corpus.of(OffsetDateTimeUdfsArgumentsProvider.createOffsetDateTimeSamplesTextPattern(),
+        a -> udfOffsetDateTime.createOffsetDateTime((String) a[0], (String) a[1]));
+    chronology = Corpus.of(OffsetDateTimeUdfsArgumentsProvider.chronologySamples(),
+        a -> udfOffsetDateTimeChronology.check((Struct) a[0], (Struct) a[1], (String) a[2]));
+    format = Corpus.of(OffsetDateTimeUdfsArgumentsProvider.formatSamples(),
+        a -> udfOffsetDateTimeFormat.format((Struct) a[0]));
+    formatPattern = Corpus.of(OffsetDateTimeUdfsArgumentsProvider.formatPatternSamples(),
+        a -> udfOffsetDateTimeFormat.format((Struct) a[0], (String) a[1]));
+    minusPeriodDuration = Corpus.of(OffsetDateTimeUdfsArgumentsProvider.minusSamplesBaseOffsetDateTimePeriodDuration(),
+        a -> udfOffsetDateTimeMinus.minus((Struct) a[0], (Struct) a[1], (Struct) a[2]));
+    plusPeriodDuration = Corpus.of(OffsetDateTimeUdfsArgumentsProvider.plusSamplesBaseOffsetDateTimePeriodDuration(),
+        a -> udfOffsetDateTimePlus.plus((Struct) a[0], (Struct) a[1], (Struct) a[2]));
+    tryCreateText = Corpus.of(OffsetDateTimeUdfsArgumentsProvider.tryCreateOffsetDateTimeSamplesText(),
+        a -> udfTryOffsetDateTime.tryCreateOffsetDateTime((String) a[0], (Struct) a[1]));
+  }
+
+  @Benchmark
+  public Struct createOffsetDateTimeNow() {
+    return udfOffsetDateTime.createOffsetDateTime();
+  }
+
+  @Benchmark
+  public Struct createOffsetDateTimeLocalDateTimeZoneOffset() {
+    Object[] a = createLocalDateTimeZoneOffset.next();
+    return udfOffsetDateTime.createOffsetDateTime((Struct) a[0], (Struct) a[1]);
+  }
+
+  @Benchmark
+  public Struct createOffsetDateTimeLocalDateLocalTimeZoneOffset() {
+    Object[] a = createLocalDateLocalTimeZoneOffset.next();
+    return udfOffsetDateTime.createOffsetDateTime((Struct) a[0], (Struct) a[1], (Struct) a[2]);
+  }
+
+  @Benchmark
+  public Struct createOffsetDateTimeText() {
+    Object[] a = createText.next();
+    return udfOffsetDateTime.createOffsetDateTime((String) a[0]);
+  }
+
+  @Benchmark
+  public Struct createOffsetDateTimeTextPattern() {
+    Object[] a = createTextPattern.next();
+    return udfOffsetDateTime.createOffsetDateTime((String) a[0], (String) a[1]);
+  }
+
+  @Benchmark
+  public Boolean check() {
+    Object[] a = chronology.next();
+    return udfOffsetDateTimeChronology.check((Struct) a[0], (Struct) a[1], (String) a[2]);
+  }
+
+  @Benchmark
+  public String format() {
+    Object[] a = format.next();
+    return udfOffsetDateTimeFormat.format((Struct) a[0]);
+  }
+
+  @Benchmark
+  public String formatPattern() {
+    Object[] a = formatPattern.next();
+    return udfOffsetDateTimeFormat.format((Struct) a[0], (String) a[1]);
+  }
+
+  @Benchmark
+  public Struct minusPeriodDuration() {
+    Object[] a = minusPeriodDuration.next();
+    return udfOffsetDateTimeMinus.minus((Struct) a[0], (Struct) a[1], (Struct) a[2]);
+  }
+
+  @Benchmark
+  public Struct minusAllParts() {
+    Object[] a = minusPeriodDuration.next();
+    return udfOffsetDateTimeMinus.minus((Struct) a[0], 1, 2, 3, 4, 5, 6, 7);
+  }
+
+  @Benchmark
+  public Struct plusPeriodDuration() {
+    Object[] a = plusPeriodDuration.next();
+    return udfOffsetDateTimePlus.plus((Struct) a[0], (Struct) a[1], (Struct) a[2]);
+  }
+
+  @Benchmark
+  public Struct plusAllParts() {
+    Object[] a = plusPeriodDuration.next();
+    return udfOffsetDateTimePlus.plus((Struct) a[0], 1, 2, 3, 4, 5, 6, 7);
+  }
+
+  @Benchmark
+  public Struct tryCreateOffsetDateTimeText() {
+    Object[] a = tryCreateText.next();
+    return udfTryOffsetDateTime.tryCreateOffsetDateTime((String) a[0], (Struct) a[1]);
+  }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.benchmarks;
+
+import com.github.hpgrahsl.ksqldb.functions.PeriodUdfsArgumentsProvider;
+import com.github.hpgrahsl.ksqldb.functions.UdfPeriod;
+import com.github.hpgrahsl.ksqldb.functions.UdfPeriodBetween;
+import com.github.hpgrahsl.ksqldb.functions.UdfPeriodMinus;
+import com.github.hpgrahsl.ksqldb.functions.UdfPeriodMultiply;
+import com.github.hpgrahsl.ksqldb.functions.UdfPeriodNormalize;
+import com.github.hpgrahsl.ksqldb.functions.UdfPeriodPlus;
+import com.github.hpgrahsl.ksqldb.functions.UdfPeriodStringify;
+import com.github.hpgrahsl.ksqldb.functions.UdfTryPeriod;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PeriodUdfsBenchmark {
+
+  private final UdfPeriod udfPeriod = new UdfPeriod();
+  private final UdfPeriodBetween udfPeriodBetween = new UdfPeriodBetween();
+  private final UdfPeriodMinus udfPeriodMinus = new UdfPeriodMinus();
+  private final UdfPeriodMultiply udfPeriodMultiply = new UdfPeriodMultiply();
+  private final UdfPeriodNormalize udfPeriodNormalize = new UdfPeriodNormalize();
+  private final UdfPeriodPlus udfPeriodPlus = new UdfPeriodPlus();
+  private final UdfPeriodStringify udfPeriodStringify = new UdfPeriodStringify();
+  private final UdfTryPeriod udfTryPeriod = new UdfTryPeriod();
+
+  private Corpus createYearsMonthsDays;
+  private Corpus createText;
+  private Corpus betweenLocalDates;
+  private Corpus minusPeriod;
+  private Corpus minusPeriods;
+  private Corpus multiplyByInteger;
+  private Corpus normalize;
+  private Corpus plusPeriod;
+  private Corpus plusPeriods;
+  private Corpus stringify;
+  private Corpus tryCreateText;
+
+  @Setup
+  public void setup() {
+    createYearsMonthsDays = Corpus.of(PeriodUdfsArgumentsProvider.createPeriodSamplesYearsMonthsDays(),
+        a -> udfPeriod.createPeriod((Integer) a[0], (Integer) a[1], (Integer) a[2]));
+    createText = Corpus.of(PeriodUdfsArgumentsProvider.createPeriodSamplesText(),
+        a -> udfPeriod.createPeriod((String) a[0]));
+    betweenLocalDates = Corpus.of(PeriodUdfsArgumentsProvider.betweenSamplesLocalDateFromLocalDateTo(),
+        a -> udfPeriodBetween.between((Struct) a[0], (Struct) a[1]));
+    minusPeriod = Corpus.of(PeriodUdfsArgumentsProvider.minusSamplesBasePeriodSubtractPeriod(),
+        a -> udfPeriodMinus.minus((Struct) a[0], (Struct) a[1]));
+    minusPeriods = Corpus.of(PeriodUdfsArgumentsProvider.minusSamplesBasePeriodSubtractPeriod()
+            .map(a -> Corpus.withList(a, 1, 8)),
+        a -> udfPeriodMinus.minus((Struct) a[0], Corpus.<Struct>list(a[1])));
+    multiplyByInteger = Corpus.of(PeriodUdfsArgumentsProvider.multiplySamplesBasePeriodScalar(),
+        a -> udfPeriodMultiply.multiply((Struct) a[0], (Integer) a[1]));
+    normalize = Corpus.of(PeriodUdfsArgumentsProvider.normalizeSamplesPeriod(),
+        a -> udfPeriodNormalize.normalize((Struct) a[0]));
+    plusPeriod = Corpus.of(PeriodUdfsArgumentsProvider.plusSamplesBasePeriodAddPeriod(),
+        a -> udfPeriodPlus.plus((Struct) a[0], (Struct) a[1]));
+    plusPeriods = Corpus.of(PeriodUdfsArgumentsProvider.plusSamplesBasePeriodAddPeriod()
+            .map(a -> Corpus.withList(a, 1, 8)),
+        a -> udfPeriodPlus.plus((Struct) a[0], Corpus.<Struct>list(a[1])));
+    stringify = Corpus.of(PeriodUdfsArgumentsProvider.stringifySamples(),
+        a -> udfPeriodStringify.stringify((Struct) a[0]));
+    tryCreateText = Corpus.of(PeriodUdfsArgumentsProvider.tryCreatePeriodSamplesText(),
+        a -> udfTryPeriod.tryCreatePeriod((String) a[0], (Struct) a[1]));
+  }
+
+  @Benchmark
+  public Struct createPeriodZero() {
+    return udfPeriod.createPeriod();
+  }
+
+  @Benchmark
+  public Struct createPeriodYearsMonthsDays() {
+    Object[] a = createYearsMonthsDays.next();
+    return udfPeriod.createPeriod((Integer) a[0], (Integer) a[1], (Integer) a[2]);
+  }
+
+  @Benchmark
+  public Struct createPeriodText() {
+    Object[] a = createText.next();
+    return udfPeriod.createPeriod((String) a[0]);
+  }
+
+  @Benchmark
+  public Struct betweenLocalDates() {
+    Object[] a = betweenLocalDates.next();
+    return udfPeriodBetween.between((Struct) a[0], (Struct) a[1]);
+  }
+
+  @Benchmark
+  public Struct betweenLocalDateAndNow() {
+    Object[] a = betweenLocalDates.next();
+    return udfPeriodBetween.between((Struct) a[0]);
+  }
+
+  @Benchmark
+  public Struct minusPeriod() {
+    Object[] a = minusPeriod.next();
+    return udfPeriodMinus.minus((Struct) a[0], (Struct) a[1]);
+  }
+
+  @Benchmark
+  public Struct minusPeriods() {
+    Object[] a = minusPeriods.next();
+    return udfPeriodMinus.minus((Struct) a[0], Corpus.<Struct>list(a[1]));
+  }
+
+  @Benchmark
+  public Struct multiplyByInteger() {
+    Object[] a = multiplyByInteger.next();
+    return udfPeriodMultiply.multiply((Struct) a[0], (Integer) a[1]);
+  }
+
+  @Benchmark
+  public Struct normalize() {
+    Object[] a = normalize.next();
+    return udfPeriodNormalize.normalize((Struct) a[0]);
+  }
+
+  @Benchmark
+  public Struct plusPeriod() {
+    Object[] a = plusPeriod.next();
+    return udfPeriodPlus.plus((Struct) a[0], (Struct) a[1]);
+  }
+
+  @Benchmark
+  public Struct plusPeriods() {
+    Object[] a = plusPeriods.next();
+    return udfPeriodPlus.plus((Struct) a[0], Corpus.<Struct>list(a[1]));
+  }
+
+  @Benchmark
+  public String stringify() {
+    Object[] a = stringify.next();
+    return udfPeriodStringify.stringify((Struct) a[0]);
+  }
+
+  @Benchmark
+  public Struct tryCreatePeriodText() {
+    Object[] a = tryCreateText.next();
+    return udfTryPeriod.tryCreatePeriod((String) a[0], (Struct) a[1]);
+  }
+
+}
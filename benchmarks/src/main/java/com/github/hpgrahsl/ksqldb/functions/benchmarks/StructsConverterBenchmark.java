@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.benchmarks;
+
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StructsConverterBenchmark {
+
+  private Instant instant;
+  private Duration duration;
+  private Period period;
+  private LocalDate localDate;
+  private LocalTime localTime;
+  private LocalDateTime localDateTime;
+  private ZoneOffset zoneOffset;
+  private ZoneId zoneId;
+  private OffsetDateTime offsetDateTime;
+  private ZonedDateTime zonedDateTime;
+
+  @Setup
+  public void setup() {
+    zonedDateTime = ZonedDateTime.of(2020, 5, 31, 13, 37, 42, 123456789, ZoneId.of("Europe/Vienna"));
+    offsetDateTime = zonedDateTime.toOffsetDateTime();
+    localDateTime = zonedDateTime.toLocalDateTime();
+    localDate = localDateTime.toLocalDate();
+    localTime = localDateTime.toLocalTime();
+    zoneOffset = zonedDateTime.getOffset();
+    zoneId = zonedDateTime.getZone();
+    instant = zonedDateTime.toInstant();
+    duration = Duration.ofSeconds(93784, 5);
+    period = Period.of(1, 2, 3);
+  }
+
+  @Benchmark
+  public Instant instantRoundTrip() {
+    return StructsConverter.fromInstantStruct(StructsConverter.toInstantStruct(instant));
+  }
+
+  @Benchmark
+  public Duration durationRoundTrip() {
+    return StructsConverter.fromDurationStruct(StructsConverter.toDurationStruct(duration));
+  }
+
+  @Benchmark
+  public Period periodRoundTrip() {
+    return StructsConverter.fromPeriodStruct(StructsConverter.toPeriodStruct(period));
+  }
+
+  @Benchmark
+  public LocalDate localDateRoundTrip() {
+    return StructsConverter.fromLocalDateStruct(StructsConverter.toLocalDateStruct(localDate));
+  }
+
+  @Benchmark
+  public LocalTime localTimeRoundTrip() {
+    return StructsConverter.fromLocalTimeStruct(StructsConverter.toLocalTimeStruct(localTime));
+  }
+
+  @Benchmark
+  public LocalDateTime localDateTimeRoundTrip() {
+    return StructsConverter.fromLocalDateTimeStruct(StructsConverter.toLocalDateTimeStruct(localDateTime));
+  }
+
+  @Benchmark
+  public ZoneOffset zoneOffsetRoundTrip() {
+    return StructsConverter.fromZoneOffsetStruct(StructsConverter.toZoneOffsetStruct(zoneOffset));
+  }
+
+  @Benchmark
+  public ZoneId zoneIdRoundTrip() {
+    return StructsConverter.fromZoneIdStruct(StructsConverter.toZoneIdStruct(zoneId));
+  }
+
+  @Benchmark
+  public OffsetDateTime offsetDateTimeRoundTrip() {
+    return StructsConverter.fromOffsetDateTimeStruct(StructsConverter.toOffsetDateTimeStruct(offsetDateTime));
+  }
+
+  @Benchmark
+  public ZonedDateTime zonedDateTimeRoundTrip() {
+    return StructsConverter.fromZonedDateTimeStruct(StructsConverter.toZonedDateTimeStruct(zonedDateTime));
+  }
+
+  @Benchmark
+  public Struct zonedDateTimeToStruct() {
+    return StructsConverter.toZonedDateTimeStruct(zonedDateTime);
+  }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.benchmarks;
+
+import com.github.hpgrahsl.ksqldb.functions.UdfTryZoneId;
+import com.github.hpgrahsl.ksqldb.functions.UdfTryZoneOffset;
+import com.github.hpgrahsl.ksqldb.functions.UdfZoneId;
+import com.github.hpgrahsl.ksqldb.functions.UdfZoneOffset;
+import com.github.hpgrahsl.ksqldb.functions.UdfZoneOffsetStringify;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZoneUdfsBenchmark {
+
+  private final UdfZoneId udfZoneId = new UdfZoneId();
+  private final UdfZoneOffset udfZoneOffset = new UdfZoneOffset();
+  private final UdfZoneOffsetStringify udfZoneOffsetStringify = new UdfZoneOffsetStringify();
+  private final UdfTryZoneId udfTryZoneId = new UdfTryZoneId();
+  private final UdfTryZoneOffset udfTryZoneOffset = new UdfTryZoneOffset();
+
+  private Corpus regionIds;
+  private Corpus offsetParts;
+  private Corpus offsetTotalSeconds;
+  private Corpus offsetIds;
+  private Corpus offsets;
+  private Corpus invalidRegionIds;
+  private Corpus invalidOffsetIds;
+
+  @Setup
+  public void setup() {
+    regionIds = Corpus.of(
+        new Object[]{"Europe/Vienna"},
+        new Object[]{"America/New_York"},
+        new Object[]{"Asia/Kolkata"},
+        new Object[]{"Australia/Sydney"},
+        new Object[]{"UTC"}
+    );
+    offsetParts = Corpus.of(
+        new Object[]{0, 0, 0},
+        new Object[]{1, 0, 0},
+        new Object[]{-5, -30, 0},
+        new Object[]{9, 45, 30},
+        new Object[]{-18, 0, 0}
+    );
+    offsetTotalSeconds = Corpus.of(
+        new Object[]{0},
+        new Object[]{3600},
+        new Object[]{-19800},
+        new Object[]{35130},
+        new Object[]{-64800}
+    );
+    offsetIds = Corpus.of(
+        new Object[]{"Z"},
+        new Object[]{"+01:00"},
+        new Object[]{"-05:30"},
+        new Object[]{"+09:45:30"},
+        new Object[]{"-18:00"}
+    );
+    offsets = Corpus.of(
+        new Object[]{StructsConverter.toZoneOffsetStruct(ZoneOffset.UTC)},
+        new Object[]{StructsConverter.toZoneOffsetStruct(ZoneOffset.ofHours(1))},
+        new Object[]{StructsConverter.toZoneOffsetStruct(ZoneOffset.ofHoursMinutes(-5, -30))},
+        new Object[]{StructsConverter.toZoneOffsetStruct(ZoneOffset.ofHoursMinutesSeconds(9, 45, 30))},
+        new Object[]{StructsConverter.toZoneOffsetStruct(ZoneOffset.MIN)}
+    );
+    //valid IDs mixed with garbage to measure the rejection path of the try variants
+    invalidRegionIds = Corpus.of(
+        new Object[]{"Europe/Vienna"},
+        new Object[]{"Europe/Atlantis"},
+        new Object[]{"+01:00"},
+        new Object[]{"not a zone"},
+        new Object[]{""}
+    );
+    invalidOffsetIds = Corpus.of(
+        new Object[]{"+01:00"},
+        new Object[]{"+25:00"},
+        new Object[]{"01:00"},
+        new Object[]{"+1:00"},
+        new Object[]{""}
+    );
+  }
+
+  @Benchmark
+  public Struct createZoneIdSystemDefault() {
+    return udfZoneId.createZoneId();
+  }
+
+  @Benchmark
+  public Struct createZoneIdText() {
+    Object[] a = regionIds.next();
+    return udfZoneId.createZoneId((String) a[0]);
+  }
+
+  @Benchmark
+  public Struct createZoneOffsetHoursMinutesSeconds() {
+    Object[] a = offsetParts.next();
+    return udfZoneOffset.createZoneOffset((Integer) a[0], (Integer) a[1], (Integer) a[2]);
+  }
+
+  @Benchmark
+  public Struct createZoneOffsetTotalSeconds() {
+    Object[] a = offsetTotalSeconds.next();
+    return udfZoneOffset.createZoneOffset((Integer) a[0]);
+  }
+
+  @Benchmark
+  public Struct createZoneOffsetText() {
+    Object[] a = offsetIds.next();
+    return udfZoneOffset.createZoneOffset((String) a[0]);
+  }
+
+  @Benchmark
+  public Struct tryCreateZoneIdText() {
+    Object[] a = invalidRegionIds.next();
+    return udfTryZoneId.tryCreateZoneId((String) a[0]);
+  }
+
+  @Benchmark
+  public Struct tryCreateZoneOffsetText() {
+    Object[] a = invalidOffsetIds.next();
+    return udfTryZoneOffset.tryCreateZoneOffset((String) a[0]);
+  }
+
+  @Benchmark
+  public String stringify() {
+    Object[] a = offsets.next();
+    return udfZoneOffsetStringify.stringify((Struct) a[0]);
+  }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.benchmarks;
+
+import com.github.hpgrahsl.ksqldb.functions.UdfTryZonedDateTime;
+import com.github.hpgrahsl.ksqldb.functions.UdfZonedDateTime;
+import com.github.hpgrahsl.ksqldb.functions.UdfZonedDateTimeChronology;
+import com.github.hpgrahsl.ksqldb.functions.UdfZonedDateTimeFormat;
+import com.github.hpgrahsl.ksqldb.functions.UdfZonedDateTimeMinus;
+import com.github.hpgrahsl.ksqldb.functions.UdfZonedDateTimePlus;
+import com.github.hpgrahsl.ksqldb.functions.UdfZonedDateTimeToInstant;
+import com.github.hpgrahsl.ksqldb.functions.ZonedDateTimeUdfsArgumentsProvider;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.connect.data.Struct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZonedDateTimeUdfsBenchmark {
+
+  private final UdfZonedDateTime udfZonedDateTime = new UdfZonedDateTime();
+  private final UdfZonedDateTimeChronology udfZonedDateTimeChronology = new UdfZonedDateTimeChronology();
+  private final UdfZonedDateTimeFormat udfZonedDateTimeFormat = new UdfZonedDateTimeFormat();
+  private final UdfZonedDateTimeMinus udfZonedDateTimeMinus = new UdfZonedDateTimeMinus();
+  private final UdfZonedDateTimePlus udfZonedDateTimePlus = new UdfZonedDateTimePlus();
+  private final UdfZonedDateTimeToInstant udfZonedDateTimeToInstant = new UdfZonedDateTimeToInstant();
+  private final UdfTryZonedDateTime udfTryZonedDateTime = new UdfTryZonedDateTime();
+
+  private Corpus createLocalDateTimeZoneId;
+  private Corpus createLocalDateTimeZoneIdZoneOffset;
+  private Corpus createText;
+  private Corpus createTextPattern;
+  private Corpus chronology;
+  private Corpus format;
+  private Corpus formatPattern;
+  private Corpus minusPeriodDuration;
+  private Corpus plusPeriodDuration;
+  private Corpus toInstant;
+  private Corpus tryCreateText;
+
+  @Setup
+  public void setup() {
+    createLocalDateTimeZoneId = Corpus.of(ZonedDateTimeUdfsArgumentsProvider.createZonedDateTimeSamplesLocalDateTimeZoneId(),
+        a -> udfZonedDateTime.createZonedDateTime((Struct) a[0], (Struct) a[1]));
+    createLocalDateTimeZoneIdZoneOffset = Corpus.of(ZonedDateTimeUdfsArgumentsProvider.createZonedDateTimeSamplesLocalDateTimeZoneIdZoneOffset(),
+        a -> udfZonedDateTime.createZonedDateTime((Struct) a[0], (Struct) a[1], (Struct) a[2]));
+    createText = Corpus.of(ZonedDateTimeUdfsArgumentsProvider.createZonedDateTimeSamplesText(),
+        a -> udfZonedDateTime.createZonedDateTime((String) a[0]));
+    createTextPattern = Corpus.of(ZonedDateTimeUdfsArgumentsProvider.createZonedDateTimeSamplesTextPattern(),
+        a -> udfZonedDateTime.createZonedDateTime((String) a[0], (String) a[1]));
+    chronology = Corpus.of(ZonedDateTimeUdfsArgumentsProvider.chronologySamples(),
+        a -> udfZonedDateTimeChronology.check((Struct) a[0], (Struct) a[1], (String) a[2]));
+    format = Corpus.of(ZonedDateTimeUdfsArgumentsProvider.formatSamples(),
+        a -> udfZonedDateTimeFormat.format((Struct) a[0]));
+    formatPattern = Corpus.of(ZonedDateTimeUdfsArgumentsProvider.formatPatternSamples(),
+        a -> udfZonedDateTimeFormat.format((Struct) a[0], (String) a[1]));
+    minusPeriodDuration = Corpus.of(ZonedDateTimeUdfsArgumentsProvider.minusSamplesBaseZonedDateTimePeriodDuration(),
+        a -> udfZonedDateTimeMinus.minus((Struct) a[0], (Struct) a[1], (Struct) a[2]));
+    plusPeriodDuration = Corpus.of(ZonedDateTimeUdfsArgumentsProvider.plusSamplesBaseZonedDateTimePeriodDuration(),
+        a -> udfZonedDateTimePlus.plus((Struct) a[0], (Struct) a[1], (Struct) a[2]));
+    toInstant = Corpus.of(ZonedDateTimeUdfsArgumentsProvider.toInstantSamples(),
+        a -> udfZonedDateTimeToInstant.toInstant((Struct) a[0]));
+    tryCreateText = Corpus.of(ZonedDateTimeUdfsArgumentsProvider.tryCreateZonedDateTimeSamplesText(),
+        a -> udfTryZonedDateTime.tryCreateZonedDateTime((String) a[0], (Struct) a[1]));
+  }
+
+  @Benchmark
+  public Struct createZonedDateTimeNow() {
+    return udfZonedDateTime.createZonedDateTime();
+  }
+
+  @Benchmark
+  public Struct createZonedDateTimeLocalDateTimeZoneId() {
+    Object[] a = createLocalDateTimeZoneId.next();
+    return udfZonedDateTime.createZonedDateTime((Struct) a[0], (Struct) a[1]);
+  }
+
+  @Benchmark
+  public Struct createZonedDateTimeLocalDateTimeZoneIdZoneOffset() {
+    Object[] a = createLocalDateTimeZoneIdZoneOffset.next();
+    return udfZonedDateTime.createZonedDateTime((Struct) a[0], (Struct) a[1], (Struct) a[2]);
+  }
+
+  @Benchmark
+  public Struct createZonedDateTimeText() {
+    Object[] a = createText.next();
+    return udfZonedDateTime.createZonedDateTime((String) a[0]);
+  }
+
+  @Benchmark
+  public Struct createZonedDateTimeTextPattern() {
+    Object[] a = createTextPattern.next();
+    return udfZonedDateTime.createZonedDateTime((String) a[0], (String) a[1]);
+  }
+
+  @Benchmark
+  public Boolean check() {
+    Object[] a = chronology.next();
+    return udfZonedDateTimeChronology.check((Struct) a[0], (Struct) a[1], (String) a[2]);
+  }
+
+  @Benchmark
+  public String format() {
+    Object[] a = format.next();
+    return udfZonedDateTimeFormat.format((Struct) a[0]);
+  }
+
+  @Benchmark
+  public String formatPattern() {
+    Object[] a = formatPattern.next();
+    return udfZonedDateTimeFormat.format((Struct) a[0], (String) a[1]);
+  }
+
+  @Benchmark
+  public Struct minusPeriodDuration() {
+    Object[] a = minusPeriodDuration.next();
+    return udfZonedDateTimeMinus.minus((Struct) a[0], (Struct) a[1], (Struct) a[2]);
+  }
+
+  @Benchmark
+  public Struct minusAllParts() {
+    Object[] a = minusPeriodDuration.next();
+    return udfZonedDateTimeMinus.minus((Struct) a[0], 1, 2, 3, 4, 5, 6, 7);
+  }
+
+  @Benchmark
+  public Struct plusPeriodDuration() {
+    Object[] a = plusPeriodDuration.next();
+    return udfZonedDateTimePlus.plus((Struct) a[0], (Struct) a[1], (Struct) a[2]);
+  }
+
+  @Benchmark
+  public Struct plusAllParts() {
+    Object[] a = plusPeriodDuration.next();
+    return udfZonedDateTimePlus.plus((Struct) a[0], 1, 2, 3, 4, 5, 6, 7);
+  }
+
+  @Benchmark
+  public Struct toInstant() {
+    Object[] a = toInstant.next();
+    return udfZonedDateTimeToInstant.toInstant((Struct) a[0]);
+  }
+
+  @Benchmark
+  public Struct tryCreateZonedDateTimeText() {
+    Object[] a = tryCreateText.next();
+    return udfTryZonedDateTime.tryCreateZonedDateTime((String) a[0], (Struct) a[1]);
+  }
+
+}
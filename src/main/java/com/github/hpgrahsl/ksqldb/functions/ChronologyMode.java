@@ -17,8 +17,55 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.logging.RateLimitedLogger;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 public enum ChronologyMode {
   IS_BEFORE,
   IS_AFTER,
-  IS_EQUAL
+  IS_EQUAL,
+  IS_BEFORE_OR_EQUAL,
+  IS_AFTER_OR_EQUAL;
+
+  public static final String VALID_MODES =
+      "'IS_BEFORE','IS_AFTER','IS_EQUAL','IS_BEFORE_OR_EQUAL','IS_AFTER_OR_EQUAL'";
+
+  private static final Map<String, ChronologyMode> LOOKUP = new HashMap<>();
+
+  static {
+    for (ChronologyMode cm : values()) {
+      LOOKUP.put(cm.name(), cm);
+      LOOKUP.put(cm.name().toLowerCase(Locale.ROOT), cm);
+    }
+  }
+
+  //case-insensitive lookup which returns null instead of throwing for invalid modes
+  public static ChronologyMode of(String mode) {
+    ChronologyMode cm = LOOKUP.get(mode);
+    return cm != null ? cm : LOOKUP.get(mode.toUpperCase(Locale.ROOT));
+  }
+
+  public boolean test(int comparison) {
+    switch (this) {
+      case IS_BEFORE:
+        return comparison < 0;
+      case IS_AFTER:
+        return comparison > 0;
+      case IS_EQUAL:
+        return comparison == 0;
+      case IS_BEFORE_OR_EQUAL:
+        return comparison <= 0;
+      case IS_AFTER_OR_EQUAL:
+        return comparison >= 0;
+      default:
+        throw new IllegalStateException("unsupported chronologyMode " + this);
+    }
+  }
+
+  static void reportInvalid(RateLimitedLogger logger, String mode) {
+    logger.error("chronologyMode '{}' is invalid - must be one of: {}", mode, VALID_MODES);
+  }
+
 }
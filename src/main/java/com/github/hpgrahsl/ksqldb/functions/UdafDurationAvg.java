@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import com.github.hpgrahsl.ksqldb.functions.aggregates.DurationAccumulator;
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import io.confluent.ksql.function.udaf.TableUdaf;
+import io.confluent.ksql.function.udaf.UdafDescription;
+import io.confluent.ksql.function.udaf.UdafFactory;
+import org.apache.kafka.connect.data.Struct;
+
+@UdafDescription(
+    name = "dt_duration_avg",
+    description = "Average of durations",
+    author = "Hans-Peter Grahsl (follow @hpgrahsl)",
+    version = "0.1.0"
+    )
+public class UdafDurationAvg {
+
+  @UdafFactory(description = "Average of durations",
+      paramSchema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR,
+      aggregateSchema = DateTimeSchemas.DURATION_AGGREGATE_SCHEMA_DESCRIPTOR,
+      returnSchema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+  public static TableUdaf<Struct, Struct, Struct> avg() {
+    return new TableUdaf<Struct, Struct, Struct>() {
+
+      @Override
+      public Struct initialize() {
+        return DurationAccumulator.initialize();
+      }
+
+      @Override
+      public Struct aggregate(Struct current, Struct aggregate) {
+        return DurationAccumulator.add(current, aggregate);
+      }
+
+      @Override
+      public Struct undo(Struct valueToUndo, Struct aggregate) {
+        return DurationAccumulator.subtract(valueToUndo, aggregate);
+      }
+
+      @Override
+      public Struct merge(Struct aggOne, Struct aggTwo) {
+        return DurationAccumulator.mergeSums(aggOne, aggTwo);
+      }
+
+      @Override
+      public Struct map(Struct aggregate) {
+        long count = DurationAccumulator.count(aggregate);
+        return count != 0
+            ? StructsConverter.toDurationStruct(DurationAccumulator.toDuration(aggregate).dividedBy(count)) : null;
+      }
+
+    };
+  }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import com.github.hpgrahsl.ksqldb.functions.aggregates.DurationHistogram;
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import io.confluent.ksql.function.udaf.TableUdaf;
+import io.confluent.ksql.function.udaf.UdafDescription;
+import io.confluent.ksql.function.udaf.UdafFactory;
+import java.time.Duration;
+import org.apache.kafka.connect.data.Struct;
+
+@UdafDescription(
+    name = "dt_duration_percentiles",
+    description = "Approximate percentiles of durations",
+    author = "Hans-Peter Grahsl (follow @hpgrahsl)",
+    version = "0.1.0"
+    )
+public class UdafDurationPercentiles {
+
+  @UdafFactory(description = "Approximate the p50, p90, p99 and p999 percentiles of durations",
+      paramSchema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR,
+      aggregateSchema = DateTimeSchemas.DURATION_HISTOGRAM_SCHEMA_DESCRIPTOR,
+      returnSchema = DateTimeSchemas.DURATION_PERCENTILES_SCHEMA_DESCRIPTOR)
+  public static TableUdaf<Struct, Struct, Struct> percentiles() {
+    return new PercentilesUdaf<Struct>() {
+
+      @Override
+      long toNanos(Struct duration) {
+        return DurationHistogram.saturatedNanos(
+            (Long)duration.get(DateTimeSchemas.DURATION_SECONDS_FIELD),
+            (Integer)duration.get(DateTimeSchemas.DURATION_NANOS_FIELD));
+      }
+
+    };
+  }
+
+  @UdafFactory(description = "Approximate the p50, p90, p99 and p999 percentiles of durations given in nanos",
+      aggregateSchema = DateTimeSchemas.DURATION_HISTOGRAM_SCHEMA_DESCRIPTOR,
+      returnSchema = DateTimeSchemas.DURATION_PERCENTILES_SCHEMA_DESCRIPTOR)
+  public static TableUdaf<Long, Struct, Struct> percentilesOfNanos() {
+    return new PercentilesUdaf<Long>() {
+
+      @Override
+      long toNanos(Long nanos) {
+        return nanos;
+      }
+
+    };
+  }
+
+  private abstract static class PercentilesUdaf<I> implements TableUdaf<I, Struct, Struct> {
+
+    abstract long toNanos(I value);
+
+    @Override
+    public Struct initialize() {
+      return DurationHistogram.initialize();
+    }
+
+    @Override
+    public Struct aggregate(I current, Struct aggregate) {
+      return current != null ? DurationHistogram.record(toNanos(current), aggregate) : aggregate;
+    }
+
+    @Override
+    public Struct undo(I valueToUndo, Struct aggregate) {
+      return valueToUndo != null ? DurationHistogram.remove(toNanos(valueToUndo), aggregate) : aggregate;
+    }
+
+    @Override
+    public Struct merge(Struct aggOne, Struct aggTwo) {
+      return DurationHistogram.merge(aggOne, aggTwo);
+    }
+
+    @Override
+    public Struct map(Struct aggregate) {
+      long[] values = DurationHistogram.valuesAtPercentiles(aggregate, 0.5, 0.9, 0.99, 0.999);
+      if (values == null)
+        return null;
+      return new Struct(DateTimeSchemas.DURATION_PERCENTILES_SCHEMA)
+          .put(DateTimeSchemas.DURATION_PERCENTILES_P50_FIELD,StructsConverter.toDurationStruct(Duration.ofNanos(values[0])))
+          .put(DateTimeSchemas.DURATION_PERCENTILES_P90_FIELD,StructsConverter.toDurationStruct(Duration.ofNanos(values[1])))
+          .put(DateTimeSchemas.DURATION_PERCENTILES_P99_FIELD,StructsConverter.toDurationStruct(Duration.ofNanos(values[2])))
+          .put(DateTimeSchemas.DURATION_PERCENTILES_P999_FIELD,StructsConverter.toDurationStruct(Duration.ofNanos(values[3])));
+    }
+
+  }
+
+}
@@ -17,6 +17,7 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -33,10 +34,18 @@ import org.apache.kafka.connect.data.Struct;
 )
 public class UdfDuration {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_duration");
+
   @Udf(description = "Create the empty/zero Duration struct",
       schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
   public Struct createDuration() {
-    return StructsConverter.toDurationStruct(Duration.ZERO);
+    if (!UdfMetrics.ENABLED)
+      return doCreateDuration();
+    return METRICS.call(() -> doCreateDuration());
+  }
+
+  private static Struct doCreateDuration() {
+    return StructsConverter.sharedDurationStruct(Duration.ZERO);
   }
 
   @Udf(description = "Create a Duration struct based on seconds without nano seconds adjustment",
@@ -46,7 +55,13 @@ public class UdfDuration {
           value = "seconds",
           description = "the seconds part of the Duration")
       final Long seconds) {
-    return seconds != null ? StructsConverter.toDurationStruct(Duration.ofSeconds(seconds)) : null;
+    if (!UdfMetrics.ENABLED)
+      return doCreateDuration(seconds);
+    return METRICS.call(() -> doCreateDuration(seconds));
+  }
+
+  private static Struct doCreateDuration(final Long seconds) {
+    return seconds != null ? StructsConverter.sharedDurationStruct(Duration.ofSeconds(seconds)) : null;
   }
 
   @Udf(description = "Create a Duration struct based on seconds with nano seconds adjustment",
@@ -60,9 +75,15 @@ public class UdfDuration {
           value = "nanoAdjustment",
           description = "the nano seconds part of the Duration")
       final Long nanoAdjustment) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateDuration(seconds, nanoAdjustment);
+    return METRICS.call(() -> doCreateDuration(seconds, nanoAdjustment));
+  }
+
+  private static Struct doCreateDuration(final Long seconds, final Long nanoAdjustment) {
     if (seconds == null || nanoAdjustment == null)
       return null;
-    return StructsConverter.toDurationStruct(Duration.ofSeconds(seconds,nanoAdjustment));
+    return StructsConverter.sharedDurationStruct(Duration.ofSeconds(seconds,nanoAdjustment));
   }
 
   @Udf(description = "Create a Duration struct from its string representation using the ISO-8601 duration format {PnDTnHnMn.nS}",
@@ -72,7 +93,13 @@ public class UdfDuration {
           value = "text",
           description = "the string representation of the Duration")
       final String text) {
-    return text != null ? StructsConverter.toDurationStruct(Duration.parse(text)) : null;
+    if (!UdfMetrics.ENABLED)
+      return doCreateDuration(text);
+    return METRICS.call(() -> doCreateDuration(text));
+  }
+
+  private static Struct doCreateDuration(final String text) {
+    return text != null ? StructsConverter.sharedDurationStruct(Duration.parse(text)) : null;
   }
 
 }
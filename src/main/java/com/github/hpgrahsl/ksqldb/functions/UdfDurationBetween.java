@@ -17,6 +17,9 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.LocalTimeArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.clock.UdfClock;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -38,6 +41,8 @@ public class UdfDurationBetween {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(UdfDurationBetween.class);
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_duration_between");
+
   @Udf(
       description = "Calculate the duration between the given local time and the current local time, producing a duration result composed of seconds and optional nano seconds adjustment. If the given local time is after the current local time the resulting duration is negative.",
       schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
@@ -48,15 +53,25 @@ public class UdfDurationBetween {
           schema = DateTimeSchemas.LOCALTIME_SCHEMA_DESCRIPTOR)
       final Struct localTime
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doBetween(localTime);
+    return METRICS.call(() -> doBetween(localTime));
+  }
+
+  private static Struct doBetween(final Struct localTime) {
 
     if (localTime == null) {
       return null;
     }
 
+    LocalTime now = LocalTime.now(UdfClock.current());
+    Struct result = LocalTimeArithmetic.between(localTime, now.toNanoOfDay());
+    if (result != null)
+      return result;
     return StructsConverter.toDurationStruct(
         Duration.between(
             StructsConverter.fromLocalTimeStruct(localTime),
-            LocalTime.now()
+            now
         )
     );
 
@@ -76,11 +91,20 @@ public class UdfDurationBetween {
           schema = DateTimeSchemas.LOCALTIME_SCHEMA_DESCRIPTOR)
       final Struct localTimeTo
   ) {
+    if (!UdfMetrics.ENABLED)
+      return doBetween(localTimeFrom, localTimeTo);
+    return METRICS.call(() -> doBetween(localTimeFrom, localTimeTo));
+  }
+
+  private static Struct doBetween(final Struct localTimeFrom, final Struct localTimeTo) {
 
     if (localTimeFrom == null || localTimeTo == null) {
       return null;
     }
 
+    Struct result = LocalTimeArithmetic.between(localTimeFrom, localTimeTo);
+    if (result != null)
+      return result;
     return StructsConverter.toDurationStruct(
         Duration.between(
             StructsConverter.fromLocalTimeStruct(localTimeFrom),
@@ -17,8 +17,9 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.DurationArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
-import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
@@ -32,6 +33,8 @@ import org.apache.kafka.connect.data.Struct;
 )
 public class UdfDurationDivide {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_duration_divide");
+
   @Udf(description = "Divide a duration by a divisor",
       schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
   public Struct divide(
@@ -44,13 +47,17 @@ public class UdfDurationDivide {
           value = "divisor",
           description = "the divisor to divide by")
       final Long divisor) {
+    if (!UdfMetrics.ENABLED)
+      return doDivide(baseDuration, divisor);
+    return METRICS.call(() -> doDivide(baseDuration, divisor));
+  }
+
+  private static Struct doDivide(final Struct baseDuration, final Long divisor) {
 
     if (baseDuration == null || divisor == null)
       return null;
 
-    return StructsConverter.toDurationStruct(
-        StructsConverter.fromDurationStruct(baseDuration).dividedBy(divisor)
-    );
+    return DurationArithmetic.divide(baseDuration, divisor);
 
   }
 
@@ -66,12 +73,17 @@ public class UdfDurationDivide {
           description = "the divisor duration to divide by",
           schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
       final Struct divisorDuration) {
+    if (!UdfMetrics.ENABLED)
+      return doDivide(baseDuration, divisorDuration);
+    return METRICS.call(() -> doDivide(baseDuration, divisorDuration));
+  }
+
+  private static Long doDivide(final Struct baseDuration, final Struct divisorDuration) {
 
     if (baseDuration == null || divisorDuration == null)
       return null;
 
-    return StructsConverter.fromDurationStruct(baseDuration)
-        .dividedBy(StructsConverter.fromDurationStruct(divisorDuration));
+    return DurationArithmetic.divide(baseDuration, divisorDuration);
 
   }
 
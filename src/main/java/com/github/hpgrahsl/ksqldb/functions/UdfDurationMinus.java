@@ -17,12 +17,12 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.DurationArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
-import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
-import java.time.Duration;
 import java.util.List;
 import org.apache.kafka.connect.data.Struct;
 
@@ -34,6 +34,8 @@ import org.apache.kafka.connect.data.Struct;
 )
 public class UdfDurationMinus {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_duration_minus");
+
   @Udf(description = "Subtract a duration from another duration",
       schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
   public Struct minus(
@@ -47,15 +49,17 @@ public class UdfDurationMinus {
           description = "the duration struct to subtract with",
           schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
       final Struct subtractDuration) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(baseDuration, subtractDuration);
+    return METRICS.call(() -> doMinus(baseDuration, subtractDuration));
+  }
+
+  private static Struct doMinus(final Struct baseDuration, final Struct subtractDuration) {
 
     if (baseDuration == null || subtractDuration == null)
       return null;
 
-    return
-        StructsConverter.toDurationStruct(
-            StructsConverter.fromDurationStruct(baseDuration)
-                .minus(StructsConverter.fromDurationStruct(subtractDuration))
-        );
+    return DurationArithmetic.minus(baseDuration, subtractDuration);
 
   }
 
@@ -72,15 +76,17 @@ public class UdfDurationMinus {
           description = "multiple duration structs to subtract with",
           schema = DateTimeSchemas.DURATION_ARRAY_SCHEMA_DESCRIPTOR)
       final List<Struct> subtractDurations) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(baseDuration, subtractDurations);
+    return METRICS.call(() -> doMinus(baseDuration, subtractDurations));
+  }
+
+  private static Struct doMinus(final Struct baseDuration, final List<Struct> subtractDurations) {
 
     if (baseDuration == null || subtractDurations == null)
       return null;
 
-    Duration d = StructsConverter.fromDurationStruct(baseDuration);
-    for(Struct s : subtractDurations) {
-      d = d.minus(StructsConverter.fromDurationStruct(s));
-    }
-    return StructsConverter.toDurationStruct(d);
+    return DurationArithmetic.minus(baseDuration, subtractDurations);
 
   }
 
@@ -17,8 +17,9 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.DurationArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
-import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
@@ -32,6 +33,8 @@ import org.apache.kafka.connect.data.Struct;
 )
 public class UdfDurationMultiply {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_duration_multiply");
+
   @Udf(description = "Multiply a duration by a scalar (i.e. all its components are multiplied by that scalar)",
       schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
   public Struct multiply(
@@ -44,13 +47,17 @@ public class UdfDurationMultiply {
           value = "scalar",
           description = "the scalar to multiply by")
       final Long scalar) {
+    if (!UdfMetrics.ENABLED)
+      return doMultiply(baseDuration, scalar);
+    return METRICS.call(() -> doMultiply(baseDuration, scalar));
+  }
+
+  private static Struct doMultiply(final Struct baseDuration, final Long scalar) {
 
     if (baseDuration == null || scalar == null)
       return null;
 
-    return StructsConverter.toDurationStruct(
-        StructsConverter.fromDurationStruct(baseDuration).multipliedBy(scalar)
-    );
+    return DurationArithmetic.multiply(baseDuration, scalar);
 
   }
 
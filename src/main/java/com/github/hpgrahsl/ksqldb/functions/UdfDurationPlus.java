@@ -17,12 +17,12 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.DurationArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
-import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
-import java.time.Duration;
 import java.util.List;
 import org.apache.kafka.connect.data.Struct;
 
@@ -34,6 +34,8 @@ import org.apache.kafka.connect.data.Struct;
 )
 public class UdfDurationPlus {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_duration_plus");
+
   @Udf(description = "Add a duration to another duration",
       schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
   public Struct plus(
@@ -47,15 +49,17 @@ public class UdfDurationPlus {
           description = "the duration struct to add",
           schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
       final Struct addDuration) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseDuration, addDuration);
+    return METRICS.call(() -> doPlus(baseDuration, addDuration));
+  }
+
+  private static Struct doPlus(final Struct baseDuration, final Struct addDuration) {
 
     if (baseDuration == null || addDuration == null)
       return null;
 
-    return
-        StructsConverter.toDurationStruct(
-            StructsConverter.fromDurationStruct(baseDuration)
-                .plus(StructsConverter.fromDurationStruct(addDuration))
-        );
+    return DurationArithmetic.plus(baseDuration, addDuration);
 
   }
 
@@ -72,15 +76,17 @@ public class UdfDurationPlus {
           description = "multiple duration structs to add",
           schema = DateTimeSchemas.DURATION_ARRAY_SCHEMA_DESCRIPTOR)
       final List<Struct> addDurations) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseDuration, addDurations);
+    return METRICS.call(() -> doPlus(baseDuration, addDurations));
+  }
+
+  private static Struct doPlus(final Struct baseDuration, final List<Struct> addDurations) {
 
     if (baseDuration == null || addDurations == null)
       return null;
 
-    Duration d = StructsConverter.fromDurationStruct(baseDuration);
-    for(Struct s : addDurations) {
-      d = d.plus(StructsConverter.fromDurationStruct(s));
-    }
-    return StructsConverter.toDurationStruct(d);
+    return DurationArithmetic.plus(baseDuration, addDurations);
 
   }
 
@@ -17,8 +17,9 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.formats.IsoDateTimeFormatter;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
-import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
@@ -32,6 +33,8 @@ import org.apache.kafka.connect.data.Struct;
 )
 public class UdfDurationStringify {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_duration_stringify");
+
   @Udf(description = "Create a (default) string representation of a Duration struct using the ISO-8601 duration seconds format, such as {@code PT8H6M12.345S}")
   public String stringify(
       @UdfParameter(
@@ -39,7 +42,13 @@ public class UdfDurationStringify {
           description = "the Duration struct to stringify",
           schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
       final Struct duration) {
-    return duration != null ? StructsConverter.fromDurationStruct(duration).toString() : null;
+    if (!UdfMetrics.ENABLED)
+      return doStringify(duration);
+    return METRICS.call(() -> doStringify(duration));
+  }
+
+  private static String doStringify(final Struct duration) {
+    return duration != null ? IsoDateTimeFormatter.formatDuration(duration) : null;
   }
 
 }
@@ -17,6 +17,9 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.clock.UdfClock;
+import com.github.hpgrahsl.ksqldb.functions.formats.IsoDateTimeParser;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -33,10 +36,18 @@ import org.apache.kafka.connect.data.Struct;
 )
 public class UdfInstant {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_instant");
+
   @Udf(description = "Create an Instant struct at the current local date time (default system UTC clock)",
       schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
   public Struct createInstant() {
-    return StructsConverter.toInstantStruct(Instant.now());
+    if (!UdfMetrics.ENABLED)
+      return doCreateInstant();
+    return METRICS.call(() -> doCreateInstant());
+  }
+
+  private static Struct doCreateInstant() {
+    return StructsConverter.toInstantStruct(Instant.now(UdfClock.current()));
   }
 
   @Udf(description = "Create an Instant struct based on millis since the epoch",
@@ -46,7 +57,13 @@ public class UdfInstant {
           value = "millis",
           description = "the millis since the epoch")
       final Long millis) {
-    return millis != null ? StructsConverter.toInstantStruct(Instant.ofEpochMilli(millis)) : null;
+    if (!UdfMetrics.ENABLED)
+      return doCreateInstant(millis);
+    return METRICS.call(() -> doCreateInstant(millis));
+  }
+
+  private static Struct doCreateInstant(final Long millis) {
+    return millis != null ? StructsConverter.sharedInstantStruct(Instant.ofEpochMilli(millis)) : null;
   }
 
   @Udf(description = "Create an Instant struct based on seconds since the epoch with(out) nano seconds adjustment",
@@ -60,9 +77,15 @@ public class UdfInstant {
           value = "nanoAdjustment",
           description = "the nano seconds part")
       final Long nanoAdjustment) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateInstant(seconds, nanoAdjustment);
+    return METRICS.call(() -> doCreateInstant(seconds, nanoAdjustment));
+  }
+
+  private static Struct doCreateInstant(final Long seconds, final Long nanoAdjustment) {
     if (seconds == null || nanoAdjustment == null)
       return null;
-    return StructsConverter.toInstantStruct(Instant.ofEpochSecond(seconds,nanoAdjustment));
+    return StructsConverter.sharedInstantStruct(Instant.ofEpochSecond(seconds,nanoAdjustment));
   }
 
   @Udf(description = "Create an Instant struct from its string representation using the java.time.format.DateTimeFormatter#ISO_INSTANT format",
@@ -72,7 +95,13 @@ public class UdfInstant {
           value = "text",
           description = "the string representation of the Instant following java.time.format.DateTimeFormatter#ISO_INSTANT e.g. 2020-07-24T20:07:24.00Z")
       final String text) {
-    return text != null ? StructsConverter.toInstantStruct(Instant.parse(text)) : null;
+    if (!UdfMetrics.ENABLED)
+      return doCreateInstant(text);
+    return METRICS.call(() -> doCreateInstant(text));
+  }
+
+  private static Struct doCreateInstant(final String text) {
+    return text != null ? StructsConverter.toInstantStruct(IsoDateTimeParser.parseInstant(text)) : null;
   }
 
 }
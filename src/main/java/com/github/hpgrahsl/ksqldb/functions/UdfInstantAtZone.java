@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import com.github.hpgrahsl.ksqldb.functions.structs.ZoneOffsetTable;
+import io.confluent.ksql.function.udf.Udf;
+import io.confluent.ksql.function.udf.UdfDescription;
+import io.confluent.ksql.function.udf.UdfParameter;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.kafka.connect.data.Struct;
+
+@UdfDescription(
+    name = "dt_instant_atzone",
+    description = "Convert instants to zoned datetimes",
+    author = "Hans-Peter Grahsl (follow @hpgrahsl)",
+    version = "0.1.0"
+    )
+public class UdfInstantAtZone {
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_instant_atzone");
+
+  @Udf(description = "Convert an instant to the zoned datetime at the same instant in the given time-zone",
+      schema = DateTimeSchemas.ZONEDDATETIME_SCHEMA_DESCRIPTOR)
+  public Struct atZone(
+      @UdfParameter(
+          value = "instant",
+          description = "the instant to convert",
+          schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
+      final Struct instant,
+      @UdfParameter(
+          value = "zoneId",
+          description = "the time-zone to convert to",
+          schema = DateTimeSchemas.ZONEID_SCHEMA_DESCRIPTOR)
+      final Struct zoneId
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doAtZone(instant, zoneId);
+    return METRICS.call(() -> doAtZone(instant, zoneId));
+  }
+
+  private static Struct doAtZone(final Struct instant, final Struct zoneId) {
+    if (instant == null || zoneId == null)
+      return null;
+    return atZone(
+        (Long)instant.get(DateTimeSchemas.INSTANT_SECONDS_FIELD),
+        (Integer)instant.get(DateTimeSchemas.INSTANT_NANOS_FIELD),
+        ZoneOffsetTable.of((String)zoneId.get(DateTimeSchemas.ZONEID_ID_FIELD))
+    );
+  }
+
+  @Udf(description = "Convert an instant to the zoned datetimes at the same instant in each of the given time-zones",
+      schema = DateTimeSchemas.ZONEDDATETIME_ARRAY_SCHEMA_DESCRIPTOR)
+  public List<Struct> atZone(
+      @UdfParameter(
+          value = "instant",
+          description = "the instant to convert",
+          schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
+      final Struct instant,
+      @UdfParameter(
+          value = "zoneIds",
+          description = "the time-zones to convert to",
+          schema = DateTimeSchemas.ZONEID_ARRAY_SCHEMA_DESCRIPTOR)
+      final List<Struct> zoneIds
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doAtZone(instant, zoneIds);
+    return METRICS.call(() -> doAtZone(instant, zoneIds));
+  }
+
+  private static List<Struct> doAtZone(final Struct instant, final List<Struct> zoneIds) {
+    if (instant == null || zoneIds == null)
+      return null;
+    long seconds = (Long)instant.get(DateTimeSchemas.INSTANT_SECONDS_FIELD);
+    int nanos = (Integer)instant.get(DateTimeSchemas.INSTANT_NANOS_FIELD);
+    List<Struct> results = new ArrayList<>(zoneIds.size());
+    for (Struct zoneId : zoneIds) {
+      results.add(zoneId != null
+          ? atZone(seconds, nanos, ZoneOffsetTable.of((String)zoneId.get(DateTimeSchemas.ZONEID_ID_FIELD))) : null);
+    }
+    return results;
+  }
+
+  private static Struct atZone(long seconds, int nanos, ZoneOffsetTable table) {
+    ZoneOffset offset = table.offsetAt(seconds);
+    return new Struct(DateTimeSchemas.ZONEDDATETIME_SCHEMA)
+        .put(DateTimeSchemas.ZONEDDATETIME_DATETIME_FIELD,
+            StructsConverter.toLocalDateTimeStruct(LocalDateTime.ofEpochSecond(seconds, nanos, offset)))
+        .put(DateTimeSchemas.ZONEDDATETIME_OFFSET_FIELD,StructsConverter.toZoneOffsetStruct(offset))
+        .put(DateTimeSchemas.ZONEDDATETIME_ZONE_FIELD,StructsConverter.toZoneIdStruct(table.zone()));
+  }
+
+}
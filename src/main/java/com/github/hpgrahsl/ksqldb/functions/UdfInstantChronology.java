@@ -17,14 +17,16 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.logging.RateLimitedLogger;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
-import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsComparator;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.kafka.connect.data.Struct;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 @UdfDescription(
     name = "dt_instant_chronology",
@@ -34,7 +36,9 @@ import org.slf4j.LoggerFactory;
     )
 public class UdfInstantChronology {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(UdfInstantChronology.class);
+  private static final RateLimitedLogger LOGGER = RateLimitedLogger.of(UdfInstantChronology.class);
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_instant_chronology");
 
   @Udf(description = "Check if an instant is either before, after or equal to another instant")
   public Boolean checkChronology(
@@ -50,29 +54,139 @@ public class UdfInstantChronology {
       final Struct instant,
       @UdfParameter(
           value = "chronologyMode",
-          description = "the chronologyMode being either: 'IS_BEFORE','IS_AFTER','IS_EQUAL'")
+          description = "the chronologyMode being either: " + ChronologyMode.VALID_MODES)
       final String chronologyMode
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doCheckChronology(baseInstant, instant, chronologyMode);
+    return METRICS.call(() -> doCheckChronology(baseInstant, instant, chronologyMode));
+  }
+
+  private static Boolean doCheckChronology(final Struct baseInstant, final Struct instant,
+      final String chronologyMode) {
     if (baseInstant == null || instant == null || chronologyMode == null)
       return null;
-    try {
-      ChronologyMode cm = ChronologyMode.valueOf(chronologyMode);
-      switch (cm) {
-        case IS_BEFORE:
-          return StructsConverter.fromInstantStruct(instant)
-              .isBefore(StructsConverter.fromInstantStruct(baseInstant));
-        case IS_AFTER:
-          return StructsConverter.fromInstantStruct(instant)
-              .isAfter(StructsConverter.fromInstantStruct(baseInstant));
-        case IS_EQUAL:
-          return StructsConverter.fromInstantStruct(instant)
-              .equals(StructsConverter.fromInstantStruct(baseInstant));
-      }
-    } catch(IllegalArgumentException e) {
-      LOGGER.error("chronologyMode '" + chronologyMode +
-          "' is invalid - must be one of: 'IS_BEFORE','IS_AFTER','IS_EQUAL'",e);
+    ChronologyMode cm = ChronologyMode.of(chronologyMode);
+    if (cm == null) {
+      ChronologyMode.reportInvalid(LOGGER, chronologyMode);
+      return null;
+    }
+    return cm.test(StructsComparator.compareInstantStructs(instant, baseInstant));
+  }
+
+  @Udf(description = "Compare an instant to another instant resulting in -1, 0 or 1 if it's before, equal or after")
+  public Integer compare(
+      @UdfParameter(
+          value = "baseInstant",
+          description = "the instant to compare against",
+          schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
+      final Struct baseInstant,
+      @UdfParameter(
+          value = "instant",
+          description = "the instant to compare",
+          schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
+      final Struct instant
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCompare(baseInstant, instant);
+    return METRICS.call(() -> doCompare(baseInstant, instant));
+  }
+
+  private static Integer doCompare(final Struct baseInstant, final Struct instant) {
+    if (baseInstant == null || instant == null)
+      return null;
+    return Integer.signum(StructsComparator.compareInstantStructs(instant, baseInstant));
+  }
+
+  @Udf(description = "Check if an instant given in epoch nanos or epoch micros is either before, after or equal to another one")
+  public Boolean checkChronology(
+      @UdfParameter(
+          value = "baseEpochUnits",
+          description = "the instant in epoch nanos or epoch micros to check against")
+      final Long baseEpochUnits,
+      @UdfParameter(
+          value = "epochUnits",
+          description = "the instant in epoch nanos or epoch micros to check whether it's before, after or equal")
+      final Long epochUnits,
+      @UdfParameter(
+          value = "chronologyMode",
+          description = "the chronologyMode being either: " + ChronologyMode.VALID_MODES)
+      final String chronologyMode
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCheckChronology(baseEpochUnits, epochUnits, chronologyMode);
+    return METRICS.call(() -> doCheckChronology(baseEpochUnits, epochUnits, chronologyMode));
+  }
+
+  private static Boolean doCheckChronology(final Long baseEpochUnits, final Long epochUnits,
+      final String chronologyMode) {
+    if (baseEpochUnits == null || epochUnits == null || chronologyMode == null)
+      return null;
+    ChronologyMode cm = ChronologyMode.of(chronologyMode);
+    if (cm == null) {
+      ChronologyMode.reportInvalid(LOGGER, chronologyMode);
+      return null;
     }
-    return null;
+    return cm.test(Long.compare(epochUnits, baseEpochUnits));
+  }
+
+  @Udf(description = "Compare an instant given in epoch nanos or epoch micros to another one resulting in -1, 0 or 1 if it's before, equal or after")
+  public Integer compare(
+      @UdfParameter(
+          value = "baseEpochUnits",
+          description = "the instant in epoch nanos or epoch micros to compare against")
+      final Long baseEpochUnits,
+      @UdfParameter(
+          value = "epochUnits",
+          description = "the instant in epoch nanos or epoch micros to compare")
+      final Long epochUnits
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCompare(baseEpochUnits, epochUnits);
+    return METRICS.call(() -> doCompare(baseEpochUnits, epochUnits));
+  }
+
+  private static Integer doCompare(final Long baseEpochUnits, final Long epochUnits) {
+    if (baseEpochUnits == null || epochUnits == null)
+      return null;
+    return Integer.signum(Long.compare(epochUnits, baseEpochUnits));
+  }
+
+  @Udf(description = "Check for multiple instants whether they are either before, after or equal to another instant")
+  public List<Boolean> checkChronology(
+      @UdfParameter(
+          value = "baseInstant",
+          description = "the instant to check against",
+          schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
+      final Struct baseInstant,
+      @UdfParameter(
+          value = "instants",
+          description = "the instants to check whether they are before, after or equal",
+          schema = DateTimeSchemas.INSTANT_ARRAY_SCHEMA_DESCRIPTOR)
+      final List<Struct> instants,
+      @UdfParameter(
+          value = "chronologyMode",
+          description = "the chronologyMode being either: " + ChronologyMode.VALID_MODES)
+      final String chronologyMode
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCheckChronology(baseInstant, instants, chronologyMode);
+    return METRICS.call(() -> doCheckChronology(baseInstant, instants, chronologyMode));
   }
 
+  private static List<Boolean> doCheckChronology(final Struct baseInstant, final List<Struct> instants,
+      final String chronologyMode) {
+    if (baseInstant == null || instants == null || chronologyMode == null)
+      return null;
+    ChronologyMode cm = ChronologyMode.of(chronologyMode);
+    if (cm == null) {
+      ChronologyMode.reportInvalid(LOGGER, chronologyMode);
+      return null;
+    }
+    List<Boolean> results = new ArrayList<>(instants.size());
+    for (Struct instant : instants) {
+      results.add(instant != null ? cm.test(StructsComparator.compareInstantStructs(instant, baseInstant)) : null);
+    }
+    return results;
+  }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import com.github.hpgrahsl.ksqldb.functions.compact.CompactEncodings;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import io.confluent.ksql.function.udf.Udf;
+import io.confluent.ksql.function.udf.UdfDescription;
+import io.confluent.ksql.function.udf.UdfParameter;
+import org.apache.kafka.connect.data.Struct;
+
+@UdfDescription(
+    name = "dt_instant_epochnanos",
+    description = "Convert instants from/to their compact epoch nanos representation",
+    author = "Hans-Peter Grahsl (follow @hpgrahsl)",
+    version = "0.1.0"
+    )
+public class UdfInstantEpochNanos {
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_instant_epochnanos");
+
+  @Udf(description = "Convert an instant to the number of nanoseconds since the epoch 1970-01-01T00:00:00Z (supported for instants between the years 1677 and 2262)")
+  public Long toEpochNanos(
+      @UdfParameter(
+          value = "instant",
+          description = "the Instant struct to convert",
+          schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
+      final Struct instant) {
+    if (!UdfMetrics.ENABLED)
+      return doToEpochNanos(instant);
+    return METRICS.call(() -> doToEpochNanos(instant));
+  }
+
+  private static Long doToEpochNanos(final Struct instant) {
+    return instant != null ? CompactEncodings.toEpochNanos(StructsConverter.fromInstantStruct(instant)) : null;
+  }
+
+  @Udf(description = "Create an Instant struct from the number of nanoseconds since the epoch 1970-01-01T00:00:00Z",
+      schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
+  public Struct fromEpochNanos(
+      @UdfParameter(
+          value = "epochNanos",
+          description = "the number of nanoseconds since the epoch 1970-01-01T00:00:00Z")
+      final Long epochNanos) {
+    if (!UdfMetrics.ENABLED)
+      return doFromEpochNanos(epochNanos);
+    return METRICS.call(() -> doFromEpochNanos(epochNanos));
+  }
+
+  private static Struct doFromEpochNanos(final Long epochNanos) {
+    return epochNanos != null ? StructsConverter.toInstantStruct(CompactEncodings.fromEpochNanos(epochNanos)) : null;
+  }
+
+}
@@ -17,6 +17,8 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.compact.CompactEncodings;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -32,6 +34,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfInstantMinus {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_instant_minus");
+
   @Udf(description = "Subtract a duration from an instant",
       schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
   public Struct minus(
@@ -46,6 +50,12 @@ public class UdfInstantMinus {
           schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
       final Struct duration
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(instant, duration);
+    return METRICS.call(() -> doMinus(instant, duration));
+  }
+
+  private static Struct doMinus(final Struct instant, final Struct duration) {
     if (instant == null || duration == null)
       return null;
     return StructsConverter.toInstantStruct(
@@ -70,6 +80,12 @@ public class UdfInstantMinus {
           value = "nanos",
           description = "the nano part to subtract")
       final Long nanos) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(instant, seconds, nanos);
+    return METRICS.call(() -> doMinus(instant, seconds, nanos));
+  }
+
+  private static Struct doMinus(final Struct instant, final Long seconds, final Long nanos) {
     if (instant == null || seconds == null || nanos == null)
       return null;
     return StructsConverter.toInstantStruct(
@@ -79,4 +95,26 @@ public class UdfInstantMinus {
     );
   }
 
+  @Udf(description = "Subtract a duration from an instant given in epoch nanos")
+  public Long minus(
+      @UdfParameter(
+          value = "epochNanos",
+          description = "the instant in epoch nanos to subtract from")
+      final Long epochNanos,
+      @UdfParameter(
+          value = "duration",
+          description = "the duration to subtract",
+          schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+      final Struct duration
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(epochNanos, duration);
+    return METRICS.call(() -> doMinus(epochNanos, duration));
+  }
+
+  private static Long doMinus(final Long epochNanos, final Struct duration) {
+    if (epochNanos == null || duration == null)
+      return null;
+    return CompactEncodings.minusEpochNanos(epochNanos, StructsConverter.fromDurationStruct(duration));
+  }
 }
@@ -17,11 +17,16 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.compact.CompactEncodings;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.kafka.connect.data.Struct;
 
 @UdfDescription(
@@ -32,6 +37,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfInstantPlus {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_instant_plus");
+
   @Udf(description = "Add a duration to an instant",
       schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
   public Struct plus(
@@ -46,6 +53,12 @@ public class UdfInstantPlus {
           schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
       final Struct duration
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseInstant, duration);
+    return METRICS.call(() -> doPlus(baseInstant, duration));
+  }
+
+  private static Struct doPlus(final Struct baseInstant, final Struct duration) {
     if (baseInstant == null || duration == null)
       return null;
     return StructsConverter.toInstantStruct(
@@ -70,6 +83,12 @@ public class UdfInstantPlus {
           value = "nanos",
           description = "the nano part to add")
       final Long nanos) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseInstant, seconds, nanos);
+    return METRICS.call(() -> doPlus(baseInstant, seconds, nanos));
+  }
+
+  private static Struct doPlus(final Struct baseInstant, final Long seconds, final Long nanos) {
     if (baseInstant == null || seconds == null || nanos == null)
       return null;
     return StructsConverter.toInstantStruct(
@@ -79,4 +98,57 @@ public class UdfInstantPlus {
     );
   }
 
+  @Udf(description = "Add a duration to an instant given in epoch nanos")
+  public Long plus(
+      @UdfParameter(
+          value = "baseEpochNanos",
+          description = "the instant in epoch nanos to add to")
+      final Long baseEpochNanos,
+      @UdfParameter(
+          value = "duration",
+          description = "the duration to add",
+          schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+      final Struct duration
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseEpochNanos, duration);
+    return METRICS.call(() -> doPlus(baseEpochNanos, duration));
+  }
+
+  private static Long doPlus(final Long baseEpochNanos, final Struct duration) {
+    if (baseEpochNanos == null || duration == null)
+      return null;
+    return CompactEncodings.plusEpochNanos(baseEpochNanos, StructsConverter.fromDurationStruct(duration));
+  }
+
+  @Udf(description = "Add a duration to multiple instants",
+      schema = DateTimeSchemas.INSTANT_ARRAY_SCHEMA_DESCRIPTOR)
+  public List<Struct> plus(
+      @UdfParameter(
+          value = "baseInstants",
+          description = "the instants to add to",
+          schema = DateTimeSchemas.INSTANT_ARRAY_SCHEMA_DESCRIPTOR)
+      final List<Struct> baseInstants,
+      @UdfParameter(
+          value = "duration",
+          description = "the duration to add",
+          schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+      final Struct duration
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseInstants, duration);
+    return METRICS.call(() -> doPlus(baseInstants, duration));
+  }
+
+  private static List<Struct> doPlus(final List<Struct> baseInstants, final Struct duration) {
+    if (baseInstants == null || duration == null)
+      return null;
+    Duration d = StructsConverter.fromDurationStruct(duration);
+    List<Struct> results = new ArrayList<>(baseInstants.size());
+    for (Struct baseInstant : baseInstants) {
+      results.add(baseInstant != null
+          ? StructsConverter.toInstantStruct(StructsConverter.fromInstantStruct(baseInstant).plus(d)) : null);
+    }
+    return results;
+  }
 }
@@ -17,8 +17,9 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.formats.IsoDateTimeFormatter;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
-import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
@@ -32,13 +33,21 @@ import org.apache.kafka.connect.data.Struct;
 )
 public class UdfInstantStringify {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_instant_stringify");
+
   @Udf(description = "Create a default formatted string representation of an Instant using ISO-8601 representation (java.time.format.DateTimeFormatter#ISO_INSTANT) at zone offset +00:00 i.e. UTC")
   public String stringify(
       @UdfParameter(
           value = "instant", description = "the Instant struct to stringify",
           schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
       final Struct instant) {
-    return instant != null ? StructsConverter.fromInstantStruct(instant).toString() : null;
+    if (!UdfMetrics.ENABLED)
+      return doStringify(instant);
+    return METRICS.call(() -> doStringify(instant));
+  }
+
+  private static String doStringify(final Struct instant) {
+    return instant != null ? IsoDateTimeFormatter.formatInstant(instant) : null;
   }
 
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import com.github.hpgrahsl.ksqldb.functions.buckets.CalendarBucket;
+import com.github.hpgrahsl.ksqldb.functions.buckets.TimeBuckets;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import io.confluent.ksql.function.udf.Udf;
+import io.confluent.ksql.function.udf.UdfDescription;
+import io.confluent.ksql.function.udf.UdfParameter;
+import java.time.ZoneId;
+import org.apache.kafka.connect.data.Struct;
+
+@UdfDescription(
+    name = "dt_instant_truncate",
+    description = "Truncate instants to the start of time buckets",
+    author = "Hans-Peter Grahsl (follow @hpgrahsl)",
+    version = "0.1.0"
+    )
+public class UdfInstantTruncate {
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_instant_truncate");
+
+  @Udf(description = "Truncate an instant to the start of its bucket of the given width aligned to the epoch",
+      schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
+  public Struct truncate(
+      @UdfParameter(
+          value = "instant",
+          description = "the instant to truncate",
+          schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
+      final Struct instant,
+      @UdfParameter(
+          value = "bucket",
+          description = "the positive duration which defines the width of the buckets",
+          schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+      final Struct bucket
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doTruncate(instant, bucket);
+    return METRICS.call(() -> doTruncate(instant, bucket));
+  }
+
+  private static Struct doTruncate(final Struct instant, final Struct bucket) {
+    if (instant == null || bucket == null)
+      return null;
+    return floorInstant(instant, bucket, 0L, 0);
+  }
+
+  @Udf(description = "Truncate an instant to the start of its bucket of the given width aligned to the origin",
+      schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
+  public Struct truncate(
+      @UdfParameter(
+          value = "instant",
+          description = "the instant to truncate",
+          schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
+      final Struct instant,
+      @UdfParameter(
+          value = "bucket",
+          description = "the positive duration which defines the width of the buckets",
+          schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+      final Struct bucket,
+      @UdfParameter(
+          value = "origin",
+          description = "the instant at which one of the buckets starts",
+          schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
+      final Struct origin
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doTruncate(instant, bucket, origin);
+    return METRICS.call(() -> doTruncate(instant, bucket, origin));
+  }
+
+  private static Struct doTruncate(final Struct instant, final Struct bucket, final Struct origin) {
+    if (instant == null || bucket == null || origin == null)
+      return null;
+    return floorInstant(instant, bucket,
+        (Long)origin.get(DateTimeSchemas.INSTANT_SECONDS_FIELD),
+        (Integer)origin.get(DateTimeSchemas.INSTANT_NANOS_FIELD));
+  }
+
+  @Udf(description = "Truncate an instant to the start of the calendar unit it falls into in the given time-zone",
+      schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
+  public Struct truncate(
+      @UdfParameter(
+          value = "instant",
+          description = "the instant to truncate",
+          schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
+      final Struct instant,
+      @UdfParameter(
+          value = "calendarUnit",
+          description = "the calendar unit to truncate to, must be one of: " + CalendarBucket.VALID_UNITS)
+      final String calendarUnit,
+      @UdfParameter(
+          value = "zoneId",
+          description = "the time-zone in which the calendar units start",
+          schema = DateTimeSchemas.ZONEID_SCHEMA_DESCRIPTOR)
+      final Struct zoneId
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doTruncate(instant, calendarUnit, zoneId);
+    return METRICS.call(() -> doTruncate(instant, calendarUnit, zoneId));
+  }
+
+  private static Struct doTruncate(final Struct instant, final String calendarUnit, final Struct zoneId) {
+    if (instant == null || calendarUnit == null || zoneId == null)
+      return null;
+    ZoneId zone = StructsConverter.fromZoneIdStruct(zoneId);
+    return StructsConverter.toInstantStruct(
+        CalendarBucket.of(calendarUnit)
+            .floor(StructsConverter.fromInstantStruct(instant).atZone(zone).toLocalDate())
+            .atStartOfDay(zone).toInstant()
+    );
+  }
+
+  private static Struct floorInstant(Struct instant, Struct bucket, long originSeconds, int originNanos) {
+    return TimeBuckets.floorInstant(
+        (Long)instant.get(DateTimeSchemas.INSTANT_SECONDS_FIELD),
+        (Integer)instant.get(DateTimeSchemas.INSTANT_NANOS_FIELD),
+        (Long)bucket.get(DateTimeSchemas.DURATION_SECONDS_FIELD),
+        (Integer)bucket.get(DateTimeSchemas.DURATION_NANOS_FIELD),
+        originSeconds, originNanos
+    );
+  }
+
+}
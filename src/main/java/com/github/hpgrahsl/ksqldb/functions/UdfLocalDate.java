@@ -17,13 +17,17 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.LocalDateArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.clock.UdfClock;
+import com.github.hpgrahsl.ksqldb.functions.formats.DateTimeFormatterCache;
+import com.github.hpgrahsl.ksqldb.functions.formats.IsoDateTimeParser;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import org.apache.kafka.connect.data.Struct;
 
 @UdfDescription(
@@ -34,10 +38,18 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfLocalDate {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localdate");
+
   @Udf(description = "Create a LocalDate struct based on the current date (system clock in the default time-zone)",
       schema = DateTimeSchemas.LOCALDATE_SCHEMA_DESCRIPTOR)
   public Struct createLocalDate() {
-    return StructsConverter.toLocalDateStruct(LocalDate.now());
+    if (!UdfMetrics.ENABLED)
+      return doCreateLocalDate();
+    return METRICS.call(() -> doCreateLocalDate());
+  }
+
+  private static Struct doCreateLocalDate() {
+    return StructsConverter.toLocalDateStruct(LocalDate.now(UdfClock.current()));
   }
 
   @Udf(description = "Create a LocalDate struct from its components (year, month, day)",
@@ -55,6 +67,12 @@ public class UdfLocalDate {
           value = "day",
           description = "the day part of the LocalDate")
       final Integer day) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateLocalDate(year, month, day);
+    return METRICS.call(() -> doCreateLocalDate(year, month, day));
+  }
+
+  private static Struct doCreateLocalDate(final Integer year, final Integer month, final Integer day) {
     if (year == null || month == null || day == null)
       return null;
     return StructsConverter.toLocalDateStruct(LocalDate.of(year, month, day));
@@ -67,7 +85,16 @@ public class UdfLocalDate {
           value = "epochDays",
           description = "the number of days since the epoch")
       final Long epochDays) {
-    return epochDays != null ? StructsConverter.toLocalDateStruct(LocalDate.ofEpochDay(epochDays)) : null;
+    if (!UdfMetrics.ENABLED)
+      return doCreateLocalDate(epochDays);
+    return METRICS.call(() -> doCreateLocalDate(epochDays));
+  }
+
+  private static Struct doCreateLocalDate(final Long epochDays) {
+    if (epochDays == null)
+      return null;
+    Struct result = LocalDateArithmetic.ofEpochDay(epochDays);
+    return result != null ? result : StructsConverter.toLocalDateStruct(LocalDate.ofEpochDay(epochDays));
   }
 
   @Udf(description = "Create a LocalDate struct from its string representation using java.time.format.DateTimeFormatter#ISO_LOCAL_DATE",
@@ -77,7 +104,13 @@ public class UdfLocalDate {
           value = "text",
           description = "the string representation of the LocalDate")
       final String text) {
-    return text != null ? StructsConverter.toLocalDateStruct(LocalDate.parse(text)) : null;
+    if (!UdfMetrics.ENABLED)
+      return doCreateLocalDate(text);
+    return METRICS.call(() -> doCreateLocalDate(text));
+  }
+
+  private static Struct doCreateLocalDate(final String text) {
+    return text != null ? StructsConverter.toLocalDateStruct(IsoDateTimeParser.parseLocalDate(text)) : null;
   }
 
   @Udf(description = "Create a LocalDate struct from its string representation using the specified java.time.format.DateTimeFormatter format string",
@@ -91,9 +124,15 @@ public class UdfLocalDate {
           value = "format",
           description = "the specified java.time.format.DateTimeFormatter format string")
       final String format) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateLocalDate(text, format);
+    return METRICS.call(() -> doCreateLocalDate(text, format));
+  }
+
+  private static Struct doCreateLocalDate(final String text, final String format) {
     if (text == null || format == null)
       return null;
-    return StructsConverter.toLocalDateStruct(LocalDate.parse(text, DateTimeFormatter.ofPattern(format)));
+    return StructsConverter.toLocalDateStruct(LocalDate.parse(text, DateTimeFormatterCache.ofPattern(format)));
   }
 
 }
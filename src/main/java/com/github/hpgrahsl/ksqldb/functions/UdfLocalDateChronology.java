@@ -17,14 +17,16 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.logging.RateLimitedLogger;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
-import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsComparator;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.kafka.connect.data.Struct;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 @UdfDescription(
     name = "dt_localdate_chronology",
@@ -34,7 +36,9 @@ import org.slf4j.LoggerFactory;
     )
 public class UdfLocalDateChronology {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(UdfLocalDateChronology.class);
+  private static final RateLimitedLogger LOGGER = RateLimitedLogger.of(UdfLocalDateChronology.class);
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localdate_chronology");
 
   @Udf(description = "Check if a local date is either before, after or equal to another local date")
   public Boolean check(
@@ -50,29 +54,137 @@ public class UdfLocalDateChronology {
       final Struct localDate,
       @UdfParameter(
           value = "chronologyMode",
-          description = "the chronologyMode being either: 'IS_BEFORE','IS_AFTER','IS_EQUAL'")
+          description = "the chronologyMode being either: " + ChronologyMode.VALID_MODES)
       final String chronologyMode
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doCheck(baseLocalDate, localDate, chronologyMode);
+    return METRICS.call(() -> doCheck(baseLocalDate, localDate, chronologyMode));
+  }
+
+  private static Boolean doCheck(final Struct baseLocalDate, final Struct localDate, final String chronologyMode) {
     if (baseLocalDate == null || localDate == null || chronologyMode == null)
       return null;
-    try {
-      ChronologyMode cm = ChronologyMode.valueOf(chronologyMode);
-      switch (cm) {
-        case IS_BEFORE:
-          return StructsConverter.fromLocalDateStruct(localDate)
-              .isBefore(StructsConverter.fromLocalDateStruct(baseLocalDate));
-        case IS_AFTER:
-          return StructsConverter.fromLocalDateStruct(localDate)
-              .isAfter(StructsConverter.fromLocalDateStruct(baseLocalDate));
-        case IS_EQUAL:
-          return StructsConverter.fromLocalDateStruct(localDate)
-              .isEqual(StructsConverter.fromLocalDateStruct(baseLocalDate));
-      }
-    } catch(IllegalArgumentException e) {
-      LOGGER.error("chronologyMode '" + chronologyMode +
-          "' is invalid - must be one of: 'IS_BEFORE','IS_AFTER','IS_EQUAL'",e);
+    ChronologyMode cm = ChronologyMode.of(chronologyMode);
+    if (cm == null) {
+      ChronologyMode.reportInvalid(LOGGER, chronologyMode);
+      return null;
+    }
+    return cm.test(StructsComparator.compareLocalDateStructs(localDate, baseLocalDate));
+  }
+
+  @Udf(description = "Compare a local date to another local date resulting in -1, 0 or 1 if it's before, equal or after")
+  public Integer compare(
+      @UdfParameter(
+          value = "baseLocalDate",
+          description = "the local date to compare against",
+          schema = DateTimeSchemas.LOCALDATE_SCHEMA_DESCRIPTOR)
+      final Struct baseLocalDate,
+      @UdfParameter(
+          value = "localDate",
+          description = "the local date to compare",
+          schema = DateTimeSchemas.LOCALDATE_SCHEMA_DESCRIPTOR)
+      final Struct localDate
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCompare(baseLocalDate, localDate);
+    return METRICS.call(() -> doCompare(baseLocalDate, localDate));
+  }
+
+  private static Integer doCompare(final Struct baseLocalDate, final Struct localDate) {
+    if (baseLocalDate == null || localDate == null)
+      return null;
+    return Integer.signum(StructsComparator.compareLocalDateStructs(localDate, baseLocalDate));
+  }
+
+  @Udf(description = "Check if a local date given in epoch days is either before, after or equal to another one")
+  public Boolean check(
+      @UdfParameter(
+          value = "baseEpochDay",
+          description = "the local date in epoch days to check against")
+      final Integer baseEpochDay,
+      @UdfParameter(
+          value = "epochDay",
+          description = "the local date in epoch days to check whether it's before, after or equal")
+      final Integer epochDay,
+      @UdfParameter(
+          value = "chronologyMode",
+          description = "the chronologyMode being either: " + ChronologyMode.VALID_MODES)
+      final String chronologyMode
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCheck(baseEpochDay, epochDay, chronologyMode);
+    return METRICS.call(() -> doCheck(baseEpochDay, epochDay, chronologyMode));
+  }
+
+  private static Boolean doCheck(final Integer baseEpochDay, final Integer epochDay, final String chronologyMode) {
+    if (baseEpochDay == null || epochDay == null || chronologyMode == null)
+      return null;
+    ChronologyMode cm = ChronologyMode.of(chronologyMode);
+    if (cm == null) {
+      ChronologyMode.reportInvalid(LOGGER, chronologyMode);
+      return null;
     }
-    return null;
+    return cm.test(Integer.compare(epochDay, baseEpochDay));
+  }
+
+  @Udf(description = "Compare a local date given in epoch days to another one resulting in -1, 0 or 1 if it's before, equal or after")
+  public Integer compare(
+      @UdfParameter(
+          value = "baseEpochDay",
+          description = "the local date in epoch days to compare against")
+      final Integer baseEpochDay,
+      @UdfParameter(
+          value = "epochDay",
+          description = "the local date in epoch days to compare")
+      final Integer epochDay
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCompare(baseEpochDay, epochDay);
+    return METRICS.call(() -> doCompare(baseEpochDay, epochDay));
+  }
+
+  private static Integer doCompare(final Integer baseEpochDay, final Integer epochDay) {
+    if (baseEpochDay == null || epochDay == null)
+      return null;
+    return Integer.signum(Integer.compare(epochDay, baseEpochDay));
+  }
+
+  @Udf(description = "Check for multiple local dates whether they are either before, after or equal to another local date")
+  public List<Boolean> check(
+      @UdfParameter(
+          value = "baseLocalDate",
+          description = "the local date to check against",
+          schema = DateTimeSchemas.LOCALDATE_SCHEMA_DESCRIPTOR)
+      final Struct baseLocalDate,
+      @UdfParameter(
+          value = "localDates",
+          description = "the local dates to check whether they are before, after or equal",
+          schema = DateTimeSchemas.LOCALDATE_ARRAY_SCHEMA_DESCRIPTOR)
+      final List<Struct> localDates,
+      @UdfParameter(
+          value = "chronologyMode",
+          description = "the chronologyMode being either: " + ChronologyMode.VALID_MODES)
+      final String chronologyMode
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCheck(baseLocalDate, localDates, chronologyMode);
+    return METRICS.call(() -> doCheck(baseLocalDate, localDates, chronologyMode));
   }
 
+  private static List<Boolean> doCheck(final Struct baseLocalDate, final List<Struct> localDates,
+      final String chronologyMode) {
+    if (baseLocalDate == null || localDates == null || chronologyMode == null)
+      return null;
+    ChronologyMode cm = ChronologyMode.of(chronologyMode);
+    if (cm == null) {
+      ChronologyMode.reportInvalid(LOGGER, chronologyMode);
+      return null;
+    }
+    List<Boolean> results = new ArrayList<>(localDates.size());
+    for (Struct localDate : localDates) {
+      results.add(localDate != null ? cm.test(StructsComparator.compareLocalDateStructs(localDate, baseLocalDate)) : null);
+    }
+    return results;
+  }
 }
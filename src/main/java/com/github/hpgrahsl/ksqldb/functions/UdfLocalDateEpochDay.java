@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.LocalDateArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.compact.CompactEncodings;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import io.confluent.ksql.function.udf.Udf;
+import io.confluent.ksql.function.udf.UdfDescription;
+import io.confluent.ksql.function.udf.UdfParameter;
+import org.apache.kafka.connect.data.Struct;
+
+@UdfDescription(
+    name = "dt_localdate_epochday",
+    description = "Convert local dates from/to their compact epoch day representation",
+    author = "Hans-Peter Grahsl (follow @hpgrahsl)",
+    version = "0.1.0"
+    )
+public class UdfLocalDateEpochDay {
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localdate_epochday");
+
+  @Udf(description = "Convert a local date to the number of days since the epoch 1970-01-01")
+  public Integer toEpochDay(
+      @UdfParameter(
+          value = "localDate",
+          description = "the LocalDate struct to convert",
+          schema = DateTimeSchemas.LOCALDATE_SCHEMA_DESCRIPTOR)
+      final Struct localDate) {
+    if (!UdfMetrics.ENABLED)
+      return doToEpochDay(localDate);
+    return METRICS.call(() -> doToEpochDay(localDate));
+  }
+
+  private static Integer doToEpochDay(final Struct localDate) {
+    if (localDate == null)
+      return null;
+    Long epochDay = LocalDateArithmetic.toEpochDay(localDate);
+    return epochDay != null
+        ? Math.toIntExact(epochDay)
+        : CompactEncodings.toEpochDay(StructsConverter.fromLocalDateStruct(localDate));
+  }
+
+  @Udf(description = "Create a LocalDate struct from the number of days since the epoch 1970-01-01",
+      schema = DateTimeSchemas.LOCALDATE_SCHEMA_DESCRIPTOR)
+  public Struct fromEpochDay(
+      @UdfParameter(
+          value = "epochDay",
+          description = "the number of days since the epoch 1970-01-01")
+      final Integer epochDay) {
+    if (!UdfMetrics.ENABLED)
+      return doFromEpochDay(epochDay);
+    return METRICS.call(() -> doFromEpochDay(epochDay));
+  }
+
+  private static Struct doFromEpochDay(final Integer epochDay) {
+    return epochDay != null ? LocalDateArithmetic.ofEpochDay(epochDay) : null;
+  }
+
+}
@@ -17,12 +17,14 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.formats.DateTimeFormatterCache;
+import com.github.hpgrahsl.ksqldb.functions.formats.IsoDateTimeFormatter;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
-import java.time.format.DateTimeFormatter;
 import org.apache.kafka.connect.data.Struct;
 
 @UdfDescription(
@@ -33,6 +35,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfLocalDateFormat {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localdate_format");
+
   @Udf(description = "Create a string representation of the LocalDate struct using the java.time.format.DateTimeFormatter#ISO_LOCAL_DATE format")
   public String format(
       @UdfParameter(
@@ -41,7 +45,13 @@ public class UdfLocalDateFormat {
           schema = DateTimeSchemas.LOCALDATE_SCHEMA_DESCRIPTOR)
       final Struct localDate
   ) {
-    return localDate != null ? StructsConverter.fromLocalDateStruct(localDate).format(DateTimeFormatter.ISO_LOCAL_DATE) : null;
+    if (!UdfMetrics.ENABLED)
+      return doFormat(localDate);
+    return METRICS.call(() -> doFormat(localDate));
+  }
+
+  private static String doFormat(final Struct localDate) {
+    return localDate != null ? IsoDateTimeFormatter.formatLocalDate(localDate) : null;
   }
 
   @Udf(description = "Create a string representation of the LocalDate struct using the specified java.time.format.DateTimeFormatter format string")
@@ -56,9 +66,15 @@ public class UdfLocalDateFormat {
           description = "the java.time.format.DateTimeFormatter format string")
       final String format
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doFormat(localDate, format);
+    return METRICS.call(() -> doFormat(localDate, format));
+  }
+
+  private static String doFormat(final Struct localDate, final String format) {
     if (localDate == null || format == null)
       return null;
-    return StructsConverter.fromLocalDateStruct(localDate).format(DateTimeFormatter.ofPattern(format));
+    return StructsConverter.fromLocalDateStruct(localDate).format(DateTimeFormatterCache.ofPattern(format));
   }
 
 }
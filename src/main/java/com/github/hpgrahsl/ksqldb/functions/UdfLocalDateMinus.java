@@ -17,6 +17,9 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.LocalDateArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.compact.CompactEncodings;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -32,6 +35,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfLocalDateMinus {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localdate_minus");
+
   @Udf(description = "Subtract a period from a local date",
       schema = DateTimeSchemas.LOCALDATE_SCHEMA_DESCRIPTOR)
   public Struct minus(
@@ -46,8 +51,17 @@ public class UdfLocalDateMinus {
           schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
       final Struct period
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(baseLocalDate, period);
+    return METRICS.call(() -> doMinus(baseLocalDate, period));
+  }
+
+  private static Struct doMinus(final Struct baseLocalDate, final Struct period) {
     if (baseLocalDate == null || period == null)
       return null;
+    Struct result = LocalDateArithmetic.minus(baseLocalDate, period);
+    if (result != null)
+      return result;
     return StructsConverter.toLocalDateStruct(
         StructsConverter.fromLocalDateStruct(baseLocalDate)
             .minus(StructsConverter.fromPeriodStruct(period))
@@ -74,8 +88,18 @@ public class UdfLocalDateMinus {
           value = "minusDays",
           description = "the day part to subtract")
       final Integer minusDays) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(baseLocalDate, minusYears, minusMonths, minusDays);
+    return METRICS.call(() -> doMinus(baseLocalDate, minusYears, minusMonths, minusDays));
+  }
+
+  private static Struct doMinus(final Struct baseLocalDate, final Integer minusYears, final Integer minusMonths,
+      final Integer minusDays) {
     if (baseLocalDate == null || minusYears == null || minusMonths == null || minusDays == null)
       return null;
+    Struct result = LocalDateArithmetic.plus(baseLocalDate, -(long)minusYears, -(long)minusMonths, -(long)minusDays);
+    if (result != null)
+      return result;
     return StructsConverter.toLocalDateStruct(
         StructsConverter.fromLocalDateStruct(baseLocalDate)
           .minusYears(minusYears)
@@ -84,4 +108,32 @@ public class UdfLocalDateMinus {
     );
   }
 
+  @Udf(description = "Subtract a period from a local date given in epoch days")
+  public Integer minus(
+      @UdfParameter(
+          value = "baseEpochDay",
+          description = "the local date in epoch days to subtract from")
+      final Integer baseEpochDay,
+      @UdfParameter(
+          value = "period",
+          description = "the period to subtract",
+          schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
+      final Struct period
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(baseEpochDay, period);
+    return METRICS.call(() -> doMinus(baseEpochDay, period));
+  }
+
+  private static Integer doMinus(final Integer baseEpochDay, final Struct period) {
+    if (baseEpochDay == null || period == null)
+      return null;
+    Integer result = LocalDateArithmetic.minusEpochDay(baseEpochDay, period);
+    if (result != null)
+      return result;
+    return CompactEncodings.toEpochDay(
+        CompactEncodings.fromEpochDay(baseEpochDay)
+            .minus(StructsConverter.fromPeriodStruct(period))
+    );
+  }
 }
@@ -17,6 +17,9 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.LocalDateArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.compact.CompactEncodings;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -32,6 +35,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfLocalDatePlus {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localdate_plus");
+
   @Udf(description = "Add a period to a local date",
       schema = DateTimeSchemas.LOCALDATE_SCHEMA_DESCRIPTOR)
   public Struct plus(
@@ -46,8 +51,17 @@ public class UdfLocalDatePlus {
           schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
       final Struct period
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseLocalDate, period);
+    return METRICS.call(() -> doPlus(baseLocalDate, period));
+  }
+
+  private static Struct doPlus(final Struct baseLocalDate, final Struct period) {
     if (baseLocalDate == null || period == null)
       return null;
+    Struct result = LocalDateArithmetic.plus(baseLocalDate, period);
+    if (result != null)
+      return result;
     return StructsConverter.toLocalDateStruct(
         StructsConverter.fromLocalDateStruct(baseLocalDate)
             .plus(StructsConverter.fromPeriodStruct(period))
@@ -74,8 +88,18 @@ public class UdfLocalDatePlus {
           value = "addDays",
           description = "the day part to add")
       final Integer addDays) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseLocalDate, addYears, addMonths, addDays);
+    return METRICS.call(() -> doPlus(baseLocalDate, addYears, addMonths, addDays));
+  }
+
+  private static Struct doPlus(final Struct baseLocalDate, final Integer addYears, final Integer addMonths,
+      final Integer addDays) {
     if (baseLocalDate == null || addYears == null || addMonths == null || addDays == null)
       return null;
+    Struct result = LocalDateArithmetic.plus(baseLocalDate, addYears, addMonths, addDays);
+    if (result != null)
+      return result;
     return StructsConverter.toLocalDateStruct(
         StructsConverter.fromLocalDateStruct(baseLocalDate)
           .plusYears(addYears)
@@ -84,4 +108,32 @@ public class UdfLocalDatePlus {
     );
   }
 
+  @Udf(description = "Add a period to a local date given in epoch days")
+  public Integer plus(
+      @UdfParameter(
+          value = "baseEpochDay",
+          description = "the local date in epoch days to add to")
+      final Integer baseEpochDay,
+      @UdfParameter(
+          value = "period",
+          description = "the period to add",
+          schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
+      final Struct period
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseEpochDay, period);
+    return METRICS.call(() -> doPlus(baseEpochDay, period));
+  }
+
+  private static Integer doPlus(final Integer baseEpochDay, final Struct period) {
+    if (baseEpochDay == null || period == null)
+      return null;
+    Integer result = LocalDateArithmetic.plusEpochDay(baseEpochDay, period);
+    if (result != null)
+      return result;
+    return CompactEncodings.toEpochDay(
+        CompactEncodings.fromEpochDay(baseEpochDay)
+            .plus(StructsConverter.fromPeriodStruct(period))
+    );
+  }
 }
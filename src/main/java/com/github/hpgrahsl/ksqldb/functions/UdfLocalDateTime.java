@@ -17,6 +17,10 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.clock.UdfClock;
+import com.github.hpgrahsl.ksqldb.functions.formats.DateTimeFormatterCache;
+import com.github.hpgrahsl.ksqldb.functions.formats.IsoDateTimeParser;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -24,7 +28,6 @@ import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 import org.apache.kafka.connect.data.Struct;
@@ -37,10 +40,18 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfLocalDateTime {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localdatetime");
+
   @Udf(description = "Create a LocalDateTime struct based on the current datetime (system clock in the default time-zone)",
       schema = DateTimeSchemas.LOCALDATETIME_SCHEMA_DESCRIPTOR)
   public Struct createLocalDateTime() {
-    return StructsConverter.toLocalDateTimeStruct(LocalDateTime.now());
+    if (!UdfMetrics.ENABLED)
+      return doCreateLocalDateTime();
+    return METRICS.call(() -> doCreateLocalDateTime());
+  }
+
+  private static Struct doCreateLocalDateTime() {
+    return StructsConverter.toLocalDateTimeStruct(LocalDateTime.now(UdfClock.current()));
   }
 
   @Udf(description = "Create a LocalDateTime struct from its components (year, month, day, hour, minute, second, nano)",
@@ -74,6 +85,13 @@ public class UdfLocalDateTime {
           value = "nano",
           description = "the nano part of the LocalDateTime")
       final Integer nano) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateLocalDateTime(year, month, day, hour, minute, second, nano);
+    return METRICS.call(() -> doCreateLocalDateTime(year, month, day, hour, minute, second, nano));
+  }
+
+  private static Struct doCreateLocalDateTime(final Integer year, final Integer month, final Integer day,
+      final Integer hour, final Integer minute, final Integer second, final Integer nano) {
     if (year == null || month == null || day == null || hour == null || minute == null || second == null || nano == null)
       return null;
     return StructsConverter.toLocalDateTimeStruct(LocalDateTime.of(
@@ -88,6 +106,12 @@ public class UdfLocalDateTime {
           value = "epochMillis",
           description = "the number of millis since the epoch")
       final Long epochMillis) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateLocalDateTime(epochMillis);
+    return METRICS.call(() -> doCreateLocalDateTime(epochMillis));
+  }
+
+  private static Struct doCreateLocalDateTime(final Long epochMillis) {
     if (epochMillis == null)
       return null;
     final long epochSecond = TimeUnit.MILLISECONDS.toSeconds(epochMillis);
@@ -109,6 +133,12 @@ public class UdfLocalDateTime {
           schema = DateTimeSchemas.LOCALTIME_SCHEMA_DESCRIPTOR)
       final Struct localTime
   ) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateLocalDateTime(localDate, localTime);
+    return METRICS.call(() -> doCreateLocalDateTime(localDate, localTime));
+  }
+
+  private static Struct doCreateLocalDateTime(final Struct localDate, final Struct localTime) {
     if (localDate == null || localTime == null)
       return null;
     return StructsConverter.toLocalDateTimeStruct(
@@ -126,7 +156,13 @@ public class UdfLocalDateTime {
           value = "text",
           description = "the string representation of the LocalDateTime")
       final String text) {
-    return text != null ? StructsConverter.toLocalDateTimeStruct(LocalDateTime.parse(text)) : null;
+    if (!UdfMetrics.ENABLED)
+      return doCreateLocalDateTime(text);
+    return METRICS.call(() -> doCreateLocalDateTime(text));
+  }
+
+  private static Struct doCreateLocalDateTime(final String text) {
+    return text != null ? StructsConverter.toLocalDateTimeStruct(IsoDateTimeParser.parseLocalDateTime(text)) : null;
   }
 
   @Udf(description = "Create a LocalDateTime struct from its string representation using the specified java.time.format.DateTimeFormatter format string",
@@ -140,9 +176,15 @@ public class UdfLocalDateTime {
           value = "format",
           description = "the specified java.time.format.DateTimeFormatter format string")
       final String format) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateLocalDateTime(text, format);
+    return METRICS.call(() -> doCreateLocalDateTime(text, format));
+  }
+
+  private static Struct doCreateLocalDateTime(final String text, final String format) {
     if (text == null || format == null)
       return null;
-    return StructsConverter.toLocalDateTimeStruct(LocalDateTime.parse(text, DateTimeFormatter.ofPattern(format,
+    return StructsConverter.toLocalDateTimeStruct(LocalDateTime.parse(text, DateTimeFormatterCache.ofPattern(format,
         Locale.ENGLISH)));
   }
 
@@ -17,14 +17,16 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.logging.RateLimitedLogger;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
-import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsComparator;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.kafka.connect.data.Struct;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 @UdfDescription(
     name = "dt_localdatetime_chronology",
@@ -34,7 +36,9 @@ import org.slf4j.LoggerFactory;
     )
 public class UdfLocalDateTimeChronology {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(UdfLocalDateTimeChronology.class);
+  private static final RateLimitedLogger LOGGER = RateLimitedLogger.of(UdfLocalDateTimeChronology.class);
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localdatetime_chronology");
 
   @Udf(description = "Check if a local datetime is either before, after or equal to another local datetime")
   public Boolean check(
@@ -50,29 +54,138 @@ public class UdfLocalDateTimeChronology {
       final Struct localDateTime,
       @UdfParameter(
           value = "chronologyMode",
-          description = "the chronologyMode being either: 'IS_BEFORE','IS_AFTER','IS_EQUAL'")
+          description = "the chronologyMode being either: " + ChronologyMode.VALID_MODES)
       final String chronologyMode
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doCheck(baseLocalDateTime, localDateTime, chronologyMode);
+    return METRICS.call(() -> doCheck(baseLocalDateTime, localDateTime, chronologyMode));
+  }
+
+  private static Boolean doCheck(final Struct baseLocalDateTime, final Struct localDateTime,
+      final String chronologyMode) {
     if (baseLocalDateTime == null || localDateTime == null || chronologyMode == null)
       return null;
-    try {
-      ChronologyMode cm = ChronologyMode.valueOf(chronologyMode);
-      switch (cm) {
-        case IS_BEFORE:
-          return StructsConverter.fromLocalDateTimeStruct(localDateTime)
-              .isBefore(StructsConverter.fromLocalDateTimeStruct(baseLocalDateTime));
-        case IS_AFTER:
-          return StructsConverter.fromLocalDateTimeStruct(localDateTime)
-              .isAfter(StructsConverter.fromLocalDateTimeStruct(baseLocalDateTime));
-        case IS_EQUAL:
-          return StructsConverter.fromLocalDateTimeStruct(localDateTime)
-              .isEqual(StructsConverter.fromLocalDateTimeStruct(baseLocalDateTime));
-      }
-    } catch(IllegalArgumentException e) {
-      LOGGER.error("chronologyMode '" + chronologyMode +
-          "' is invalid - must be one of: 'IS_BEFORE','IS_AFTER','IS_EQUAL'",e);
+    ChronologyMode cm = ChronologyMode.of(chronologyMode);
+    if (cm == null) {
+      ChronologyMode.reportInvalid(LOGGER, chronologyMode);
+      return null;
+    }
+    return cm.test(StructsComparator.compareLocalDateTimeStructs(localDateTime, baseLocalDateTime));
+  }
+
+  @Udf(description = "Compare a local datetime to another local datetime resulting in -1, 0 or 1 if it's before, equal or after")
+  public Integer compare(
+      @UdfParameter(
+          value = "baseLocalDateTime",
+          description = "the local datetime to compare against",
+          schema = DateTimeSchemas.LOCALDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct baseLocalDateTime,
+      @UdfParameter(
+          value = "localDateTime",
+          description = "the local datetime to compare",
+          schema = DateTimeSchemas.LOCALDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct localDateTime
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCompare(baseLocalDateTime, localDateTime);
+    return METRICS.call(() -> doCompare(baseLocalDateTime, localDateTime));
+  }
+
+  private static Integer doCompare(final Struct baseLocalDateTime, final Struct localDateTime) {
+    if (baseLocalDateTime == null || localDateTime == null)
+      return null;
+    return Integer.signum(StructsComparator.compareLocalDateTimeStructs(localDateTime, baseLocalDateTime));
+  }
+
+  @Udf(description = "Check if a local datetime given in its packed representation is either before, after or equal to another one")
+  public Boolean check(
+      @UdfParameter(
+          value = "basePacked",
+          description = "the local datetime in its packed representation to check against")
+      final Long basePacked,
+      @UdfParameter(
+          value = "packed",
+          description = "the local datetime in its packed representation to check whether it's before, after or equal")
+      final Long packed,
+      @UdfParameter(
+          value = "chronologyMode",
+          description = "the chronologyMode being either: " + ChronologyMode.VALID_MODES)
+      final String chronologyMode
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCheck(basePacked, packed, chronologyMode);
+    return METRICS.call(() -> doCheck(basePacked, packed, chronologyMode));
+  }
+
+  private static Boolean doCheck(final Long basePacked, final Long packed, final String chronologyMode) {
+    if (basePacked == null || packed == null || chronologyMode == null)
+      return null;
+    ChronologyMode cm = ChronologyMode.of(chronologyMode);
+    if (cm == null) {
+      ChronologyMode.reportInvalid(LOGGER, chronologyMode);
+      return null;
     }
-    return null;
+    return cm.test(Long.compare(packed, basePacked));
+  }
+
+  @Udf(description = "Compare a local datetime given in its packed representation to another one resulting in -1, 0 or 1 if it's before, equal or after")
+  public Integer compare(
+      @UdfParameter(
+          value = "basePacked",
+          description = "the local datetime in its packed representation to compare against")
+      final Long basePacked,
+      @UdfParameter(
+          value = "packed",
+          description = "the local datetime in its packed representation to compare")
+      final Long packed
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCompare(basePacked, packed);
+    return METRICS.call(() -> doCompare(basePacked, packed));
+  }
+
+  private static Integer doCompare(final Long basePacked, final Long packed) {
+    if (basePacked == null || packed == null)
+      return null;
+    return Integer.signum(Long.compare(packed, basePacked));
+  }
+
+  @Udf(description = "Check for multiple local datetimes whether they are either before, after or equal to another local datetime")
+  public List<Boolean> check(
+      @UdfParameter(
+          value = "baseLocalDateTime",
+          description = "the local datetime to check against",
+          schema = DateTimeSchemas.LOCALDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct baseLocalDateTime,
+      @UdfParameter(
+          value = "localDateTimes",
+          description = "the local datetimes to check whether they are before, after or equal",
+          schema = DateTimeSchemas.LOCALDATETIME_ARRAY_SCHEMA_DESCRIPTOR)
+      final List<Struct> localDateTimes,
+      @UdfParameter(
+          value = "chronologyMode",
+          description = "the chronologyMode being either: " + ChronologyMode.VALID_MODES)
+      final String chronologyMode
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCheck(baseLocalDateTime, localDateTimes, chronologyMode);
+    return METRICS.call(() -> doCheck(baseLocalDateTime, localDateTimes, chronologyMode));
   }
 
+  private static List<Boolean> doCheck(final Struct baseLocalDateTime, final List<Struct> localDateTimes,
+      final String chronologyMode) {
+    if (baseLocalDateTime == null || localDateTimes == null || chronologyMode == null)
+      return null;
+    ChronologyMode cm = ChronologyMode.of(chronologyMode);
+    if (cm == null) {
+      ChronologyMode.reportInvalid(LOGGER, chronologyMode);
+      return null;
+    }
+    List<Boolean> results = new ArrayList<>(localDateTimes.size());
+    for (Struct localDateTime : localDateTimes) {
+      results.add(localDateTime != null ? cm.test(StructsComparator.compareLocalDateTimeStructs(localDateTime, baseLocalDateTime)) : null);
+    }
+    return results;
+  }
 }
@@ -17,12 +17,14 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.formats.DateTimeFormatterCache;
+import com.github.hpgrahsl.ksqldb.functions.formats.IsoDateTimeFormatter;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
-import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 import org.apache.kafka.connect.data.Struct;
 
@@ -34,6 +36,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfLocalDateTimeFormat {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localdatetime_format");
+
   @Udf(description = "Create a string representation of the LocalDateTime struct using the java.time.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME format")
   public String format(
       @UdfParameter(
@@ -42,7 +46,13 @@ public class UdfLocalDateTimeFormat {
           schema = DateTimeSchemas.LOCALDATETIME_SCHEMA_DESCRIPTOR)
       final Struct localDateTime
   ) {
-    return localDateTime != null ? StructsConverter.fromLocalDateTimeStruct(localDateTime).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null;
+    if (!UdfMetrics.ENABLED)
+      return doFormat(localDateTime);
+    return METRICS.call(() -> doFormat(localDateTime));
+  }
+
+  private static String doFormat(final Struct localDateTime) {
+    return localDateTime != null ? IsoDateTimeFormatter.formatLocalDateTime(localDateTime) : null;
   }
 
   @Udf(description = "Create a string representation of the LocalDateTime struct using the specified java.time.format.DateTimeFormatter format string")
@@ -57,9 +67,15 @@ public class UdfLocalDateTimeFormat {
           description = "the java.time.format.DateTimeFormatter format string")
       final String format
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doFormat(localDateTime, format);
+    return METRICS.call(() -> doFormat(localDateTime, format));
+  }
+
+  private static String doFormat(final Struct localDateTime, final String format) {
     if (localDateTime == null || format == null )
       return null;
-    return StructsConverter.fromLocalDateTimeStruct(localDateTime).format(DateTimeFormatter.ofPattern(format,
+    return StructsConverter.fromLocalDateTimeStruct(localDateTime).format(DateTimeFormatterCache.ofPattern(format,
         Locale.ENGLISH));
   }
 
@@ -17,6 +17,9 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.LocalDateTimeArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.compact.CompactEncodings;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -32,6 +35,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfLocalDateTimeMinus {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localdatetime_minus");
+
   @Udf(description = "Subtract a period and/or duration from a local datetime",
       schema = DateTimeSchemas.LOCALDATETIME_SCHEMA_DESCRIPTOR)
   public Struct minus(
@@ -51,8 +56,17 @@ public class UdfLocalDateTimeMinus {
           schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
       final Struct duration
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(baseLocalDateTime, period, duration);
+    return METRICS.call(() -> doMinus(baseLocalDateTime, period, duration));
+  }
+
+  private static Struct doMinus(final Struct baseLocalDateTime, final Struct period, final Struct duration) {
     if (baseLocalDateTime == null || period == null || duration == null)
       return null;
+    Struct result = LocalDateTimeArithmetic.minus(baseLocalDateTime, period, duration);
+    if (result != null)
+      return result;
     return StructsConverter.toLocalDateTimeStruct(
         StructsConverter.fromLocalDateTimeStruct(baseLocalDateTime)
             .minus(StructsConverter.fromPeriodStruct(period))
@@ -96,9 +110,22 @@ public class UdfLocalDateTimeMinus {
           value = "subtractNanos",
           description = "the nano part to subtract")
       final Integer subtractNanos) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(baseLocalDateTime, subtractYears, subtractMonths, subtractDays, subtractHours, subtractMinutes, subtractSeconds, subtractNanos);
+    return METRICS.call(() -> doMinus(baseLocalDateTime, subtractYears, subtractMonths, subtractDays, subtractHours, subtractMinutes, subtractSeconds, subtractNanos));
+  }
+
+  private static Struct doMinus(final Struct baseLocalDateTime, final Integer subtractYears,
+      final Integer subtractMonths, final Integer subtractDays, final Integer subtractHours,
+      final Integer subtractMinutes, final Integer subtractSeconds, final Integer subtractNanos) {
     if (baseLocalDateTime == null || subtractYears == null || subtractMonths == null || subtractDays == null
         || subtractHours == null || subtractMinutes == null || subtractSeconds == null || subtractNanos == null)
       return null;
+    Struct result = LocalDateTimeArithmetic.plus(baseLocalDateTime,
+        -(long)subtractYears, -(long)subtractMonths, -(long)subtractDays,
+        -(subtractHours * 3_600L + subtractMinutes * 60L + subtractSeconds), -(long)subtractNanos);
+    if (result != null)
+      return result;
     return StructsConverter.toLocalDateTimeStruct(
         StructsConverter.fromLocalDateTimeStruct(baseLocalDateTime)
           .minusYears(subtractYears)
@@ -111,4 +138,35 @@ public class UdfLocalDateTimeMinus {
     );
   }
 
+  @Udf(description = "Subtract a period and/or duration from a local datetime given in its packed representation")
+  public Long minus(
+      @UdfParameter(
+          value = "basePacked",
+          description = "the local datetime in its packed representation to subtract from")
+      final Long basePacked,
+      @UdfParameter(
+          value = "period",
+          description = "the period to subtract (use the empty/zero Period in case only a duration should be subtracted)",
+          schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
+      final Struct period,
+      @UdfParameter(
+          value = "duration",
+          description = "the duration to subtract (use the empty/zero Duration in case only a period should be subtracted)",
+          schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+      final Struct duration
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(basePacked, period, duration);
+    return METRICS.call(() -> doMinus(basePacked, period, duration));
+  }
+
+  private static Long doMinus(final Long basePacked, final Struct period, final Struct duration) {
+    if (basePacked == null || period == null || duration == null)
+      return null;
+    return CompactEncodings.toPacked(
+        CompactEncodings.fromPacked(basePacked)
+            .minus(StructsConverter.fromPeriodStruct(period))
+            .minus(StructsConverter.fromDurationStruct(duration))
+    );
+  }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import com.github.hpgrahsl.ksqldb.functions.compact.CompactEncodings;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import io.confluent.ksql.function.udf.Udf;
+import io.confluent.ksql.function.udf.UdfDescription;
+import io.confluent.ksql.function.udf.UdfParameter;
+import org.apache.kafka.connect.data.Struct;
+
+@UdfDescription(
+    name = "dt_localdatetime_packed",
+    description = "Convert local datetimes from/to their compact packed representation",
+    author = "Hans-Peter Grahsl (follow @hpgrahsl)",
+    version = "0.1.0"
+    )
+public class UdfLocalDateTimePacked {
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localdatetime_packed");
+
+  @Udf(description = "Convert a local datetime to its packed representation which preserves the chronological order (supported for the years -131072 to 131071, any sub-microsecond precision is truncated)")
+  public Long toPacked(
+      @UdfParameter(
+          value = "localDateTime",
+          description = "the LocalDateTime struct to convert",
+          schema = DateTimeSchemas.LOCALDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct localDateTime) {
+    if (!UdfMetrics.ENABLED)
+      return doToPacked(localDateTime);
+    return METRICS.call(() -> doToPacked(localDateTime));
+  }
+
+  private static Long doToPacked(final Struct localDateTime) {
+    return localDateTime != null ? CompactEncodings.toPacked(StructsConverter.fromLocalDateTimeStruct(localDateTime)) : null;
+  }
+
+  @Udf(description = "Create a LocalDateTime struct from its packed representation",
+      schema = DateTimeSchemas.LOCALDATETIME_SCHEMA_DESCRIPTOR)
+  public Struct fromPacked(
+      @UdfParameter(
+          value = "packed",
+          description = "the packed representation of the local datetime")
+      final Long packed) {
+    if (!UdfMetrics.ENABLED)
+      return doFromPacked(packed);
+    return METRICS.call(() -> doFromPacked(packed));
+  }
+
+  private static Struct doFromPacked(final Long packed) {
+    return packed != null ? StructsConverter.toLocalDateTimeStruct(CompactEncodings.fromPacked(packed)) : null;
+  }
+
+}
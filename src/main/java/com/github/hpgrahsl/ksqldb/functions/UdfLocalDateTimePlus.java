@@ -17,11 +17,18 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.LocalDateTimeArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.compact.CompactEncodings;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
+import java.time.Duration;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.kafka.connect.data.Struct;
 
 @UdfDescription(
@@ -32,6 +39,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfLocalDateTimePlus {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localdatetime_plus");
+
   @Udf(description = "Add a period and/or duration to a local datetime",
       schema = DateTimeSchemas.LOCALDATETIME_SCHEMA_DESCRIPTOR)
   public Struct plus(
@@ -51,8 +60,17 @@ public class UdfLocalDateTimePlus {
           schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
       final Struct duration
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseLocalDateTime, period, duration);
+    return METRICS.call(() -> doPlus(baseLocalDateTime, period, duration));
+  }
+
+  private static Struct doPlus(final Struct baseLocalDateTime, final Struct period, final Struct duration) {
     if (baseLocalDateTime == null || period == null || duration == null)
       return null;
+    Struct result = LocalDateTimeArithmetic.plus(baseLocalDateTime, period, duration);
+    if (result != null)
+      return result;
     return StructsConverter.toLocalDateTimeStruct(
         StructsConverter.fromLocalDateTimeStruct(baseLocalDateTime)
             .plus(StructsConverter.fromPeriodStruct(period))
@@ -96,9 +114,22 @@ public class UdfLocalDateTimePlus {
           value = "addNanos",
           description = "the nano part to add")
       final Integer addNanos) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseLocalDateTime, addYears, addMonths, addDays, addHours, addMinutes, addSeconds, addNanos);
+    return METRICS.call(() -> doPlus(baseLocalDateTime, addYears, addMonths, addDays, addHours, addMinutes, addSeconds, addNanos));
+  }
+
+  private static Struct doPlus(final Struct baseLocalDateTime, final Integer addYears, final Integer addMonths,
+      final Integer addDays, final Integer addHours, final Integer addMinutes, final Integer addSeconds,
+      final Integer addNanos) {
     if (baseLocalDateTime == null || addYears == null || addMonths == null || addDays == null
         || addHours == null || addMinutes == null || addSeconds == null || addNanos == null)
       return null;
+    Struct result = LocalDateTimeArithmetic.plus(baseLocalDateTime,
+        addYears, addMonths, addDays,
+        addHours * 3_600L + addMinutes * 60L + addSeconds, addNanos);
+    if (result != null)
+      return result;
     return StructsConverter.toLocalDateTimeStruct(
         StructsConverter.fromLocalDateTimeStruct(baseLocalDateTime)
           .plusYears(addYears)
@@ -111,4 +142,79 @@ public class UdfLocalDateTimePlus {
     );
   }
 
+  @Udf(description = "Add a period and/or duration to a local datetime given in its packed representation")
+  public Long plus(
+      @UdfParameter(
+          value = "basePacked",
+          description = "the local datetime in its packed representation to add to")
+      final Long basePacked,
+      @UdfParameter(
+          value = "period",
+          description = "the period to add (use the empty/zero Period in case only a duration should be added)",
+          schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
+      final Struct period,
+      @UdfParameter(
+          value = "duration",
+          description = "the duration to add (use the empty/zero Duration in case only a period should be added)",
+          schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+      final Struct duration
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(basePacked, period, duration);
+    return METRICS.call(() -> doPlus(basePacked, period, duration));
+  }
+
+  private static Long doPlus(final Long basePacked, final Struct period, final Struct duration) {
+    if (basePacked == null || period == null || duration == null)
+      return null;
+    return CompactEncodings.toPacked(
+        CompactEncodings.fromPacked(basePacked)
+            .plus(StructsConverter.fromPeriodStruct(period))
+            .plus(StructsConverter.fromDurationStruct(duration))
+    );
+  }
+
+  @Udf(description = "Add a period and/or duration to multiple local datetimes",
+      schema = DateTimeSchemas.LOCALDATETIME_ARRAY_SCHEMA_DESCRIPTOR)
+  public List<Struct> plus(
+      @UdfParameter(
+          value = "baseLocalDateTimes",
+          description = "the local datetimes to add to",
+          schema = DateTimeSchemas.LOCALDATETIME_ARRAY_SCHEMA_DESCRIPTOR)
+      final List<Struct> baseLocalDateTimes,
+      @UdfParameter(
+          value = "period",
+          description = "the period to add (use the empty/zero Period in case only a duration should be added)",
+          schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
+      final Struct period,
+      @UdfParameter(
+          value = "duration",
+          description = "the duration to add (use the empty/zero Duration in case only a period should be added)",
+          schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+      final Struct duration
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseLocalDateTimes, period, duration);
+    return METRICS.call(() -> doPlus(baseLocalDateTimes, period, duration));
+  }
+
+  private static List<Struct> doPlus(final List<Struct> baseLocalDateTimes, final Struct period,
+      final Struct duration) {
+    if (baseLocalDateTimes == null || period == null || duration == null)
+      return null;
+    Period p = StructsConverter.fromPeriodStruct(period);
+    Duration d = StructsConverter.fromDurationStruct(duration);
+    List<Struct> results = new ArrayList<>(baseLocalDateTimes.size());
+    for (Struct baseLocalDateTime : baseLocalDateTimes) {
+      if (baseLocalDateTime == null) {
+        results.add(null);
+        continue;
+      }
+      Struct result = LocalDateTimeArithmetic.plus(baseLocalDateTime, period, duration);
+      results.add(result != null
+          ? result
+          : StructsConverter.toLocalDateTimeStruct(StructsConverter.fromLocalDateTimeStruct(baseLocalDateTime).plus(p).plus(d)));
+    }
+    return results;
+  }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import com.github.hpgrahsl.ksqldb.functions.buckets.CalendarBucket;
+import com.github.hpgrahsl.ksqldb.functions.buckets.TimeBuckets;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import io.confluent.ksql.function.udf.Udf;
+import io.confluent.ksql.function.udf.UdfDescription;
+import io.confluent.ksql.function.udf.UdfParameter;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import org.apache.kafka.connect.data.Struct;
+
+@UdfDescription(
+    name = "dt_localdatetime_truncate",
+    description = "Truncate local datetimes to the start of time buckets",
+    author = "Hans-Peter Grahsl (follow @hpgrahsl)",
+    version = "0.1.0"
+    )
+public class UdfLocalDateTimeTruncate {
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localdatetime_truncate");
+
+  @Udf(description = "Truncate a local datetime to the start of its bucket of the given width aligned to the epoch (1970-01-01T00:00)",
+      schema = DateTimeSchemas.LOCALDATETIME_SCHEMA_DESCRIPTOR)
+  public Struct truncate(
+      @UdfParameter(
+          value = "localDateTime",
+          description = "the local datetime to truncate",
+          schema = DateTimeSchemas.LOCALDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct localDateTime,
+      @UdfParameter(
+          value = "bucket",
+          description = "the positive duration which defines the width of the buckets",
+          schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+      final Struct bucket
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doTruncate(localDateTime, bucket);
+    return METRICS.call(() -> doTruncate(localDateTime, bucket));
+  }
+
+  private static Struct doTruncate(final Struct localDateTime, final Struct bucket) {
+    if (localDateTime == null || bucket == null)
+      return null;
+    LocalDateTime t = StructsConverter.fromLocalDateTimeStruct(localDateTime);
+    return StructsConverter.toLocalDateTimeStruct(toLocalDateTime(TimeBuckets.floorInstant(
+        t.toEpochSecond(ZoneOffset.UTC), t.getNano(),
+        (Long)bucket.get(DateTimeSchemas.DURATION_SECONDS_FIELD),
+        (Integer)bucket.get(DateTimeSchemas.DURATION_NANOS_FIELD),
+        0L, 0)));
+  }
+
+  @Udf(description = "Truncate a local datetime to the start of its bucket of the given width aligned to the origin",
+      schema = DateTimeSchemas.LOCALDATETIME_SCHEMA_DESCRIPTOR)
+  public Struct truncate(
+      @UdfParameter(
+          value = "localDateTime",
+          description = "the local datetime to truncate",
+          schema = DateTimeSchemas.LOCALDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct localDateTime,
+      @UdfParameter(
+          value = "bucket",
+          description = "the positive duration which defines the width of the buckets",
+          schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+      final Struct bucket,
+      @UdfParameter(
+          value = "origin",
+          description = "the local datetime at which one of the buckets starts",
+          schema = DateTimeSchemas.LOCALDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct origin
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doTruncate(localDateTime, bucket, origin);
+    return METRICS.call(() -> doTruncate(localDateTime, bucket, origin));
+  }
+
+  private static Struct doTruncate(final Struct localDateTime, final Struct bucket, final Struct origin) {
+    if (localDateTime == null || bucket == null || origin == null)
+      return null;
+    LocalDateTime t = StructsConverter.fromLocalDateTimeStruct(localDateTime);
+    LocalDateTime o = StructsConverter.fromLocalDateTimeStruct(origin);
+    return StructsConverter.toLocalDateTimeStruct(toLocalDateTime(TimeBuckets.floorInstant(
+        t.toEpochSecond(ZoneOffset.UTC), t.getNano(),
+        (Long)bucket.get(DateTimeSchemas.DURATION_SECONDS_FIELD),
+        (Integer)bucket.get(DateTimeSchemas.DURATION_NANOS_FIELD),
+        o.toEpochSecond(ZoneOffset.UTC), o.getNano())));
+  }
+
+  @Udf(description = "Truncate a local datetime to the start of the calendar unit it falls into",
+      schema = DateTimeSchemas.LOCALDATETIME_SCHEMA_DESCRIPTOR)
+  public Struct truncate(
+      @UdfParameter(
+          value = "localDateTime",
+          description = "the local datetime to truncate",
+          schema = DateTimeSchemas.LOCALDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct localDateTime,
+      @UdfParameter(
+          value = "calendarUnit",
+          description = "the calendar unit to truncate to, must be one of: " + CalendarBucket.VALID_UNITS)
+      final String calendarUnit
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doTruncate(localDateTime, calendarUnit);
+    return METRICS.call(() -> doTruncate(localDateTime, calendarUnit));
+  }
+
+  private static Struct doTruncate(final Struct localDateTime, final String calendarUnit) {
+    if (localDateTime == null || calendarUnit == null)
+      return null;
+    LocalDateTime t = StructsConverter.fromLocalDateTimeStruct(localDateTime);
+    return StructsConverter.toLocalDateTimeStruct(
+        CalendarBucket.of(calendarUnit).floor(t.toLocalDate()).atStartOfDay()
+    );
+  }
+
+  private static LocalDateTime toLocalDateTime(Struct instant) {
+    return LocalDateTime.ofEpochSecond((Long)instant.get(DateTimeSchemas.INSTANT_SECONDS_FIELD),
+        (Integer)instant.get(DateTimeSchemas.INSTANT_NANOS_FIELD), ZoneOffset.UTC);
+  }
+
+}
@@ -17,13 +17,16 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.clock.UdfClock;
+import com.github.hpgrahsl.ksqldb.functions.formats.DateTimeFormatterCache;
+import com.github.hpgrahsl.ksqldb.functions.formats.IsoDateTimeParser;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 import org.apache.kafka.connect.data.Struct;
 
@@ -35,10 +38,18 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfLocalTime {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localtime");
+
   @Udf(description = "Create a LocalTime struct based on the current time (system clock in the default time-zone)",
       schema = DateTimeSchemas.LOCALTIME_SCHEMA_DESCRIPTOR)
   public Struct createLocalTime() {
-    return StructsConverter.toLocalTimeStruct(LocalTime.now());
+    if (!UdfMetrics.ENABLED)
+      return doCreateLocalTime();
+    return METRICS.call(() -> doCreateLocalTime());
+  }
+
+  private static Struct doCreateLocalTime() {
+    return StructsConverter.toLocalTimeStruct(LocalTime.now(UdfClock.current()));
   }
 
   @Udf(description = "Create a LocalTime struct from its components (hour, minute, second, nano=0)",
@@ -56,6 +67,12 @@ public class UdfLocalTime {
           value = "second",
           description = "the second part of the LocalTime")
       final Integer second) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateLocalTime(hour, minute, second);
+    return METRICS.call(() -> doCreateLocalTime(hour, minute, second));
+  }
+
+  private static Struct doCreateLocalTime(final Integer hour, final Integer minute, final Integer second) {
     if (hour == null || minute == null || second == null)
       return null;
     return StructsConverter.toLocalTimeStruct(LocalTime.of(hour,minute,second,0));
@@ -80,6 +97,13 @@ public class UdfLocalTime {
           value = "nano",
           description = "the nano part of the LocalTime")
       final Integer nano) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateLocalTime(hour, minute, second, nano);
+    return METRICS.call(() -> doCreateLocalTime(hour, minute, second, nano));
+  }
+
+  private static Struct doCreateLocalTime(final Integer hour, final Integer minute, final Integer second,
+      final Integer nano) {
     if (hour == null || minute == null || second == null || nano == null)
       return null;
     return StructsConverter.toLocalTimeStruct(LocalTime.of(hour,minute,second,nano));
@@ -92,7 +116,13 @@ public class UdfLocalTime {
           value = "text",
           description = "the string representation of the LocalTime")
       final String text) {
-    return text != null ? StructsConverter.toLocalTimeStruct(LocalTime.parse(text)) : null;
+    if (!UdfMetrics.ENABLED)
+      return doCreateLocalTime(text);
+    return METRICS.call(() -> doCreateLocalTime(text));
+  }
+
+  private static Struct doCreateLocalTime(final String text) {
+    return text != null ? StructsConverter.toLocalTimeStruct(IsoDateTimeParser.parseLocalTime(text)) : null;
   }
 
   @Udf(description = "Create a LocalTime struct from its string representation using the specified java.time.format.DateTimeFormatter format string",
@@ -106,9 +136,15 @@ public class UdfLocalTime {
           value = "format",
           description = "the specified java.time.format.DateTimeFormatter format string")
       final String format) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateLocalTime(text, format);
+    return METRICS.call(() -> doCreateLocalTime(text, format));
+  }
+
+  private static Struct doCreateLocalTime(final String text, final String format) {
     if (text == null || format == null)
       return null;
-    return StructsConverter.toLocalTimeStruct(LocalTime.parse(text, DateTimeFormatter.ofPattern(format,
+    return StructsConverter.toLocalTimeStruct(LocalTime.parse(text, DateTimeFormatterCache.ofPattern(format,
         Locale.ENGLISH)));
   }
 
@@ -17,14 +17,16 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.logging.RateLimitedLogger;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
-import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsComparator;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.kafka.connect.data.Struct;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 @UdfDescription(
     name = "dt_localtime_chronology",
@@ -34,7 +36,9 @@ import org.slf4j.LoggerFactory;
     )
 public class UdfLocalTimeChronology {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(UdfLocalTimeChronology.class);
+  private static final RateLimitedLogger LOGGER = RateLimitedLogger.of(UdfLocalTimeChronology.class);
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localtime_chronology");
 
   @Udf(description = "Check if a local time is either before, after or equal to another local time")
   public Boolean check(
@@ -50,29 +54,137 @@ public class UdfLocalTimeChronology {
       final Struct localTime,
       @UdfParameter(
           value = "chronologyMode",
-          description = "the chronologyMode being either: 'IS_BEFORE','IS_AFTER','IS_EQUAL'")
+          description = "the chronologyMode being either: " + ChronologyMode.VALID_MODES)
       final String chronologyMode
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doCheck(baseLocalTime, localTime, chronologyMode);
+    return METRICS.call(() -> doCheck(baseLocalTime, localTime, chronologyMode));
+  }
+
+  private static Boolean doCheck(final Struct baseLocalTime, final Struct localTime, final String chronologyMode) {
     if (baseLocalTime == null || localTime == null || chronologyMode == null)
       return null;
-    try {
-      ChronologyMode cm = ChronologyMode.valueOf(chronologyMode);
-      switch (cm) {
-        case IS_BEFORE:
-          return StructsConverter.fromLocalTimeStruct(localTime)
-              .isBefore(StructsConverter.fromLocalTimeStruct(baseLocalTime));
-        case IS_AFTER:
-          return StructsConverter.fromLocalTimeStruct(localTime)
-              .isAfter(StructsConverter.fromLocalTimeStruct(baseLocalTime));
-        case IS_EQUAL:
-          return StructsConverter.fromLocalTimeStruct(localTime)
-              .equals(StructsConverter.fromLocalTimeStruct(baseLocalTime));
-      }
-    } catch(IllegalArgumentException e) {
-      LOGGER.error("chronologyMode '" + chronologyMode +
-          "' is invalid - must be one of: 'IS_BEFORE','IS_AFTER','IS_EQUAL'",e);
+    ChronologyMode cm = ChronologyMode.of(chronologyMode);
+    if (cm == null) {
+      ChronologyMode.reportInvalid(LOGGER, chronologyMode);
+      return null;
+    }
+    return cm.test(StructsComparator.compareLocalTimeStructs(localTime, baseLocalTime));
+  }
+
+  @Udf(description = "Compare a local time to another local time resulting in -1, 0 or 1 if it's before, equal or after")
+  public Integer compare(
+      @UdfParameter(
+          value = "baseLocalTime",
+          description = "the local time to compare against",
+          schema = DateTimeSchemas.LOCALTIME_SCHEMA_DESCRIPTOR)
+      final Struct baseLocalTime,
+      @UdfParameter(
+          value = "localTime",
+          description = "the local time to compare",
+          schema = DateTimeSchemas.LOCALTIME_SCHEMA_DESCRIPTOR)
+      final Struct localTime
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCompare(baseLocalTime, localTime);
+    return METRICS.call(() -> doCompare(baseLocalTime, localTime));
+  }
+
+  private static Integer doCompare(final Struct baseLocalTime, final Struct localTime) {
+    if (baseLocalTime == null || localTime == null)
+      return null;
+    return Integer.signum(StructsComparator.compareLocalTimeStructs(localTime, baseLocalTime));
+  }
+
+  @Udf(description = "Check if a local time given in nano of day is either before, after or equal to another one")
+  public Boolean check(
+      @UdfParameter(
+          value = "baseNanoOfDay",
+          description = "the local time in nano of day to check against")
+      final Long baseNanoOfDay,
+      @UdfParameter(
+          value = "nanoOfDay",
+          description = "the local time in nano of day to check whether it's before, after or equal")
+      final Long nanoOfDay,
+      @UdfParameter(
+          value = "chronologyMode",
+          description = "the chronologyMode being either: " + ChronologyMode.VALID_MODES)
+      final String chronologyMode
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCheck(baseNanoOfDay, nanoOfDay, chronologyMode);
+    return METRICS.call(() -> doCheck(baseNanoOfDay, nanoOfDay, chronologyMode));
+  }
+
+  private static Boolean doCheck(final Long baseNanoOfDay, final Long nanoOfDay, final String chronologyMode) {
+    if (baseNanoOfDay == null || nanoOfDay == null || chronologyMode == null)
+      return null;
+    ChronologyMode cm = ChronologyMode.of(chronologyMode);
+    if (cm == null) {
+      ChronologyMode.reportInvalid(LOGGER, chronologyMode);
+      return null;
     }
-    return null;
+    return cm.test(Long.compare(nanoOfDay, baseNanoOfDay));
+  }
+
+  @Udf(description = "Compare a local time given in nano of day to another one resulting in -1, 0 or 1 if it's before, equal or after")
+  public Integer compare(
+      @UdfParameter(
+          value = "baseNanoOfDay",
+          description = "the local time in nano of day to compare against")
+      final Long baseNanoOfDay,
+      @UdfParameter(
+          value = "nanoOfDay",
+          description = "the local time in nano of day to compare")
+      final Long nanoOfDay
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCompare(baseNanoOfDay, nanoOfDay);
+    return METRICS.call(() -> doCompare(baseNanoOfDay, nanoOfDay));
+  }
+
+  private static Integer doCompare(final Long baseNanoOfDay, final Long nanoOfDay) {
+    if (baseNanoOfDay == null || nanoOfDay == null)
+      return null;
+    return Integer.signum(Long.compare(nanoOfDay, baseNanoOfDay));
+  }
+
+  @Udf(description = "Check for multiple local times whether they are either before, after or equal to another local time")
+  public List<Boolean> check(
+      @UdfParameter(
+          value = "baseLocalTime",
+          description = "the local time to check against",
+          schema = DateTimeSchemas.LOCALTIME_SCHEMA_DESCRIPTOR)
+      final Struct baseLocalTime,
+      @UdfParameter(
+          value = "localTimes",
+          description = "the local times to check whether they are before, after or equal",
+          schema = DateTimeSchemas.LOCALTIME_ARRAY_SCHEMA_DESCRIPTOR)
+      final List<Struct> localTimes,
+      @UdfParameter(
+          value = "chronologyMode",
+          description = "the chronologyMode being either: " + ChronologyMode.VALID_MODES)
+      final String chronologyMode
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCheck(baseLocalTime, localTimes, chronologyMode);
+    return METRICS.call(() -> doCheck(baseLocalTime, localTimes, chronologyMode));
   }
 
+  private static List<Boolean> doCheck(final Struct baseLocalTime, final List<Struct> localTimes,
+      final String chronologyMode) {
+    if (baseLocalTime == null || localTimes == null || chronologyMode == null)
+      return null;
+    ChronologyMode cm = ChronologyMode.of(chronologyMode);
+    if (cm == null) {
+      ChronologyMode.reportInvalid(LOGGER, chronologyMode);
+      return null;
+    }
+    List<Boolean> results = new ArrayList<>(localTimes.size());
+    for (Struct localTime : localTimes) {
+      results.add(localTime != null ? cm.test(StructsComparator.compareLocalTimeStructs(localTime, baseLocalTime)) : null);
+    }
+    return results;
+  }
 }
@@ -17,12 +17,14 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.formats.DateTimeFormatterCache;
+import com.github.hpgrahsl.ksqldb.functions.formats.IsoDateTimeFormatter;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
-import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 import org.apache.kafka.connect.data.Struct;
 
@@ -34,6 +36,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfLocalTimeFormat {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localtime_format");
+
   @Udf(description = "Create a string representation of the LocalTime struct using the java.time.format.DateTimeFormatter#ISO_LOCAL_TIME format")
   public String format(
       @UdfParameter(
@@ -42,7 +46,13 @@ public class UdfLocalTimeFormat {
           schema = DateTimeSchemas.LOCALTIME_SCHEMA_DESCRIPTOR)
       final Struct localTime
   ) {
-    return localTime != null ? StructsConverter.fromLocalTimeStruct(localTime).format(DateTimeFormatter.ISO_LOCAL_TIME) : null;
+    if (!UdfMetrics.ENABLED)
+      return doFormat(localTime);
+    return METRICS.call(() -> doFormat(localTime));
+  }
+
+  private static String doFormat(final Struct localTime) {
+    return localTime != null ? IsoDateTimeFormatter.formatLocalTime(localTime) : null;
   }
 
   @Udf(description = "Create a string representation of the LocalTime struct using the specified java.time.format.DateTimeFormatter format string")
@@ -57,9 +67,15 @@ public class UdfLocalTimeFormat {
           description = "the java.time.format.DateTimeFormatter format string")
       final String format
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doFormat(localTime, format);
+    return METRICS.call(() -> doFormat(localTime, format));
+  }
+
+  private static String doFormat(final Struct localTime, final String format) {
     if(localTime == null || format == null )
       return null;
-    return StructsConverter.fromLocalTimeStruct(localTime).format(DateTimeFormatter.ofPattern(format, Locale.ENGLISH));
+    return StructsConverter.fromLocalTimeStruct(localTime).format(DateTimeFormatterCache.ofPattern(format, Locale.ENGLISH));
   }
 
 }
@@ -17,6 +17,9 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.LocalTimeArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.compact.CompactEncodings;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -32,6 +35,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfLocalTimeMinus {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localtime_minus");
+
   @Udf(description = "Subtract a duration from a local time",
       schema = DateTimeSchemas.LOCALTIME_SCHEMA_DESCRIPTOR)
   public Struct minus(
@@ -46,8 +51,17 @@ public class UdfLocalTimeMinus {
           schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
       final Struct duration
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(baseLocalTime, duration);
+    return METRICS.call(() -> doMinus(baseLocalTime, duration));
+  }
+
+  private static Struct doMinus(final Struct baseLocalTime, final Struct duration) {
     if (baseLocalTime == null || duration == null)
       return null;
+    Struct result = LocalTimeArithmetic.minus(baseLocalTime, duration);
+    if (result != null)
+      return result;
     return StructsConverter.toLocalTimeStruct(
         StructsConverter.fromLocalTimeStruct(baseLocalTime)
             .minus(StructsConverter.fromDurationStruct(duration))
@@ -78,8 +92,18 @@ public class UdfLocalTimeMinus {
           value = "addNanos",
           description = "the nano part to subtract")
       final Integer addNanos) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(baseLocalTime, addHours, addMinutes, addSeconds, addNanos);
+    return METRICS.call(() -> doMinus(baseLocalTime, addHours, addMinutes, addSeconds, addNanos));
+  }
+
+  private static Struct doMinus(final Struct baseLocalTime, final Integer addHours, final Integer addMinutes,
+      final Integer addSeconds, final Integer addNanos) {
     if (baseLocalTime == null || addHours == null || addMinutes == null || addSeconds == null || addNanos == null)
       return null;
+    Struct result = LocalTimeArithmetic.plus(baseLocalTime, -(long)addHours, -(long)addMinutes, -(long)addSeconds, -(long)addNanos);
+    if (result != null)
+      return result;
     return StructsConverter.toLocalTimeStruct(
         StructsConverter.fromLocalTimeStruct(baseLocalTime)
           .minusHours(addHours)
@@ -89,4 +113,26 @@ public class UdfLocalTimeMinus {
     );
   }
 
+  @Udf(description = "Subtract a duration from a local time given as nano of day")
+  public Long minus(
+      @UdfParameter(
+          value = "baseNanoOfDay",
+          description = "the local time as nano of day to subtract from")
+      final Long baseNanoOfDay,
+      @UdfParameter(
+          value = "duration",
+          description = "the duration to subtract",
+          schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+      final Struct duration
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(baseNanoOfDay, duration);
+    return METRICS.call(() -> doMinus(baseNanoOfDay, duration));
+  }
+
+  private static Long doMinus(final Long baseNanoOfDay, final Struct duration) {
+    if (baseNanoOfDay == null || duration == null)
+      return null;
+    return CompactEncodings.minusNanoOfDay(baseNanoOfDay, StructsConverter.fromDurationStruct(duration));
+  }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import com.github.hpgrahsl.ksqldb.functions.compact.CompactEncodings;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import io.confluent.ksql.function.udf.Udf;
+import io.confluent.ksql.function.udf.UdfDescription;
+import io.confluent.ksql.function.udf.UdfParameter;
+import org.apache.kafka.connect.data.Struct;
+
+@UdfDescription(
+    name = "dt_localtime_nanoofday",
+    description = "Convert local times from/to their compact nano of day representation",
+    author = "Hans-Peter Grahsl (follow @hpgrahsl)",
+    version = "0.1.0"
+    )
+public class UdfLocalTimeNanoOfDay {
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localtime_nanoofday");
+
+  @Udf(description = "Convert a local time to the nano of day")
+  public Long toNanoOfDay(
+      @UdfParameter(
+          value = "localTime",
+          description = "the LocalTime struct to convert",
+          schema = DateTimeSchemas.LOCALTIME_SCHEMA_DESCRIPTOR)
+      final Struct localTime) {
+    if (!UdfMetrics.ENABLED)
+      return doToNanoOfDay(localTime);
+    return METRICS.call(() -> doToNanoOfDay(localTime));
+  }
+
+  private static Long doToNanoOfDay(final Struct localTime) {
+    return localTime != null ? CompactEncodings.toNanoOfDay(StructsConverter.fromLocalTimeStruct(localTime)) : null;
+  }
+
+  @Udf(description = "Create a LocalTime struct from the nano of day",
+      schema = DateTimeSchemas.LOCALTIME_SCHEMA_DESCRIPTOR)
+  public Struct fromNanoOfDay(
+      @UdfParameter(
+          value = "nanoOfDay",
+          description = "the nano of day from 0 to 24 * 60 * 60 * 1,000,000,000 - 1")
+      final Long nanoOfDay) {
+    if (!UdfMetrics.ENABLED)
+      return doFromNanoOfDay(nanoOfDay);
+    return METRICS.call(() -> doFromNanoOfDay(nanoOfDay));
+  }
+
+  private static Struct doFromNanoOfDay(final Long nanoOfDay) {
+    return nanoOfDay != null ? StructsConverter.toLocalTimeStruct(CompactEncodings.fromNanoOfDay(nanoOfDay)) : null;
+  }
+
+}
@@ -17,6 +17,9 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.LocalTimeArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.compact.CompactEncodings;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -32,6 +35,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfLocalTimePlus {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localtime_plus");
+
   @Udf(description = "Add a duration to a local time",
       schema = DateTimeSchemas.LOCALTIME_SCHEMA_DESCRIPTOR)
   public Struct plus(
@@ -46,8 +51,17 @@ public class UdfLocalTimePlus {
           schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
       final Struct duration
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseLocalTime, duration);
+    return METRICS.call(() -> doPlus(baseLocalTime, duration));
+  }
+
+  private static Struct doPlus(final Struct baseLocalTime, final Struct duration) {
     if (baseLocalTime == null || duration == null)
       return null;
+    Struct result = LocalTimeArithmetic.plus(baseLocalTime, duration);
+    if (result != null)
+      return result;
     return StructsConverter.toLocalTimeStruct(
         StructsConverter.fromLocalTimeStruct(baseLocalTime)
             .plus(StructsConverter.fromDurationStruct(duration))
@@ -78,8 +92,18 @@ public class UdfLocalTimePlus {
           value = "addNanos",
           description = "the nano part to add")
       final Integer addNanos) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseLocalTime, addHours, addMinutes, addSeconds, addNanos);
+    return METRICS.call(() -> doPlus(baseLocalTime, addHours, addMinutes, addSeconds, addNanos));
+  }
+
+  private static Struct doPlus(final Struct baseLocalTime, final Integer addHours, final Integer addMinutes,
+      final Integer addSeconds, final Integer addNanos) {
     if (baseLocalTime == null || addHours == null || addMinutes == null || addSeconds == null || addNanos == null)
       return null;
+    Struct result = LocalTimeArithmetic.plus(baseLocalTime, addHours, addMinutes, addSeconds, addNanos);
+    if (result != null)
+      return result;
     return StructsConverter.toLocalTimeStruct(
         StructsConverter.fromLocalTimeStruct(baseLocalTime)
           .plusHours(addHours)
@@ -89,4 +113,26 @@ public class UdfLocalTimePlus {
     );
   }
 
+  @Udf(description = "Add a duration to a local time given as nano of day")
+  public Long plus(
+      @UdfParameter(
+          value = "baseNanoOfDay",
+          description = "the local time as nano of day to add to")
+      final Long baseNanoOfDay,
+      @UdfParameter(
+          value = "duration",
+          description = "the duration to add",
+          schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+      final Struct duration
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseNanoOfDay, duration);
+    return METRICS.call(() -> doPlus(baseNanoOfDay, duration));
+  }
+
+  private static Long doPlus(final Long baseNanoOfDay, final Struct duration) {
+    if (baseNanoOfDay == null || duration == null)
+      return null;
+    return CompactEncodings.plusNanoOfDay(baseNanoOfDay, StructsConverter.fromDurationStruct(duration));
+  }
 }
@@ -17,13 +17,16 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.clock.UdfClock;
+import com.github.hpgrahsl.ksqldb.functions.formats.DateTimeFormatterCache;
+import com.github.hpgrahsl.ksqldb.functions.formats.IsoDateTimeParser;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
 import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 import org.apache.kafka.connect.data.Struct;
 
@@ -35,10 +38,18 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfOffsetDateTime {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_offsetdatetime");
+
   @Udf(description = "Create an OffsetDateTime struct based on the system clock's current date-time and default time-zone",
       schema = DateTimeSchemas.OFFSETDATETIME_SCHEMA_DESCRIPTOR)
   public Struct createOffsetDateTime() {
-    return StructsConverter.toOffsetDateTimeStruct(OffsetDateTime.now());
+    if (!UdfMetrics.ENABLED)
+      return doCreateOffsetDateTime();
+    return METRICS.call(() -> doCreateOffsetDateTime());
+  }
+
+  private static Struct doCreateOffsetDateTime() {
+    return StructsConverter.toOffsetDateTimeStruct(OffsetDateTime.now(UdfClock.current()));
   }
 
   @Udf(description = "Create an OffsetDateTime struct based on the system clock's date-time in the specified time-zone",
@@ -49,7 +60,13 @@ public class UdfOffsetDateTime {
           description = "the ZoneId struct for the OffsetDateTime",
           schema = DateTimeSchemas.ZONEID_SCHEMA_DESCRIPTOR)
       final Struct zoneId) {
-    return zoneId != null ? StructsConverter.toOffsetDateTimeStruct(OffsetDateTime.now(StructsConverter.fromZoneIdStruct(zoneId))) : null;
+    if (!UdfMetrics.ENABLED)
+      return doCreateOffsetDateTime(zoneId);
+    return METRICS.call(() -> doCreateOffsetDateTime(zoneId));
+  }
+
+  private static Struct doCreateOffsetDateTime(final Struct zoneId) {
+    return zoneId != null ? StructsConverter.toOffsetDateTimeStruct(OffsetDateTime.ofInstant(UdfClock.current().instant(), StructsConverter.fromZoneIdStruct(zoneId))) : null;
   }
 
   @Udf(description = "Create an OffsetDateTime struct based on given LocalDateTime and ZoneOffset structs",
@@ -65,6 +82,12 @@ public class UdfOffsetDateTime {
           description = "the ZoneOffset struct for the OffsetDateTime",
           schema = DateTimeSchemas.ZONEOFFSET_SCHEMA_DESCRIPTOR)
       final Struct zoneOffset) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateOffsetDateTime(localDateTime, zoneOffset);
+    return METRICS.call(() -> doCreateOffsetDateTime(localDateTime, zoneOffset));
+  }
+
+  private static Struct doCreateOffsetDateTime(final Struct localDateTime, final Struct zoneOffset) {
     if (localDateTime == null || zoneOffset == null)
       return null;
     return StructsConverter.toOffsetDateTimeStruct(OffsetDateTime.of(
@@ -91,6 +114,13 @@ public class UdfOffsetDateTime {
           description = "the ZoneOffset struct for the OffsetDateTime",
           schema = DateTimeSchemas.ZONEOFFSET_SCHEMA_DESCRIPTOR)
       final Struct zoneOffset) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateOffsetDateTime(localDate, localTime, zoneOffset);
+    return METRICS.call(() -> doCreateOffsetDateTime(localDate, localTime, zoneOffset));
+  }
+
+  private static Struct doCreateOffsetDateTime(final Struct localDate, final Struct localTime,
+      final Struct zoneOffset) {
     if (localDate == null || localTime == null || zoneOffset == null)
       return null;
     return StructsConverter.toOffsetDateTimeStruct(
@@ -108,7 +138,13 @@ public class UdfOffsetDateTime {
           value = "text",
           description = "the string representation of the OffsetDateTime")
       final String text) {
-    return text != null ? StructsConverter.toOffsetDateTimeStruct(OffsetDateTime.parse(text)) : null;
+    if (!UdfMetrics.ENABLED)
+      return doCreateOffsetDateTime(text);
+    return METRICS.call(() -> doCreateOffsetDateTime(text));
+  }
+
+  private static Struct doCreateOffsetDateTime(final String text) {
+    return text != null ? StructsConverter.toOffsetDateTimeStruct(IsoDateTimeParser.parseOffsetDateTime(text)) : null;
   }
 
   @Udf(description = "Create an OffsetDateTime struct from its string representation using the specified java.time.format.DateTimeFormatter format string",
@@ -122,9 +158,15 @@ public class UdfOffsetDateTime {
           value = "format",
           description = "the specified java.time.format.DateTimeFormatter format string")
       final String format) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateOffsetDateTime(text, format);
+    return METRICS.call(() -> doCreateOffsetDateTime(text, format));
+  }
+
+  private static Struct doCreateOffsetDateTime(final String text, final String format) {
     if (text == null || format == null)
       return null;
-    return StructsConverter.toOffsetDateTimeStruct(OffsetDateTime.parse(text, DateTimeFormatter.ofPattern(format,
+    return StructsConverter.toOffsetDateTimeStruct(OffsetDateTime.parse(text, DateTimeFormatterCache.ofPattern(format,
         Locale.ENGLISH)));
   }
 
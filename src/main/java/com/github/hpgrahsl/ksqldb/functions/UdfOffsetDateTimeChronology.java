@@ -17,14 +17,16 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.logging.RateLimitedLogger;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
-import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsComparator;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.kafka.connect.data.Struct;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 @UdfDescription(
     name = "dt_offsetdatetime_chronology",
@@ -34,7 +36,9 @@ import org.slf4j.LoggerFactory;
     )
 public class UdfOffsetDateTimeChronology {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(UdfOffsetDateTimeChronology.class);
+  private static final RateLimitedLogger LOGGER = RateLimitedLogger.of(UdfOffsetDateTimeChronology.class);
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_offsetdatetime_chronology");
 
   @Udf(description = "Check if a offset datetime is either before, after or equal to another offset datetime")
   public Boolean check(
@@ -50,29 +54,85 @@ public class UdfOffsetDateTimeChronology {
       final Struct offsetDateTime,
       @UdfParameter(
           value = "chronologyMode",
-          description = "the chronologyMode being either: 'IS_BEFORE','IS_AFTER','IS_EQUAL'")
+          description = "the chronologyMode being either: " + ChronologyMode.VALID_MODES)
       final String chronologyMode
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doCheck(baseOffsetDateTime, offsetDateTime, chronologyMode);
+    return METRICS.call(() -> doCheck(baseOffsetDateTime, offsetDateTime, chronologyMode));
+  }
+
+  private static Boolean doCheck(final Struct baseOffsetDateTime, final Struct offsetDateTime,
+      final String chronologyMode) {
     if (baseOffsetDateTime == null || offsetDateTime == null || chronologyMode == null)
       return null;
-    try {
-      ChronologyMode cm = ChronologyMode.valueOf(chronologyMode);
-      switch (cm) {
-        case IS_BEFORE:
-          return StructsConverter.fromOffsetDateTimeStruct(offsetDateTime)
-              .isBefore(StructsConverter.fromOffsetDateTimeStruct(baseOffsetDateTime));
-        case IS_AFTER:
-          return StructsConverter.fromOffsetDateTimeStruct(offsetDateTime)
-              .isAfter(StructsConverter.fromOffsetDateTimeStruct(baseOffsetDateTime));
-        case IS_EQUAL:
-          return StructsConverter.fromOffsetDateTimeStruct(offsetDateTime)
-              .isEqual(StructsConverter.fromOffsetDateTimeStruct(baseOffsetDateTime));
-      }
-    } catch(IllegalArgumentException e) {
-      LOGGER.error("chronologyMode '" + chronologyMode +
-          "' is invalid - must be one of: 'IS_BEFORE','IS_AFTER','IS_EQUAL'",e);
+    ChronologyMode cm = ChronologyMode.of(chronologyMode);
+    if (cm == null) {
+      ChronologyMode.reportInvalid(LOGGER, chronologyMode);
+      return null;
     }
-    return null;
+    return cm.test(StructsComparator.compareOffsetDateTimeStructs(offsetDateTime, baseOffsetDateTime));
+  }
+
+  @Udf(description = "Compare a offset datetime to another offset datetime resulting in -1, 0 or 1 if it's before, equal or after")
+  public Integer compare(
+      @UdfParameter(
+          value = "baseOffsetDateTime",
+          description = "the offset datetime to compare against",
+          schema = DateTimeSchemas.OFFSETDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct baseOffsetDateTime,
+      @UdfParameter(
+          value = "offsetDateTime",
+          description = "the offset datetime to compare",
+          schema = DateTimeSchemas.OFFSETDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct offsetDateTime
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCompare(baseOffsetDateTime, offsetDateTime);
+    return METRICS.call(() -> doCompare(baseOffsetDateTime, offsetDateTime));
+  }
+
+  private static Integer doCompare(final Struct baseOffsetDateTime, final Struct offsetDateTime) {
+    if (baseOffsetDateTime == null || offsetDateTime == null)
+      return null;
+    return Integer.signum(StructsComparator.compareOffsetDateTimeStructs(offsetDateTime, baseOffsetDateTime));
   }
 
+  @Udf(description = "Check for multiple offset datetimes whether they are either before, after or equal to another offset datetime")
+  public List<Boolean> check(
+      @UdfParameter(
+          value = "baseOffsetDateTime",
+          description = "the offset datetime to check against",
+          schema = DateTimeSchemas.OFFSETDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct baseOffsetDateTime,
+      @UdfParameter(
+          value = "offsetDateTimes",
+          description = "the offset datetimes to check whether they are before, after or equal",
+          schema = DateTimeSchemas.OFFSETDATETIME_ARRAY_SCHEMA_DESCRIPTOR)
+      final List<Struct> offsetDateTimes,
+      @UdfParameter(
+          value = "chronologyMode",
+          description = "the chronologyMode being either: " + ChronologyMode.VALID_MODES)
+      final String chronologyMode
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCheck(baseOffsetDateTime, offsetDateTimes, chronologyMode);
+    return METRICS.call(() -> doCheck(baseOffsetDateTime, offsetDateTimes, chronologyMode));
+  }
+
+  private static List<Boolean> doCheck(final Struct baseOffsetDateTime, final List<Struct> offsetDateTimes,
+      final String chronologyMode) {
+    if (baseOffsetDateTime == null || offsetDateTimes == null || chronologyMode == null)
+      return null;
+    ChronologyMode cm = ChronologyMode.of(chronologyMode);
+    if (cm == null) {
+      ChronologyMode.reportInvalid(LOGGER, chronologyMode);
+      return null;
+    }
+    List<Boolean> results = new ArrayList<>(offsetDateTimes.size());
+    for (Struct offsetDateTime : offsetDateTimes) {
+      results.add(offsetDateTime != null ? cm.test(StructsComparator.compareOffsetDateTimeStructs(offsetDateTime, baseOffsetDateTime)) : null);
+    }
+    return results;
+  }
 }
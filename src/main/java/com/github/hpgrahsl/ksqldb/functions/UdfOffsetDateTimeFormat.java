@@ -17,12 +17,14 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.formats.DateTimeFormatterCache;
+import com.github.hpgrahsl.ksqldb.functions.formats.IsoDateTimeFormatter;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
-import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 import org.apache.kafka.connect.data.Struct;
 
@@ -34,6 +36,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfOffsetDateTimeFormat {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_offsetdatetime_format");
+
   @Udf(description = "Create a string representation of the OffsetDateTime struct using the java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME format")
   public String format(
       @UdfParameter(
@@ -42,7 +46,13 @@ public class UdfOffsetDateTimeFormat {
           schema = DateTimeSchemas.OFFSETDATETIME_SCHEMA_DESCRIPTOR)
       final Struct offsetDateTime
   ) {
-    return offsetDateTime != null ? StructsConverter.fromOffsetDateTimeStruct(offsetDateTime).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME) : null;
+    if (!UdfMetrics.ENABLED)
+      return doFormat(offsetDateTime);
+    return METRICS.call(() -> doFormat(offsetDateTime));
+  }
+
+  private static String doFormat(final Struct offsetDateTime) {
+    return offsetDateTime != null ? IsoDateTimeFormatter.formatOffsetDateTime(offsetDateTime) : null;
   }
 
   @Udf(description = "Create a string representation of the OffsetDateTime struct using the specified java.time.format.DateTimeFormatter format string")
@@ -57,9 +67,15 @@ public class UdfOffsetDateTimeFormat {
           description = "the java.time.format.DateTimeFormatter format string")
       final String format
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doFormat(offsetDateTime, format);
+    return METRICS.call(() -> doFormat(offsetDateTime, format));
+  }
+
+  private static String doFormat(final Struct offsetDateTime, final String format) {
     if (offsetDateTime == null || format == null )
       return null;
-    return StructsConverter.fromOffsetDateTimeStruct(offsetDateTime).format(DateTimeFormatter.ofPattern(format,
+    return StructsConverter.fromOffsetDateTimeStruct(offsetDateTime).format(DateTimeFormatterCache.ofPattern(format,
         Locale.ENGLISH));
   }
 
@@ -17,6 +17,8 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.OffsetDateTimeArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -32,6 +34,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfOffsetDateTimeMinus {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_offsetdatetime_minus");
+
   @Udf(description = "Subtract a period and/or duration from an offset datetime",
       schema = DateTimeSchemas.OFFSETDATETIME_SCHEMA_DESCRIPTOR)
   public Struct minus(
@@ -51,8 +55,17 @@ public class UdfOffsetDateTimeMinus {
           schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
       final Struct duration
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(baseOffsetDateTime, period, duration);
+    return METRICS.call(() -> doMinus(baseOffsetDateTime, period, duration));
+  }
+
+  private static Struct doMinus(final Struct baseOffsetDateTime, final Struct period, final Struct duration) {
     if (baseOffsetDateTime == null || period == null || duration == null)
       return null;
+    Struct result = OffsetDateTimeArithmetic.minus(baseOffsetDateTime, period, duration);
+    if (result != null)
+      return result;
     return StructsConverter.toOffsetDateTimeStruct(
         StructsConverter.fromOffsetDateTimeStruct(baseOffsetDateTime)
             .minus(StructsConverter.fromPeriodStruct(period))
@@ -96,9 +109,22 @@ public class UdfOffsetDateTimeMinus {
           value = "subtractNanos",
           description = "the nano part to subtract")
       final Integer subtractNanos) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(baseOffsetDateTime, subtractYears, subtractMonths, subtractDays, subtractHours, subtractMinutes, subtractSeconds, subtractNanos);
+    return METRICS.call(() -> doMinus(baseOffsetDateTime, subtractYears, subtractMonths, subtractDays, subtractHours, subtractMinutes, subtractSeconds, subtractNanos));
+  }
+
+  private static Struct doMinus(final Struct baseOffsetDateTime, final Integer subtractYears,
+      final Integer subtractMonths, final Integer subtractDays, final Integer subtractHours,
+      final Integer subtractMinutes, final Integer subtractSeconds, final Integer subtractNanos) {
     if (baseOffsetDateTime == null || subtractYears == null || subtractMonths == null || subtractDays == null
         || subtractHours == null || subtractMinutes == null || subtractSeconds == null || subtractNanos == null)
       return null;
+    Struct result = OffsetDateTimeArithmetic.plus(baseOffsetDateTime,
+        -(long)subtractYears, -(long)subtractMonths, -(long)subtractDays,
+        -(subtractHours * 3_600L + subtractMinutes * 60L + subtractSeconds), -(long)subtractNanos);
+    if (result != null)
+      return result;
     return StructsConverter.toOffsetDateTimeStruct(
         StructsConverter.fromOffsetDateTimeStruct(baseOffsetDateTime)
           .minusYears(subtractYears)
@@ -17,6 +17,8 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.OffsetDateTimeArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -32,6 +34,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfOffsetDateTimePlus {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_offsetdatetime_plus");
+
   @Udf(description = "Add a period and/or duration to an offset datetime",
       schema = DateTimeSchemas.OFFSETDATETIME_SCHEMA_DESCRIPTOR)
   public Struct plus(
@@ -51,8 +55,17 @@ public class UdfOffsetDateTimePlus {
           schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
       final Struct duration
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseOffsetDateTime, period, duration);
+    return METRICS.call(() -> doPlus(baseOffsetDateTime, period, duration));
+  }
+
+  private static Struct doPlus(final Struct baseOffsetDateTime, final Struct period, final Struct duration) {
     if (baseOffsetDateTime == null || period == null || duration == null)
       return null;
+    Struct result = OffsetDateTimeArithmetic.plus(baseOffsetDateTime, period, duration);
+    if (result != null)
+      return result;
     return StructsConverter.toOffsetDateTimeStruct(
         StructsConverter.fromOffsetDateTimeStruct(baseOffsetDateTime)
             .plus(StructsConverter.fromPeriodStruct(period))
@@ -96,9 +109,22 @@ public class UdfOffsetDateTimePlus {
           value = "addNanos",
           description = "the nano part to add")
       final Integer addNanos) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseOffsetDateTime, addYears, addMonths, addDays, addHours, addMinutes, addSeconds, addNanos);
+    return METRICS.call(() -> doPlus(baseOffsetDateTime, addYears, addMonths, addDays, addHours, addMinutes, addSeconds, addNanos));
+  }
+
+  private static Struct doPlus(final Struct baseOffsetDateTime, final Integer addYears, final Integer addMonths,
+      final Integer addDays, final Integer addHours, final Integer addMinutes, final Integer addSeconds,
+      final Integer addNanos) {
     if (baseOffsetDateTime == null || addYears == null || addMonths == null || addDays == null
         || addHours == null || addMinutes == null || addSeconds == null || addNanos == null)
       return null;
+    Struct result = OffsetDateTimeArithmetic.plus(baseOffsetDateTime,
+        addYears, addMonths, addDays,
+        addHours * 3_600L + addMinutes * 60L + addSeconds, addNanos);
+    if (result != null)
+      return result;
     return StructsConverter.toOffsetDateTimeStruct(
         StructsConverter.fromOffsetDateTimeStruct(baseOffsetDateTime)
           .plusYears(addYears)
@@ -17,6 +17,7 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -33,10 +34,18 @@ import org.apache.kafka.connect.data.Struct;
 )
 public class UdfPeriod {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_period");
+
   @Udf(description = "Create the empty/zero Period struct",
       schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
   public Struct createPeriod() {
-    return StructsConverter.toPeriodStruct(Period.ZERO);
+    if (!UdfMetrics.ENABLED)
+      return doCreatePeriod();
+    return METRICS.call(() -> doCreatePeriod());
+  }
+
+  private static Struct doCreatePeriod() {
+    return StructsConverter.sharedPeriodStruct(Period.ZERO);
   }
 
   @Udf(description = "Create a Period struct from its components (years, months, days)",
@@ -54,9 +63,15 @@ public class UdfPeriod {
           value = "days",
           description = "the days part of the Period")
       final Integer days) {
+    if (!UdfMetrics.ENABLED)
+      return doCreatePeriod(years, months, days);
+    return METRICS.call(() -> doCreatePeriod(years, months, days));
+  }
+
+  private static Struct doCreatePeriod(final Integer years, final Integer months, final Integer days) {
     if (years == null || months == null || days == null)
       return null;
-    return StructsConverter.toPeriodStruct(Period.of(years,months,days));
+    return StructsConverter.sharedPeriodStruct(Period.of(years,months,days));
   }
 
   @Udf(description = "Create a Period struct from its string representation using the ISO-8601 period formats {PnYnMnD} and {PnW}",
@@ -66,7 +81,13 @@ public class UdfPeriod {
           value = "text",
           description = "the string representation of the Period")
       final String text) {
-    return text != null ? StructsConverter.toPeriodStruct(Period.parse(text)) : null;
+    if (!UdfMetrics.ENABLED)
+      return doCreatePeriod(text);
+    return METRICS.call(() -> doCreatePeriod(text));
+  }
+
+  private static Struct doCreatePeriod(final String text) {
+    return text != null ? StructsConverter.sharedPeriodStruct(Period.parse(text)) : null;
   }
 
 }
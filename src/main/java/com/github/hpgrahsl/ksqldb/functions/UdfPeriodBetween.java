@@ -17,6 +17,9 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.LocalDateArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.clock.UdfClock;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -38,6 +41,8 @@ public class UdfPeriodBetween {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(UdfPeriodBetween.class);
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_period_between");
+
   @Udf(description = "Calculate the period between the given local date and the current local date, producing a period result composed of years, months and days. If the given local date is in the future the period is negative.",
         schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
   public Struct between(
@@ -46,14 +51,22 @@ public class UdfPeriodBetween {
           description = "given local date based on which the period is calculated towards current date",
           schema = DateTimeSchemas.LOCALDATE_SCHEMA_DESCRIPTOR)
       final Struct localDate) {
+    if (!UdfMetrics.ENABLED)
+      return doBetween(localDate);
+    return METRICS.call(() -> doBetween(localDate));
+  }
+
+  private static Struct doBetween(final Struct localDate) {
 
     if(localDate == null) {
       return null;
     }
 
-    return StructsConverter.toPeriodStruct(Period.between(
-        StructsConverter.fromLocalDateStruct(localDate),
-        LocalDate.now()));
+    LocalDate now = LocalDate.now(UdfClock.current());
+    Struct result = LocalDateArithmetic.between(localDate, now.getYear(), now.getMonthValue(), now.getDayOfMonth());
+    if (result != null)
+      return result;
+    return StructsConverter.toPeriodStruct(Period.between(StructsConverter.fromLocalDateStruct(localDate), now));
 
   }
 
@@ -71,11 +84,20 @@ public class UdfPeriodBetween {
           schema = DateTimeSchemas.LOCALDATE_SCHEMA_DESCRIPTOR)
       final Struct localDateTo
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doBetween(localDateFrom, localDateTo);
+    return METRICS.call(() -> doBetween(localDateFrom, localDateTo));
+  }
+
+  private static Struct doBetween(final Struct localDateFrom, final Struct localDateTo) {
 
     if(localDateFrom == null || localDateTo == null) {
       return null;
     }
 
+    Struct result = LocalDateArithmetic.between(localDateFrom, localDateTo);
+    if (result != null)
+      return result;
     return StructsConverter.toPeriodStruct(Period.between(
         StructsConverter.fromLocalDateStruct(localDateFrom),
         StructsConverter.fromLocalDateStruct(localDateTo))
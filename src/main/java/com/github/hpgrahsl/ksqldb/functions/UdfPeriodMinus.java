@@ -17,12 +17,12 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.PeriodArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
-import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
-import java.time.Period;
 import java.util.List;
 import org.apache.kafka.connect.data.Struct;
 
@@ -34,6 +34,8 @@ import org.apache.kafka.connect.data.Struct;
 )
 public class UdfPeriodMinus {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_period_minus");
+
   @Udf(description = "Subtract a period from another period",
       schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
   public Struct minus(
@@ -47,15 +49,17 @@ public class UdfPeriodMinus {
           description = "the period struct to subtract with",
           schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
       final Struct subtractPeriod) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(basePeriod, subtractPeriod);
+    return METRICS.call(() -> doMinus(basePeriod, subtractPeriod));
+  }
+
+  private static Struct doMinus(final Struct basePeriod, final Struct subtractPeriod) {
 
     if (basePeriod == null || subtractPeriod == null)
       return null;
 
-    return
-        StructsConverter.toPeriodStruct(
-            StructsConverter.fromPeriodStruct(basePeriod)
-                .minus(StructsConverter.fromPeriodStruct(subtractPeriod))
-        );
+    return PeriodArithmetic.minus(basePeriod, subtractPeriod);
 
   }
 
@@ -72,15 +76,17 @@ public class UdfPeriodMinus {
           description = "multiple period structs to subtract with",
           schema = DateTimeSchemas.PERIOD_ARRAY_SCHEMA_DESCRIPTOR)
       final List<Struct> subtractPeriods) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(basePeriod, subtractPeriods);
+    return METRICS.call(() -> doMinus(basePeriod, subtractPeriods));
+  }
+
+  private static Struct doMinus(final Struct basePeriod, final List<Struct> subtractPeriods) {
 
     if (basePeriod == null || subtractPeriods == null)
       return null;
 
-    Period p = StructsConverter.fromPeriodStruct(basePeriod);
-    for(Struct s : subtractPeriods) {
-      p = p.minus(StructsConverter.fromPeriodStruct(s));
-    }
-    return StructsConverter.toPeriodStruct(p);
+    return PeriodArithmetic.minus(basePeriod, subtractPeriods);
 
   }
 
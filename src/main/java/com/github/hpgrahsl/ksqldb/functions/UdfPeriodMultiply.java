@@ -17,8 +17,9 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.PeriodArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
-import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
@@ -32,6 +33,8 @@ import org.apache.kafka.connect.data.Struct;
 )
 public class UdfPeriodMultiply {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_period_multiply");
+
   @Udf(description = "Multiply a period by a scalar (i.e. all its components are multiplied by that scalar)",
       schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
   public Struct multiply(
@@ -42,13 +45,17 @@ public class UdfPeriodMultiply {
       final Struct basePeriod,
       @UdfParameter(value = "scalar", description = "the scalar to multiply by")
       final Integer scalar) {
+    if (!UdfMetrics.ENABLED)
+      return doMultiply(basePeriod, scalar);
+    return METRICS.call(() -> doMultiply(basePeriod, scalar));
+  }
+
+  private static Struct doMultiply(final Struct basePeriod, final Integer scalar) {
 
     if (basePeriod == null || scalar == null)
       return null;
 
-    return StructsConverter.toPeriodStruct(
-        StructsConverter.fromPeriodStruct(basePeriod).multipliedBy(scalar)
-    );
+    return PeriodArithmetic.multiply(basePeriod, scalar);
 
   }
 
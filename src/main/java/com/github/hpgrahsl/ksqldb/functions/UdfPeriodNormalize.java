@@ -17,8 +17,9 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.PeriodArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
-import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
@@ -32,6 +33,8 @@ import org.apache.kafka.connect.data.Struct;
 )
 public class UdfPeriodNormalize {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_period_normalize");
+
   @Udf(description = "Normalize a period which might affect years and/or months but leaves days unchanged",
       schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
   public Struct normalize(
@@ -40,9 +43,13 @@ public class UdfPeriodNormalize {
           description = "the period struct to normalize",
           schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
       final Struct basePeriod) {
-    return basePeriod != null ? StructsConverter.toPeriodStruct(
-        StructsConverter.fromPeriodStruct(basePeriod).normalized()
-    ) : null;
+    if (!UdfMetrics.ENABLED)
+      return doNormalize(basePeriod);
+    return METRICS.call(() -> doNormalize(basePeriod));
+  }
+
+  private static Struct doNormalize(final Struct basePeriod) {
+    return basePeriod != null ? PeriodArithmetic.normalize(basePeriod) : null;
   }
 
 }
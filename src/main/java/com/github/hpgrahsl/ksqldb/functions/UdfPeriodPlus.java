@@ -17,12 +17,12 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.PeriodArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
-import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
-import java.time.Period;
 import java.util.List;
 import org.apache.kafka.connect.data.Struct;
 
@@ -34,6 +34,8 @@ import org.apache.kafka.connect.data.Struct;
 )
 public class UdfPeriodPlus {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_period_plus");
+
   @Udf(description = "Add a period to another period",
       schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
   public Struct plus(
@@ -47,15 +49,17 @@ public class UdfPeriodPlus {
           description = "the period struct to add",
           schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
       final Struct addPeriod) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(basePeriod, addPeriod);
+    return METRICS.call(() -> doPlus(basePeriod, addPeriod));
+  }
+
+  private static Struct doPlus(final Struct basePeriod, final Struct addPeriod) {
 
     if (basePeriod == null || addPeriod == null)
       return null;
 
-    return
-        StructsConverter.toPeriodStruct(
-            StructsConverter.fromPeriodStruct(basePeriod)
-                .plus(StructsConverter.fromPeriodStruct(addPeriod))
-        );
+    return PeriodArithmetic.plus(basePeriod, addPeriod);
 
   }
 
@@ -72,15 +76,17 @@ public class UdfPeriodPlus {
           description = "multiple period structs to add",
           schema = DateTimeSchemas.PERIOD_ARRAY_SCHEMA_DESCRIPTOR)
       final List<Struct> addPeriods) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(basePeriod, addPeriods);
+    return METRICS.call(() -> doPlus(basePeriod, addPeriods));
+  }
+
+  private static Struct doPlus(final Struct basePeriod, final List<Struct> addPeriods) {
 
     if (basePeriod == null || addPeriods == null)
       return null;
 
-    Period p = StructsConverter.fromPeriodStruct(basePeriod);
-    for(Struct s : addPeriods) {
-      p = p.plus(StructsConverter.fromPeriodStruct(s));
-    }
-    return StructsConverter.toPeriodStruct(p);
+    return PeriodArithmetic.plus(basePeriod, addPeriods);
 
   }
 
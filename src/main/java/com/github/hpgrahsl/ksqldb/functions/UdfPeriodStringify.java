@@ -17,8 +17,9 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.formats.IsoDateTimeFormatter;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
-import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
@@ -32,6 +33,8 @@ import org.apache.kafka.connect.data.Struct;
 )
 public class UdfPeriodStringify {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_period_stringify");
+
   @Udf(description = "Create a (default) string representation of a Period struct using the ISO-8601 period format, such as {@code P6Y3M1D}")
   public String stringify(
       @UdfParameter(
@@ -39,7 +42,13 @@ public class UdfPeriodStringify {
           description = "the Period struct to stringify",
           schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
       final Struct period) {
-    return period != null ? StructsConverter.fromPeriodStruct(period).toString() : null;
+    if (!UdfMetrics.ENABLED)
+      return doStringify(period);
+    return METRICS.call(() -> doStringify(period));
+  }
+
+  private static String doStringify(final Struct period) {
+    return period != null ? IsoDateTimeFormatter.formatPeriod(period) : null;
   }
 
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import com.github.hpgrahsl.ksqldb.functions.formats.IsoDateTimeParser;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import io.confluent.ksql.function.udf.Udf;
+import io.confluent.ksql.function.udf.UdfDescription;
+import io.confluent.ksql.function.udf.UdfParameter;
+import java.time.Duration;
+import org.apache.kafka.connect.data.Struct;
+
+@UdfDescription(
+    name = "dt_try_duration",
+    description = "Exception-free factory functions for Duration struct creation which result in NULL or a default value for invalid text",
+    author = "Hans-Peter Grahsl (follow @hpgrahsl)",
+    version = "0.1.0"
+    )
+public class UdfTryDuration {
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_try_duration");
+
+  @Udf(description = "Try to create a Duration struct from its string representation using the ISO-8601 duration format {PnDTnHnMn.nS}. Invalid text results in NULL",
+      schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+  public Struct tryCreateDuration(
+      @UdfParameter(
+          value = "text",
+          description = "the string representation of the Duration")
+      final String text) {
+    if (!UdfMetrics.ENABLED)
+      return doTryCreateDuration(text);
+    return METRICS.call(() -> doTryCreateDuration(text));
+  }
+
+  private static Struct doTryCreateDuration(final String text) {
+    if (text == null)
+      return null;
+    Struct parsed = parse(text);
+    return parsed != null ? parsed : METRICS.rejected(null);
+  }
+
+  @Udf(description = "Try to create a Duration struct from its string representation using the ISO-8601 duration format {PnDTnHnMn.nS}. Invalid or NULL text results in the default value",
+      schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+  public Struct tryCreateDuration(
+      @UdfParameter(
+          value = "text",
+          description = "the string representation of the Duration")
+      final String text,
+      @UdfParameter(
+          value = "defaultValue",
+          description = "the Duration struct which is returned for invalid or NULL text",
+          schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+      final Struct defaultValue) {
+    if (!UdfMetrics.ENABLED)
+      return doTryCreateDuration(text, defaultValue);
+    return METRICS.call(() -> doTryCreateDuration(text, defaultValue));
+  }
+
+  private static Struct doTryCreateDuration(final String text, final Struct defaultValue) {
+    if (text == null)
+      return defaultValue;
+    Struct parsed = parse(text);
+    return parsed != null ? parsed : METRICS.rejected(defaultValue);
+  }
+
+  private static Struct parse(String text) {
+    Duration parsed = IsoDateTimeParser.parseDurationOrNull(text);
+    return parsed != null ? StructsConverter.toDurationStruct(parsed) : null;
+  }
+
+}
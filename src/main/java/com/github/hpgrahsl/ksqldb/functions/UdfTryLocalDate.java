@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import com.github.hpgrahsl.ksqldb.functions.formats.IsoDateTimeParser;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import io.confluent.ksql.function.udf.Udf;
+import io.confluent.ksql.function.udf.UdfDescription;
+import io.confluent.ksql.function.udf.UdfParameter;
+import java.time.LocalDate;
+import org.apache.kafka.connect.data.Struct;
+
+@UdfDescription(
+    name = "dt_try_localdate",
+    description = "Exception-free factory functions for LocalDate struct creation which result in NULL or a default value for invalid text",
+    author = "Hans-Peter Grahsl (follow @hpgrahsl)",
+    version = "0.1.0"
+    )
+public class UdfTryLocalDate {
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_try_localdate");
+
+  @Udf(description = "Try to create a LocalDate struct from its string representation using java.time.format.DateTimeFormatter#ISO_LOCAL_DATE. Invalid text results in NULL",
+      schema = DateTimeSchemas.LOCALDATE_SCHEMA_DESCRIPTOR)
+  public Struct tryCreateLocalDate(
+      @UdfParameter(
+          value = "text",
+          description = "the string representation of the LocalDate")
+      final String text) {
+    if (!UdfMetrics.ENABLED)
+      return doTryCreateLocalDate(text);
+    return METRICS.call(() -> doTryCreateLocalDate(text));
+  }
+
+  private static Struct doTryCreateLocalDate(final String text) {
+    if (text == null)
+      return null;
+    Struct parsed = parse(text);
+    return parsed != null ? parsed : METRICS.rejected(null);
+  }
+
+  @Udf(description = "Try to create a LocalDate struct from its string representation using java.time.format.DateTimeFormatter#ISO_LOCAL_DATE. Invalid or NULL text results in the default value",
+      schema = DateTimeSchemas.LOCALDATE_SCHEMA_DESCRIPTOR)
+  public Struct tryCreateLocalDate(
+      @UdfParameter(
+          value = "text",
+          description = "the string representation of the LocalDate")
+      final String text,
+      @UdfParameter(
+          value = "defaultValue",
+          description = "the LocalDate struct which is returned for invalid or NULL text",
+          schema = DateTimeSchemas.LOCALDATE_SCHEMA_DESCRIPTOR)
+      final Struct defaultValue) {
+    if (!UdfMetrics.ENABLED)
+      return doTryCreateLocalDate(text, defaultValue);
+    return METRICS.call(() -> doTryCreateLocalDate(text, defaultValue));
+  }
+
+  private static Struct doTryCreateLocalDate(final String text, final Struct defaultValue) {
+    if (text == null)
+      return defaultValue;
+    Struct parsed = parse(text);
+    return parsed != null ? parsed : METRICS.rejected(defaultValue);
+  }
+
+  private static Struct parse(String text) {
+    LocalDate parsed = IsoDateTimeParser.parseLocalDateOrNull(text);
+    return parsed != null ? StructsConverter.toLocalDateStruct(parsed) : null;
+  }
+
+}
@@ -17,16 +17,17 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.logging.RateLimitedLogger;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import com.github.hpgrahsl.ksqldb.functions.structs.ZoneIdCache;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import org.apache.kafka.connect.data.Struct;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 @UdfDescription(
     name = "dt_zoneid",
@@ -36,12 +37,20 @@ import org.slf4j.LoggerFactory;
     )
 public class UdfZoneId {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(UdfZoneId.class);
+  private static final RateLimitedLogger LOGGER = RateLimitedLogger.of(UdfZoneId.class);
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_zoneid");
 
   @Udf(description = "Create a ZoneId struct from the system default time-zone",
       schema = DateTimeSchemas.ZONEID_SCHEMA_DESCRIPTOR)
   public Struct createZoneId() {
-    return StructsConverter.toZoneIdStruct(ZoneId.systemDefault());
+    if (!UdfMetrics.ENABLED)
+      return doCreateZoneId();
+    return METRICS.call(() -> doCreateZoneId());
+  }
+
+  private static Struct doCreateZoneId() {
+    return StructsConverter.sharedZoneIdStruct(ZoneId.systemDefault());
   }
 
   @Udf(description = "Create a ZoneId struct from a region ID string which is typically of the form '{area}/{city}'. For ID strings which represent an offset use ZoneOffset-related UDFs instead.",
@@ -51,14 +60,20 @@ public class UdfZoneId {
           value = "text",
           description = "the region ID string")
       final String text) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateZoneId(text);
+    return METRICS.call(() -> doCreateZoneId(text));
+  }
+
+  private static Struct doCreateZoneId(final String text) {
     if(text == null)
       return null;
-    ZoneId parsed = ZoneId.of(text);
+    ZoneId parsed = ZoneIdCache.of(text);
     if(parsed instanceof ZoneOffset) {
-      LOGGER.error("only strings which are resolvable to regions are supported but the specified text '"+text+"' represents an offset");
+      LOGGER.error("only strings which are resolvable to regions are supported but the specified text '{}' represents an offset", text);
       return null;
     }
-    return StructsConverter.toZoneIdStruct(ZoneId.of(text));
+    return StructsConverter.sharedZoneIdStruct(parsed);
   }
 
 }
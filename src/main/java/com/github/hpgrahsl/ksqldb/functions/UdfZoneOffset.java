@@ -17,6 +17,7 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -33,6 +34,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfZoneOffset {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_zoneoffset");
+
   @Udf(description = "Create a ZoneOffset struct from its components (hours, minutes, seconds)",
       schema = DateTimeSchemas.ZONEOFFSET_SCHEMA_DESCRIPTOR)
   public Struct createZoneOffset(
@@ -48,9 +51,15 @@ public class UdfZoneOffset {
           value = "seconds",
           description = "the seconds part of the ZoneOffset")
       final Integer seconds) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateZoneOffset(hours, minutes, seconds);
+    return METRICS.call(() -> doCreateZoneOffset(hours, minutes, seconds));
+  }
+
+  private static Struct doCreateZoneOffset(final Integer hours, final Integer minutes, final Integer seconds) {
     if (hours == null || minutes == null || seconds == null)
       return null;
-    return StructsConverter.toZoneOffsetStruct(ZoneOffset.ofHoursMinutesSeconds(hours,minutes,seconds));
+    return StructsConverter.sharedZoneOffsetStruct(ZoneOffset.ofHoursMinutesSeconds(hours,minutes,seconds));
   }
 
   @Udf(description = "Create a ZoneOffset struct based on total seconds",
@@ -60,7 +69,13 @@ public class UdfZoneOffset {
           value = "totalSeconds",
           description = "the totalSeconds defining the ZoneOffset")
       final Integer totalSeconds) {
-    return totalSeconds != null ? StructsConverter.toZoneOffsetStruct(ZoneOffset.ofTotalSeconds(totalSeconds)) : null;
+    if (!UdfMetrics.ENABLED)
+      return doCreateZoneOffset(totalSeconds);
+    return METRICS.call(() -> doCreateZoneOffset(totalSeconds));
+  }
+
+  private static Struct doCreateZoneOffset(final Integer totalSeconds) {
+    return totalSeconds != null ? StructsConverter.sharedZoneOffsetStruct(ZoneOffset.ofTotalSeconds(totalSeconds)) : null;
   }
 
   @Udf(description = "Create a ZoneOffset struct from its ID string",
@@ -70,7 +85,13 @@ public class UdfZoneOffset {
           value = "text",
           description = "the ID string of the ZoneOffset")
       final String text) {
-    return text != null ? StructsConverter.toZoneOffsetStruct(ZoneOffset.of(text)) : null;
+    if (!UdfMetrics.ENABLED)
+      return doCreateZoneOffset(text);
+    return METRICS.call(() -> doCreateZoneOffset(text));
+  }
+
+  private static Struct doCreateZoneOffset(final String text) {
+    return text != null ? StructsConverter.sharedZoneOffsetStruct(ZoneOffset.of(text)) : null;
   }
 
 }
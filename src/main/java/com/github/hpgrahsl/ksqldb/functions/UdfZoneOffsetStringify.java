@@ -17,6 +17,7 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -32,12 +33,20 @@ import org.apache.kafka.connect.data.Struct;
 )
 public class UdfZoneOffsetStringify {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_zoneoffset_stringify");
+
   @Udf(description = "Create a string representation of a ZoneOffset (e.g. 'Z', '+/-hh:mm', '+/-hh:mm:ss'")
   public String stringify(
       @UdfParameter(
           value = "zoneOffset", description = "the ZoneOffset struct to stringify",
           schema = DateTimeSchemas.ZONEOFFSET_SCHEMA_DESCRIPTOR)
       final Struct zoneOffset) {
+    if (!UdfMetrics.ENABLED)
+      return doStringify(zoneOffset);
+    return METRICS.call(() -> doStringify(zoneOffset));
+  }
+
+  private static String doStringify(final Struct zoneOffset) {
     return zoneOffset != null ? StructsConverter.fromZoneOffsetStruct(zoneOffset).toString() : null;
   }
 
@@ -17,13 +17,16 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.clock.UdfClock;
+import com.github.hpgrahsl.ksqldb.functions.formats.DateTimeFormatterCache;
+import com.github.hpgrahsl.ksqldb.functions.formats.IsoDateTimeParser;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 import org.apache.kafka.connect.data.Struct;
 
@@ -35,10 +38,18 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfZonedDateTime {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_zoneddatetime");
+
   @Udf(description = "Create a ZonedDateTime struct based on the system clock's current date-time and its zone and offset according to the default time-zone.",
       schema = DateTimeSchemas.ZONEDDATETIME_SCHEMA_DESCRIPTOR)
   public Struct createZonedDateTime() {
-    return StructsConverter.toZonedDateTimeStruct(ZonedDateTime.now());
+    if (!UdfMetrics.ENABLED)
+      return doCreateZonedDateTime();
+    return METRICS.call(() -> doCreateZonedDateTime());
+  }
+
+  private static Struct doCreateZonedDateTime() {
+    return StructsConverter.toZonedDateTimeStruct(ZonedDateTime.now(UdfClock.current()));
   }
 
   @Udf(description = "Create a ZonedDateTime struct based on the system clock's current date-time where zone and offset are based on the specified time-zone.",
@@ -49,7 +60,13 @@ public class UdfZonedDateTime {
           description = "the ZoneId struct for the ZonedDateTime",
           schema = DateTimeSchemas.ZONEID_SCHEMA_DESCRIPTOR)
       final Struct zoneId) {
-    return zoneId != null ? StructsConverter.toZonedDateTimeStruct(ZonedDateTime.now(StructsConverter.fromZoneIdStruct(zoneId))) : null;
+    if (!UdfMetrics.ENABLED)
+      return doCreateZonedDateTime(zoneId);
+    return METRICS.call(() -> doCreateZonedDateTime(zoneId));
+  }
+
+  private static Struct doCreateZonedDateTime(final Struct zoneId) {
+    return zoneId != null ? StructsConverter.toZonedDateTimeStruct(ZonedDateTime.ofInstant(UdfClock.current().instant(), StructsConverter.fromZoneIdStruct(zoneId))) : null;
   }
 
   @Udf(description = "Create a ZonedDateTime struct based on given LocalDateTime and ZoneId structs.",
@@ -65,6 +82,12 @@ public class UdfZonedDateTime {
           description = "the ZoneId struct for the ZonedDateTime",
           schema = DateTimeSchemas.ZONEID_SCHEMA_DESCRIPTOR)
       final Struct zoneId) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateZonedDateTime(locaDateTime, zoneId);
+    return METRICS.call(() -> doCreateZonedDateTime(locaDateTime, zoneId));
+  }
+
+  private static Struct doCreateZonedDateTime(final Struct locaDateTime, final Struct zoneId) {
     if (locaDateTime == null || zoneId == null)
       return null;
     return StructsConverter.toZonedDateTimeStruct(ZonedDateTime.of(
@@ -91,6 +114,12 @@ public class UdfZonedDateTime {
           description = "the ZoneOffset struct for the ZonedDateTime",
           schema = DateTimeSchemas.ZONEOFFSET_SCHEMA_DESCRIPTOR)
       final Struct zoneOffset) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateZonedDateTime(locaDateTime, zoneId, zoneOffset);
+    return METRICS.call(() -> doCreateZonedDateTime(locaDateTime, zoneId, zoneOffset));
+  }
+
+  private static Struct doCreateZonedDateTime(final Struct locaDateTime, final Struct zoneId, final Struct zoneOffset) {
     if (locaDateTime == null || zoneId == null || zoneOffset == null)
       return null;
     return StructsConverter.toZonedDateTimeStruct(ZonedDateTime.ofLocal(
@@ -107,7 +136,13 @@ public class UdfZonedDateTime {
           value = "text",
           description = "the string representation of the ZonedDateTime")
       final String text) {
-    return text != null ? StructsConverter.toZonedDateTimeStruct(ZonedDateTime.parse(text)) : null;
+    if (!UdfMetrics.ENABLED)
+      return doCreateZonedDateTime(text);
+    return METRICS.call(() -> doCreateZonedDateTime(text));
+  }
+
+  private static Struct doCreateZonedDateTime(final String text) {
+    return text != null ? StructsConverter.toZonedDateTimeStruct(IsoDateTimeParser.parseZonedDateTime(text)) : null;
   }
 
   @Udf(description = "Create an ZonedDateTime struct from its string representation using the specified java.time.format.DateTimeFormatter format string",
@@ -121,9 +156,15 @@ public class UdfZonedDateTime {
           value = "format",
           description = "the specified java.time.format.DateTimeFormatter format string")
       final String format) {
+    if (!UdfMetrics.ENABLED)
+      return doCreateZonedDateTime(text, format);
+    return METRICS.call(() -> doCreateZonedDateTime(text, format));
+  }
+
+  private static Struct doCreateZonedDateTime(final String text, final String format) {
     if (text == null || format == null)
       return null;
-    return StructsConverter.toZonedDateTimeStruct(ZonedDateTime.parse(text, DateTimeFormatter.ofPattern(format,
+    return StructsConverter.toZonedDateTimeStruct(ZonedDateTime.parse(text, DateTimeFormatterCache.ofPattern(format,
         Locale.ENGLISH)));
   }
 
@@ -17,14 +17,16 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.logging.RateLimitedLogger;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
-import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsComparator;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.kafka.connect.data.Struct;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 @UdfDescription(
     name = "dt_zoneddatetime_chronology",
@@ -34,7 +36,9 @@ import org.slf4j.LoggerFactory;
     )
 public class UdfZonedDateTimeChronology {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(UdfZonedDateTimeChronology.class);
+  private static final RateLimitedLogger LOGGER = RateLimitedLogger.of(UdfZonedDateTimeChronology.class);
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_zoneddatetime_chronology");
 
   @Udf(description = "Check if a zoned datetime is either before, after or equal to another zoned datetime")
   public Boolean check(
@@ -50,29 +54,85 @@ public class UdfZonedDateTimeChronology {
       final Struct zonedDateTime,
       @UdfParameter(
           value = "chronologyMode",
-          description = "the chronologyMode being either: 'IS_BEFORE','IS_AFTER','IS_EQUAL'")
+          description = "the chronologyMode being either: " + ChronologyMode.VALID_MODES)
       final String chronologyMode
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doCheck(baseZonedDateTime, zonedDateTime, chronologyMode);
+    return METRICS.call(() -> doCheck(baseZonedDateTime, zonedDateTime, chronologyMode));
+  }
+
+  private static Boolean doCheck(final Struct baseZonedDateTime, final Struct zonedDateTime,
+      final String chronologyMode) {
     if (baseZonedDateTime == null || zonedDateTime == null || chronologyMode == null)
       return null;
-    try {
-      ChronologyMode cm = ChronologyMode.valueOf(chronologyMode);
-      switch (cm) {
-        case IS_BEFORE:
-          return StructsConverter.fromZonedDateTimeStruct(zonedDateTime)
-              .isBefore(StructsConverter.fromZonedDateTimeStruct(baseZonedDateTime));
-        case IS_AFTER:
-          return StructsConverter.fromZonedDateTimeStruct(zonedDateTime)
-              .isAfter(StructsConverter.fromZonedDateTimeStruct(baseZonedDateTime));
-        case IS_EQUAL:
-          return StructsConverter.fromZonedDateTimeStruct(zonedDateTime)
-              .isEqual(StructsConverter.fromZonedDateTimeStruct(baseZonedDateTime));
-      }
-    } catch(IllegalArgumentException e) {
-      LOGGER.error("chronologyMode '" + chronologyMode +
-          "' is invalid - must be one of: 'IS_BEFORE','IS_AFTER','IS_EQUAL'",e);
+    ChronologyMode cm = ChronologyMode.of(chronologyMode);
+    if (cm == null) {
+      ChronologyMode.reportInvalid(LOGGER, chronologyMode);
+      return null;
     }
-    return null;
+    return cm.test(StructsComparator.compareZonedDateTimeStructs(zonedDateTime, baseZonedDateTime));
+  }
+
+  @Udf(description = "Compare a zoned datetime to another zoned datetime resulting in -1, 0 or 1 if it's before, equal or after")
+  public Integer compare(
+      @UdfParameter(
+          value = "baseZonedDateTime",
+          description = "the zoned datetime to compare against",
+          schema = DateTimeSchemas.ZONEDDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct baseZonedDateTime,
+      @UdfParameter(
+          value = "zonedDateTime",
+          description = "the zoned datetime to compare",
+          schema = DateTimeSchemas.ZONEDDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct zonedDateTime
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCompare(baseZonedDateTime, zonedDateTime);
+    return METRICS.call(() -> doCompare(baseZonedDateTime, zonedDateTime));
+  }
+
+  private static Integer doCompare(final Struct baseZonedDateTime, final Struct zonedDateTime) {
+    if (baseZonedDateTime == null || zonedDateTime == null)
+      return null;
+    return Integer.signum(StructsComparator.compareZonedDateTimeStructs(zonedDateTime, baseZonedDateTime));
   }
 
+  @Udf(description = "Check for multiple zoned datetimes whether they are either before, after or equal to another zoned datetime")
+  public List<Boolean> check(
+      @UdfParameter(
+          value = "baseZonedDateTime",
+          description = "the zoned datetime to check against",
+          schema = DateTimeSchemas.ZONEDDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct baseZonedDateTime,
+      @UdfParameter(
+          value = "zonedDateTimes",
+          description = "the zoned datetimes to check whether they are before, after or equal",
+          schema = DateTimeSchemas.ZONEDDATETIME_ARRAY_SCHEMA_DESCRIPTOR)
+      final List<Struct> zonedDateTimes,
+      @UdfParameter(
+          value = "chronologyMode",
+          description = "the chronologyMode being either: " + ChronologyMode.VALID_MODES)
+      final String chronologyMode
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doCheck(baseZonedDateTime, zonedDateTimes, chronologyMode);
+    return METRICS.call(() -> doCheck(baseZonedDateTime, zonedDateTimes, chronologyMode));
+  }
+
+  private static List<Boolean> doCheck(final Struct baseZonedDateTime, final List<Struct> zonedDateTimes,
+      final String chronologyMode) {
+    if (baseZonedDateTime == null || zonedDateTimes == null || chronologyMode == null)
+      return null;
+    ChronologyMode cm = ChronologyMode.of(chronologyMode);
+    if (cm == null) {
+      ChronologyMode.reportInvalid(LOGGER, chronologyMode);
+      return null;
+    }
+    List<Boolean> results = new ArrayList<>(zonedDateTimes.size());
+    for (Struct zonedDateTime : zonedDateTimes) {
+      results.add(zonedDateTime != null ? cm.test(StructsComparator.compareZonedDateTimeStructs(zonedDateTime, baseZonedDateTime)) : null);
+    }
+    return results;
+  }
 }
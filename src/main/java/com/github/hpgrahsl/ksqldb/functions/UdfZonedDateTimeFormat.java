@@ -17,12 +17,17 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.formats.DateTimeFormatterCache;
+import com.github.hpgrahsl.ksqldb.functions.formats.IsoDateTimeFormatter;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
 import io.confluent.ksql.function.udf.UdfDescription;
 import io.confluent.ksql.function.udf.UdfParameter;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import org.apache.kafka.connect.data.Struct;
 
@@ -34,6 +39,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfZonedDateTimeFormat {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_zoneddatetime_format");
+
   @Udf(description = "Create a string representation of the ZonedDateTime struct using the java.time.format.DateTimeFormatter#ISO_ZONED_DATE_TIME format")
   public String format(
       @UdfParameter(
@@ -42,7 +49,13 @@ public class UdfZonedDateTimeFormat {
           schema = DateTimeSchemas.ZONEDDATETIME_SCHEMA_DESCRIPTOR)
       final Struct zonedDateTime
   ) {
-    return zonedDateTime != null ? StructsConverter.fromZonedDateTimeStruct(zonedDateTime).format(DateTimeFormatter.ISO_ZONED_DATE_TIME) : null;
+    if (!UdfMetrics.ENABLED)
+      return doFormat(zonedDateTime);
+    return METRICS.call(() -> doFormat(zonedDateTime));
+  }
+
+  private static String doFormat(final Struct zonedDateTime) {
+    return zonedDateTime != null ? IsoDateTimeFormatter.formatZonedDateTime(zonedDateTime) : null;
   }
 
   @Udf(description = "Create a string representation of the ZonedDateTime struct using the specified java.time.format.DateTimeFormatter format string")
@@ -57,10 +70,66 @@ public class UdfZonedDateTimeFormat {
           description = "the java.time.format.DateTimeFormatter format string")
       final String format
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doFormat(zonedDateTime, format);
+    return METRICS.call(() -> doFormat(zonedDateTime, format));
+  }
+
+  private static String doFormat(final Struct zonedDateTime, final String format) {
     if (zonedDateTime == null || format == null )
       return null;
-    return StructsConverter.fromZonedDateTimeStruct(zonedDateTime).format(DateTimeFormatter.ofPattern(format,
+    return StructsConverter.fromZonedDateTimeStruct(zonedDateTime).format(DateTimeFormatterCache.ofPattern(format,
         Locale.ENGLISH));
   }
 
+  @Udf(description = "Create string representations of multiple ZonedDateTime structs using the java.time.format.DateTimeFormatter#ISO_ZONED_DATE_TIME format")
+  public List<String> format(
+      @UdfParameter(
+          value = "zonedDateTimes",
+          description = "the ZonedDateTime structs to create string representations for",
+          schema = DateTimeSchemas.ZONEDDATETIME_ARRAY_SCHEMA_DESCRIPTOR)
+      final List<Struct> zonedDateTimes
+  ) {
+    if (!UdfMetrics.ENABLED)
+      return doFormat(zonedDateTimes);
+    return METRICS.call(() -> doFormat(zonedDateTimes));
+  }
+
+  private static List<String> doFormat(final List<Struct> zonedDateTimes) {
+    if (zonedDateTimes == null)
+      return null;
+    List<String> results = new ArrayList<>(zonedDateTimes.size());
+    for (Struct zonedDateTime : zonedDateTimes) {
+      results.add(zonedDateTime != null ? IsoDateTimeFormatter.formatZonedDateTime(zonedDateTime) : null);
+    }
+    return results;
+  }
+
+  @Udf(description = "Create string representations of multiple ZonedDateTime structs using the specified java.time.format.DateTimeFormatter format string")
+  public List<String> format(
+      @UdfParameter(
+          value = "zonedDateTimes",
+          description = "the ZonedDateTime structs to create string representations for",
+          schema = DateTimeSchemas.ZONEDDATETIME_ARRAY_SCHEMA_DESCRIPTOR)
+      final List<Struct> zonedDateTimes,
+      @UdfParameter(
+          value = "format",
+          description = "the java.time.format.DateTimeFormatter format string")
+      final String format
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doFormat(zonedDateTimes, format);
+    return METRICS.call(() -> doFormat(zonedDateTimes, format));
+  }
+
+  private static List<String> doFormat(final List<Struct> zonedDateTimes, final String format) {
+    if (zonedDateTimes == null || format == null)
+      return null;
+    DateTimeFormatter formatter = DateTimeFormatterCache.ofPattern(format, Locale.ENGLISH);
+    List<String> results = new ArrayList<>(zonedDateTimes.size());
+    for (Struct zonedDateTime : zonedDateTimes) {
+      results.add(zonedDateTime != null ? StructsConverter.fromZonedDateTimeStruct(zonedDateTime).format(formatter) : null);
+    }
+    return results;
+  }
 }
@@ -17,6 +17,8 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.ZonedDateTimeArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -32,6 +34,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfZonedDateTimeMinus {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_zoneddatetime_minus");
+
   @Udf(description = "Subtract a period and/or duration from an zoned datetime",
       schema = DateTimeSchemas.ZONEDDATETIME_SCHEMA_DESCRIPTOR)
   public Struct minus(
@@ -51,6 +55,12 @@ public class UdfZonedDateTimeMinus {
           schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
       final Struct duration
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(baseZonedDateTime, period, duration);
+    return METRICS.call(() -> doMinus(baseZonedDateTime, period, duration));
+  }
+
+  private static Struct doMinus(final Struct baseZonedDateTime, final Struct period, final Struct duration) {
     if (baseZonedDateTime == null || period == null || duration == null)
       return null;
     return StructsConverter.toZonedDateTimeStruct(
@@ -96,19 +106,20 @@ public class UdfZonedDateTimeMinus {
           value = "subtractNanos",
           description = "the nano part to subtract")
       final Integer subtractNanos) {
+    if (!UdfMetrics.ENABLED)
+      return doMinus(baseZonedDateTime, subtractYears, subtractMonths, subtractDays, subtractHours, subtractMinutes, subtractSeconds, subtractNanos);
+    return METRICS.call(() -> doMinus(baseZonedDateTime, subtractYears, subtractMonths, subtractDays, subtractHours, subtractMinutes, subtractSeconds, subtractNanos));
+  }
+
+  private static Struct doMinus(final Struct baseZonedDateTime, final Integer subtractYears,
+      final Integer subtractMonths, final Integer subtractDays, final Integer subtractHours,
+      final Integer subtractMinutes, final Integer subtractSeconds, final Integer subtractNanos) {
     if (baseZonedDateTime == null || subtractYears == null || subtractMonths == null || subtractDays == null
         || subtractHours == null || subtractMinutes == null || subtractSeconds == null || subtractNanos == null)
       return null;
-    return StructsConverter.toZonedDateTimeStruct(
-        StructsConverter.fromZonedDateTimeStruct(baseZonedDateTime)
-          .minusYears(subtractYears)
-          .minusMonths(subtractMonths)
-          .minusDays(subtractDays)
-          .minusHours(subtractHours)
-          .minusMinutes(subtractMinutes)
-          .minusSeconds(subtractSeconds)
-          .minusNanos(subtractNanos)
-    );
+    return ZonedDateTimeArithmetic.plus(baseZonedDateTime,
+        -(long)subtractYears, -(long)subtractMonths, -(long)subtractDays,
+        -(long)subtractHours, -(long)subtractMinutes, -(long)subtractSeconds, -(long)subtractNanos);
   }
 
 }
@@ -17,6 +17,8 @@
 
 package com.github.hpgrahsl.ksqldb.functions;
 
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.ZonedDateTimeArithmetic;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
 import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
 import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
 import io.confluent.ksql.function.udf.Udf;
@@ -32,6 +34,8 @@ import org.apache.kafka.connect.data.Struct;
     )
 public class UdfZonedDateTimePlus {
 
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_zoneddatetime_plus");
+
   @Udf(description = "Add a period and/or duration to an zoned datetime",
       schema = DateTimeSchemas.ZONEDDATETIME_SCHEMA_DESCRIPTOR)
   public Struct plus(
@@ -51,6 +55,12 @@ public class UdfZonedDateTimePlus {
           schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
       final Struct duration
       ) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseZonedDateTime, period, duration);
+    return METRICS.call(() -> doPlus(baseZonedDateTime, period, duration));
+  }
+
+  private static Struct doPlus(final Struct baseZonedDateTime, final Struct period, final Struct duration) {
     if (baseZonedDateTime == null || period == null || duration == null)
       return null;
     return StructsConverter.toZonedDateTimeStruct(
@@ -96,19 +106,20 @@ public class UdfZonedDateTimePlus {
           value = "addNanos",
           description = "the nano part to add")
       final Integer addNanos) {
+    if (!UdfMetrics.ENABLED)
+      return doPlus(baseZonedDateTime, addYears, addMonths, addDays, addHours, addMinutes, addSeconds, addNanos);
+    return METRICS.call(() -> doPlus(baseZonedDateTime, addYears, addMonths, addDays, addHours, addMinutes, addSeconds, addNanos));
+  }
+
+  private static Struct doPlus(final Struct baseZonedDateTime, final Integer addYears, final Integer addMonths,
+      final Integer addDays, final Integer addHours, final Integer addMinutes, final Integer addSeconds,
+      final Integer addNanos) {
     if (baseZonedDateTime == null || addYears == null || addMonths == null || addDays == null
         || addHours == null || addMinutes == null || addSeconds == null || addNanos == null)
       return null;
-    return StructsConverter.toZonedDateTimeStruct(
-        StructsConverter.fromZonedDateTimeStruct(baseZonedDateTime)
-          .plusYears(addYears)
-          .plusMonths(addMonths)
-          .plusDays(addDays)
-          .plusHours(addHours)
-          .plusMinutes(addMinutes)
-          .plusSeconds(addSeconds)
-          .plusNanos(addNanos)
-    );
+    return ZonedDateTimeArithmetic.plus(baseZonedDateTime,
+        addYears, addMonths, addDays,
+        addHours, addMinutes, addSeconds, addNanos);
   }
 
 }
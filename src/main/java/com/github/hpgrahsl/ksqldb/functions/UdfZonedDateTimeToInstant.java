@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import com.github.hpgrahsl.ksqldb.functions.structs.ZoneOffsetTable;
+import io.confluent.ksql.function.udf.Udf;
+import io.confluent.ksql.function.udf.UdfDescription;
+import io.confluent.ksql.function.udf.UdfParameter;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import org.apache.kafka.connect.data.Struct;
+
+@UdfDescription(
+    name = "dt_zoneddatetime_toinstant",
+    description = "Convert zoned datetimes to instants",
+    author = "Hans-Peter Grahsl (follow @hpgrahsl)",
+    version = "0.1.0"
+    )
+public class UdfZonedDateTimeToInstant {
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_zoneddatetime_toinstant");
+
+  @Udf(description = "Convert a zoned datetime to the instant on the time-line it represents",
+      schema = DateTimeSchemas.INSTANT_SCHEMA_DESCRIPTOR)
+  public Struct toInstant(
+      @UdfParameter(
+          value = "zonedDateTime",
+          description = "the zoned datetime to convert",
+          schema = DateTimeSchemas.ZONEDDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct zonedDateTime
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doToInstant(zonedDateTime);
+    return METRICS.call(() -> doToInstant(zonedDateTime));
+  }
+
+  private static Struct doToInstant(final Struct zonedDateTime) {
+    if (zonedDateTime == null)
+      return null;
+    LocalDateTime ldt = StructsConverter.fromLocalDateTimeStruct(
+        (Struct)zonedDateTime.get(DateTimeSchemas.ZONEDDATETIME_DATETIME_FIELD));
+    int offset = (Integer)((Struct)zonedDateTime.get(DateTimeSchemas.ZONEDDATETIME_OFFSET_FIELD))
+        .get(DateTimeSchemas.ZONEOFFSET_TOTALSECONDS_FIELD);
+    long epochSecond = ldt.toEpochSecond(ZoneOffset.UTC) - offset;
+    //the offset of the struct is kept whenever it is valid for its local datetime in the zone which is
+    //the case if the zone has that very offset at the resulting instant, otherwise resolve it like java.time
+    ZoneOffsetTable table = ZoneOffsetTable.of(
+        (String)((Struct)zonedDateTime.get(DateTimeSchemas.ZONEDDATETIME_ZONE_FIELD)).get(DateTimeSchemas.ZONEID_ID_FIELD));
+    if (table.offsetAt(epochSecond).getTotalSeconds() == offset)
+      return StructsConverter.toInstantStruct(epochSecond, ldt.getNano());
+    return StructsConverter.toInstantStruct(StructsConverter.fromZonedDateTimeStruct(zonedDateTime).toInstant());
+  }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import com.github.hpgrahsl.ksqldb.functions.buckets.CalendarBucket;
+import com.github.hpgrahsl.ksqldb.functions.buckets.TimeBuckets;
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import io.confluent.ksql.function.udf.Udf;
+import io.confluent.ksql.function.udf.UdfDescription;
+import io.confluent.ksql.function.udf.UdfParameter;
+import java.time.ZonedDateTime;
+import org.apache.kafka.connect.data.Struct;
+
+@UdfDescription(
+    name = "dt_zoneddatetime_truncate",
+    description = "Truncate zoned datetimes to the start of time buckets",
+    author = "Hans-Peter Grahsl (follow @hpgrahsl)",
+    version = "0.1.0"
+    )
+public class UdfZonedDateTimeTruncate {
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_zoneddatetime_truncate");
+
+  @Udf(description = "Truncate a zoned datetime to the start of its bucket of the given width aligned to the epoch on the instant time-line",
+      schema = DateTimeSchemas.ZONEDDATETIME_SCHEMA_DESCRIPTOR)
+  public Struct truncate(
+      @UdfParameter(
+          value = "zonedDateTime",
+          description = "the zoned datetime to truncate",
+          schema = DateTimeSchemas.ZONEDDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct zonedDateTime,
+      @UdfParameter(
+          value = "bucket",
+          description = "the positive duration which defines the width of the buckets",
+          schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+      final Struct bucket
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doTruncate(zonedDateTime, bucket);
+    return METRICS.call(() -> doTruncate(zonedDateTime, bucket));
+  }
+
+  private static Struct doTruncate(final Struct zonedDateTime, final Struct bucket) {
+    if (zonedDateTime == null || bucket == null)
+      return null;
+    ZonedDateTime t = StructsConverter.fromZonedDateTimeStruct(zonedDateTime);
+    return StructsConverter.toZonedDateTimeStruct(atZoneOf(TimeBuckets.floorInstant(
+        t.toEpochSecond(), t.getNano(),
+        (Long)bucket.get(DateTimeSchemas.DURATION_SECONDS_FIELD),
+        (Integer)bucket.get(DateTimeSchemas.DURATION_NANOS_FIELD),
+        0L, 0), t));
+  }
+
+  @Udf(description = "Truncate a zoned datetime to the start of its bucket of the given width aligned to the origin on the instant time-line",
+      schema = DateTimeSchemas.ZONEDDATETIME_SCHEMA_DESCRIPTOR)
+  public Struct truncate(
+      @UdfParameter(
+          value = "zonedDateTime",
+          description = "the zoned datetime to truncate",
+          schema = DateTimeSchemas.ZONEDDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct zonedDateTime,
+      @UdfParameter(
+          value = "bucket",
+          description = "the positive duration which defines the width of the buckets",
+          schema = DateTimeSchemas.DURATION_SCHEMA_DESCRIPTOR)
+      final Struct bucket,
+      @UdfParameter(
+          value = "origin",
+          description = "the zoned datetime at which one of the buckets starts",
+          schema = DateTimeSchemas.ZONEDDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct origin
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doTruncate(zonedDateTime, bucket, origin);
+    return METRICS.call(() -> doTruncate(zonedDateTime, bucket, origin));
+  }
+
+  private static Struct doTruncate(final Struct zonedDateTime, final Struct bucket, final Struct origin) {
+    if (zonedDateTime == null || bucket == null || origin == null)
+      return null;
+    ZonedDateTime t = StructsConverter.fromZonedDateTimeStruct(zonedDateTime);
+    ZonedDateTime o = StructsConverter.fromZonedDateTimeStruct(origin);
+    return StructsConverter.toZonedDateTimeStruct(atZoneOf(TimeBuckets.floorInstant(
+        t.toEpochSecond(), t.getNano(),
+        (Long)bucket.get(DateTimeSchemas.DURATION_SECONDS_FIELD),
+        (Integer)bucket.get(DateTimeSchemas.DURATION_NANOS_FIELD),
+        o.toEpochSecond(), o.getNano()), t));
+  }
+
+  @Udf(description = "Truncate a zoned datetime to the start of the calendar unit it falls into",
+      schema = DateTimeSchemas.ZONEDDATETIME_SCHEMA_DESCRIPTOR)
+  public Struct truncate(
+      @UdfParameter(
+          value = "zonedDateTime",
+          description = "the zoned datetime to truncate",
+          schema = DateTimeSchemas.ZONEDDATETIME_SCHEMA_DESCRIPTOR)
+      final Struct zonedDateTime,
+      @UdfParameter(
+          value = "calendarUnit",
+          description = "the calendar unit to truncate to, must be one of: " + CalendarBucket.VALID_UNITS)
+      final String calendarUnit
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doTruncate(zonedDateTime, calendarUnit);
+    return METRICS.call(() -> doTruncate(zonedDateTime, calendarUnit));
+  }
+
+  private static Struct doTruncate(final Struct zonedDateTime, final String calendarUnit) {
+    if (zonedDateTime == null || calendarUnit == null)
+      return null;
+    ZonedDateTime t = StructsConverter.fromZonedDateTimeStruct(zonedDateTime);
+    return StructsConverter.toZonedDateTimeStruct(
+        CalendarBucket.of(calendarUnit).floor(t.toLocalDate()).atStartOfDay(t.getZone())
+    );
+  }
+
+  private static ZonedDateTime atZoneOf(Struct instant, ZonedDateTime t) {
+    return StructsConverter.fromInstantStruct(instant).atZone(t.getZone());
+  }
+
+}
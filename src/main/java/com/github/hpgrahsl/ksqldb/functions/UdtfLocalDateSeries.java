@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import com.github.hpgrahsl.ksqldb.functions.metrics.UdfMetrics;
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.series.TemporalSeries;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import io.confluent.ksql.function.udf.UdfParameter;
+import io.confluent.ksql.function.udtf.Udtf;
+import io.confluent.ksql.function.udtf.UdtfDescription;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import org.apache.kafka.connect.data.Struct;
+
+@UdtfDescription(
+    name = "dt_localdate_series",
+    description = "Explode a range of local dates into one row per step",
+    author = "Hans-Peter Grahsl (follow @hpgrahsl)",
+    version = "0.1.0"
+    )
+public class UdtfLocalDateSeries {
+
+  private static final UdfMetrics METRICS = UdfMetrics.of("dt_localdate_series");
+
+  @Udtf(description = "Explode the range [start,end) of local dates into one row per step of the given period (a negative period results in a descending series, a range not matching the direction of the period results in no rows)",
+      schema = DateTimeSchemas.LOCALDATE_SCHEMA_DESCRIPTOR)
+  public List<Struct> series(
+      @UdfParameter(
+          value = "start",
+          description = "the LocalDate to start with (inclusive)",
+          schema = DateTimeSchemas.LOCALDATE_SCHEMA_DESCRIPTOR)
+      final Struct start,
+      @UdfParameter(
+          value = "end",
+          description = "the LocalDate to end with (exclusive)",
+          schema = DateTimeSchemas.LOCALDATE_SCHEMA_DESCRIPTOR)
+      final Struct end,
+      @UdfParameter(
+          value = "step",
+          description = "the period between two consecutive rows",
+          schema = DateTimeSchemas.PERIOD_SCHEMA_DESCRIPTOR)
+      final Struct step
+      ) {
+    if (!UdfMetrics.ENABLED)
+      return doSeries(start, end, step);
+    return METRICS.call(() -> doSeries(start, end, step));
+  }
+
+  private static List<Struct> doSeries(final Struct start, final Struct end, final Struct step) {
+    if (start == null || end == null || step == null)
+      return null;
+    LocalDate s = StructsConverter.fromLocalDateStruct(start);
+    Period p = StructsConverter.fromPeriodStruct(step);
+    //same semantics as LocalDate.datesUntil i.e. the i-th date is start + i * step to avoid drifting month ends
+    return TemporalSeries.of(TemporalSeries.steps(s, StructsConverter.fromLocalDateStruct(end), p),
+        i -> StructsConverter.toLocalDateStruct(s.plus(p.multipliedBy((int)i))));
+  }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.aggregates;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import java.time.Duration;
+import org.apache.kafka.connect.data.Struct;
+
+/*
+ * accumulates Duration structs into the two longs seconds and nanos (kept within [0,999999999])
+ * plus a count of the aggregated values. depending on the aggregation the seconds and nanos either
+ * hold the running sum or the current min/max. accumulators are updated in place, which is fine
+ * since ksqlDB hands out a fresh or deserialized aggregate for every call.
+ */
+public class DurationAccumulator {
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  public static Struct initialize() {
+    return new Struct(DateTimeSchemas.DURATION_AGGREGATE_SCHEMA)
+        .put(DateTimeSchemas.DURATION_AGGREGATE_SECONDS_FIELD,0L)
+        .put(DateTimeSchemas.DURATION_AGGREGATE_NANOS_FIELD,0L)
+        .put(DateTimeSchemas.DURATION_AGGREGATE_COUNT_FIELD,0L);
+  }
+
+  public static Struct add(Struct duration, Struct acc) {
+    if (duration == null)
+      return acc;
+    return accumulate(acc, seconds(duration), nanos(duration), 1L);
+  }
+
+  public static Struct subtract(Struct duration, Struct acc) {
+    if (duration == null)
+      return acc;
+    long seconds = Math.negateExact(seconds(duration));
+    long nanos = nanos(duration);
+    //negate the normalized (seconds,nanos) pair keeping the nanos non-negative
+    if (nanos != 0) {
+      seconds = Math.subtractExact(seconds, 1L);
+      nanos = NANOS_PER_SECOND - nanos;
+    }
+    return accumulate(acc, seconds, nanos, -1L);
+  }
+
+  public static Struct mergeSums(Struct accOne, Struct accTwo) {
+    return accumulate(accOne, (Long)accTwo.get(DateTimeSchemas.DURATION_AGGREGATE_SECONDS_FIELD),
+        (Long)accTwo.get(DateTimeSchemas.DURATION_AGGREGATE_NANOS_FIELD), count(accTwo));
+  }
+
+  public static Struct keepMin(Struct duration, Struct acc) {
+    return keep(duration, acc, true);
+  }
+
+  public static Struct keepMax(Struct duration, Struct acc) {
+    return keep(duration, acc, false);
+  }
+
+  public static Struct mergeMins(Struct accOne, Struct accTwo) {
+    return mergeExtremes(accOne, accTwo, true);
+  }
+
+  public static Struct mergeMaxs(Struct accOne, Struct accTwo) {
+    return mergeExtremes(accOne, accTwo, false);
+  }
+
+  public static long count(Struct acc) {
+    return (Long)acc.get(DateTimeSchemas.DURATION_AGGREGATE_COUNT_FIELD);
+  }
+
+  public static Duration toDuration(Struct acc) {
+    return Duration.ofSeconds(
+        (Long)acc.get(DateTimeSchemas.DURATION_AGGREGATE_SECONDS_FIELD),
+        (Long)acc.get(DateTimeSchemas.DURATION_AGGREGATE_NANOS_FIELD)
+    );
+  }
+
+  private static Struct accumulate(Struct acc, long seconds, long nanos, long count) {
+    long accSeconds = Math.addExact((Long)acc.get(DateTimeSchemas.DURATION_AGGREGATE_SECONDS_FIELD), seconds);
+    long accNanos = (Long)acc.get(DateTimeSchemas.DURATION_AGGREGATE_NANOS_FIELD) + nanos;
+    if (accNanos >= NANOS_PER_SECOND) {
+      accSeconds = Math.addExact(accSeconds, 1L);
+      accNanos -= NANOS_PER_SECOND;
+    }
+    return acc.put(DateTimeSchemas.DURATION_AGGREGATE_SECONDS_FIELD,accSeconds)
+        .put(DateTimeSchemas.DURATION_AGGREGATE_NANOS_FIELD,accNanos)
+        .put(DateTimeSchemas.DURATION_AGGREGATE_COUNT_FIELD,count(acc) + count);
+  }
+
+  private static Struct keep(Struct duration, Struct acc, boolean min) {
+    if (duration == null)
+      return acc;
+    long seconds = seconds(duration);
+    long nanos = nanos(duration);
+    long count = count(acc);
+    if (count == 0 || isBeyond(seconds, nanos, acc, min)) {
+      acc.put(DateTimeSchemas.DURATION_AGGREGATE_SECONDS_FIELD,seconds)
+          .put(DateTimeSchemas.DURATION_AGGREGATE_NANOS_FIELD,nanos);
+    }
+    return acc.put(DateTimeSchemas.DURATION_AGGREGATE_COUNT_FIELD,count + 1);
+  }
+
+  private static Struct mergeExtremes(Struct accOne, Struct accTwo, boolean min) {
+    long countOne = count(accOne);
+    long countTwo = count(accTwo);
+    if (countTwo == 0)
+      return accOne;
+    if (countOne == 0)
+      return accTwo;
+    long seconds = (Long)accTwo.get(DateTimeSchemas.DURATION_AGGREGATE_SECONDS_FIELD);
+    long nanos = (Long)accTwo.get(DateTimeSchemas.DURATION_AGGREGATE_NANOS_FIELD);
+    if (isBeyond(seconds, nanos, accOne, min)) {
+      accOne.put(DateTimeSchemas.DURATION_AGGREGATE_SECONDS_FIELD,seconds)
+          .put(DateTimeSchemas.DURATION_AGGREGATE_NANOS_FIELD,nanos);
+    }
+    return accOne.put(DateTimeSchemas.DURATION_AGGREGATE_COUNT_FIELD,countOne + countTwo);
+  }
+
+  //true if (seconds,nanos) is smaller (min) or greater (max) than the value held by the accumulator
+  private static boolean isBeyond(long seconds, long nanos, Struct acc, boolean min) {
+    long accSeconds = (Long)acc.get(DateTimeSchemas.DURATION_AGGREGATE_SECONDS_FIELD);
+    int c = seconds != accSeconds ? Long.compare(seconds, accSeconds)
+        : Long.compare(nanos, (Long)acc.get(DateTimeSchemas.DURATION_AGGREGATE_NANOS_FIELD));
+    return min ? c < 0 : c > 0;
+  }
+
+  //duration structs are normalized the same way Duration.ofSeconds(seconds,nanos) does it
+  private static long seconds(Struct duration) {
+    return Math.addExact((Long)duration.get(DateTimeSchemas.DURATION_SECONDS_FIELD),
+        Math.floorDiv((long)(Integer)duration.get(DateTimeSchemas.DURATION_NANOS_FIELD), NANOS_PER_SECOND));
+  }
+
+  private static long nanos(Struct duration) {
+    return Math.floorMod((long)(Integer)duration.get(DateTimeSchemas.DURATION_NANOS_FIELD), NANOS_PER_SECOND);
+  }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.aggregates;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.kafka.connect.data.Struct;
+
+/*
+ * sparse log-linear histogram of nanosecond values in the spirit of HdrHistogram:
+ * every power of two range is split into 2^SUB_BUCKET_BITS equally wide buckets, so values are
+ * recorded with a relative error below 2^-SUB_BUCKET_BITS (values below 2^(SUB_BUCKET_BITS+1) are exact).
+ * only non-empty buckets are stored as two parallel lists ordered by bucket, where negative values
+ * map to negative buckets. this keeps the lists ordered by value and bounds them by the number of
+ * possible buckets (about 2 * 59 * 2^SUB_BUCKET_BITS) no matter how many values get recorded.
+ */
+public class DurationHistogram {
+
+  public static final int SUB_BUCKET_BITS = 6;
+
+  private static final long SUB_BUCKET_COUNT = 1L << SUB_BUCKET_BITS;
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  public static Struct initialize() {
+    return new Struct(DateTimeSchemas.DURATION_HISTOGRAM_SCHEMA)
+        .put(DateTimeSchemas.DURATION_HISTOGRAM_BUCKETS_FIELD,new ArrayList<Long>())
+        .put(DateTimeSchemas.DURATION_HISTOGRAM_COUNTS_FIELD,new ArrayList<Long>());
+  }
+
+  public static Struct record(long nanos, Struct histogram) {
+    return update(histogram, bucketOf(nanos), 1L);
+  }
+
+  public static Struct remove(long nanos, Struct histogram) {
+    return update(histogram, bucketOf(nanos), -1L);
+  }
+
+  public static Struct merge(Struct histogramOne, Struct histogramTwo) {
+    List<Long> bucketsOne = buckets(histogramOne);
+    List<Long> countsOne = counts(histogramOne);
+    List<Long> bucketsTwo = buckets(histogramTwo);
+    List<Long> countsTwo = counts(histogramTwo);
+    if (bucketsTwo.isEmpty())
+      return histogramOne;
+    if (bucketsOne.isEmpty())
+      return histogramTwo;
+    List<Long> buckets = new ArrayList<>(bucketsOne.size() + bucketsTwo.size());
+    List<Long> counts = new ArrayList<>(bucketsOne.size() + bucketsTwo.size());
+    int i = 0;
+    int j = 0;
+    while (i < bucketsOne.size() || j < bucketsTwo.size()) {
+      int c = i == bucketsOne.size() ? 1 : j == bucketsTwo.size() ? -1
+          : Long.compare(bucketsOne.get(i), bucketsTwo.get(j));
+      if (c < 0) {
+        buckets.add(bucketsOne.get(i));
+        counts.add(countsOne.get(i++));
+      } else if (c > 0) {
+        buckets.add(bucketsTwo.get(j));
+        counts.add(countsTwo.get(j++));
+      } else {
+        buckets.add(bucketsOne.get(i));
+        counts.add(countsOne.get(i++) + countsTwo.get(j++));
+      }
+    }
+    return new Struct(DateTimeSchemas.DURATION_HISTOGRAM_SCHEMA)
+        .put(DateTimeSchemas.DURATION_HISTOGRAM_BUCKETS_FIELD,buckets)
+        .put(DateTimeSchemas.DURATION_HISTOGRAM_COUNTS_FIELD,counts);
+  }
+
+  public static long count(Struct histogram) {
+    long total = 0;
+    for (long c : counts(histogram)) {
+      total += c;
+    }
+    return total;
+  }
+
+  //values at the given ascending percentiles (0.0 < p <= 1.0) using the nearest-rank method
+  //or null in case the histogram is empty
+  public static long[] valuesAtPercentiles(Struct histogram, double... percentiles) {
+    long total = count(histogram);
+    if (total == 0)
+      return null;
+    List<Long> buckets = buckets(histogram);
+    List<Long> counts = counts(histogram);
+    long[] values = new long[percentiles.length];
+    long cumulative = 0;
+    int b = -1;
+    for (int p = 0; p < percentiles.length; p++) {
+      long rank = Math.max(1L, (long)Math.ceil(percentiles[p] * total));
+      while (cumulative < rank) {
+        cumulative += counts.get(++b);
+      }
+      values[p] = valueOf(buckets.get(b));
+    }
+    return values;
+  }
+
+  public static long saturatedNanos(long seconds, long nanos) {
+    try {
+      return Math.addExact(Math.multiplyExact(seconds, NANOS_PER_SECOND), nanos);
+    } catch (ArithmeticException exc) {
+      return seconds < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+  }
+
+  static long bucketOf(long nanos) {
+    return nanos >= 0 ? magnitudeBucketOf(nanos) : -magnitudeBucketOf(nanos == Long.MIN_VALUE ? Long.MAX_VALUE : -nanos) - 1;
+  }
+
+  //the mid-point of the bucket
+  static long valueOf(long bucket) {
+    if (bucket < 0)
+      return -magnitudeValueOf(-(bucket + 1));
+    return magnitudeValueOf(bucket);
+  }
+
+  private static long magnitudeBucketOf(long nanos) {
+    if (nanos < SUB_BUCKET_COUNT)
+      return nanos;
+    int shift = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+    return ((shift + 1L) << SUB_BUCKET_BITS) + (nanos >>> shift) - SUB_BUCKET_COUNT;
+  }
+
+  private static long magnitudeValueOf(long bucket) {
+    if (bucket < SUB_BUCKET_COUNT)
+      return bucket;
+    int shift = (int)(bucket >>> SUB_BUCKET_BITS) - 1;
+    long low = ((bucket & (SUB_BUCKET_COUNT - 1)) + SUB_BUCKET_COUNT) << shift;
+    return low + (((1L << shift) - 1) >>> 1);
+  }
+
+  private static Struct update(Struct histogram, long bucket, long delta) {
+    List<Long> buckets = buckets(histogram);
+    List<Long> counts = counts(histogram);
+    int pos = Collections.binarySearch(buckets, bucket);
+    if (pos >= 0) {
+      long count = counts.get(pos) + delta;
+      if (count > 0) {
+        counts.set(pos, count);
+      } else {
+        buckets.remove(pos);
+        counts.remove(pos);
+      }
+    } else if (delta > 0) {
+      buckets.add(-pos - 1, bucket);
+      counts.add(-pos - 1, delta);
+    }
+    return histogram;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Long> buckets(Struct histogram) {
+    return (List<Long>)histogram.get(DateTimeSchemas.DURATION_HISTOGRAM_BUCKETS_FIELD);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Long> counts(Struct histogram) {
+    return (List<Long>)histogram.get(DateTimeSchemas.DURATION_HISTOGRAM_COUNTS_FIELD);
+  }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.arithmetic;
+
+/*
+ * proleptic ISO calendar calculations on primitive year, month and day values which convert
+ * from and to epoch days based on http://howardhinnant.github.io/date_algorithms.html
+ */
+public class CivilDates {
+
+  //the range supported by LocalDate
+  public static final int MIN_YEAR = -999_999_999;
+  public static final int MAX_YEAR = 999_999_999;
+
+  private static final long DAYS_0000_03_01_TO_1970 = 719_468L;
+  private static final long DAYS_PER_ERA = 146_097L;
+
+  public static final long MIN_EPOCH_DAY = toEpochDay(MIN_YEAR, 1, 1);
+  public static final long MAX_EPOCH_DAY = toEpochDay(MAX_YEAR, 12, 31);
+
+  public static boolean isValid(long year, int month, int day) {
+    return year >= MIN_YEAR && year <= MAX_YEAR && month >= 1 && month <= 12
+        && day >= 1 && day <= lengthOfMonth(year, month);
+  }
+
+  public static boolean isLeapYear(long year) {
+    return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  public static int lengthOfMonth(long year, int month) {
+    switch (month) {
+      case 2:
+        return isLeapYear(year) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  public static long toEpochDay(long year, int month, int day) {
+    long y = month <= 2 ? year - 1 : year;
+    long era = Math.floorDiv(y, 400);
+    int yoe = (int)(y - era * 400);
+    int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+    int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+    return era * DAYS_PER_ERA + doe - DAYS_0000_03_01_TO_1970;
+  }
+
+  //year, month and day of the epoch day packed into the bit fields year(signed) | month(4) | day(5)
+  public static long toPackedDate(long epochDay) {
+    long z = epochDay + DAYS_0000_03_01_TO_1970;
+    long era = Math.floorDiv(z, DAYS_PER_ERA);
+    int doe = (int)(z - era * DAYS_PER_ERA);
+    int yoe = (doe - doe / 1_460 + doe / 36_524 - doe / 146_096) / 365;
+    int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+    int mp = (5 * doy + 2) / 153;
+    int day = doy - (153 * mp + 2) / 5 + 1;
+    int month = mp < 10 ? mp + 3 : mp - 9;
+    long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+    return year << 9 | month << 5 | day;
+  }
+
+  public static long year(long packedDate) {
+    return packedDate >> 9;
+  }
+
+  public static int month(long packedDate) {
+    return (int)(packedDate >>> 5 & 0xF);
+  }
+
+  public static int day(long packedDate) {
+    return (int)(packedDate & 0x1F);
+  }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.arithmetic;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import java.util.List;
+import org.apache.kafka.connect.data.Struct;
+
+/*
+ * duration arithmetic on the seconds and nanos of duration structs following the very same steps and
+ * overflow checks as the Duration methods do. the struct fields are normalized like Duration.ofSeconds
+ * does when reading them. multiplications and divisions whose intermediate results exceed the range of
+ * long values are delegated to the Duration methods
+ */
+public class DurationArithmetic {
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  //durations up to these seconds can be represented as total nanos in a long
+  private static final long MAX_NANOS_SECONDS = Long.MAX_VALUE / NANOS_PER_SECOND - 1;
+
+  public static Struct plus(Struct base, Struct add) {
+    long seconds = seconds(base);
+    int nanos = nanos(base);
+    long addSeconds = seconds(add);
+    int addNanos = nanos(add);
+    return StructsConverter.toDurationStruct(
+        plusSeconds(seconds, nanos, addSeconds, addNanos), plusNanos(nanos, addNanos));
+  }
+
+  public static Struct plus(Struct base, List<Struct> adds) {
+    long seconds = seconds(base);
+    int nanos = nanos(base);
+    for (Struct add : adds) {
+      long addSeconds = seconds(add);
+      int addNanos = nanos(add);
+      seconds = plusSeconds(seconds, nanos, addSeconds, addNanos);
+      nanos = plusNanos(nanos, addNanos);
+    }
+    return StructsConverter.toDurationStruct(seconds, nanos);
+  }
+
+  public static Struct minus(Struct base, Struct subtract) {
+    long seconds = seconds(base);
+    int nanos = nanos(base);
+    long subtractSeconds = seconds(subtract);
+    int subtractNanos = nanos(subtract);
+    return StructsConverter.toDurationStruct(
+        minusSeconds(seconds, nanos, subtractSeconds, subtractNanos), plusNanos(nanos, -subtractNanos));
+  }
+
+  public static Struct minus(Struct base, List<Struct> subtracts) {
+    long seconds = seconds(base);
+    int nanos = nanos(base);
+    for (Struct subtract : subtracts) {
+      long subtractSeconds = seconds(subtract);
+      int subtractNanos = nanos(subtract);
+      seconds = minusSeconds(seconds, nanos, subtractSeconds, subtractNanos);
+      nanos = plusNanos(nanos, -subtractNanos);
+    }
+    return StructsConverter.toDurationStruct(seconds, nanos);
+  }
+
+  public static Struct multiply(Struct base, long scalar) {
+    long seconds = seconds(base);
+    int nanos = nanos(base);
+    //the nanos times the scalar are split to stay within long values
+    long nanosProduct = nanos * (scalar % NANOS_PER_SECOND);
+    long carry = nanos * (scalar / NANOS_PER_SECOND) + Math.floorDiv(nanosProduct, NANOS_PER_SECOND);
+    long high = Math.multiplyHigh(seconds, scalar);
+    long low = seconds * scalar;
+    long total = low + carry;
+    if (high != (low >> 63) || ((low ^ total) & (carry ^ total)) < 0)
+      return StructsConverter.toDurationStruct(StructsConverter.fromDurationStruct(base).multipliedBy(scalar));
+    return StructsConverter.toDurationStruct(total, (int)Math.floorMod(nanosProduct, NANOS_PER_SECOND));
+  }
+
+  public static Struct divide(Struct base, long divisor) {
+    long seconds = seconds(base);
+    if (divisor == 0 || !fitsTotalNanos(seconds))
+      return StructsConverter.toDurationStruct(StructsConverter.fromDurationStruct(base).dividedBy(divisor));
+    //the division of the total nanos truncates towards zero like Duration#dividedBy does
+    long quotient = (seconds * NANOS_PER_SECOND + nanos(base)) / divisor;
+    return StructsConverter.toDurationStruct(Math.floorDiv(quotient, NANOS_PER_SECOND),
+        (int)Math.floorMod(quotient, NANOS_PER_SECOND));
+  }
+
+  public static long divide(Struct base, Struct divisor) {
+    long seconds = seconds(base);
+    long divisorSeconds = seconds(divisor);
+    int divisorNanos = nanos(divisor);
+    if ((divisorSeconds == 0 && divisorNanos == 0) || !fitsTotalNanos(seconds) || !fitsTotalNanos(divisorSeconds))
+      return StructsConverter.fromDurationStruct(base).dividedBy(StructsConverter.fromDurationStruct(divisor));
+    return (seconds * NANOS_PER_SECOND + nanos(base)) / (divisorSeconds * NANOS_PER_SECOND + divisorNanos);
+  }
+
+  //same steps as Duration#plus(long, long) with nanos to add within one second
+  private static long plusSeconds(long seconds, int nanos, long addSeconds, long addNanos) {
+    return Math.addExact(Math.addExact(seconds, addSeconds), Math.floorDiv(nanos + addNanos, NANOS_PER_SECOND));
+  }
+
+  private static int plusNanos(int nanos, int addNanos) {
+    return (int)Math.floorMod(nanos + (long)addNanos, NANOS_PER_SECOND);
+  }
+
+  //Duration#minus has to subtract the minimum seconds in two steps since they cannot be negated
+  private static long minusSeconds(long seconds, int nanos, long subtractSeconds, int subtractNanos) {
+    if (subtractSeconds == Long.MIN_VALUE)
+      return Math.addExact(plusSeconds(seconds, nanos, Long.MAX_VALUE, -subtractNanos), 1);
+    return plusSeconds(seconds, nanos, -subtractSeconds, -subtractNanos);
+  }
+
+  private static boolean fitsTotalNanos(long seconds) {
+    return seconds >= -MAX_NANOS_SECONDS && seconds <= MAX_NANOS_SECONDS;
+  }
+
+  private static long seconds(Struct duration) {
+    return Math.addExact((Long)duration.get(DateTimeSchemas.DURATION_SECONDS_FIELD),
+        Math.floorDiv((Integer)duration.get(DateTimeSchemas.DURATION_NANOS_FIELD), NANOS_PER_SECOND));
+  }
+
+  private static int nanos(Struct duration) {
+    return (int)Math.floorMod((Integer)duration.get(DateTimeSchemas.DURATION_NANOS_FIELD), NANOS_PER_SECOND);
+  }
+
+}
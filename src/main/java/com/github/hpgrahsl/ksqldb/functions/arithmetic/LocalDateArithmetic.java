@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.arithmetic;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import org.apache.kafka.connect.data.Struct;
+
+/*
+ * local date arithmetic on the epoch day and the primitive year, month and day values of local date
+ * structs with exactly the same results as the LocalDate methods:
+ * - years and months are added one after the other, each keeping the last valid day of the month
+ * - days are added to the epoch day
+ * - periods between two dates are calculated the same way as Period.between does
+ * null is returned whenever the fields are invalid or a step leaves the supported range in which case
+ * the callers fall back to the java.time calls which report the error
+ */
+public class LocalDateArithmetic {
+
+  static final long OUT_OF_RANGE = Long.MIN_VALUE;
+
+  public static Struct plus(Struct localDate, long years, long months, long days) {
+    long year = (Integer)localDate.get(DateTimeSchemas.LOCALDATE_YEAR_FIELD);
+    int month = (Integer)localDate.get(DateTimeSchemas.LOCALDATE_MONTH_FIELD);
+    int day = (Integer)localDate.get(DateTimeSchemas.LOCALDATE_DAY_FIELD);
+    if (!CivilDates.isValid(year, month, day))
+      return null;
+    if (years == 0 && months == 0 && days == 0)
+      return localDate;
+    long epochDay = plusToEpochDay(year, month, day, years, months, days);
+    return epochDay != OUT_OF_RANGE ? toLocalDateStruct(epochDay) : null;
+  }
+
+  public static Struct plus(Struct localDate, Struct period) {
+    return plus(localDate, period, 1);
+  }
+
+  public static Struct minus(Struct localDate, Struct period) {
+    return plus(localDate, period, -1);
+  }
+
+  //LocalDate adds the total months of a period at once
+  private static Struct plus(Struct localDate, Struct period, int sign) {
+    return plus(localDate, 0,
+        sign * ((Integer)period.get(DateTimeSchemas.PERIOD_YEARS_FIELD) * 12L
+            + (Integer)period.get(DateTimeSchemas.PERIOD_MONTHS_FIELD)),
+        sign * (long)(Integer)period.get(DateTimeSchemas.PERIOD_DAYS_FIELD));
+  }
+
+  public static Integer plusEpochDay(int epochDay, Struct period) {
+    return plusEpochDay(epochDay, period, 1);
+  }
+
+  public static Integer minusEpochDay(int epochDay, Struct period) {
+    return plusEpochDay(epochDay, period, -1);
+  }
+
+  private static Integer plusEpochDay(int epochDay, Struct period, int sign) {
+    long packed = CivilDates.toPackedDate(epochDay);
+    long result = plusToEpochDay(CivilDates.year(packed), CivilDates.month(packed), CivilDates.day(packed), 0,
+        sign * ((Integer)period.get(DateTimeSchemas.PERIOD_YEARS_FIELD) * 12L
+            + (Integer)period.get(DateTimeSchemas.PERIOD_MONTHS_FIELD)),
+        sign * (long)(Integer)period.get(DateTimeSchemas.PERIOD_DAYS_FIELD));
+    return result != OUT_OF_RANGE && result == (int)result ? (int)result : null;
+  }
+
+  //null for invalid local dates
+  public static Long toEpochDay(Struct localDate) {
+    long year = (Integer)localDate.get(DateTimeSchemas.LOCALDATE_YEAR_FIELD);
+    int month = (Integer)localDate.get(DateTimeSchemas.LOCALDATE_MONTH_FIELD);
+    int day = (Integer)localDate.get(DateTimeSchemas.LOCALDATE_DAY_FIELD);
+    return CivilDates.isValid(year, month, day) ? CivilDates.toEpochDay(year, month, day) : null;
+  }
+
+  //null outside the range of LocalDate
+  public static Struct ofEpochDay(long epochDay) {
+    return epochDay >= CivilDates.MIN_EPOCH_DAY && epochDay <= CivilDates.MAX_EPOCH_DAY
+        ? toLocalDateStruct(epochDay) : null;
+  }
+
+  public static Struct between(Struct from, Struct to) {
+    return between(from,
+        (Integer)to.get(DateTimeSchemas.LOCALDATE_YEAR_FIELD),
+        (Integer)to.get(DateTimeSchemas.LOCALDATE_MONTH_FIELD),
+        (Integer)to.get(DateTimeSchemas.LOCALDATE_DAY_FIELD));
+  }
+
+  public static Struct between(Struct from, long toYear, int toMonth, int toDay) {
+    long year = (Integer)from.get(DateTimeSchemas.LOCALDATE_YEAR_FIELD);
+    int month = (Integer)from.get(DateTimeSchemas.LOCALDATE_MONTH_FIELD);
+    int day = (Integer)from.get(DateTimeSchemas.LOCALDATE_DAY_FIELD);
+    if (!CivilDates.isValid(year, month, day) || !CivilDates.isValid(toYear, toMonth, toDay))
+      return null;
+    long totalMonths = toYear * 12 + toMonth - (year * 12 + month);
+    long days = toDay - day;
+    if (totalMonths > 0 && days < 0) {
+      totalMonths--;
+      long monthCount = year * 12 + month - 1 + totalMonths;
+      long calcYear = Math.floorDiv(monthCount, 12);
+      int calcMonth = Math.floorMod(monthCount, 12) + 1;
+      days = CivilDates.toEpochDay(toYear, toMonth, toDay)
+          - CivilDates.toEpochDay(calcYear, calcMonth, Math.min(day, CivilDates.lengthOfMonth(calcYear, calcMonth)));
+    } else if (totalMonths < 0 && days > 0) {
+      totalMonths++;
+      days -= CivilDates.lengthOfMonth(toYear, toMonth);
+    }
+    return StructsConverter.toPeriodStruct((int)(totalMonths / 12), (int)(totalMonths % 12), (int)days);
+  }
+
+  //same steps as LocalDate#plusYears, #plusMonths and #plusDays for a valid date
+  static long plusToEpochDay(long year, int month, int day, long years, long months, long days) {
+    if (years != 0) {
+      year += years;
+      if (year < CivilDates.MIN_YEAR || year > CivilDates.MAX_YEAR)
+        return OUT_OF_RANGE;
+      day = Math.min(day, CivilDates.lengthOfMonth(year, month));
+    }
+    if (months != 0) {
+      long monthCount = year * 12 + month - 1 + months;
+      year = Math.floorDiv(monthCount, 12);
+      if (year < CivilDates.MIN_YEAR || year > CivilDates.MAX_YEAR)
+        return OUT_OF_RANGE;
+      month = Math.floorMod(monthCount, 12) + 1;
+      day = Math.min(day, CivilDates.lengthOfMonth(year, month));
+    }
+    long epochDay = CivilDates.toEpochDay(year, month, day) + days;
+    return epochDay >= CivilDates.MIN_EPOCH_DAY && epochDay <= CivilDates.MAX_EPOCH_DAY ? epochDay : OUT_OF_RANGE;
+  }
+
+  static Struct toLocalDateStruct(long epochDay) {
+    long packed = CivilDates.toPackedDate(epochDay);
+    return StructsConverter.toLocalDateStruct((int)CivilDates.year(packed), CivilDates.month(packed),
+        CivilDates.day(packed));
+  }
+
+}
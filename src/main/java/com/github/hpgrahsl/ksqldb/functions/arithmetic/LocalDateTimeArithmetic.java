@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.arithmetic;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import org.apache.kafka.connect.data.Struct;
+
+/*
+ * adds years, months, days, seconds and nanos to local and offset datetimes directly on the struct fields
+ * with exactly the same result as chaining LocalDateTime#plusYears, #plusMonths, #plusDays, #plusSeconds
+ * and #plusNanos:
+ * - the date-based amounts are applied like LocalDateArithmetic does
+ * - the time-based amounts are added to the nano of day at once and the days carried over are added to the
+ *   epoch day as well
+ * null is returned whenever the fields of the base are invalid, any date step leaves the supported range
+ * or the time-based amounts are applied close to its limits in which case the callers fall back to the
+ * java.time calls which report the error
+ */
+public class LocalDateTimeArithmetic {
+
+  private static final long SECONDS_PER_DAY = 86_400L;
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  private static final long NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND;
+  private static final long NANOS_PER_HOUR = 60 * NANOS_PER_MINUTE;
+  private static final long NANOS_PER_DAY = SECONDS_PER_DAY * NANOS_PER_SECOND;
+  //the time-based amounts of any call are far less than the remaining million years so that no
+  //intermediate step of the chained calls can leave the supported range if the date stays within these
+  private static final int MAX_SAFE_YEAR = 999_000_000;
+  private static final long MIN_SAFE_EPOCH_DAY = CivilDates.toEpochDay(-MAX_SAFE_YEAR, 1, 1);
+  private static final long MAX_SAFE_EPOCH_DAY = CivilDates.toEpochDay(MAX_SAFE_YEAR, 12, 31);
+
+  public static Struct plus(Struct localDateTime, long years, long months, long days, long seconds, long nanos) {
+    Struct date = (Struct)localDateTime.get(DateTimeSchemas.LOCALDATETIME_LOCALDATE_FIELD);
+    Struct time = (Struct)localDateTime.get(DateTimeSchemas.LOCALDATETIME_LOCALTIME_FIELD);
+    long year = (Integer)date.get(DateTimeSchemas.LOCALDATE_YEAR_FIELD);
+    int month = (Integer)date.get(DateTimeSchemas.LOCALDATE_MONTH_FIELD);
+    int day = (Integer)date.get(DateTimeSchemas.LOCALDATE_DAY_FIELD);
+    int hour = (Integer)time.get(DateTimeSchemas.LOCALTIME_HOUR_FIELD);
+    int minute = (Integer)time.get(DateTimeSchemas.LOCALTIME_MINUTE_FIELD);
+    int second = (Integer)time.get(DateTimeSchemas.LOCALTIME_SECOND_FIELD);
+    int nano = (Integer)time.get(DateTimeSchemas.LOCALTIME_NANO_FIELD);
+    if (!CivilDates.isValid(year, month, day) || hour < 0 || hour > 23 || minute < 0 || minute > 59
+        || second < 0 || second > 59 || nano < 0 || nano >= NANOS_PER_SECOND)
+      return null;
+    if (years == 0 && months == 0 && days == 0 && seconds == 0 && nanos == 0)
+      return localDateTime;
+    long epochDay = LocalDateArithmetic.plusToEpochDay(year, month, day, years, months, days);
+    if (epochDay == LocalDateArithmetic.OUT_OF_RANGE)
+      return null;
+    if (seconds == 0 && nanos == 0)
+      return toLocalDateTimeStruct(LocalDateArithmetic.toLocalDateStruct(epochDay),
+          StructsConverter.toLocalTimeStruct(hour, minute, second, nano));
+    long nanoOfDay = hour * NANOS_PER_HOUR + minute * NANOS_PER_MINUTE + second * NANOS_PER_SECOND + nano
+        + Math.floorMod(seconds, SECONDS_PER_DAY) * NANOS_PER_SECOND + Math.floorMod(nanos, NANOS_PER_DAY);
+    long resultEpochDay = epochDay + Math.floorDiv(seconds, SECONDS_PER_DAY) + Math.floorDiv(nanos, NANOS_PER_DAY)
+        + nanoOfDay / NANOS_PER_DAY;
+    if (!isSafeEpochDay(epochDay) || !isSafeEpochDay(resultEpochDay))
+      return null;
+    nanoOfDay %= NANOS_PER_DAY;
+    return toLocalDateTimeStruct(LocalDateArithmetic.toLocalDateStruct(resultEpochDay),
+        LocalTimeArithmetic.toLocalTimeStruct(nanoOfDay));
+  }
+
+  public static Struct plus(Struct localDateTime, Struct period, Struct duration) {
+    return plus(localDateTime, period, duration, 1);
+  }
+
+  public static Struct minus(Struct localDateTime, Struct period, Struct duration) {
+    return plus(localDateTime, period, duration, -1);
+  }
+
+  //a period adds its total months at once unless it has no months in which case it adds the years
+  static Struct plus(Struct localDateTime, Struct period, Struct duration, int sign) {
+    long years = (Integer)period.get(DateTimeSchemas.PERIOD_YEARS_FIELD);
+    long months = (Integer)period.get(DateTimeSchemas.PERIOD_MONTHS_FIELD);
+    long days = (Integer)period.get(DateTimeSchemas.PERIOD_DAYS_FIELD);
+    long seconds = (Long)duration.get(DateTimeSchemas.DURATION_SECONDS_FIELD);
+    long nanos = (Integer)duration.get(DateTimeSchemas.DURATION_NANOS_FIELD);
+    if (seconds == Long.MIN_VALUE)
+      return null;
+    return months == 0
+        ? plus(localDateTime, sign * years, 0, sign * days, sign * seconds, sign * nanos)
+        : plus(localDateTime, 0, sign * (years * 12 + months), sign * days, sign * seconds, sign * nanos);
+  }
+
+  private static boolean isSafeEpochDay(long epochDay) {
+    return epochDay >= MIN_SAFE_EPOCH_DAY && epochDay <= MAX_SAFE_EPOCH_DAY;
+  }
+
+  private static Struct toLocalDateTimeStruct(Struct date, Struct time) {
+    return new Struct(DateTimeSchemas.LOCALDATETIME_SCHEMA)
+        .put(DateTimeSchemas.LOCALDATETIME_LOCALDATE_FIELD, date)
+        .put(DateTimeSchemas.LOCALDATETIME_LOCALTIME_FIELD, time);
+  }
+
+}
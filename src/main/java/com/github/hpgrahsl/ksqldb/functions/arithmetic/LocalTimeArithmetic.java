@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.arithmetic;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import org.apache.kafka.connect.data.Struct;
+
+/*
+ * local time arithmetic on the nano of day of local time structs. every plus/minus method of LocalTime
+ * wraps around midnight so any combination of them is a single addition modulo the nanos per day and
+ * the duration between two local times is the difference of their nanos of day.
+ * null is returned whenever the fields of a local time or a duration are invalid or not normalized in
+ * which case the callers fall back to the java.time calls which report the error
+ */
+public class LocalTimeArithmetic {
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  private static final long NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND;
+  private static final long NANOS_PER_HOUR = 60 * NANOS_PER_MINUTE;
+  private static final long NANOS_PER_DAY = 24 * NANOS_PER_HOUR;
+  private static final long INVALID = -1L;
+
+  public static Struct plus(Struct localTime, long hours, long minutes, long seconds, long nanos) {
+    long nanoOfDay = toNanoOfDay(localTime);
+    if (nanoOfDay == INVALID)
+      return null;
+    if (hours == 0 && minutes == 0 && seconds == 0 && nanos == 0)
+      return localTime;
+    return toLocalTimeStruct(Math.floorMod(nanoOfDay
+        + Math.floorMod(hours, 24L) * NANOS_PER_HOUR
+        + Math.floorMod(minutes, 1_440L) * NANOS_PER_MINUTE
+        + Math.floorMod(seconds, 86_400L) * NANOS_PER_SECOND
+        + Math.floorMod(nanos, NANOS_PER_DAY), NANOS_PER_DAY));
+  }
+
+  public static Struct plus(Struct localTime, Struct duration) {
+    return plus(localTime, duration, 1);
+  }
+
+  public static Struct minus(Struct localTime, Struct duration) {
+    return plus(localTime, duration, -1);
+  }
+
+  private static Struct plus(Struct localTime, Struct duration, int sign) {
+    long nanoOfDay = toNanoOfDay(localTime);
+    long nanos = nanosOfDay(duration);
+    if (nanoOfDay == INVALID || nanos == INVALID)
+      return null;
+    return nanos != 0 ? toLocalTimeStruct(Math.floorMod(nanoOfDay + sign * nanos, NANOS_PER_DAY)) : localTime;
+  }
+
+  public static Struct between(Struct from, Struct to) {
+    return between(from, toNanoOfDay(to));
+  }
+
+  public static Struct between(Struct from, long toNanoOfDay) {
+    long fromNanoOfDay = toNanoOfDay(from);
+    if (fromNanoOfDay == INVALID || toNanoOfDay == INVALID)
+      return null;
+    long nanos = toNanoOfDay - fromNanoOfDay;
+    return StructsConverter.toDurationStruct(Math.floorDiv(nanos, NANOS_PER_SECOND),
+        (int)Math.floorMod(nanos, NANOS_PER_SECOND));
+  }
+
+  //expects a valid nano of day
+  static Struct toLocalTimeStruct(long nanoOfDay) {
+    return StructsConverter.toLocalTimeStruct(
+        (int)(nanoOfDay / NANOS_PER_HOUR),
+        (int)(nanoOfDay / NANOS_PER_MINUTE % 60),
+        (int)(nanoOfDay / NANOS_PER_SECOND % 60),
+        (int)(nanoOfDay % NANOS_PER_SECOND));
+  }
+
+  private static long toNanoOfDay(Struct localTime) {
+    int hour = (Integer)localTime.get(DateTimeSchemas.LOCALTIME_HOUR_FIELD);
+    int minute = (Integer)localTime.get(DateTimeSchemas.LOCALTIME_MINUTE_FIELD);
+    int second = (Integer)localTime.get(DateTimeSchemas.LOCALTIME_SECOND_FIELD);
+    int nano = (Integer)localTime.get(DateTimeSchemas.LOCALTIME_NANO_FIELD);
+    if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59
+        || nano < 0 || nano >= NANOS_PER_SECOND)
+      return INVALID;
+    return hour * NANOS_PER_HOUR + minute * NANOS_PER_MINUTE + second * NANOS_PER_SECOND + nano;
+  }
+
+  //the duration modulo one day, only normalized durations are handled since others may overflow
+  private static long nanosOfDay(Struct duration) {
+    long seconds = (Long)duration.get(DateTimeSchemas.DURATION_SECONDS_FIELD);
+    int nanos = (Integer)duration.get(DateTimeSchemas.DURATION_NANOS_FIELD);
+    if (nanos < 0 || nanos >= NANOS_PER_SECOND)
+      return INVALID;
+    return Math.floorMod(seconds, 86_400L) * NANOS_PER_SECOND + nanos;
+  }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.arithmetic;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import org.apache.kafka.connect.data.Struct;
+
+/*
+ * the arithmetic of offset datetimes happens on their local datetime while the offset is kept as is,
+ * null is returned in the same cases as for LocalDateTimeArithmetic or if the offset is invalid
+ */
+public class OffsetDateTimeArithmetic {
+
+  private static final int MAX_OFFSET_SECONDS = 18 * 3_600;
+
+  public static Struct plus(Struct offsetDateTime, long years, long months, long days, long seconds, long nanos) {
+    int totalSeconds = totalSeconds(offsetDateTime);
+    if (!isValid(totalSeconds))
+      return null;
+    Struct base = (Struct)offsetDateTime.get(DateTimeSchemas.OFFSETDATETIME_DATETIME_FIELD);
+    return toOffsetDateTimeStruct(offsetDateTime, base,
+        LocalDateTimeArithmetic.plus(base, years, months, days, seconds, nanos), totalSeconds);
+  }
+
+  public static Struct plus(Struct offsetDateTime, Struct period, Struct duration) {
+    return plus(offsetDateTime, period, duration, 1);
+  }
+
+  public static Struct minus(Struct offsetDateTime, Struct period, Struct duration) {
+    return plus(offsetDateTime, period, duration, -1);
+  }
+
+  private static Struct plus(Struct offsetDateTime, Struct period, Struct duration, int sign) {
+    int totalSeconds = totalSeconds(offsetDateTime);
+    if (!isValid(totalSeconds))
+      return null;
+    Struct base = (Struct)offsetDateTime.get(DateTimeSchemas.OFFSETDATETIME_DATETIME_FIELD);
+    return toOffsetDateTimeStruct(offsetDateTime, base,
+        LocalDateTimeArithmetic.plus(base, period, duration, sign), totalSeconds);
+  }
+
+  private static int totalSeconds(Struct offsetDateTime) {
+    return (Integer)((Struct)offsetDateTime.get(DateTimeSchemas.OFFSETDATETIME_OFFSET_FIELD))
+        .get(DateTimeSchemas.ZONEOFFSET_TOTALSECONDS_FIELD);
+  }
+
+  private static boolean isValid(int totalSeconds) {
+    return totalSeconds >= -MAX_OFFSET_SECONDS && totalSeconds <= MAX_OFFSET_SECONDS;
+  }
+
+  //the offset struct of the input is based on the schema of the caller (e.g. the one ksqlDB derives from
+  //the function signature) and thus cannot be nested into a struct of the DateTimeSchemas
+  private static Struct toOffsetDateTimeStruct(Struct offsetDateTime, Struct base, Struct result, int totalSeconds) {
+    if (result == null)
+      return null;
+    if (result == base)
+      return offsetDateTime;
+    return new Struct(DateTimeSchemas.OFFSETDATETIME_SCHEMA)
+        .put(DateTimeSchemas.OFFSETDATETIME_DATETIME_FIELD, result)
+        .put(DateTimeSchemas.OFFSETDATETIME_OFFSET_FIELD, StructsConverter.toZoneOffsetStruct(totalSeconds));
+  }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.arithmetic;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import java.util.List;
+import org.apache.kafka.connect.data.Struct;
+
+/*
+ * period arithmetic on the years, months and days of period structs with the same overflow checks
+ * as the Period methods do. results which equal the base are returned as the base struct itself
+ */
+public class PeriodArithmetic {
+
+  public static Struct plus(Struct base, Struct add) {
+    return StructsConverter.toPeriodStruct(
+        Math.addExact(years(base), years(add)),
+        Math.addExact(months(base), months(add)),
+        Math.addExact(days(base), days(add)));
+  }
+
+  public static Struct plus(Struct base, List<Struct> adds) {
+    int years = years(base);
+    int months = months(base);
+    int days = days(base);
+    for (Struct add : adds) {
+      years = Math.addExact(years, years(add));
+      months = Math.addExact(months, months(add));
+      days = Math.addExact(days, days(add));
+    }
+    return StructsConverter.toPeriodStruct(years, months, days);
+  }
+
+  public static Struct minus(Struct base, Struct subtract) {
+    return StructsConverter.toPeriodStruct(
+        Math.subtractExact(years(base), years(subtract)),
+        Math.subtractExact(months(base), months(subtract)),
+        Math.subtractExact(days(base), days(subtract)));
+  }
+
+  public static Struct minus(Struct base, List<Struct> subtracts) {
+    int years = years(base);
+    int months = months(base);
+    int days = days(base);
+    for (Struct subtract : subtracts) {
+      years = Math.subtractExact(years, years(subtract));
+      months = Math.subtractExact(months, months(subtract));
+      days = Math.subtractExact(days, days(subtract));
+    }
+    return StructsConverter.toPeriodStruct(years, months, days);
+  }
+
+  public static Struct multiply(Struct base, int scalar) {
+    if (scalar == 1)
+      return base;
+    return StructsConverter.toPeriodStruct(
+        Math.multiplyExact(years(base), scalar),
+        Math.multiplyExact(months(base), scalar),
+        Math.multiplyExact(days(base), scalar));
+  }
+
+  //same as Period#normalized which moves whole years out of the months keeping the sign of the total months
+  public static Struct normalize(Struct base) {
+    long totalMonths = years(base) * 12L + months(base);
+    int years = Math.toIntExact(totalMonths / 12);
+    int months = (int)(totalMonths % 12);
+    if (years == years(base) && months == months(base))
+      return base;
+    return StructsConverter.toPeriodStruct(years, months, days(base));
+  }
+
+  private static int years(Struct period) {
+    return (Integer)period.get(DateTimeSchemas.PERIOD_YEARS_FIELD);
+  }
+
+  private static int months(Struct period) {
+    return (Integer)period.get(DateTimeSchemas.PERIOD_MONTHS_FIELD);
+  }
+
+  private static int days(Struct period) {
+    return (Integer)period.get(DateTimeSchemas.PERIOD_DAYS_FIELD);
+  }
+
+}
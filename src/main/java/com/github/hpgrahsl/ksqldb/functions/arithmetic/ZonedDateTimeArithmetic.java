@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.arithmetic;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import com.github.hpgrahsl.ksqldb.functions.structs.ZoneOffsetTable;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import org.apache.kafka.connect.data.Struct;
+
+/*
+ * adds years, months, days, hours, minutes, seconds and nanos to a zoned datetime with exactly the same
+ * result as chaining ZonedDateTime#plusYears ... #plusNanos but without creating a ZonedDateTime per step:
+ * - the date-based amounts are applied on the local time-line one after the other like LocalDateArithmetic
+ *   does. every step keeps the previous offset if it is still valid, otherwise it is re-resolved like
+ *   ZonedDateTime.ofLocal does, both by means of the offset table of the zone
+ * - the time-based amounts are summed up and applied on the instant time-line at once since each of
+ *   them is an exact duration which the chained calls add to the instant of the previous step
+ * the rare cases in which a step falls into a gap (which shifts its local time) or the base is close to
+ * the limits of the supported range are delegated to the chained java.time calls
+ */
+public class ZonedDateTimeArithmetic {
+
+  private static final long SECONDS_PER_DAY = 86_400L;
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  //the time-based amounts of int parameters add up to less than 250k years
+  private static final int MAX_SAFE_YEAR = 999_000_000;
+  private static final long MIN_SAFE_EPOCH_DAY = CivilDates.toEpochDay(-MAX_SAFE_YEAR, 1, 1);
+  private static final long MAX_SAFE_EPOCH_DAY = CivilDates.toEpochDay(MAX_SAFE_YEAR, 12, 31);
+
+  public static Struct plus(Struct zonedDateTime, long years, long months, long days,
+      long hours, long minutes, long seconds, long nanos) {
+    Struct dateTime = (Struct)zonedDateTime.get(DateTimeSchemas.ZONEDDATETIME_DATETIME_FIELD);
+    LocalDateTime base = StructsConverter.fromLocalDateTimeStruct(dateTime);
+    ZoneOffsetTable table = ZoneOffsetTable.of(
+        (String)((Struct)zonedDateTime.get(DateTimeSchemas.ZONEDDATETIME_ZONE_FIELD)).get(DateTimeSchemas.ZONEID_ID_FIELD));
+    ZoneOffset offset = ZoneOffset.ofTotalSeconds((Integer)((Struct)zonedDateTime.get(DateTimeSchemas.ZONEDDATETIME_OFFSET_FIELD))
+        .get(DateTimeSchemas.ZONEOFFSET_TOTALSECONDS_FIELD));
+    long epochDay = CivilDates.toEpochDay(base.getYear(), base.getMonthValue(), base.getDayOfMonth());
+    int secondOfDay = base.toLocalTime().toSecondOfDay();
+    //the base itself is resolved with its offset as preferred offset when it is read from the struct
+    offset = table.localOffset(epochDay * SECONDS_PER_DAY + secondOfDay, offset);
+    if (offset != null && years != 0) {
+      epochDay = plusToEpochDay(epochDay, years, 0, 0);
+      offset = resolve(table, epochDay, secondOfDay, offset);
+    }
+    if (offset != null && months != 0) {
+      epochDay = plusToEpochDay(epochDay, 0, months, 0);
+      offset = resolve(table, epochDay, secondOfDay, offset);
+    }
+    if (offset != null && days != 0) {
+      epochDay = plusToEpochDay(epochDay, 0, 0, days);
+      offset = resolve(table, epochDay, secondOfDay, offset);
+    }
+    if (offset == null || epochDay < MIN_SAFE_EPOCH_DAY || epochDay > MAX_SAFE_EPOCH_DAY)
+      return chained(zonedDateTime, years, months, days, hours, minutes, seconds, nanos);
+    if (hours == 0 && minutes == 0 && seconds == 0 && nanos == 0)
+      return toStruct(LocalDateArithmetic.toLocalDateStruct(epochDay),
+          StructsConverter.toLocalTimeStruct(base.getHour(), base.getMinute(), base.getSecond(), base.getNano()),
+          offset, table);
+    long nanoOfSecond = base.getNano() + Math.floorMod(nanos, NANOS_PER_SECOND);
+    long epochSecond = epochDay * SECONDS_PER_DAY + secondOfDay - offset.getTotalSeconds()
+        + hours * 3_600 + minutes * 60 + seconds + Math.floorDiv(nanos, NANOS_PER_SECOND)
+        + nanoOfSecond / NANOS_PER_SECOND;
+    ZoneOffset resolved = table.offsetAt(epochSecond);
+    long localSecond = epochSecond + resolved.getTotalSeconds();
+    int localSecondOfDay = (int)Math.floorMod(localSecond, SECONDS_PER_DAY);
+    return toStruct(LocalDateArithmetic.toLocalDateStruct(Math.floorDiv(localSecond, SECONDS_PER_DAY)),
+        StructsConverter.toLocalTimeStruct(localSecondOfDay / 3_600, localSecondOfDay / 60 % 60,
+            localSecondOfDay % 60, (int)(nanoOfSecond % NANOS_PER_SECOND)),
+        resolved, table);
+  }
+
+  private static long plusToEpochDay(long epochDay, long years, long months, long days) {
+    long packed = CivilDates.toPackedDate(epochDay);
+    return LocalDateArithmetic.plusToEpochDay(CivilDates.year(packed), CivilDates.month(packed),
+        CivilDates.day(packed), years, months, days);
+  }
+
+  //keeps the previous offset if it is still valid for the local datetime
+  private static ZoneOffset resolve(ZoneOffsetTable table, long epochDay, int secondOfDay, ZoneOffset previous) {
+    return epochDay != LocalDateArithmetic.OUT_OF_RANGE
+        ? table.localOffset(epochDay * SECONDS_PER_DAY + secondOfDay, previous)
+        : null;
+  }
+
+  private static Struct toStruct(Struct date, Struct time, ZoneOffset offset, ZoneOffsetTable table) {
+    return new Struct(DateTimeSchemas.ZONEDDATETIME_SCHEMA)
+        .put(DateTimeSchemas.ZONEDDATETIME_DATETIME_FIELD, new Struct(DateTimeSchemas.LOCALDATETIME_SCHEMA)
+            .put(DateTimeSchemas.LOCALDATETIME_LOCALDATE_FIELD, date)
+            .put(DateTimeSchemas.LOCALDATETIME_LOCALTIME_FIELD, time))
+        .put(DateTimeSchemas.ZONEDDATETIME_OFFSET_FIELD, StructsConverter.toZoneOffsetStruct(offset))
+        .put(DateTimeSchemas.ZONEDDATETIME_ZONE_FIELD, StructsConverter.toZoneIdStruct(table.zone()));
+  }
+
+  static Struct chained(Struct zonedDateTime, long years, long months, long days,
+      long hours, long minutes, long seconds, long nanos) {
+    return StructsConverter.toZonedDateTimeStruct(
+        StructsConverter.fromZonedDateTimeStruct(zonedDateTime)
+            .plusYears(years)
+            .plusMonths(months)
+            .plusDays(days)
+            .plusHours(hours)
+            .plusMinutes(minutes)
+            .plusSeconds(seconds)
+            .plusNanos(nanos)
+    );
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.buckets;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+//calendar-aware buckets which start at local midnight of the first day of the unit (ISO weeks start on monday)
+public enum CalendarBucket {
+  DAY,
+  WEEK,
+  MONTH,
+  QUARTER,
+  YEAR;
+
+  public static final String VALID_UNITS = "'DAY','WEEK','MONTH','QUARTER','YEAR'";
+
+  private static final Map<String, CalendarBucket> LOOKUP = new HashMap<>();
+
+  static {
+    for (CalendarBucket cb : values()) {
+      LOOKUP.put(cb.name(), cb);
+      LOOKUP.put(cb.name().toLowerCase(Locale.ROOT), cb);
+    }
+  }
+
+  //case-insensitive lookup which throws for invalid units
+  public static CalendarBucket of(String unit) {
+    CalendarBucket cb = LOOKUP.get(unit);
+    if (cb == null)
+      cb = LOOKUP.get(unit.toUpperCase(Locale.ROOT));
+    if (cb == null)
+      throw new IllegalArgumentException("calendarUnit '" + unit + "' is invalid - must be one of: " + VALID_UNITS);
+    return cb;
+  }
+
+  public LocalDate floor(LocalDate date) {
+    switch (this) {
+      case DAY:
+        return date;
+      case WEEK:
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+      case MONTH:
+        return date.withDayOfMonth(1);
+      case QUARTER:
+        return LocalDate.of(date.getYear(), (date.getMonthValue() - 1) / 3 * 3 + 1, 1);
+      case YEAR:
+        return date.withDayOfYear(1);
+      default:
+        throw new IllegalStateException("unsupported calendarUnit " + this);
+    }
+  }
+
+}
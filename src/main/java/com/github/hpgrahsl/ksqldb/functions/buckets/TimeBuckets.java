@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.buckets;
+
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import java.math.BigInteger;
+import java.time.DateTimeException;
+import java.time.Instant;
+import org.apache.kafka.connect.data.Struct;
+
+/*
+ * floors points on the instant time-line to the start of fixed-width buckets aligned to an origin.
+ * everything is calculated on the (seconds,nanos) pairs directly with long arithmetic, only
+ * offsets of more than ~292 years from the origin combined with sub-second bucket widths
+ * fall back to BigInteger arithmetic.
+ */
+public class TimeBuckets {
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  private static final BigInteger BIG_NANOS_PER_SECOND = BigInteger.valueOf(NANOS_PER_SECOND);
+
+  public static Struct floorInstant(long seconds, int nanos,
+      long bucketSeconds, int bucketNanos, long originSeconds, int originNanos) {
+    if (bucketSeconds < 0 || (bucketSeconds == 0 && bucketNanos == 0))
+      throw new IllegalArgumentException("the bucket width must be a positive duration");
+    //seconds of instants are within +/- 2^55 so neither the difference nor the borrow can overflow
+    long diffSeconds = seconds - originSeconds;
+    long diffNanos = nanos - originNanos;
+    if (diffNanos < 0) {
+      diffSeconds--;
+      diffNanos += NANOS_PER_SECOND;
+    }
+    try {
+      if (bucketNanos == 0) {
+        //whole second buckets never split the nanos of the offset
+        long floorSeconds = Math.subtractExact(diffSeconds, Math.floorMod(diffSeconds, bucketSeconds));
+        return toInstantStruct(Math.addExact(originSeconds, floorSeconds), originNanos);
+      }
+      long bucket = Math.addExact(Math.multiplyExact(bucketSeconds, NANOS_PER_SECOND), bucketNanos);
+      long diff = Math.addExact(Math.multiplyExact(diffSeconds, NANOS_PER_SECOND), diffNanos);
+      long floor = Math.subtractExact(diff, Math.floorMod(diff, bucket));
+      return toInstantStruct(originSeconds + Math.floorDiv(floor, NANOS_PER_SECOND),
+          originNanos + Math.floorMod(floor, NANOS_PER_SECOND));
+    } catch (ArithmeticException exc) {
+      return floorInstantExact(diffSeconds, diffNanos, bucketSeconds, bucketNanos, originSeconds, originNanos);
+    }
+  }
+
+  private static Struct floorInstantExact(long diffSeconds, long diffNanos,
+      long bucketSeconds, int bucketNanos, long originSeconds, int originNanos) {
+    BigInteger bucket = BigInteger.valueOf(bucketSeconds).multiply(BIG_NANOS_PER_SECOND)
+        .add(BigInteger.valueOf(bucketNanos));
+    BigInteger diff = BigInteger.valueOf(diffSeconds).multiply(BIG_NANOS_PER_SECOND)
+        .add(BigInteger.valueOf(diffNanos));
+    BigInteger floor = diff.subtract(diff.mod(bucket));
+    BigInteger floorNanos = floor.mod(BIG_NANOS_PER_SECOND);
+    BigInteger floorSeconds = floor.subtract(floorNanos).divide(BIG_NANOS_PER_SECOND)
+        .add(BigInteger.valueOf(originSeconds));
+    if (floorSeconds.bitLength() >= Long.SIZE)
+      throw new DateTimeException("Instant exceeds minimum or maximum instant");
+    return toInstantStruct(floorSeconds.longValue(), originNanos + floorNanos.longValue());
+  }
+
+  private static Struct toInstantStruct(long seconds, long nanos) {
+    if (nanos >= NANOS_PER_SECOND) {
+      seconds++;
+      nanos -= NANOS_PER_SECOND;
+    }
+    if (seconds < Instant.MIN.getEpochSecond() || seconds > Instant.MAX.getEpochSecond())
+      throw new DateTimeException("Instant exceeds minimum or maximum instant");
+    return StructsConverter.toInstantStruct(seconds,(int)nanos);
+  }
+
+}
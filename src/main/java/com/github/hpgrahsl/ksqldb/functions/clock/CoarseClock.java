@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.clock;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * clock which only reads the system clock on a background thread every tick and hands out the
+ * cached instant in between, i.e. the current time lags behind by at most one tick. close() stops the
+ * background thread of the clock and all its copies for other zones which then read the system clock directly
+ */
+public class CoarseClock extends Clock implements AutoCloseable {
+
+  private static final class Ticker implements Runnable {
+
+    private final ScheduledExecutorService executor;
+    private volatile Instant now = Instant.now();
+    private volatile boolean stopped;
+
+    private Ticker(ScheduledExecutorService executor) {
+      this.executor = executor;
+    }
+
+    @Override
+    public void run() {
+      now = Instant.now();
+    }
+
+    private Instant now() {
+      return stopped ? Instant.now() : now;
+    }
+
+    private void stop() {
+      stopped = true;
+      executor.shutdownNow();
+    }
+
+  }
+
+  private final Ticker ticker;
+  private final ZoneId zone;
+
+  private CoarseClock(Ticker ticker, ZoneId zone) {
+    this.ticker = ticker;
+    this.zone = zone;
+  }
+
+  public static CoarseClock start(long tickMillis, ZoneId zone) {
+    if (tickMillis < 1)
+      throw new IllegalArgumentException("tick must be at least 1 ms but was " + tickMillis);
+    ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1, r -> {
+      Thread thread = new Thread(r, "dt-coarse-clock");
+      thread.setDaemon(true);
+      return thread;
+    });
+    Ticker ticker = new Ticker(executor);
+    executor.scheduleAtFixedRate(ticker, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    return new CoarseClock(ticker, zone);
+  }
+
+  @Override
+  public ZoneId getZone() {
+    return zone;
+  }
+
+  @Override
+  public Clock withZone(ZoneId zone) {
+    return zone.equals(this.zone) ? this : new CoarseClock(ticker, zone);
+  }
+
+  @Override
+  public Instant instant() {
+    return ticker.now();
+  }
+
+  @Override
+  public long millis() {
+    return ticker.now().toEpochMilli();
+  }
+
+  public boolean isClosed() {
+    return ticker.stopped;
+  }
+
+  @Override
+  public void close() {
+    ticker.stop();
+  }
+
+  @Override
+  public String toString() {
+    return "CoarseClock[" + zone + "]";
+  }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.clock;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+ * the clock which is used by all UDFs referring to the current date/time. it is chosen once by the
+ * JVM system property dt.clock:
+ * - system: the system clock in the zone dt.clock.zone (defaults to the system default zone) which
+ *   is resolved only once instead of for every call
+ * - coarse: the same but the system clock is read every dt.clock.coarse.tick.millis on a background thread
+ * - frozen: always returns the instant dt.clock.frozen.instant (defaults to the startup time) e.g. for replays
+ * tests and replays can swap the clock at runtime by means of use(clock)
+ */
+public class UdfClock {
+
+  public static final String MODE_PROPERTY = "dt.clock";
+  public static final String ZONE_PROPERTY = "dt.clock.zone";
+  public static final String TICK_MILLIS_PROPERTY = "dt.clock.coarse.tick.millis";
+  public static final String FROZEN_INSTANT_PROPERTY = "dt.clock.frozen.instant";
+
+  public static final long DEFAULT_TICK_MILLIS = 10L;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(UdfClock.class);
+
+  private static volatile Clock current = fromSystemProperties();
+
+  public static Clock current() {
+    return current;
+  }
+
+  public static void use(Clock clock) {
+    current = Objects.requireNonNull(clock, "clock");
+  }
+
+  public static Clock of(String mode, ZoneId zone, long tickMillis, Instant frozenAt) {
+    switch (mode.toLowerCase(Locale.ROOT)) {
+      case "system":
+        return Clock.system(zone);
+      case "coarse":
+        return CoarseClock.start(tickMillis, zone);
+      case "frozen":
+        return Clock.fixed(frozenAt, zone);
+      default:
+        throw new IllegalArgumentException("clock mode '" + mode + "' is invalid - must be one of: 'system','coarse','frozen'");
+    }
+  }
+
+  //misconfigurations must not prevent the functions from being loaded so these fall back to the system clock
+  private static Clock fromSystemProperties() {
+    try {
+      String zone = System.getProperty(ZONE_PROPERTY);
+      String frozenAt = System.getProperty(FROZEN_INSTANT_PROPERTY);
+      return of(System.getProperty(MODE_PROPERTY, "system"),
+          zone != null ? ZoneId.of(zone) : ZoneId.systemDefault(),
+          Long.getLong(TICK_MILLIS_PROPERTY, DEFAULT_TICK_MILLIS),
+          frozenAt != null ? Instant.parse(frozenAt) : Instant.now());
+    } catch (IllegalArgumentException | DateTimeException exc) {
+      LOGGER.warn("invalid clock configuration - falling back to the system clock", exc);
+      return Clock.systemDefaultZone();
+    }
+  }
+
+}
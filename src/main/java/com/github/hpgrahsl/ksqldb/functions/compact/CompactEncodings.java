@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.compact;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoField;
+
+/*
+ * compact primitive representations of temporal values:
+ * - Instant as epoch nanos (years 1677 to 2262) or epoch micros (sub-micro precision is truncated)
+ * - LocalDate as epoch day
+ * - LocalTime as nano of day
+ * - LocalDateTime packed into the bit fields year(18, signed) | month(4) | day(5) | hour(5) |
+ *   minute(6) | second(6) | micro(20) which keeps the chronological order of the long values
+ *   (years -131072 to 131071, sub-micro precision is truncated)
+ */
+public class CompactEncodings {
+
+  public static final int MIN_PACKED_YEAR = -(1 << 17);
+  public static final int MAX_PACKED_YEAR = (1 << 17) - 1;
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  private static final long MICROS_PER_SECOND = 1_000_000L;
+  private static final long SECONDS_PER_DAY = 86_400L;
+  private static final long NANOS_PER_DAY = SECONDS_PER_DAY * NANOS_PER_SECOND;
+
+  private static final int YEAR_SHIFT = 46;
+  private static final int MONTH_SHIFT = 42;
+  private static final int DAY_SHIFT = 37;
+  private static final int HOUR_SHIFT = 32;
+  private static final int MINUTE_SHIFT = 26;
+  private static final int SECOND_SHIFT = 20;
+  private static final long MICRO_MASK = (1L << SECOND_SHIFT) - 1;
+
+  public static long toEpochNanos(Instant i) {
+    return Math.addExact(Math.multiplyExact(i.getEpochSecond(), NANOS_PER_SECOND), i.getNano());
+  }
+
+  public static Instant fromEpochNanos(long epochNanos) {
+    return Instant.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND), Math.floorMod(epochNanos, NANOS_PER_SECOND));
+  }
+
+  public static long toEpochMicros(Instant i) {
+    return Math.addExact(Math.multiplyExact(i.getEpochSecond(), MICROS_PER_SECOND), i.getNano() / 1_000);
+  }
+
+  public static Instant fromEpochMicros(long epochMicros) {
+    return Instant.ofEpochSecond(Math.floorDiv(epochMicros, MICROS_PER_SECOND),
+        Math.floorMod(epochMicros, MICROS_PER_SECOND) * 1_000);
+  }
+
+  public static long plusEpochNanos(long epochNanos, Duration d) {
+    return Math.addExact(epochNanos, d.toNanos());
+  }
+
+  public static long minusEpochNanos(long epochNanos, Duration d) {
+    return Math.subtractExact(epochNanos, d.toNanos());
+  }
+
+  public static int toEpochDay(LocalDate ld) {
+    return Math.toIntExact(ld.toEpochDay());
+  }
+
+  public static LocalDate fromEpochDay(int epochDay) {
+    return LocalDate.ofEpochDay(epochDay);
+  }
+
+  public static long toNanoOfDay(LocalTime lt) {
+    return lt.toNanoOfDay();
+  }
+
+  public static LocalTime fromNanoOfDay(long nanoOfDay) {
+    return LocalTime.ofNanoOfDay(nanoOfDay);
+  }
+
+  //wraps around midnight exactly like LocalTime.plus(Duration) does
+  public static long plusNanoOfDay(long nanoOfDay, Duration d) {
+    ChronoField.NANO_OF_DAY.checkValidValue(nanoOfDay);
+    return Math.floorMod(nanoOfDay + nanosOfDay(d), NANOS_PER_DAY);
+  }
+
+  public static long minusNanoOfDay(long nanoOfDay, Duration d) {
+    ChronoField.NANO_OF_DAY.checkValidValue(nanoOfDay);
+    return Math.floorMod(nanoOfDay - nanosOfDay(d), NANOS_PER_DAY);
+  }
+
+  public static long toPacked(LocalDateTime ldt) {
+    int year = ldt.getYear();
+    if (year < MIN_PACKED_YEAR || year > MAX_PACKED_YEAR)
+      throw new DateTimeException("year " + year + " is out of the supported range ["
+          + MIN_PACKED_YEAR + "," + MAX_PACKED_YEAR + "] for packed local datetimes");
+    return (long)year << YEAR_SHIFT
+        | (long)ldt.getMonthValue() << MONTH_SHIFT
+        | (long)ldt.getDayOfMonth() << DAY_SHIFT
+        | (long)ldt.getHour() << HOUR_SHIFT
+        | (long)ldt.getMinute() << MINUTE_SHIFT
+        | (long)ldt.getSecond() << SECOND_SHIFT
+        | ldt.getNano() / 1_000;
+  }
+
+  public static LocalDateTime fromPacked(long packed) {
+    return LocalDateTime.of(
+        (int)(packed >> YEAR_SHIFT),
+        (int)(packed >>> MONTH_SHIFT & 0xF),
+        (int)(packed >>> DAY_SHIFT & 0x1F),
+        (int)(packed >>> HOUR_SHIFT & 0x1F),
+        (int)(packed >>> MINUTE_SHIFT & 0x3F),
+        (int)(packed >>> SECOND_SHIFT & 0x3F),
+        (int)(packed & MICRO_MASK) * 1_000
+    );
+  }
+
+  private static long nanosOfDay(Duration d) {
+    return Math.floorMod(d.getSeconds(), SECONDS_PER_DAY) * NANOS_PER_SECOND + d.getNano();
+  }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.formats;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class DateTimeFormatterCache {
+
+  public static final String CAPACITY_PROPERTY = "dt.formatter.cache.capacity";
+
+  public static final int DEFAULT_CAPACITY = 128;
+
+  private static final DateTimeFormatterCache SHARED =
+      new DateTimeFormatterCache(Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY));
+
+  private final int capacity;
+  //keyed by locale first so that hits can look up the pattern string as is
+  private final ConcurrentMap<Locale, ConcurrentMap<String, Entry>> formatters = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public DateTimeFormatterCache(int capacity) {
+    if (capacity < 1)
+      throw new IllegalArgumentException("capacity must be at least 1 but was " + capacity);
+    this.capacity = capacity;
+  }
+
+  public static DateTimeFormatterCache shared() {
+    return SHARED;
+  }
+
+  public static DateTimeFormatter ofPattern(String pattern) {
+    return SHARED.get(pattern, Locale.getDefault(Locale.Category.FORMAT));
+  }
+
+  public static DateTimeFormatter ofPattern(String pattern, Locale locale) {
+    return SHARED.get(pattern, locale);
+  }
+
+  public DateTimeFormatter get(String pattern, Locale locale) {
+    Objects.requireNonNull(pattern, "pattern");
+    Objects.requireNonNull(locale, "locale");
+    ConcurrentMap<String, Entry> byPattern = formatters.get(locale);
+    if (byPattern != null) {
+      Entry entry = byPattern.get(pattern);
+      if (entry != null) {
+        entry.touch();
+        hits.increment();
+        return entry.formatter;
+      }
+    }
+    misses.increment();
+    //compile before inserting, invalid patterns throw and are never cached
+    Entry created = new Entry(DateTimeFormatter.ofPattern(pattern, locale));
+    if (byPattern == null)
+      byPattern = formatters.computeIfAbsent(locale, l -> new ConcurrentHashMap<>());
+    Entry existing = byPattern.putIfAbsent(pattern, created);
+    if (existing != null)
+      return existing.formatter;
+    if (size() > capacity)
+      evict(created);
+    return created.formatter;
+  }
+
+  /*
+   * second chance eviction which approximates LRU: entries hit since the last sweep only lose
+   * their reference bit, the first one without it gets removed. only inserts ever take the lock.
+   */
+  private synchronized void evict(Entry inserted) {
+    while (size() > capacity) {
+      boolean referenced = false;
+      boolean removed = false;
+      for (Iterator<ConcurrentMap<String, Entry>> maps = formatters.values().iterator();
+          maps.hasNext() && !removed; ) {
+        for (Iterator<Map.Entry<String, Entry>> it = maps.next().entrySet().iterator(); it.hasNext(); ) {
+          Entry entry = it.next().getValue();
+          if (entry == inserted)
+            continue;
+          if (entry.referenced) {
+            entry.referenced = false;
+            referenced = true;
+            continue;
+          }
+          it.remove();
+          removed = true;
+          break;
+        }
+      }
+      if (!removed && !referenced)
+        return;
+    }
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+
+  public int size() {
+    int size = 0;
+    for (ConcurrentMap<String, Entry> byPattern : formatters.values())
+      size += byPattern.size();
+    return size;
+  }
+
+  public long hits() {
+    return hits.sum();
+  }
+
+  public long misses() {
+    return misses.sum();
+  }
+
+  public synchronized void clear() {
+    formatters.clear();
+    hits.reset();
+    misses.reset();
+  }
+
+  private static final class Entry {
+
+    private final DateTimeFormatter formatter;
+    private volatile boolean referenced;
+
+    Entry(DateTimeFormatter formatter) {
+      this.formatter = formatter;
+    }
+
+    void touch() {
+      //only write when the bit flips so that hot entries are read-only
+      if (!referenced)
+        referenced = true;
+    }
+
+  }
+
+}
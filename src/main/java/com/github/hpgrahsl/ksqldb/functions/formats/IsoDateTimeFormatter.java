@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.formats;
+
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.CivilDates;
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import org.apache.kafka.connect.data.Struct;
+
+/*
+ * writes the ISO-8601 representations straight from the struct fields into a reusable per thread
+ * char buffer producing exactly the same output as the corresponding java.time toString() or
+ * DateTimeFormatter#ISO_* formatting while structs holding invalid values take the java.time path
+ * and thereby fail with the very same exceptions
+ */
+public class IsoDateTimeFormatter {
+
+  private static final int BUFFER_SIZE = 128;
+  private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[BUFFER_SIZE]);
+
+  private static final int NANOS_PER_SECOND = 1_000_000_000;
+  private static final int SECONDS_PER_DAY = 86_400;
+  private static final int MAX_OFFSET_SECONDS = 18 * 3_600;
+  private static final int MAX_YEAR = 999_999_999;
+  private static final long MIN_INSTANT_SECONDS = -62_167_219_200L;
+  private static final long MAX_INSTANT_SECONDS = 253_402_300_799L;
+  private static final int[] DAYS_IN_MONTH = {0, 31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+  public static String formatInstant(Struct instant) {
+    long seconds = (Long)instant.get(DateTimeSchemas.INSTANT_SECONDS_FIELD);
+    int nanos = (Integer)instant.get(DateTimeSchemas.INSTANT_NANOS_FIELD);
+    //only years 0000 to 9999 are written directly since java.time uses special expanded forms otherwise
+    if (nanos < 0 || nanos >= NANOS_PER_SECOND
+        || seconds < MIN_INSTANT_SECONDS || seconds > MAX_INSTANT_SECONDS)
+      return StructsConverter.fromInstantStruct(instant).toString();
+    char[] buf = BUFFER.get();
+    long epochDay = Math.floorDiv(seconds, SECONDS_PER_DAY);
+    int secondOfDay = Math.floorMod(seconds, SECONDS_PER_DAY);
+    int pos = writeEpochDay(buf, 0, epochDay);
+    buf[pos++] = 'T';
+    pos = write2Digits(buf, pos, secondOfDay / 3_600);
+    buf[pos++] = ':';
+    pos = write2Digits(buf, pos, secondOfDay / 60 % 60);
+    buf[pos++] = ':';
+    pos = write2Digits(buf, pos, secondOfDay % 60);
+    if (nanos != 0) {
+      buf[pos++] = '.';
+      if (nanos % 1_000_000 == 0) {
+        pos = writeDigits(buf, pos, nanos / 1_000_000, 3);
+      } else if (nanos % 1_000 == 0) {
+        pos = writeDigits(buf, pos, nanos / 1_000, 6);
+      } else {
+        pos = writeDigits(buf, pos, nanos, 9);
+      }
+    }
+    buf[pos++] = 'Z';
+    return new String(buf, 0, pos);
+  }
+
+  public static String formatDuration(Struct duration) {
+    long seconds = Math.addExact((Long)duration.get(DateTimeSchemas.DURATION_SECONDS_FIELD),
+        Math.floorDiv((Integer)duration.get(DateTimeSchemas.DURATION_NANOS_FIELD), NANOS_PER_SECOND));
+    int nanos = Math.floorMod((Integer)duration.get(DateTimeSchemas.DURATION_NANOS_FIELD), NANOS_PER_SECOND);
+    if (seconds == 0 && nanos == 0)
+      return "PT0S";
+    //same calculation as done by Duration.toString()
+    long effectiveTotalSeconds = seconds < 0 && nanos > 0 ? seconds + 1 : seconds;
+    long hours = effectiveTotalSeconds / 3_600;
+    int minutes = (int)(effectiveTotalSeconds % 3_600 / 60);
+    int secs = (int)(effectiveTotalSeconds % 60);
+    char[] buf = BUFFER.get();
+    buf[0] = 'P';
+    buf[1] = 'T';
+    int pos = 2;
+    if (hours != 0) {
+      pos = writeLong(buf, pos, hours);
+      buf[pos++] = 'H';
+    }
+    if (minutes != 0) {
+      pos = writeLong(buf, pos, minutes);
+      buf[pos++] = 'M';
+    }
+    if (secs == 0 && nanos == 0)
+      return new String(buf, 0, pos);
+    if (seconds < 0 && nanos > 0 && secs == 0) {
+      buf[pos++] = '-';
+      buf[pos++] = '0';
+    } else {
+      pos = writeLong(buf, pos, secs);
+    }
+    if (nanos > 0) {
+      buf[pos++] = '.';
+      pos = writeDigits(buf, pos, seconds < 0 ? NANOS_PER_SECOND - nanos : nanos, 9);
+      while (buf[pos - 1] == '0')
+        pos--;
+    }
+    buf[pos++] = 'S';
+    return new String(buf, 0, pos);
+  }
+
+  public static String formatPeriod(Struct period) {
+    int years = (Integer)period.get(DateTimeSchemas.PERIOD_YEARS_FIELD);
+    int months = (Integer)period.get(DateTimeSchemas.PERIOD_MONTHS_FIELD);
+    int days = (Integer)period.get(DateTimeSchemas.PERIOD_DAYS_FIELD);
+    if (years == 0 && months == 0 && days == 0)
+      return "P0D";
+    char[] buf = BUFFER.get();
+    buf[0] = 'P';
+    int pos = 1;
+    if (years != 0) {
+      pos = writeLong(buf, pos, years);
+      buf[pos++] = 'Y';
+    }
+    if (months != 0) {
+      pos = writeLong(buf, pos, months);
+      buf[pos++] = 'M';
+    }
+    if (days != 0) {
+      pos = writeLong(buf, pos, days);
+      buf[pos++] = 'D';
+    }
+    return new String(buf, 0, pos);
+  }
+
+  public static String formatLocalDate(Struct localDate) {
+    //rejects invalid values with the same exception as the java.time path
+    if (!isValidLocalDate(localDate))
+      StructsConverter.fromLocalDateStruct(localDate);
+    char[] buf = BUFFER.get();
+    return new String(buf, 0, writeLocalDate(buf, 0, localDate));
+  }
+
+  public static String formatLocalTime(Struct localTime) {
+    if (!isValidLocalTime(localTime))
+      StructsConverter.fromLocalTimeStruct(localTime);
+    char[] buf = BUFFER.get();
+    return new String(buf, 0, writeLocalTime(buf, 0, localTime));
+  }
+
+  public static String formatLocalDateTime(Struct localDateTime) {
+    Struct localDate = (Struct)localDateTime.get(DateTimeSchemas.LOCALDATETIME_LOCALDATE_FIELD);
+    Struct localTime = (Struct)localDateTime.get(DateTimeSchemas.LOCALDATETIME_LOCALTIME_FIELD);
+    if (!isValidLocalDate(localDate) || !isValidLocalTime(localTime))
+      StructsConverter.fromLocalDateTimeStruct(localDateTime);
+    char[] buf = BUFFER.get();
+    return new String(buf, 0, writeLocalDateTime(buf, 0, localDate, localTime));
+  }
+
+  public static String formatOffsetDateTime(Struct offsetDateTime) {
+    Struct localDateTime = (Struct)offsetDateTime.get(DateTimeSchemas.OFFSETDATETIME_DATETIME_FIELD);
+    Struct localDate = (Struct)localDateTime.get(DateTimeSchemas.LOCALDATETIME_LOCALDATE_FIELD);
+    Struct localTime = (Struct)localDateTime.get(DateTimeSchemas.LOCALDATETIME_LOCALTIME_FIELD);
+    int offsetSeconds = (Integer)((Struct)offsetDateTime.get(DateTimeSchemas.OFFSETDATETIME_OFFSET_FIELD))
+        .get(DateTimeSchemas.ZONEOFFSET_TOTALSECONDS_FIELD);
+    if (!isValidLocalDate(localDate) || !isValidLocalTime(localTime) || Math.abs(offsetSeconds) > MAX_OFFSET_SECONDS)
+      StructsConverter.fromOffsetDateTimeStruct(offsetDateTime);
+    char[] buf = BUFFER.get();
+    int pos = writeLocalDateTime(buf, 0, localDate, localTime);
+    return new String(buf, 0, writeOffset(buf, pos, offsetSeconds));
+  }
+
+  public static String formatZonedDateTime(Struct zonedDateTime) {
+    //the zone rules might adjust the local datetime and offset so they need to be resolved first
+    ZonedDateTime zdt = StructsConverter.fromZonedDateTimeStruct(zonedDateTime);
+    String zoneId = zdt.getZone() instanceof ZoneOffset ? null : zdt.getZone().getId();
+    char[] buf = BUFFER.get();
+    if (zoneId != null && zoneId.length() + 64 > buf.length)
+      buf = new char[zoneId.length() + 64];
+    int pos = writeDate(buf, 0, zdt.getYear(), zdt.getMonthValue(), zdt.getDayOfMonth());
+    buf[pos++] = 'T';
+    pos = writeTime(buf, pos, zdt.getHour(), zdt.getMinute(), zdt.getSecond(), zdt.getNano());
+    pos = writeOffset(buf, pos, zdt.getOffset().getTotalSeconds());
+    if (zoneId != null) {
+      buf[pos++] = '[';
+      zoneId.getChars(0, zoneId.length(), buf, pos);
+      pos += zoneId.length();
+      buf[pos++] = ']';
+    }
+    return new String(buf, 0, pos);
+  }
+
+  private static int writeLocalDateTime(char[] buf, int pos, Struct localDate, Struct localTime) {
+    pos = writeLocalDate(buf, pos, localDate);
+    buf[pos++] = 'T';
+    return writeLocalTime(buf, pos, localTime);
+  }
+
+  private static int writeLocalDate(char[] buf, int pos, Struct localDate) {
+    return writeDate(buf, pos,
+        (Integer)localDate.get(DateTimeSchemas.LOCALDATE_YEAR_FIELD),
+        (Integer)localDate.get(DateTimeSchemas.LOCALDATE_MONTH_FIELD),
+        (Integer)localDate.get(DateTimeSchemas.LOCALDATE_DAY_FIELD));
+  }
+
+  private static int writeLocalTime(char[] buf, int pos, Struct localTime) {
+    return writeTime(buf, pos,
+        (Integer)localTime.get(DateTimeSchemas.LOCALTIME_HOUR_FIELD),
+        (Integer)localTime.get(DateTimeSchemas.LOCALTIME_MINUTE_FIELD),
+        (Integer)localTime.get(DateTimeSchemas.LOCALTIME_SECOND_FIELD),
+        (Integer)localTime.get(DateTimeSchemas.LOCALTIME_NANO_FIELD));
+  }
+
+  private static int writeEpochDay(char[] buf, int pos, long epochDay) {
+    long packed = CivilDates.toPackedDate(epochDay);
+    return writeDate(buf, pos, (int)CivilDates.year(packed), CivilDates.month(packed), CivilDates.day(packed));
+  }
+
+  //ISO_LOCAL_DATE pads years to 4 digits and requires a sign for years beyond 9999
+  private static int writeDate(char[] buf, int pos, int year, int month, int day) {
+    if (year > 9_999) {
+      buf[pos++] = '+';
+      pos = writeLong(buf, pos, year);
+    } else if (year < 0) {
+      buf[pos++] = '-';
+      pos = year > -10_000 ? writeDigits(buf, pos, -year, 4) : writeLong(buf, pos, -(long)year);
+    } else {
+      pos = writeDigits(buf, pos, year, 4);
+    }
+    buf[pos++] = '-';
+    pos = write2Digits(buf, pos, month);
+    buf[pos++] = '-';
+    return write2Digits(buf, pos, day);
+  }
+
+  //ISO_LOCAL_TIME always writes seconds and the fraction without trailing zeros
+  private static int writeTime(char[] buf, int pos, int hour, int minute, int second, int nano) {
+    pos = write2Digits(buf, pos, hour);
+    buf[pos++] = ':';
+    pos = write2Digits(buf, pos, minute);
+    buf[pos++] = ':';
+    pos = write2Digits(buf, pos, second);
+    if (nano != 0) {
+      buf[pos++] = '.';
+      pos = writeDigits(buf, pos, nano, 9);
+      while (buf[pos - 1] == '0')
+        pos--;
+    }
+    return pos;
+  }
+
+  private static int writeOffset(char[] buf, int pos, int totalSeconds) {
+    if (totalSeconds == 0) {
+      buf[pos++] = 'Z';
+      return pos;
+    }
+    int absSeconds = Math.abs(totalSeconds);
+    buf[pos++] = totalSeconds < 0 ? '-' : '+';
+    pos = write2Digits(buf, pos, absSeconds / 3_600);
+    buf[pos++] = ':';
+    pos = write2Digits(buf, pos, absSeconds / 60 % 60);
+    if (absSeconds % 60 != 0) {
+      buf[pos++] = ':';
+      pos = write2Digits(buf, pos, absSeconds % 60);
+    }
+    return pos;
+  }
+
+  private static int write2Digits(char[] buf, int pos, int value) {
+    buf[pos] = (char)('0' + value / 10);
+    buf[pos + 1] = (char)('0' + value % 10);
+    return pos + 2;
+  }
+
+  //writes the non-negative value left padded with zeros to the given number of digits
+  private static int writeDigits(char[] buf, int pos, int value, int digits) {
+    for (int i = pos + digits - 1; i >= pos; i--) {
+      buf[i] = (char)('0' + value % 10);
+      value /= 10;
+    }
+    return pos + digits;
+  }
+
+  private static int writeLong(char[] buf, int pos, long value) {
+    if (value < 0) {
+      buf[pos++] = '-';
+    } else {
+      value = -value;
+    }
+    //works on the negative value to also cover Long.MIN_VALUE
+    int digits = 1;
+    for (long v = value; v <= -10; v /= 10)
+      digits++;
+    for (int i = pos + digits - 1; i >= pos; i--) {
+      buf[i] = (char)('0' - value % 10);
+      value /= 10;
+    }
+    return pos + digits;
+  }
+
+  private static boolean isValidLocalDate(Struct localDate) {
+    int year = (Integer)localDate.get(DateTimeSchemas.LOCALDATE_YEAR_FIELD);
+    int month = (Integer)localDate.get(DateTimeSchemas.LOCALDATE_MONTH_FIELD);
+    int day = (Integer)localDate.get(DateTimeSchemas.LOCALDATE_DAY_FIELD);
+    if (year < -MAX_YEAR || year > MAX_YEAR || month < 1 || month > 12 || day < 1 || day > DAYS_IN_MONTH[month])
+      return false;
+    return month != 2 || day != 29 || (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  private static boolean isValidLocalTime(Struct localTime) {
+    int hour = (Integer)localTime.get(DateTimeSchemas.LOCALTIME_HOUR_FIELD);
+    int minute = (Integer)localTime.get(DateTimeSchemas.LOCALTIME_MINUTE_FIELD);
+    int second = (Integer)localTime.get(DateTimeSchemas.LOCALTIME_SECOND_FIELD);
+    int nano = (Integer)localTime.get(DateTimeSchemas.LOCALTIME_NANO_FIELD);
+    return hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59 && second >= 0 && second <= 59
+        && nano >= 0 && nano < NANOS_PER_SECOND;
+  }
+
+}
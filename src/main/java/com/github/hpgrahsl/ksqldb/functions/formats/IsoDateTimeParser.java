@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.formats;
+
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.CivilDates;
+import com.github.hpgrahsl.ksqldb.functions.structs.ZoneIdCache;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+import java.util.regex.Pattern;
+
+/*
+ * scans the strict ISO-8601 shapes (4 digit years, upper case separators, 1 to 9 fraction digits,
+ * 'Z' or +/-hh:mm[:ss] offsets) by hand and falls back to the java.time parsers for anything else
+ * which also takes care of raising the proper DateTimeParseException for invalid input.
+ * the ...OrNull variants accept exactly the same strings but return null for invalid input instead. they
+ * reject anything which is syntactically malformed without creating an exception at all.
+ */
+public class IsoDateTimeParser {
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  private static final long NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND;
+  private static final long NANOS_PER_HOUR = 60 * NANOS_PER_MINUTE;
+  private static final int SECONDS_PER_DAY = 86_400;
+  private static final int MAX_OFFSET_SECONDS = 18 * 3_600;
+  private static final int[] FRACTION_SCALE =
+      {0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1};
+
+  //the same patterns which are applied by Duration.parse and Period.parse
+  private static final Pattern DURATION_PATTERN = Pattern.compile("[-+]?P(?:[-+]?[0-9]+D)?"
+      + "(?:T(?:[-+]?[0-9]+H)?(?:[-+]?[0-9]+M)?(?:[-+]?[0-9]+(?:[.,][0-9]{0,9})?S)?)?", Pattern.CASE_INSENSITIVE);
+  private static final Pattern PERIOD_PATTERN = Pattern.compile(
+      "[-+]?P(?:[-+]?[0-9]+Y)?(?:[-+]?[0-9]+M)?(?:[-+]?[0-9]+W)?(?:[-+]?[0-9]+D)?", Pattern.CASE_INSENSITIVE);
+  //Z, +h, +hh, +hhmm, +hh:mm, +hhmmss or +hh:mm:ss as accepted by ZoneOffset.of
+  private static final Pattern OFFSET_PATTERN =
+      Pattern.compile("Z|[+-](?:[0-9]|[0-9]{2}(?:[0-9]{2}(?:[0-9]{2})?|:[0-9]{2}(?::[0-9]{2})?)?)");
+
+  private static final int DATE_LENGTH = 10;
+  private static final int TIME_START = DATE_LENGTH + 1;
+
+  public static Instant parseInstant(String text) {
+    Instant parsed = tryParseInstant(text);
+    return parsed != null ? parsed : Instant.parse(text);
+  }
+
+  public static LocalDate parseLocalDate(String text) {
+    LocalDate parsed = tryParseLocalDate(text);
+    return parsed != null ? parsed : LocalDate.parse(text);
+  }
+
+  public static LocalTime parseLocalTime(String text) {
+    LocalTime parsed = tryParseLocalTime(text);
+    return parsed != null ? parsed : LocalTime.parse(text);
+  }
+
+  public static LocalDateTime parseLocalDateTime(String text) {
+    LocalDateTime parsed = tryParseLocalDateTime(text);
+    return parsed != null ? parsed : LocalDateTime.parse(text);
+  }
+
+  public static OffsetDateTime parseOffsetDateTime(String text) {
+    OffsetDateTime parsed = tryParseOffsetDateTime(text);
+    return parsed != null ? parsed : OffsetDateTime.parse(text);
+  }
+
+  public static ZonedDateTime parseZonedDateTime(String text) {
+    ZonedDateTime parsed = tryParseZonedDateTime(text);
+    return parsed != null ? parsed : ZonedDateTime.parse(text);
+  }
+
+  public static Instant parseInstantOrNull(String text) {
+    Instant parsed = tryParseInstant(text);
+    return parsed != null ? parsed : parseOrNull(text, DateTimeFormatter.ISO_INSTANT, Instant::from);
+  }
+
+  public static LocalDate parseLocalDateOrNull(String text) {
+    LocalDate parsed = tryParseLocalDate(text);
+    return parsed != null ? parsed : parseOrNull(text, DateTimeFormatter.ISO_LOCAL_DATE, LocalDate::from);
+  }
+
+  public static LocalTime parseLocalTimeOrNull(String text) {
+    LocalTime parsed = tryParseLocalTime(text);
+    return parsed != null ? parsed : parseOrNull(text, DateTimeFormatter.ISO_LOCAL_TIME, LocalTime::from);
+  }
+
+  public static LocalDateTime parseLocalDateTimeOrNull(String text) {
+    LocalDateTime parsed = tryParseLocalDateTime(text);
+    return parsed != null ? parsed : parseOrNull(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME, LocalDateTime::from);
+  }
+
+  public static OffsetDateTime parseOffsetDateTimeOrNull(String text) {
+    OffsetDateTime parsed = tryParseOffsetDateTime(text);
+    return parsed != null ? parsed : parseOrNull(text, DateTimeFormatter.ISO_OFFSET_DATE_TIME, OffsetDateTime::from);
+  }
+
+  public static ZonedDateTime parseZonedDateTimeOrNull(String text) {
+    ZonedDateTime parsed = tryParseZonedDateTime(text);
+    return parsed != null ? parsed : parseOrNull(text, DateTimeFormatter.ISO_ZONED_DATE_TIME, ZonedDateTime::from);
+  }
+
+  public static Duration parseDurationOrNull(String text) {
+    if (!DURATION_PATTERN.matcher(text).matches())
+      return null;
+    try {
+      //only matching strings without any amount (e.g. PT) or with overflowing amounts end up here
+      return Duration.parse(text);
+    } catch (DateTimeException exc) {
+      return null;
+    }
+  }
+
+  public static Period parsePeriodOrNull(String text) {
+    if (!PERIOD_PATTERN.matcher(text).matches())
+      return null;
+    try {
+      return Period.parse(text);
+    } catch (DateTimeException exc) {
+      return null;
+    }
+  }
+
+  public static ZoneOffset parseZoneOffsetOrNull(String text) {
+    if (!OFFSET_PATTERN.matcher(text).matches())
+      return null;
+    if (text.length() == 1)
+      return ZoneOffset.UTC;
+    String fields = text.substring(1).replace(":", "");
+    int hours = digits(fields, 0, Math.min(2, fields.length()));
+    int minutes = fields.length() > 2 ? digits(fields, 2, 2) : 0;
+    int seconds = fields.length() > 4 ? digits(fields, 4, 2) : 0;
+    int totalSeconds = hours * 3_600 + minutes * 60 + seconds;
+    if (minutes > 59 || seconds > 59 || totalSeconds > MAX_OFFSET_SECONDS)
+      return null;
+    return ZoneOffset.ofTotalSeconds(text.charAt(0) == '-' ? -totalSeconds : totalSeconds);
+  }
+
+  static Instant tryParseInstant(String text) {
+    int length = text.length();
+    if (length < TIME_START + 9 || text.charAt(DATE_LENGTH) != 'T' || text.charAt(length - 1) != 'Z')
+      return null;
+    LocalDate date = scanDate(text);
+    //contrary to the other ISO formats seconds are mandatory for instants
+    long nanoOfDay = scanTime(text, TIME_START, length - 1, true);
+    if (date == null || nanoOfDay < 0)
+      return null;
+    return Instant.ofEpochSecond(date.toEpochDay() * SECONDS_PER_DAY + nanoOfDay / NANOS_PER_SECOND,
+        nanoOfDay % NANOS_PER_SECOND);
+  }
+
+  static LocalDate tryParseLocalDate(String text) {
+    return text.length() == DATE_LENGTH ? scanDate(text) : null;
+  }
+
+  static LocalTime tryParseLocalTime(String text) {
+    long nanoOfDay = scanTime(text, 0, text.length(), false);
+    return nanoOfDay >= 0 ? LocalTime.ofNanoOfDay(nanoOfDay) : null;
+  }
+
+  static LocalDateTime tryParseLocalDateTime(String text) {
+    return scanDateTime(text, text.length());
+  }
+
+  static OffsetDateTime tryParseOffsetDateTime(String text) {
+    int offsetStart = offsetStart(text, text.length());
+    if (offsetStart < 0)
+      return null;
+    LocalDateTime dateTime = scanDateTime(text, offsetStart);
+    ZoneOffset offset = scanOffset(text, offsetStart, text.length());
+    return dateTime != null && offset != null ? OffsetDateTime.of(dateTime, offset) : null;
+  }
+
+  static ZonedDateTime tryParseZonedDateTime(String text) {
+    int length = text.length();
+    int offsetEnd = length;
+    if (length > 0 && text.charAt(length - 1) == ']') {
+      offsetEnd = text.lastIndexOf('[');
+      if (offsetEnd < 0)
+        return null;
+    }
+    int offsetStart = offsetStart(text, offsetEnd);
+    if (offsetStart < 0)
+      return null;
+    LocalDateTime dateTime = scanDateTime(text, offsetStart);
+    ZoneOffset offset = scanOffset(text, offsetStart, offsetEnd);
+    if (dateTime == null || offset == null)
+      return null;
+    if (offsetEnd == length)
+      return ZonedDateTime.of(dateTime, offset);
+    ZoneId zone = scanZoneRegion(text.substring(offsetEnd + 1, length - 1));
+    //the same instant based resolution which is applied when parsing with ISO_ZONED_DATE_TIME
+    return zone != null ? ZonedDateTime.ofInstant(dateTime, offset, zone) : null;
+  }
+
+  private static <T> T parseOrNull(String text, DateTimeFormatter formatter, TemporalQuery<T> query) {
+    //parseUnresolved reports syntax errors by means of the position only
+    ParsePosition position = new ParsePosition(0);
+    if (formatter.parseUnresolved(text, position) == null || position.getIndex() != text.length())
+      return null;
+    try {
+      //well-formed strings with invalid field values (e.g. 2019-02-29) are the only ones which throw
+      return formatter.parse(text, query);
+    } catch (DateTimeException exc) {
+      return null;
+    }
+  }
+
+  private static LocalDateTime scanDateTime(String text, int end) {
+    if (end < TIME_START + 5 || text.charAt(DATE_LENGTH) != 'T')
+      return null;
+    LocalDate date = scanDate(text);
+    long nanoOfDay = scanTime(text, TIME_START, end, false);
+    if (date == null || nanoOfDay < 0)
+      return null;
+    return LocalDateTime.of(date, LocalTime.ofNanoOfDay(nanoOfDay));
+  }
+
+  private static LocalDate scanDate(String text) {
+    if (text.charAt(4) != '-' || text.charAt(7) != '-')
+      return null;
+    int year = digits(text, 0, 4);
+    int month = digits(text, 5, 2);
+    int day = digits(text, 8, 2);
+    if (year < 0 || !CivilDates.isValid(year, month, day))
+      return null;
+    return LocalDate.of(year, month, day);
+  }
+
+  //returns the nano of day or -1 if the text isn't of the form HH:mm[:ss[.fffffffff]]
+  private static long scanTime(String text, int start, int end, boolean secondsRequired) {
+    int length = end - start;
+    if (length < 5 || text.charAt(start + 2) != ':')
+      return -1;
+    int hour = digits(text, start, 2);
+    int minute = digits(text, start + 3, 2);
+    if (hour < 0 || hour > 23 || minute < 0 || minute > 59)
+      return -1;
+    long nanoOfDay = hour * NANOS_PER_HOUR + minute * NANOS_PER_MINUTE;
+    if (length == 5)
+      return secondsRequired ? -1 : nanoOfDay;
+    if (length < 8 || text.charAt(start + 5) != ':')
+      return -1;
+    int second = digits(text, start + 6, 2);
+    if (second < 0 || second > 59)
+      return -1;
+    nanoOfDay += second * NANOS_PER_SECOND;
+    if (length == 8)
+      return nanoOfDay;
+    int fractionDigits = length - 9;
+    if (text.charAt(start + 8) != '.' || fractionDigits < 1 || fractionDigits > 9)
+      return -1;
+    int fraction = digits(text, start + 9, fractionDigits);
+    return fraction < 0 ? -1 : nanoOfDay + (long) fraction * FRACTION_SCALE[fractionDigits];
+  }
+
+  private static int offsetStart(String text, int end) {
+    for (int i = end - 1; i > TIME_START; i--) {
+      char c = text.charAt(i);
+      if (c == 'Z' || c == '+' || c == '-')
+        return i;
+    }
+    return -1;
+  }
+
+  private static ZoneOffset scanOffset(String text, int start, int end) {
+    int length = end - start;
+    if (length == 1)
+      return text.charAt(start) == 'Z' ? ZoneOffset.UTC : null;
+    if (length != 6 && length != 9)
+      return null;
+    char sign = text.charAt(start);
+    if (sign != '+' && sign != '-' || text.charAt(start + 3) != ':')
+      return null;
+    int hours = digits(text, start + 1, 2);
+    int minutes = digits(text, start + 4, 2);
+    int seconds = 0;
+    if (length == 9) {
+      if (text.charAt(start + 6) != ':')
+        return null;
+      seconds = digits(text, start + 7, 2);
+    }
+    if (hours < 0 || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 59)
+      return null;
+    int totalSeconds = hours * 3_600 + minutes * 60 + seconds;
+    if (totalSeconds > MAX_OFFSET_SECONDS)
+      return null;
+    return ZoneOffset.ofTotalSeconds(sign == '-' ? -totalSeconds : totalSeconds);
+  }
+
+  private static ZoneId scanZoneRegion(String id) {
+    //prefixed offset based IDs get special treatment by the java.time parser
+    if (id.startsWith("UT") || id.startsWith("GMT"))
+      return null;
+    try {
+      ZoneId zone = ZoneIdCache.of(id);
+      return !(zone instanceof ZoneOffset) && zone.getId().equals(id) ? zone : null;
+    } catch (DateTimeException exc) {
+      return null;
+    }
+  }
+
+  //returns the value of the given number of ASCII digits or -1 if any other character is found
+  private static int digits(String text, int start, int count) {
+    int value = 0;
+    for (int i = start; i < start + count; i++) {
+      int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9)
+        return -1;
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.logging;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+ * error logging for the per record error paths of the UDFs which must not flood the logs when
+ * an upstream system starts sending garbage:
+ * - messages are parameterized and only formatted once they are going to be logged
+ * - a token bucket per logger allows a burst of dt.error.log.burst errors and dt.error.log.rate
+ *   errors per minute on average, all others are only counted and summarized with the next logged error
+ * - the stack trace of an exception is logged only for the first error of its class
+ */
+public class RateLimitedLogger {
+
+  public static final String RATE_PROPERTY = "dt.error.log.rate";
+  public static final String BURST_PROPERTY = "dt.error.log.burst";
+
+  public static final int DEFAULT_RATE = 10;
+  public static final int DEFAULT_BURST = 10;
+
+  private static final String SUPPRESSED_SUFFIX = " ({} similar errors suppressed)";
+
+  private final Logger logger;
+  private final long nanosPerPermit;
+  private final long burstNanos;
+  private final LongSupplier nanoClock;
+  //theoretical arrival time of the next permit (GCRA formulation of the token bucket)
+  private final AtomicLong nextPermit;
+  private final LongAdder suppressed = new LongAdder();
+  private final Set<Class<?>> tracedErrors = ConcurrentHashMap.newKeySet();
+
+  RateLimitedLogger(Logger logger, int ratePerMinute, int burst, LongSupplier nanoClock) {
+    if (ratePerMinute < 1 || burst < 1)
+      throw new IllegalArgumentException("rate and burst must be at least 1 but were " + ratePerMinute + " and " + burst);
+    this.logger = logger;
+    this.nanosPerPermit = TimeUnit.MINUTES.toNanos(1) / ratePerMinute;
+    this.burstNanos = nanosPerPermit * burst;
+    this.nanoClock = nanoClock;
+    this.nextPermit = new AtomicLong(nanoClock.getAsLong());
+  }
+
+  public static RateLimitedLogger of(Class<?> owner) {
+    return new RateLimitedLogger(LoggerFactory.getLogger(owner),
+        Integer.getInteger(RATE_PROPERTY, DEFAULT_RATE), Integer.getInteger(BURST_PROPERTY, DEFAULT_BURST),
+        System::nanoTime);
+  }
+
+  public void error(String format, Object arg) {
+    if (tryAcquire())
+      logger.error(format + SUPPRESSED_SUFFIX, arg, suppressed.sumThenReset());
+  }
+
+  public void error(String format, Object arg1, Object arg2) {
+    if (tryAcquire())
+      logger.error(format + SUPPRESSED_SUFFIX, arg1, arg2, suppressed.sumThenReset());
+  }
+
+  public void error(String format, Object arg, Throwable error) {
+    if (!tryAcquire())
+      return;
+    if (tracedErrors.add(error.getClass()))
+      logger.error(format + SUPPRESSED_SUFFIX, arg, suppressed.sumThenReset(), error);
+    else
+      logger.error(format + " - {}" + SUPPRESSED_SUFFIX, arg, error, suppressed.sumThenReset());
+  }
+
+  public long suppressed() {
+    return suppressed.sum();
+  }
+
+  private boolean tryAcquire() {
+    long now = nanoClock.getAsLong();
+    while (true) {
+      long next = nextPermit.get();
+      long granted = Math.max(next - now, 0L) + nanosPerPermit;
+      if (granted > burstNanos) {
+        suppressed.increment();
+        return false;
+      }
+      if (nextPermit.compareAndSet(next, now + granted))
+        return true;
+    }
+  }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+ * opt-in per function metrics exposed as MBean com.github.hpgrahsl.ksqldb.functions:type=UdfMetrics,name=<function>
+ * - invocations, results which are null (due to null/invalid input) and exceptions thrown
+ * - rejects i.e. invalid input which the dt_try_* functions answered with null or a default value
+ * - latencies of a random sample of the invocations in power of two buckets
+ * instrumentation is switched on by the JVM system property dt.metrics.enabled=true. functions check the
+ * static final ENABLED flag before handing their body to call(...) so that when off they neither allocate
+ * the capturing lambda nor pay for anything else but a direct call of the function body.
+ */
+public class UdfMetrics implements UdfMetricsMBean {
+
+  public static final String ENABLED_PROPERTY = "dt.metrics.enabled";
+  public static final String SAMPLE_RATE_PROPERTY = "dt.metrics.latency.sample.rate";
+
+  public static final int DEFAULT_SAMPLE_RATE = 100;
+
+  public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+  private static final int SAMPLE_RATE = Math.max(1, Integer.getInteger(SAMPLE_RATE_PROPERTY, DEFAULT_SAMPLE_RATE));
+
+  private static final String DOMAIN = "com.github.hpgrahsl.ksqldb.functions";
+
+  private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(UdfMetrics.class);
+
+  private final String function;
+  private final int sampleRate;
+  private final LongAdder invocations = new LongAdder();
+  private final LongAdder nullResults = new LongAdder();
+  private final LongAdder exceptions = new LongAdder();
+  private final LongAdder rejects = new LongAdder();
+  //bucket i counts latencies in the range [2^(i-1),2^i) nanos
+  private final AtomicLongArray latencies = new AtomicLongArray(Long.SIZE);
+
+  UdfMetrics(String function, int sampleRate) {
+    this.function = function;
+    this.sampleRate = sampleRate;
+  }
+
+  public static UdfMetrics of(String function) {
+    UdfMetrics metrics = new UdfMetrics(function, SAMPLE_RATE);
+    if (ENABLED)
+      register(metrics);
+    return metrics;
+  }
+
+  public <T> T call(Supplier<T> function) {
+    return ENABLED ? measure(function) : function.get();
+  }
+
+  public <T> T rejected(T fallback) {
+    if (ENABLED)
+      rejects.increment();
+    return fallback;
+  }
+
+  <T> T measure(Supplier<T> function) {
+    long start = begin();
+    try {
+      T result = function.get();
+      if (result == null)
+        nullResults.increment();
+      return result;
+    } catch (RuntimeException exc) {
+      exceptions.increment();
+      throw exc;
+    } finally {
+      end(start);
+    }
+  }
+
+  long begin() {
+    invocations.increment();
+    return ThreadLocalRandom.current().nextInt(sampleRate) == 0 ? System.nanoTime() : NOT_SAMPLED;
+  }
+
+  void end(long start) {
+    if (start != NOT_SAMPLED)
+      record(System.nanoTime() - start);
+  }
+
+  void record(long latencyNanos) {
+    latencies.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(Math.max(0L, latencyNanos)));
+  }
+
+  public String function() {
+    return function;
+  }
+
+  @Override
+  public long getInvocations() {
+    return invocations.sum();
+  }
+
+  @Override
+  public long getNullResults() {
+    return nullResults.sum();
+  }
+
+  @Override
+  public long getExceptions() {
+    return exceptions.sum();
+  }
+
+  @Override
+  public long getRejects() {
+    return rejects.sum();
+  }
+
+  @Override
+  public long getSampledLatencies() {
+    long count = 0;
+    for (int i = 0; i < latencies.length(); i++)
+      count += latencies.get(i);
+    return count;
+  }
+
+  @Override
+  public long getLatencyP50Nanos() {
+    return latencyAt(0.5);
+  }
+
+  @Override
+  public long getLatencyP99Nanos() {
+    return latencyAt(0.99);
+  }
+
+  @Override
+  public long getLatencyMaxNanos() {
+    return latencyAt(1.0);
+  }
+
+  //upper bound of the bucket holding the latency at the given percentile (nearest rank)
+  long latencyAt(double percentile) {
+    long count = getSampledLatencies();
+    if (count == 0)
+      return 0L;
+    long rank = Math.max(1L, (long)Math.ceil(percentile * count));
+    for (int i = 0; i < latencies.length(); i++) {
+      rank -= latencies.get(i);
+      if (rank <= 0)
+        return i == 0 ? 0L : (1L << i) - 1;
+    }
+    return Long.MAX_VALUE;
+  }
+
+  @Override
+  public void reset() {
+    invocations.reset();
+    nullResults.reset();
+    exceptions.reset();
+    rejects.reset();
+    for (int i = 0; i < latencies.length(); i++)
+      latencies.set(i, 0L);
+  }
+
+  private static void register(UdfMetrics metrics) {
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = new ObjectName(DOMAIN + ":type=UdfMetrics,name=" + metrics.function);
+      //functions reloaded by another class loader replace the metrics of their previous incarnation
+      if (server.isRegistered(name))
+        server.unregisterMBean(name);
+      server.registerMBean(metrics, name);
+    } catch (JMException exc) {
+      LOGGER.warn("metrics of function {} could not be registered", metrics.function, exc);
+    }
+  }
+
+}
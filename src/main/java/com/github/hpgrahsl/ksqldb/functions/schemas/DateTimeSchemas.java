@@ -17,6 +17,7 @@
 
 package com.github.hpgrahsl.ksqldb.functions.schemas;
 
+import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaBuilder;
 
@@ -31,6 +32,15 @@ public class DateTimeSchemas {
   public static final String INSTANT_SCHEMA_DESCRIPTOR =
       "STRUCT<SECONDS_FIELD BIGINT,NANOS_FIELD INTEGER>";
 
+  public static final Field INSTANT_SECONDS_FIELD =
+      INSTANT_SCHEMA.field("SECONDS_FIELD");
+
+  public static final Field INSTANT_NANOS_FIELD =
+      INSTANT_SCHEMA.field("NANOS_FIELD");
+
+  public static final String INSTANT_ARRAY_SCHEMA_DESCRIPTOR =
+      "ARRAY<"+INSTANT_SCHEMA_DESCRIPTOR+">";
+
   public static final Schema DURATION_SCHEMA = SchemaBuilder.struct()
       .optional()
       .field("SECONDS_FIELD", Schema.INT64_SCHEMA)
@@ -40,9 +50,75 @@ public class DateTimeSchemas {
   public static final String DURATION_SCHEMA_DESCRIPTOR =
       "STRUCT<SECONDS_FIELD BIGINT,NANOS_FIELD INTEGER>";
 
+  public static final Field DURATION_SECONDS_FIELD =
+      DURATION_SCHEMA.field("SECONDS_FIELD");
+
+  public static final Field DURATION_NANOS_FIELD =
+      DURATION_SCHEMA.field("NANOS_FIELD");
+
   public static final String DURATION_ARRAY_SCHEMA_DESCRIPTOR =
       "ARRAY<"+DURATION_SCHEMA_DESCRIPTOR+">";
 
+  public static final Schema DURATION_AGGREGATE_SCHEMA = SchemaBuilder.struct()
+      .optional()
+      .field("SECONDS_FIELD", Schema.INT64_SCHEMA)
+      .field("NANOS_FIELD", Schema.INT64_SCHEMA)
+      .field("COUNT_FIELD", Schema.INT64_SCHEMA)
+      .build();
+
+  public static final String DURATION_AGGREGATE_SCHEMA_DESCRIPTOR =
+      "STRUCT<SECONDS_FIELD BIGINT,NANOS_FIELD BIGINT,COUNT_FIELD BIGINT>";
+
+  public static final Field DURATION_AGGREGATE_SECONDS_FIELD =
+      DURATION_AGGREGATE_SCHEMA.field("SECONDS_FIELD");
+
+  public static final Field DURATION_AGGREGATE_NANOS_FIELD =
+      DURATION_AGGREGATE_SCHEMA.field("NANOS_FIELD");
+
+  public static final Field DURATION_AGGREGATE_COUNT_FIELD =
+      DURATION_AGGREGATE_SCHEMA.field("COUNT_FIELD");
+
+  public static final Schema DURATION_HISTOGRAM_SCHEMA = SchemaBuilder.struct()
+      .optional()
+      .field("BUCKETS_FIELD", SchemaBuilder.array(Schema.INT64_SCHEMA).build())
+      .field("COUNTS_FIELD", SchemaBuilder.array(Schema.INT64_SCHEMA).build())
+      .build();
+
+  public static final String DURATION_HISTOGRAM_SCHEMA_DESCRIPTOR =
+      "STRUCT<BUCKETS_FIELD ARRAY<BIGINT>,COUNTS_FIELD ARRAY<BIGINT>>";
+
+  public static final Field DURATION_HISTOGRAM_BUCKETS_FIELD =
+      DURATION_HISTOGRAM_SCHEMA.field("BUCKETS_FIELD");
+
+  public static final Field DURATION_HISTOGRAM_COUNTS_FIELD =
+      DURATION_HISTOGRAM_SCHEMA.field("COUNTS_FIELD");
+
+  public static final Schema DURATION_PERCENTILES_SCHEMA = SchemaBuilder.struct()
+      .optional()
+      .field("P50_FIELD", DURATION_SCHEMA)
+      .field("P90_FIELD", DURATION_SCHEMA)
+      .field("P99_FIELD", DURATION_SCHEMA)
+      .field("P999_FIELD", DURATION_SCHEMA)
+      .build();
+
+  public static final String DURATION_PERCENTILES_SCHEMA_DESCRIPTOR =
+      "STRUCT<P50_FIELD "+DURATION_SCHEMA_DESCRIPTOR+","
+          +"P90_FIELD "+DURATION_SCHEMA_DESCRIPTOR+","
+          +"P99_FIELD "+DURATION_SCHEMA_DESCRIPTOR+","
+          +"P999_FIELD "+DURATION_SCHEMA_DESCRIPTOR+">";
+
+  public static final Field DURATION_PERCENTILES_P50_FIELD =
+      DURATION_PERCENTILES_SCHEMA.field("P50_FIELD");
+
+  public static final Field DURATION_PERCENTILES_P90_FIELD =
+      DURATION_PERCENTILES_SCHEMA.field("P90_FIELD");
+
+  public static final Field DURATION_PERCENTILES_P99_FIELD =
+      DURATION_PERCENTILES_SCHEMA.field("P99_FIELD");
+
+  public static final Field DURATION_PERCENTILES_P999_FIELD =
+      DURATION_PERCENTILES_SCHEMA.field("P999_FIELD");
+
   public static final Schema PERIOD_SCHEMA = SchemaBuilder.struct()
       .optional()
       .field("YEARS_FIELD", Schema.INT32_SCHEMA)
@@ -53,6 +129,15 @@ public class DateTimeSchemas {
   public static final String PERIOD_SCHEMA_DESCRIPTOR =
       "STRUCT<YEARS_FIELD INTEGER,MONTHS_FIELD INTEGER,DAYS_FIELD INTEGER>";
 
+  public static final Field PERIOD_YEARS_FIELD =
+      PERIOD_SCHEMA.field("YEARS_FIELD");
+
+  public static final Field PERIOD_MONTHS_FIELD =
+      PERIOD_SCHEMA.field("MONTHS_FIELD");
+
+  public static final Field PERIOD_DAYS_FIELD =
+      PERIOD_SCHEMA.field("DAYS_FIELD");
+
   public static final String PERIOD_ARRAY_SCHEMA_DESCRIPTOR =
       "ARRAY<"+PERIOD_SCHEMA_DESCRIPTOR+">";
 
@@ -66,6 +151,18 @@ public class DateTimeSchemas {
   public static final String LOCALDATE_SCHEMA_DESCRIPTOR =
       "STRUCT<YEAR_FIELD INTEGER,MONTH_FIELD INTEGER,DAY_FIELD INTEGER>";
 
+  public static final Field LOCALDATE_YEAR_FIELD =
+      LOCALDATE_SCHEMA.field("YEAR_FIELD");
+
+  public static final Field LOCALDATE_MONTH_FIELD =
+      LOCALDATE_SCHEMA.field("MONTH_FIELD");
+
+  public static final Field LOCALDATE_DAY_FIELD =
+      LOCALDATE_SCHEMA.field("DAY_FIELD");
+
+  public static final String LOCALDATE_ARRAY_SCHEMA_DESCRIPTOR =
+      "ARRAY<"+LOCALDATE_SCHEMA_DESCRIPTOR+">";
+
   public static final Schema LOCALTIME_SCHEMA = SchemaBuilder.struct()
       .optional()
       .field("HOUR_FIELD", Schema.INT32_SCHEMA)
@@ -77,6 +174,21 @@ public class DateTimeSchemas {
   public static final String LOCALTIME_SCHEMA_DESCRIPTOR =
       "STRUCT<HOUR_FIELD INTEGER,MINUTE_FIELD INTEGER,SECOND_FIELD INTEGER,NANO_FIELD INTEGER>";
 
+  public static final Field LOCALTIME_HOUR_FIELD =
+      LOCALTIME_SCHEMA.field("HOUR_FIELD");
+
+  public static final Field LOCALTIME_MINUTE_FIELD =
+      LOCALTIME_SCHEMA.field("MINUTE_FIELD");
+
+  public static final Field LOCALTIME_SECOND_FIELD =
+      LOCALTIME_SCHEMA.field("SECOND_FIELD");
+
+  public static final Field LOCALTIME_NANO_FIELD =
+      LOCALTIME_SCHEMA.field("NANO_FIELD");
+
+  public static final String LOCALTIME_ARRAY_SCHEMA_DESCRIPTOR =
+      "ARRAY<"+LOCALTIME_SCHEMA_DESCRIPTOR+">";
+
   public static final Schema LOCALDATETIME_SCHEMA = SchemaBuilder.struct()
       .optional()
       .field("LOCALDATE_FIELD", LOCALDATE_SCHEMA)
@@ -87,6 +199,15 @@ public class DateTimeSchemas {
       "STRUCT<LOCALDATE_FIELD "+LOCALDATE_SCHEMA_DESCRIPTOR+","
             +"LOCALTIME_FIELD "+LOCALTIME_SCHEMA_DESCRIPTOR+">";
 
+  public static final Field LOCALDATETIME_LOCALDATE_FIELD =
+      LOCALDATETIME_SCHEMA.field("LOCALDATE_FIELD");
+
+  public static final Field LOCALDATETIME_LOCALTIME_FIELD =
+      LOCALDATETIME_SCHEMA.field("LOCALTIME_FIELD");
+
+  public static final String LOCALDATETIME_ARRAY_SCHEMA_DESCRIPTOR =
+      "ARRAY<"+LOCALDATETIME_SCHEMA_DESCRIPTOR+">";
+
   public static final Schema ZONEOFFSET_SCHEMA = SchemaBuilder.struct()
       .optional()
       .field("TOTALSECONDS_FIELD", Schema.INT32_SCHEMA)
@@ -95,6 +216,9 @@ public class DateTimeSchemas {
   public static final String ZONEOFFSET_SCHEMA_DESCRIPTOR =
       "STRUCT<TOTALSECONDS_FIELD INTEGER>";
 
+  public static final Field ZONEOFFSET_TOTALSECONDS_FIELD =
+      ZONEOFFSET_SCHEMA.field("TOTALSECONDS_FIELD");
+
   public static final Schema ZONEID_SCHEMA = SchemaBuilder.struct()
       .optional()
       .field("ID_FIELD", Schema.STRING_SCHEMA)
@@ -103,6 +227,12 @@ public class DateTimeSchemas {
   public static final String ZONEID_SCHEMA_DESCRIPTOR =
       "STRUCT<ID_FIELD VARCHAR>";
 
+  public static final Field ZONEID_ID_FIELD =
+      ZONEID_SCHEMA.field("ID_FIELD");
+
+  public static final String ZONEID_ARRAY_SCHEMA_DESCRIPTOR =
+      "ARRAY<"+ZONEID_SCHEMA_DESCRIPTOR+">";
+
   public static final Schema OFFSETDATETIME_SCHEMA = SchemaBuilder.struct()
       .optional()
       .field("DATETIME_FIELD",LOCALDATETIME_SCHEMA)
@@ -113,6 +243,15 @@ public class DateTimeSchemas {
       "STRUCT<DATETIME_FIELD "+LOCALDATETIME_SCHEMA_DESCRIPTOR+","
           +"OFFSET_FIELD "+ZONEOFFSET_SCHEMA_DESCRIPTOR+">";
 
+  public static final Field OFFSETDATETIME_DATETIME_FIELD =
+      OFFSETDATETIME_SCHEMA.field("DATETIME_FIELD");
+
+  public static final Field OFFSETDATETIME_OFFSET_FIELD =
+      OFFSETDATETIME_SCHEMA.field("OFFSET_FIELD");
+
+  public static final String OFFSETDATETIME_ARRAY_SCHEMA_DESCRIPTOR =
+      "ARRAY<"+OFFSETDATETIME_SCHEMA_DESCRIPTOR+">";
+
   public static final Schema ZONEDDATETIME_SCHEMA = SchemaBuilder.struct()
       .optional()
       .field("DATETIME_FIELD",LOCALDATETIME_SCHEMA)
@@ -125,4 +264,16 @@ public class DateTimeSchemas {
           +"OFFSET_FIELD "+ZONEOFFSET_SCHEMA_DESCRIPTOR+","
           +"ZONE_FIELD "+ZONEID_SCHEMA_DESCRIPTOR+">";
 
+  public static final Field ZONEDDATETIME_DATETIME_FIELD =
+      ZONEDDATETIME_SCHEMA.field("DATETIME_FIELD");
+
+  public static final Field ZONEDDATETIME_OFFSET_FIELD =
+      ZONEDDATETIME_SCHEMA.field("OFFSET_FIELD");
+
+  public static final Field ZONEDDATETIME_ZONE_FIELD =
+      ZONEDDATETIME_SCHEMA.field("ZONE_FIELD");
+
+  public static final String ZONEDDATETIME_ARRAY_SCHEMA_DESCRIPTOR =
+      "ARRAY<"+ZONEDDATETIME_SCHEMA_DESCRIPTOR+">";
+
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.series;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.LongFunction;
+
+/*
+ * lazy series of the values start + i * step for i in [0,size) which are only created while
+ * they are iterated, so neither the size of a range nor its step ever materialize the whole series.
+ * the number of values per series is guarded by a hard limit.
+ */
+public class TemporalSeries {
+
+  public static final String MAX_ROWS_PROPERTY = "dt.series.max.rows";
+
+  public static final int DEFAULT_MAX_ROWS = 100_000;
+
+  private static final int MAX_ROWS = Integer.getInteger(MAX_ROWS_PROPERTY, DEFAULT_MAX_ROWS);
+
+  public static <T> List<T> of(long size, LongFunction<T> element) {
+    return of(size, element, MAX_ROWS);
+  }
+
+  public static <T> List<T> of(long size, LongFunction<T> element, int maxRows) {
+    if (size > maxRows)
+      throw new IllegalArgumentException("the series would consist of " + size
+          + " values which exceeds the max. number of " + maxRows + " rows (" + MAX_ROWS_PROPERTY + ")");
+    return new LazySeries<>((int)size, element);
+  }
+
+  //number of steps needed to cover the range [0,range) which is 0 for empty or negative ranges
+  public static long steps(Duration range, Duration step) {
+    if (step.isZero() || step.isNegative())
+      throw new IllegalArgumentException("the step of the series must be a positive duration but was " + step);
+    if (range.isZero() || range.isNegative())
+      return 0;
+    try {
+      long steps = range.dividedBy(step);
+      return step.multipliedBy(steps).equals(range) ? steps : steps + 1;
+    } catch (ArithmeticException exc) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  /*
+   * number of dates start + i * step within [start,end) which matches LocalDate.datesUntil but is 0 instead
+   * of failing whenever the range does not follow the direction of the step. periods whose months and days
+   * are of opposite sign have no direction and thus result in 0 steps as well.
+   */
+  public static long steps(LocalDate start, LocalDate end, Period step) {
+    long months = step.toTotalMonths();
+    long days = step.getDays();
+    if (months == 0 && days == 0)
+      throw new IllegalArgumentException("the step of the series must be a non-zero period but was " + step);
+    if ((months < 0 && days > 0) || (months > 0 && days < 0))
+      return 0;
+    int sign = months > 0 || days > 0 ? 1 : -1;
+    long startDay = start.toEpochDay();
+    long endDay = end.toEpochDay();
+    if (Long.signum(endDay - startDay) != sign)
+      return 0;
+    if (months == 0)
+      return (endDay - startDay - sign) / days + 1;
+    //estimate based on the mean month length of 48699/1600 days which is too large by at most two steps
+    long steps = (endDay - startDay) * 1600 / (months * 48699 + days * 1600) + 1;
+    long startMonth = start.getYear() * 12L + start.getMonthValue() - 1;
+    long maxMonths = months > 0
+        ? LocalDate.MAX.getYear() * 12L + 11 - startMonth
+        : startMonth - LocalDate.MIN.getYear() * 12L;
+    for (int i = 0; i < 2 && !isBefore(start, months * steps, days * steps, maxMonths, endDay, sign); i++)
+      steps--;
+    return steps + 1;
+  }
+
+  private static boolean isBefore(LocalDate start, long months, long days, long maxMonths, long endDay, int sign) {
+    return months * sign <= maxMonths && (start.plusMonths(months).toEpochDay() + days) * sign < endDay * sign;
+  }
+
+  private static final class LazySeries<T> extends AbstractList<T> implements RandomAccess {
+
+    private final int size;
+    private final LongFunction<T> element;
+
+    LazySeries(int size, LongFunction<T> element) {
+      this.size = size;
+      this.element = element;
+    }
+
+    @Override
+    public T get(int index) {
+      if (index < 0 || index >= size)
+        throw new IndexOutOfBoundsException("index " + index + " is out of bounds for size " + size);
+      return element.apply(index);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+  }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.structs;
+
+import com.github.hpgrahsl.ksqldb.functions.arithmetic.CivilDates;
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import org.apache.kafka.connect.data.Struct;
+
+public class StructsComparator {
+
+  private static final int NANOS_PER_SECOND = 1_000_000_000;
+  private static final int SECONDS_PER_DAY = 86_400;
+
+  public static int compareInstantStructs(Struct s1, Struct s2) {
+    long seconds1 = (Long)s1.get(DateTimeSchemas.INSTANT_SECONDS_FIELD);
+    long seconds2 = (Long)s2.get(DateTimeSchemas.INSTANT_SECONDS_FIELD);
+    long nanos1 = (Integer)s1.get(DateTimeSchemas.INSTANT_NANOS_FIELD);
+    long nanos2 = (Integer)s2.get(DateTimeSchemas.INSTANT_NANOS_FIELD);
+    int cmp = Long.compare(seconds1 + Math.floorDiv(nanos1, NANOS_PER_SECOND),
+        seconds2 + Math.floorDiv(nanos2, NANOS_PER_SECOND));
+    return cmp != 0 ? cmp : Long.compare(Math.floorMod(nanos1, NANOS_PER_SECOND),
+        Math.floorMod(nanos2, NANOS_PER_SECOND));
+  }
+
+  public static int compareLocalDateStructs(Struct s1, Struct s2) {
+    int cmp = Integer.compare((Integer)s1.get(DateTimeSchemas.LOCALDATE_YEAR_FIELD),
+        (Integer)s2.get(DateTimeSchemas.LOCALDATE_YEAR_FIELD));
+    if (cmp != 0)
+      return cmp;
+    cmp = Integer.compare((Integer)s1.get(DateTimeSchemas.LOCALDATE_MONTH_FIELD),
+        (Integer)s2.get(DateTimeSchemas.LOCALDATE_MONTH_FIELD));
+    if (cmp != 0)
+      return cmp;
+    return Integer.compare((Integer)s1.get(DateTimeSchemas.LOCALDATE_DAY_FIELD),
+        (Integer)s2.get(DateTimeSchemas.LOCALDATE_DAY_FIELD));
+  }
+
+  public static int compareLocalTimeStructs(Struct s1, Struct s2) {
+    int cmp = Integer.compare((Integer)s1.get(DateTimeSchemas.LOCALTIME_HOUR_FIELD),
+        (Integer)s2.get(DateTimeSchemas.LOCALTIME_HOUR_FIELD));
+    if (cmp != 0)
+      return cmp;
+    cmp = Integer.compare((Integer)s1.get(DateTimeSchemas.LOCALTIME_MINUTE_FIELD),
+        (Integer)s2.get(DateTimeSchemas.LOCALTIME_MINUTE_FIELD));
+    if (cmp != 0)
+      return cmp;
+    cmp = Integer.compare((Integer)s1.get(DateTimeSchemas.LOCALTIME_SECOND_FIELD),
+        (Integer)s2.get(DateTimeSchemas.LOCALTIME_SECOND_FIELD));
+    if (cmp != 0)
+      return cmp;
+    return Integer.compare((Integer)s1.get(DateTimeSchemas.LOCALTIME_NANO_FIELD),
+        (Integer)s2.get(DateTimeSchemas.LOCALTIME_NANO_FIELD));
+  }
+
+  public static int compareLocalDateTimeStructs(Struct s1, Struct s2) {
+    int cmp = compareLocalDateStructs(
+        (Struct)s1.get(DateTimeSchemas.LOCALDATETIME_LOCALDATE_FIELD),
+        (Struct)s2.get(DateTimeSchemas.LOCALDATETIME_LOCALDATE_FIELD));
+    return cmp != 0 ? cmp : compareLocalTimeStructs(
+        (Struct)s1.get(DateTimeSchemas.LOCALDATETIME_LOCALTIME_FIELD),
+        (Struct)s2.get(DateTimeSchemas.LOCALDATETIME_LOCALTIME_FIELD));
+  }
+
+  public static int compareOffsetDateTimeStructs(Struct s1, Struct s2) {
+    return compareOffsetAdjusted(
+        (Struct)s1.get(DateTimeSchemas.OFFSETDATETIME_DATETIME_FIELD),
+        (Struct)s1.get(DateTimeSchemas.OFFSETDATETIME_OFFSET_FIELD),
+        (Struct)s2.get(DateTimeSchemas.OFFSETDATETIME_DATETIME_FIELD),
+        (Struct)s2.get(DateTimeSchemas.OFFSETDATETIME_OFFSET_FIELD));
+  }
+
+  public static int compareZonedDateTimeStructs(Struct s1, Struct s2) {
+    return compareOffsetAdjusted(
+        (Struct)s1.get(DateTimeSchemas.ZONEDDATETIME_DATETIME_FIELD),
+        (Struct)s1.get(DateTimeSchemas.ZONEDDATETIME_OFFSET_FIELD),
+        (Struct)s2.get(DateTimeSchemas.ZONEDDATETIME_DATETIME_FIELD),
+        (Struct)s2.get(DateTimeSchemas.ZONEDDATETIME_OFFSET_FIELD));
+  }
+
+  private static int compareOffsetAdjusted(Struct ldt1, Struct zo1, Struct ldt2, Struct zo2) {
+    Struct lt1 = (Struct)ldt1.get(DateTimeSchemas.LOCALDATETIME_LOCALTIME_FIELD);
+    Struct lt2 = (Struct)ldt2.get(DateTimeSchemas.LOCALDATETIME_LOCALTIME_FIELD);
+    int cmp = Long.compare(
+        toEpochSecond((Struct)ldt1.get(DateTimeSchemas.LOCALDATETIME_LOCALDATE_FIELD), lt1, zo1),
+        toEpochSecond((Struct)ldt2.get(DateTimeSchemas.LOCALDATETIME_LOCALDATE_FIELD), lt2, zo2));
+    return cmp != 0 ? cmp : Integer.compare((Integer)lt1.get(DateTimeSchemas.LOCALTIME_NANO_FIELD),
+        (Integer)lt2.get(DateTimeSchemas.LOCALTIME_NANO_FIELD));
+  }
+
+  private static long toEpochSecond(Struct ld, Struct lt, Struct zo) {
+    long secondOfDay = (Integer)lt.get(DateTimeSchemas.LOCALTIME_HOUR_FIELD) * 3_600
+        + (Integer)lt.get(DateTimeSchemas.LOCALTIME_MINUTE_FIELD) * 60
+        + (Integer)lt.get(DateTimeSchemas.LOCALTIME_SECOND_FIELD);
+    return toEpochDay(
+        (Integer)ld.get(DateTimeSchemas.LOCALDATE_YEAR_FIELD),
+        (Integer)ld.get(DateTimeSchemas.LOCALDATE_MONTH_FIELD),
+        (Integer)ld.get(DateTimeSchemas.LOCALDATE_DAY_FIELD)) * SECONDS_PER_DAY
+        + secondOfDay - (Integer)zo.get(DateTimeSchemas.ZONEOFFSET_TOTALSECONDS_FIELD);
+  }
+
+  static long toEpochDay(long year, int month, int day) {
+    return CivilDates.toEpochDay(year, month, day);
+  }
+
+}
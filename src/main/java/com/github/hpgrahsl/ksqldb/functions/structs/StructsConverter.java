@@ -28,142 +28,225 @@ import java.time.Period;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import org.apache.kafka.connect.data.Struct;
 
 public class StructsConverter {
 
+  //shared instances which only the constant factory functions hand out through the shared...Struct
+  //methods below, they must never be modified. all other conversions build fresh structs
+  private static final Struct INSTANT_EPOCH = new Struct(DateTimeSchemas.INSTANT_SCHEMA)
+      .put(DateTimeSchemas.INSTANT_SECONDS_FIELD,0L)
+      .put(DateTimeSchemas.INSTANT_NANOS_FIELD,0);
+
+  private static final Struct DURATION_ZERO = new Struct(DateTimeSchemas.DURATION_SCHEMA)
+      .put(DateTimeSchemas.DURATION_SECONDS_FIELD,0L)
+      .put(DateTimeSchemas.DURATION_NANOS_FIELD,0);
+
+  private static final Struct PERIOD_ZERO = new Struct(DateTimeSchemas.PERIOD_SCHEMA)
+      .put(DateTimeSchemas.PERIOD_YEARS_FIELD,0)
+      .put(DateTimeSchemas.PERIOD_MONTHS_FIELD,0)
+      .put(DateTimeSchemas.PERIOD_DAYS_FIELD,0);
+
+  private static final Struct ZONEOFFSET_UTC = new Struct(DateTimeSchemas.ZONEOFFSET_SCHEMA)
+      .put(DateTimeSchemas.ZONEOFFSET_TOTALSECONDS_FIELD,0);
+
+  private static final Struct ZONEID_UTC = newZoneIdStruct("UTC");
+
+  private static final Map<String, Struct> COMMON_ZONEIDS = new HashMap<>();
+
+  static {
+    COMMON_ZONEIDS.put("UTC",ZONEID_UTC);
+    for (String id : new String[] {"Z", "GMT", "Etc/UTC", "Etc/GMT", ZoneId.systemDefault().getId()}) {
+      COMMON_ZONEIDS.putIfAbsent(id,newZoneIdStruct(id));
+    }
+  }
+
+  public static Struct sharedInstantStruct(Instant i) {
+    return i.getEpochSecond() == 0L && i.getNano() == 0 ? INSTANT_EPOCH : toInstantStruct(i);
+  }
+
+  public static Struct sharedDurationStruct(Duration d) {
+    return d.isZero() ? DURATION_ZERO : toDurationStruct(d);
+  }
+
+  public static Struct sharedPeriodStruct(Period p) {
+    return p.isZero() ? PERIOD_ZERO : toPeriodStruct(p);
+  }
+
+  public static Struct sharedZoneOffsetStruct(ZoneOffset zo) {
+    return zo.getTotalSeconds() == 0 ? ZONEOFFSET_UTC : toZoneOffsetStruct(zo);
+  }
+
+  public static Struct sharedZoneIdStruct(ZoneId zi) {
+    Struct common = COMMON_ZONEIDS.get(zi.getId());
+    return common != null ? common : toZoneIdStruct(zi);
+  }
+
   public static Struct toInstantStruct(Instant i) {
+    return toInstantStruct(i.getEpochSecond(),i.getNano());
+  }
 
+  //expects the seconds and nanos to be normalized and within the range of Instant
+  public static Struct toInstantStruct(long epochSecond, int nanos) {
     return new Struct(DateTimeSchemas.INSTANT_SCHEMA)
-        .put(DateTimeSchemas.INSTANT_SCHEMA.field("SECONDS_FIELD"),i.getEpochSecond())
-        .put(DateTimeSchemas.INSTANT_SCHEMA.field("NANOS_FIELD"),i.getNano());
+        .put(DateTimeSchemas.INSTANT_SECONDS_FIELD,epochSecond)
+        .put(DateTimeSchemas.INSTANT_NANOS_FIELD,nanos);
   }
 
   public static Instant fromInstantStruct(Struct s) {
     return Instant.ofEpochSecond(
-        s.getInt64("SECONDS_FIELD"),
-        s.getInt32("NANOS_FIELD")
+        (Long)s.get(DateTimeSchemas.INSTANT_SECONDS_FIELD),
+        (Integer)s.get(DateTimeSchemas.INSTANT_NANOS_FIELD)
     );
   }
 
   public static Struct toDurationStruct(Duration d) {
+    return toDurationStruct(d.getSeconds(),d.getNano());
+  }
+
+  //expects the nanos to be normalized
+  public static Struct toDurationStruct(long seconds, int nanos) {
     return new Struct(DateTimeSchemas.DURATION_SCHEMA)
-        .put(DateTimeSchemas.DURATION_SCHEMA.field("SECONDS_FIELD"),d.getSeconds())
-        .put(DateTimeSchemas.DURATION_SCHEMA.field("NANOS_FIELD"),d.getNano());
+        .put(DateTimeSchemas.DURATION_SECONDS_FIELD,seconds)
+        .put(DateTimeSchemas.DURATION_NANOS_FIELD,nanos);
   }
 
   public static Duration fromDurationStruct(Struct s) {
     return Duration.ofSeconds(
-        s.getInt64("SECONDS_FIELD"),
-        s.getInt32("NANOS_FIELD")
+        (Long)s.get(DateTimeSchemas.DURATION_SECONDS_FIELD),
+        (Integer)s.get(DateTimeSchemas.DURATION_NANOS_FIELD)
     );
   }
 
   public static Struct toPeriodStruct(Period p) {
+    return toPeriodStruct(p.getYears(),p.getMonths(),p.getDays());
+  }
+
+  public static Struct toPeriodStruct(int years, int months, int days) {
     return new Struct(DateTimeSchemas.PERIOD_SCHEMA)
-        .put(DateTimeSchemas.PERIOD_SCHEMA.field("YEARS_FIELD"),p.getYears())
-        .put(DateTimeSchemas.PERIOD_SCHEMA.field("MONTHS_FIELD"),p.getMonths())
-        .put(DateTimeSchemas.PERIOD_SCHEMA.field("DAYS_FIELD"),p.getDays());
+        .put(DateTimeSchemas.PERIOD_YEARS_FIELD,years)
+        .put(DateTimeSchemas.PERIOD_MONTHS_FIELD,months)
+        .put(DateTimeSchemas.PERIOD_DAYS_FIELD,days);
   }
 
   public static Period fromPeriodStruct(Struct s) {
     return Period.of(
-        s.getInt32("YEARS_FIELD"),
-        s.getInt32("MONTHS_FIELD"),
-        s.getInt32("DAYS_FIELD")
+        (Integer)s.get(DateTimeSchemas.PERIOD_YEARS_FIELD),
+        (Integer)s.get(DateTimeSchemas.PERIOD_MONTHS_FIELD),
+        (Integer)s.get(DateTimeSchemas.PERIOD_DAYS_FIELD)
     );
   }
 
   public static Struct toLocalDateStruct(LocalDate ld) {
+    return toLocalDateStruct(ld.getYear(),ld.getMonthValue(),ld.getDayOfMonth());
+  }
+
+  //expects the fields to form a valid date
+  public static Struct toLocalDateStruct(int year, int month, int day) {
     return new Struct(DateTimeSchemas.LOCALDATE_SCHEMA)
-        .put(DateTimeSchemas.LOCALDATE_SCHEMA.field("YEAR_FIELD"),ld.getYear())
-        .put(DateTimeSchemas.LOCALDATE_SCHEMA.field("MONTH_FIELD"),ld.getMonthValue())
-        .put(DateTimeSchemas.LOCALDATE_SCHEMA.field("DAY_FIELD"),ld.getDayOfMonth());
+        .put(DateTimeSchemas.LOCALDATE_YEAR_FIELD,year)
+        .put(DateTimeSchemas.LOCALDATE_MONTH_FIELD,month)
+        .put(DateTimeSchemas.LOCALDATE_DAY_FIELD,day);
   }
 
   public static LocalDate fromLocalDateStruct(Struct s) {
     return LocalDate.of(
-        s.getInt32("YEAR_FIELD"),
-        s.getInt32("MONTH_FIELD"),
-        s.getInt32("DAY_FIELD")
+        (Integer)s.get(DateTimeSchemas.LOCALDATE_YEAR_FIELD),
+        (Integer)s.get(DateTimeSchemas.LOCALDATE_MONTH_FIELD),
+        (Integer)s.get(DateTimeSchemas.LOCALDATE_DAY_FIELD)
     );
   }
 
   public static Struct toLocalTimeStruct(LocalTime lt) {
+    return toLocalTimeStruct(lt.getHour(),lt.getMinute(),lt.getSecond(),lt.getNano());
+  }
+
+  //expects the fields to form a valid time
+  public static Struct toLocalTimeStruct(int hour, int minute, int second, int nano) {
     return new Struct(DateTimeSchemas.LOCALTIME_SCHEMA)
-        .put(DateTimeSchemas.LOCALTIME_SCHEMA.field("HOUR_FIELD"),lt.getHour())
-        .put(DateTimeSchemas.LOCALTIME_SCHEMA.field("MINUTE_FIELD"),lt.getMinute())
-        .put(DateTimeSchemas.LOCALTIME_SCHEMA.field("SECOND_FIELD"),lt.getSecond())
-        .put(DateTimeSchemas.LOCALTIME_SCHEMA.field("NANO_FIELD"),lt.getNano());
+        .put(DateTimeSchemas.LOCALTIME_HOUR_FIELD,hour)
+        .put(DateTimeSchemas.LOCALTIME_MINUTE_FIELD,minute)
+        .put(DateTimeSchemas.LOCALTIME_SECOND_FIELD,second)
+        .put(DateTimeSchemas.LOCALTIME_NANO_FIELD,nano);
   }
 
   public static LocalTime fromLocalTimeStruct(Struct s) {
     return LocalTime.of(
-        s.getInt32("HOUR_FIELD"),
-        s.getInt32("MINUTE_FIELD"),
-        s.getInt32("SECOND_FIELD"),
-        s.getInt32("NANO_FIELD")
+        (Integer)s.get(DateTimeSchemas.LOCALTIME_HOUR_FIELD),
+        (Integer)s.get(DateTimeSchemas.LOCALTIME_MINUTE_FIELD),
+        (Integer)s.get(DateTimeSchemas.LOCALTIME_SECOND_FIELD),
+        (Integer)s.get(DateTimeSchemas.LOCALTIME_NANO_FIELD)
     );
   }
 
   public static Struct toLocalDateTimeStruct(LocalDateTime ldt) {
     return new Struct(DateTimeSchemas.LOCALDATETIME_SCHEMA)
-        .put(DateTimeSchemas.LOCALDATETIME_SCHEMA.field("LOCALDATE_FIELD"),toLocalDateStruct(ldt.toLocalDate()))
-        .put(DateTimeSchemas.LOCALDATETIME_SCHEMA.field("LOCALTIME_FIELD"),toLocalTimeStruct(ldt.toLocalTime()));
-
+        .put(DateTimeSchemas.LOCALDATETIME_LOCALDATE_FIELD,toLocalDateStruct(ldt.toLocalDate()))
+        .put(DateTimeSchemas.LOCALDATETIME_LOCALTIME_FIELD,toLocalTimeStruct(ldt.toLocalTime()));
   }
 
   public static LocalDateTime fromLocalDateTimeStruct(Struct s) {
     return LocalDateTime.of(
-        fromLocalDateStruct(s.getStruct("LOCALDATE_FIELD")),
-        fromLocalTimeStruct(s.getStruct("LOCALTIME_FIELD"))
+        fromLocalDateStruct((Struct)s.get(DateTimeSchemas.LOCALDATETIME_LOCALDATE_FIELD)),
+        fromLocalTimeStruct((Struct)s.get(DateTimeSchemas.LOCALDATETIME_LOCALTIME_FIELD))
     );
   }
 
   public static Struct toZoneOffsetStruct(ZoneOffset zo) {
+    return toZoneOffsetStruct(zo.getTotalSeconds());
+  }
+
+  //expects the total seconds to be within the range of ZoneOffset
+  public static Struct toZoneOffsetStruct(int totalSeconds) {
     return new Struct(DateTimeSchemas.ZONEOFFSET_SCHEMA)
-        .put(DateTimeSchemas.ZONEOFFSET_SCHEMA.field("TOTALSECONDS_FIELD"),zo.getTotalSeconds());
+        .put(DateTimeSchemas.ZONEOFFSET_TOTALSECONDS_FIELD,totalSeconds);
   }
 
   public static ZoneOffset fromZoneOffsetStruct(Struct s) {
-    return ZoneOffset.ofTotalSeconds(s.getInt32("TOTALSECONDS_FIELD"));
+    return ZoneOffset.ofTotalSeconds((Integer)s.get(DateTimeSchemas.ZONEOFFSET_TOTALSECONDS_FIELD));
   }
 
   public static Struct toZoneIdStruct(ZoneId zi) {
-    return new Struct(DateTimeSchemas.ZONEID_SCHEMA)
-        .put(DateTimeSchemas.ZONEID_SCHEMA.field("ID_FIELD"),zi.getId());
+    return newZoneIdStruct(zi.getId());
   }
 
   public static ZoneId fromZoneIdStruct(Struct s) {
-    return ZoneId.of(s.getString("ID_FIELD"));
+    return ZoneIdCache.of((String)s.get(DateTimeSchemas.ZONEID_ID_FIELD));
   }
 
   public static Struct toOffsetDateTimeStruct(OffsetDateTime odt) {
     return new Struct(DateTimeSchemas.OFFSETDATETIME_SCHEMA)
-        .put(DateTimeSchemas.OFFSETDATETIME_SCHEMA.field("DATETIME_FIELD"),toLocalDateTimeStruct(odt.toLocalDateTime()))
-        .put(DateTimeSchemas.OFFSETDATETIME_SCHEMA.field("OFFSET_FIELD"),toZoneOffsetStruct(odt.getOffset()));
+        .put(DateTimeSchemas.OFFSETDATETIME_DATETIME_FIELD,toLocalDateTimeStruct(odt.toLocalDateTime()))
+        .put(DateTimeSchemas.OFFSETDATETIME_OFFSET_FIELD,toZoneOffsetStruct(odt.getOffset()));
   }
 
   public static OffsetDateTime fromOffsetDateTimeStruct(Struct s) {
     return OffsetDateTime.of(
-        fromLocalDateTimeStruct(s.getStruct("DATETIME_FIELD")),
-        fromZoneOffsetStruct(s.getStruct("OFFSET_FIELD"))
+        fromLocalDateTimeStruct((Struct)s.get(DateTimeSchemas.OFFSETDATETIME_DATETIME_FIELD)),
+        fromZoneOffsetStruct((Struct)s.get(DateTimeSchemas.OFFSETDATETIME_OFFSET_FIELD))
     );
   }
 
   public static Struct toZonedDateTimeStruct(ZonedDateTime zdt) {
     return new Struct(DateTimeSchemas.ZONEDDATETIME_SCHEMA)
-        .put(DateTimeSchemas.ZONEDDATETIME_SCHEMA.field("DATETIME_FIELD"),toLocalDateTimeStruct(zdt.toLocalDateTime()))
-        .put(DateTimeSchemas.ZONEDDATETIME_SCHEMA.field("OFFSET_FIELD"),toZoneOffsetStruct(zdt.getOffset()))
-        .put(DateTimeSchemas.ZONEDDATETIME_SCHEMA.field("ZONE_FIELD"),toZoneIdStruct(zdt.getZone()));
+        .put(DateTimeSchemas.ZONEDDATETIME_DATETIME_FIELD,toLocalDateTimeStruct(zdt.toLocalDateTime()))
+        .put(DateTimeSchemas.ZONEDDATETIME_OFFSET_FIELD,toZoneOffsetStruct(zdt.getOffset()))
+        .put(DateTimeSchemas.ZONEDDATETIME_ZONE_FIELD,toZoneIdStruct(zdt.getZone()));
   }
 
   public static ZonedDateTime fromZonedDateTimeStruct(Struct s) {
     return ZonedDateTime.ofLocal(
-        fromLocalDateTimeStruct(s.getStruct("DATETIME_FIELD")),
-        fromZoneIdStruct(s.getStruct("ZONE_FIELD")),
-        fromZoneOffsetStruct(s.getStruct("OFFSET_FIELD"))
+        fromLocalDateTimeStruct((Struct)s.get(DateTimeSchemas.ZONEDDATETIME_DATETIME_FIELD)),
+        fromZoneIdStruct((Struct)s.get(DateTimeSchemas.ZONEDDATETIME_ZONE_FIELD)),
+        fromZoneOffsetStruct((Struct)s.get(DateTimeSchemas.ZONEDDATETIME_OFFSET_FIELD))
     );
   }
 
+  private static Struct newZoneIdStruct(String id) {
+    return new Struct(DateTimeSchemas.ZONEID_SCHEMA)
+        .put(DateTimeSchemas.ZONEID_ID_FIELD,id);
+  }
+
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.structs;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.time.zone.ZoneRulesProvider;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ZoneIdCache {
+
+  public static final String CAPACITY_PROPERTY = "dt.zoneid.cache.capacity";
+
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  private static final ZoneIdCache SHARED =
+      new ZoneIdCache(Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY));
+
+  private static final Set<String> REGION_IDS = ZoneRulesProvider.getAvailableZoneIds();
+
+  private final int capacity;
+  private final ConcurrentMap<String, ZoneId> zones;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public ZoneIdCache(int capacity) {
+    if (capacity < 1)
+      throw new IllegalArgumentException("capacity must be at least 1 but was " + capacity);
+    this.capacity = capacity;
+    this.zones = new ConcurrentHashMap<>(Math.min(capacity, 1024));
+  }
+
+  public static ZoneIdCache shared() {
+    return SHARED;
+  }
+
+  public static ZoneId of(String id) {
+    return SHARED.get(id);
+  }
+
+  public static ZoneId ofOrNull(String id) {
+    return SHARED.find(id);
+  }
+
+  //region based ZoneIds keep a reference to their resolved rules so interning them caches both
+  public static ZoneRules rulesOf(String id) {
+    return SHARED.get(id).getRules();
+  }
+
+  public ZoneId get(String id) {
+    ZoneId zone = zones.get(Objects.requireNonNull(id, "id"));
+    if (zone != null) {
+      hits.increment();
+      return zone;
+    }
+    misses.increment();
+    zone = ZoneId.of(id);
+    //only region IDs known to the rules provider get interned, a naturally bounded set which the default
+    //capacity covers completely. offset style IDs (ZoneOffset.of caches these itself) and any other input
+    //are resolved on every call so that arbitrary strings can never take up the slots of the regions
+    if (!REGION_IDS.contains(id) || zones.size() >= capacity)
+      return zone;
+    ZoneId existing = zones.putIfAbsent(id, zone);
+    return existing != null ? existing : zone;
+  }
+
+  //same as get(id) but returns null for unknown or malformed IDs. apart from offset style IDs
+  //(e.g. +01:00 or UTC+01:00) these are detected upfront so that no exception needs to be created
+  public ZoneId find(String id) {
+    if (!zones.containsKey(id) && !REGION_IDS.contains(id) && !isOffsetStyle(id))
+      return null;
+    try {
+      return get(id);
+    } catch (DateTimeException exc) {
+      return null;
+    }
+  }
+
+  private static boolean isOffsetStyle(String id) {
+    return id.startsWith("+") || id.startsWith("-") || id.equals("Z")
+        || id.startsWith("UT") || id.startsWith("GMT");
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+
+  public int size() {
+    return zones.size();
+  }
+
+  public long hits() {
+    return hits.sum();
+  }
+
+  public long misses() {
+    return misses.sum();
+  }
+
+  public void clear() {
+    zones.clear();
+    hits.reset();
+    misses.reset();
+  }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.structs;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/*
+ * offsets of a zone pre-expanded into sorted arrays of transition epoch seconds for a range of years,
+ * so looking up the offset of an instant is a branch-free binary search over a long[] instead of
+ * ZoneRules#getOffset which evaluates the transition rules for any year beyond the last fixed transition.
+ * instants outside of the expanded range fall back to the zone rules, as do all instants of zones which
+ * are not worth a table (fixed offsets) or which no longer fit into the bounded set of shared tables.
+ */
+public class ZoneOffsetTable {
+
+  public static final String MIN_YEAR_PROPERTY = "dt.zone.transitions.min.year";
+  public static final String MAX_YEAR_PROPERTY = "dt.zone.transitions.max.year";
+
+  public static final int DEFAULT_MIN_YEAR = 1900;
+  public static final int DEFAULT_MAX_YEAR = 2100;
+
+  private static final int MIN_YEAR = Integer.getInteger(MIN_YEAR_PROPERTY, DEFAULT_MIN_YEAR);
+  private static final int MAX_YEAR = Integer.getInteger(MAX_YEAR_PROPERTY, DEFAULT_MAX_YEAR);
+
+  private static final int MAX_OFFSET_SECONDS = 18 * 3_600;
+
+  //bounded the same way as the ZoneId cache since there is at most one table per interned region
+  private static final ConcurrentMap<ZoneId, ZoneOffsetTable> TABLES = new ConcurrentHashMap<>();
+
+  //empty tables of the zones without a table of their own, one per region which is again naturally
+  //bounded, while fixed offsets (any number of IDs like +01:00:01 or GMT-03:30) only take free slots
+  private static final ConcurrentMap<ZoneId, ZoneOffsetTable> RULES_ONLY = new ConcurrentHashMap<>();
+
+  private final ZoneId zone;
+  private final ZoneRules rules;
+  private final long minEpochSecond;
+  private final long maxEpochSecond;
+  //offsets[i] applies from transitions[i-1] (inclusive) until transitions[i] (exclusive)
+  private final long[] transitions;
+  private final ZoneOffset[] offsets;
+
+  public ZoneOffsetTable(ZoneId zone, int minYear, int maxYear) {
+    if (minYear > maxYear)
+      throw new IllegalArgumentException("minYear " + minYear + " must not be after maxYear " + maxYear);
+    this.zone = zone;
+    this.rules = zone.getRules();
+    this.minEpochSecond = LocalDate.of(minYear, 1, 1).toEpochDay() * 86_400L;
+    this.maxEpochSecond = LocalDate.of(maxYear + 1, 1, 1).toEpochDay() * 86_400L;
+    List<ZoneOffsetTransition> expanded = new ArrayList<>();
+    ZoneOffsetTransition next = rules.nextTransition(Instant.ofEpochSecond(minEpochSecond - 1));
+    while (next != null && next.toEpochSecond() < maxEpochSecond) {
+      expanded.add(next);
+      next = rules.nextTransition(next.getInstant());
+    }
+    this.transitions = new long[expanded.size()];
+    this.offsets = new ZoneOffset[expanded.size() + 1];
+    this.offsets[0] = rules.getOffset(Instant.ofEpochSecond(minEpochSecond));
+    for (int i = 0; i < transitions.length; i++) {
+      transitions[i] = expanded.get(i).toEpochSecond();
+      offsets[i + 1] = expanded.get(i).getOffsetAfter();
+    }
+  }
+
+  //empty table without any expanded years, every lookup is answered by the zone rules directly
+  private ZoneOffsetTable(ZoneId zone) {
+    this.zone = zone;
+    this.rules = zone.getRules();
+    this.minEpochSecond = 0L;
+    this.maxEpochSecond = 0L;
+    this.transitions = new long[0];
+    this.offsets = new ZoneOffset[0];
+  }
+
+  public static ZoneOffsetTable of(String id) {
+    return of(ZoneIdCache.of(Objects.requireNonNull(id, "id")), ZoneIdCache.shared().capacity());
+  }
+
+  static ZoneOffsetTable of(ZoneId zone, int capacity) {
+    ZoneOffsetTable table = TABLES.get(zone);
+    if (table != null)
+      return table;
+    //fixed offsets (e.g. +01:00 or UTC+05) have no transitions to expand, and once the shared tables
+    //are full the rules are used directly through an empty table instead of expanding one per call
+    boolean fixed = zone.getRules().isFixedOffset();
+    if (fixed || TABLES.size() >= capacity)
+      return rulesOnly(zone, fixed ? capacity : Integer.MAX_VALUE);
+    table = new ZoneOffsetTable(zone, MIN_YEAR, MAX_YEAR);
+    ZoneOffsetTable existing = TABLES.putIfAbsent(zone, table);
+    return existing != null ? existing : table;
+  }
+
+  private static ZoneOffsetTable rulesOnly(ZoneId zone, int capacity) {
+    ZoneOffsetTable table = RULES_ONLY.get(zone);
+    if (table != null)
+      return table;
+    table = new ZoneOffsetTable(zone);
+    if (RULES_ONLY.size() >= capacity)
+      return table;
+    ZoneOffsetTable existing = RULES_ONLY.putIfAbsent(zone, table);
+    return existing != null ? existing : table;
+  }
+
+  public ZoneId zone() {
+    return zone;
+  }
+
+  public ZoneOffset offsetAt(long epochSecond) {
+    if (epochSecond < minEpochSecond || epochSecond >= maxEpochSecond)
+      return rules.getOffset(Instant.ofEpochSecond(epochSecond));
+    return offsets[indexAt(epochSecond)];
+  }
+
+  //offset of a local datetime (given as epoch second on the local time-line) resolved the same way as
+  //ZonedDateTime.ofLocal does i.e. the preferred offset if it is valid, otherwise the earlier of the
+  //valid offsets. returns null if the local datetime falls into a gap
+  public ZoneOffset localOffset(long localEpochSecond, ZoneOffset preferred) {
+    if (isValid(localEpochSecond, preferred))
+      return preferred;
+    long from = localEpochSecond - MAX_OFFSET_SECONDS;
+    long to = localEpochSecond + MAX_OFFSET_SECONDS;
+    if (from < minEpochSecond || to >= maxEpochSecond) {
+      List<ZoneOffset> valid = rules.getValidOffsets(LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC));
+      return valid.isEmpty() ? null : valid.get(0);
+    }
+    //any valid offset has to be in effect at some instant within +/- 18 hours of the local datetime
+    for (int i = indexAt(from), last = indexAt(to); i <= last; i++) {
+      if (isValid(localEpochSecond, offsets[i]))
+        return offsets[i];
+    }
+    return null;
+  }
+
+  private boolean isValid(long localEpochSecond, ZoneOffset offset) {
+    return offsetAt(localEpochSecond - offset.getTotalSeconds()).getTotalSeconds() == offset.getTotalSeconds();
+  }
+
+  //count the transitions at or before the epoch second, the conditional moves compile to cmov
+  private int indexAt(long epochSecond) {
+    int base = 0;
+    int n = transitions.length;
+    while (n > 1) {
+      int half = n >>> 1;
+      base = transitions[base + half] <= epochSecond ? base + half : base;
+      n -= half;
+    }
+    return n == 1 && transitions[base] <= epochSecond ? base + 1 : base;
+  }
+
+  int size() {
+    return transitions.length;
+  }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ChronologyModeTests {
+
+  @Test
+  @DisplayName("chronology modes are looked up case-insensitively")
+  void lookupIsCaseInsensitive() {
+    for (ChronologyMode cm : ChronologyMode.values()) {
+      assertEquals(cm, ChronologyMode.of(cm.name()));
+      assertEquals(cm, ChronologyMode.of(cm.name().toLowerCase()));
+    }
+    assertEquals(ChronologyMode.IS_AFTER_OR_EQUAL, ChronologyMode.of("Is_After_Or_Equal"));
+  }
+
+  @Test
+  @DisplayName("invalid chronology modes result in null instead of an exception")
+  void invalidModeIsNull() {
+    assertNull(ChronologyMode.of("ILLEGAL"));
+    assertNull(ChronologyMode.of(""));
+    assertNull(ChronologyMode.of("IS_BEFORE "));
+  }
+
+  @Test
+  @DisplayName("chronology modes are applied to the result of a comparison")
+  void modesTestComparison() {
+    assertTrue(ChronologyMode.IS_BEFORE.test(-1));
+    assertFalse(ChronologyMode.IS_BEFORE.test(0));
+    assertTrue(ChronologyMode.IS_AFTER.test(1));
+    assertFalse(ChronologyMode.IS_AFTER.test(0));
+    assertTrue(ChronologyMode.IS_EQUAL.test(0));
+    assertFalse(ChronologyMode.IS_EQUAL.test(-1));
+    assertTrue(ChronologyMode.IS_BEFORE_OR_EQUAL.test(0));
+    assertTrue(ChronologyMode.IS_BEFORE_OR_EQUAL.test(-1));
+    assertFalse(ChronologyMode.IS_BEFORE_OR_EQUAL.test(1));
+    assertTrue(ChronologyMode.IS_AFTER_OR_EQUAL.test(0));
+    assertTrue(ChronologyMode.IS_AFTER_OR_EQUAL.test(1));
+    assertFalse(ChronologyMode.IS_AFTER_OR_EQUAL.test(-1));
+  }
+
+}
@@ -36,6 +36,7 @@ public class DurationUdfsArgumentsProvider {
   private static final String SAMPLES_DT_DURATION_MULTIPLY_STRUCT_LONG = "duration/udf_dt_duration_multiply_baseduration_scalar_samples.json";
   private static final String SAMPLES_DT_DURATION_PLUS_STRUCT_STRUCT = "duration/udf_dt_duration_plus_baseduration_addduration_samples.json";
   private static final String SAMPLES_DT_DURATION_STRINGIFY = "duration/udf_dt_duration_stringify_samples.json";
+  private static final String SAMPLES_DT_TRY_DURATION_TEXT = "duration/udf_dt_try_duration_text_samples.json";
 
   public static Stream<Arguments> createDurationSamplesSeconds() {
 
@@ -145,5 +146,15 @@ public class DurationUdfsArgumentsProvider {
         );
   }
 
+  public static Stream<Arguments> tryCreateDurationSamplesText() {
+    return parseJsonSampleFile(SAMPLES_DT_TRY_DURATION_TEXT)
+        .stream()
+        .map(jo -> arguments(
+            jo.getString("param_text",null),
+            JsonExtractor.toDurationStruct(jo,"param_default"),
+            JsonExtractor.toDurationStruct(jo,"result")
+            )
+        );
+  }
 
 }
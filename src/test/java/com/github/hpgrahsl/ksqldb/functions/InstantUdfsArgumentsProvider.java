@@ -30,11 +30,16 @@ public class InstantUdfsArgumentsProvider {
   private static final String SAMPLES_DT_INSTANT_SECONDS_NANOS = "instant/udf_dt_instant_seconds_nanos_samples.json";
   private static final String SAMPLES_DT_INSTANT_STRING = "instant/udf_dt_instant_text_samples.json";
   private static final String SAMPLES_DT_INSTANT_CHRONOLOGY = "instant/udf_dt_instant_chronology_samples.json";
+  private static final String SAMPLES_DT_INSTANT_COMPARE = "instant/udf_dt_instant_compare_samples.json";
   private static final String SAMPLES_DT_INSTANT_MINUS_DURATION= "instant/udf_dt_instant_minus_duration_samples.json";
   private static final String SAMPLES_DT_INSTANT_PLUS_DURATION= "instant/udf_dt_instant_plus_duration_samples.json";
   private static final String SAMPLES_DT_INSTANT_MINUS_SECONDS_NANOS= "instant/udf_dt_instant_minus_seconds_nanos_samples.json";
   private static final String SAMPLES_DT_INSTANT_PLUS_SECONDS_NANOS= "instant/udf_dt_instant_plus_seconds_nanos_samples.json";
   private static final String SAMPLES_DT_INSTANT_STRINGIFY= "instant/udf_dt_instant_stringify_samples.json";
+  private static final String SAMPLES_DT_INSTANT_TRUNCATE_DURATION= "instant/udf_dt_instant_truncate_duration_samples.json";
+  private static final String SAMPLES_DT_INSTANT_TRUNCATE_CALENDARUNIT= "instant/udf_dt_instant_truncate_calendarunit_samples.json";
+  private static final String SAMPLES_DT_INSTANT_ATZONE= "instant/udf_dt_instant_atzone_samples.json";
+  private static final String SAMPLES_DT_TRY_INSTANT_TEXT = "instant/udf_dt_try_instant_text_samples.json";
 
   public static Stream<Arguments> createInstantSamplesMillis() {
 
@@ -80,6 +85,17 @@ public class InstantUdfsArgumentsProvider {
         );
   }
 
+  public static Stream<Arguments> compareSamples() {
+    return parseJsonSampleFile(SAMPLES_DT_INSTANT_COMPARE)
+        .stream()
+        .map(jo -> arguments(
+            JsonExtractor.toInstantStruct(jo,"param_baseInstant"),
+            JsonExtractor.toInstantStruct(jo,"param_instant"),
+            jo.isNull("result") ? null : jo.getInt("result")
+            )
+        );
+  }
+
   public static Stream<Arguments> minusSamplesDuration() {
     return calcSamplesDuration("minus");
   }
@@ -131,4 +147,50 @@ public class InstantUdfsArgumentsProvider {
         );
   }
 
+  public static Stream<Arguments> truncateSamplesDuration() {
+    return parseJsonSampleFile(SAMPLES_DT_INSTANT_TRUNCATE_DURATION)
+        .stream()
+        .map(jo -> arguments(
+            JsonExtractor.toInstantStruct(jo,"param_instant"),
+            JsonExtractor.toDurationStruct(jo,"param_duration"),
+            JsonExtractor.toInstantStruct(jo,"param_origin"),
+            JsonExtractor.toInstantStruct(jo,"result")
+            )
+        );
+  }
+
+  public static Stream<Arguments> truncateSamplesCalendarUnit() {
+    return parseJsonSampleFile(SAMPLES_DT_INSTANT_TRUNCATE_CALENDARUNIT)
+        .stream()
+        .map(jo -> arguments(
+            JsonExtractor.toInstantStruct(jo,"param_instant"),
+            jo.getString("param_calendarUnit",null),
+            JsonExtractor.toZoneIdStruct(jo,"param_zoneId"),
+            JsonExtractor.toInstantStruct(jo,"result")
+            )
+        );
+  }
+
+  public static Stream<Arguments> atZoneSamples() {
+    return parseJsonSampleFile(SAMPLES_DT_INSTANT_ATZONE)
+        .stream()
+        .map(jo -> arguments(
+            JsonExtractor.toInstantStruct(jo,"param_instant"),
+            JsonExtractor.toZoneIdStruct(jo,"param_zoneId"),
+            JsonExtractor.toZonedDateTimeStruct(jo,"result")
+            )
+        );
+  }
+
+  public static Stream<Arguments> tryCreateInstantSamplesText() {
+    return parseJsonSampleFile(SAMPLES_DT_TRY_INSTANT_TEXT)
+        .stream()
+        .map(jo -> arguments(
+            jo.getString("param_text",null),
+            JsonExtractor.toInstantStruct(jo,"param_default"),
+            JsonExtractor.toInstantStruct(jo,"result")
+            )
+        );
+  }
+
 }
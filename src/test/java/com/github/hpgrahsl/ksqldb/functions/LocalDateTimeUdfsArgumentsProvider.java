@@ -36,6 +36,9 @@ public class LocalDateTimeUdfsArgumentsProvider {
   private static final String SAMPLES_DT_LOCALDATETIME_PLUS_BASELOCALDATETIME_PERIOD_DURATION = "localdatetime/udf_dt_localdatetime_plus_localdatetime_period_duration_samples.json";
   private static final String SAMPLES_DT_LOCALDATETIME_TEXT = "localdatetime/udf_dt_localdatetime_text_samples.json";
   private static final String SAMPLES_DT_LOCALDATETIME_TEXT_PATTERN = "localdatetime/udf_dt_localdatetime_text_pattern_samples.json";
+  private static final String SAMPLES_DT_LOCALDATETIME_TRUNCATE_DURATION = "localdatetime/udf_dt_localdatetime_truncate_duration_samples.json";
+  private static final String SAMPLES_DT_LOCALDATETIME_TRUNCATE_CALENDARUNIT = "localdatetime/udf_dt_localdatetime_truncate_calendarunit_samples.json";
+  private static final String SAMPLES_DT_TRY_LOCALDATETIME_TEXT = "localdatetime/udf_dt_try_localdatetime_text_samples.json";
 
 
   public static Stream<Arguments> createLocalDateTimeSamplesLocalDateLocalTime() {
@@ -153,4 +156,38 @@ public class LocalDateTimeUdfsArgumentsProvider {
         );
   }
 
+  public static Stream<Arguments> truncateSamplesDuration() {
+    return parseJsonSampleFile(SAMPLES_DT_LOCALDATETIME_TRUNCATE_DURATION)
+        .stream()
+        .map(jo -> arguments(
+            JsonExtractor.toLocalDateTimeStruct(jo,"param_localDateTime"),
+            JsonExtractor.toDurationStruct(jo,"param_duration"),
+            JsonExtractor.toLocalDateTimeStruct(jo,"param_origin"),
+            JsonExtractor.toLocalDateTimeStruct(jo,"result")
+            )
+        );
+  }
+
+  public static Stream<Arguments> truncateSamplesCalendarUnit() {
+    return parseJsonSampleFile(SAMPLES_DT_LOCALDATETIME_TRUNCATE_CALENDARUNIT)
+        .stream()
+        .map(jo -> arguments(
+            JsonExtractor.toLocalDateTimeStruct(jo,"param_localDateTime"),
+            jo.getString("param_calendarUnit",null),
+            JsonExtractor.toLocalDateTimeStruct(jo,"result")
+            )
+        );
+  }
+
+  public static Stream<Arguments> tryCreateLocalDateTimeSamplesText() {
+    return parseJsonSampleFile(SAMPLES_DT_TRY_LOCALDATETIME_TEXT)
+        .stream()
+        .map(jo -> arguments(
+            jo.getString("param_text",null),
+            JsonExtractor.toLocalDateTimeStruct(jo,"param_default"),
+            JsonExtractor.toLocalDateTimeStruct(jo,"result")
+            )
+        );
+  }
+
 }
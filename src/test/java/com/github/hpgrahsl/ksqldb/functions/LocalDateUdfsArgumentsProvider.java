@@ -35,6 +35,7 @@ public class LocalDateUdfsArgumentsProvider {
   private static final String SAMPLES_DT_LOCALDATE_PLUS_BASELOCALDATE_PERIOD = "localdate/udf_dt_localdate_plus_localdate_period_samples.json";
   private static final String SAMPLES_DT_LOCALDATE_TEXT = "localdate/udf_dt_localdate_text_samples.json";
   private static final String SAMPLES_DT_LOCALDATE_TEXT_PATTERN = "localdate/udf_dt_localdate_text_pattern_samples.json";
+  private static final String SAMPLES_DT_TRY_LOCALDATE_TEXT = "localdate/udf_dt_try_localdate_text_samples.json";
 
   public static Stream<Arguments> createLocalDateSamplesYearsMonthsDays() {
     return parseJsonSampleFile(SAMPLES_DT_LOCALDATE_YEARS_MONTHS_DAYS)
@@ -134,4 +135,15 @@ public class LocalDateUdfsArgumentsProvider {
         );
   }
 
+  public static Stream<Arguments> tryCreateLocalDateSamplesText() {
+    return parseJsonSampleFile(SAMPLES_DT_TRY_LOCALDATE_TEXT)
+        .stream()
+        .map(jo -> arguments(
+            jo.getString("param_text",null),
+            JsonExtractor.toLocalDateStruct(jo,"param_default"),
+            JsonExtractor.toLocalDateStruct(jo,"result")
+            )
+        );
+  }
+
 }
@@ -35,6 +35,7 @@ public class LocalTimeUdfsArgumentsProvider {
   private static final String SAMPLES_DT_LOCALTIME_PLUS_BASELOCALTIME_DURATION = "localtime/udf_dt_localtime_plus_localtime_duration_samples.json";
   private static final String SAMPLES_DT_LOCALTIME_TEXT = "localtime/udf_dt_localtime_text_samples.json";
   private static final String SAMPLES_DT_LOCALTIME_TEXT_PATTERN = "localtime/udf_dt_localtime_text_pattern_samples.json";
+  private static final String SAMPLES_DT_TRY_LOCALTIME_TEXT = "localtime/udf_dt_try_localtime_text_samples.json";
 
   public static Stream<Arguments> createLocalTimeSamplesHoursMinutesSeconds() {
     return parseJsonSampleFile(SAMPLES_DT_LOCALTIME_HOURS_MINUTES_SECONDS)
@@ -137,4 +138,15 @@ public class LocalTimeUdfsArgumentsProvider {
         );
   }
 
+  public static Stream<Arguments> tryCreateLocalTimeSamplesText() {
+    return parseJsonSampleFile(SAMPLES_DT_TRY_LOCALTIME_TEXT)
+        .stream()
+        .map(jo -> arguments(
+            jo.getString("param_text",null),
+            JsonExtractor.toLocalTimeStruct(jo,"param_default"),
+            JsonExtractor.toLocalTimeStruct(jo,"result")
+            )
+        );
+  }
+
 }
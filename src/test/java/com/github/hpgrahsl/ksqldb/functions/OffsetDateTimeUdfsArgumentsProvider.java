@@ -35,6 +35,7 @@ public class OffsetDateTimeUdfsArgumentsProvider {
   private static final String SAMPLES_DT_OFFSETDATETIME_CHRONOLOGY = "offsetdatetime/udf_dt_offsetdatetime_chronology_samples.json";
   private static final String SAMPLES_DT_OFFSETDATETIME_MINUS_BASEOFFSETDATETIME_PERIOD_DURATION = "offsetdatetime/udf_dt_offsetdatetime_minus_offsetdatetime_period_duration_samples.json";
   private static final String SAMPLES_DT_OFFSETDATETIME_PLUS_BASEOFFSETDATETIME_PERIOD_DURATION = "offsetdatetime/udf_dt_offsetdatetime_plus_offsetdatetime_period_duration_samples.json";
+  private static final String SAMPLES_DT_TRY_OFFSETDATETIME_TEXT = "offsetdatetime/udf_dt_try_offsetdatetime_text_samples.json";
 
   public static Stream<Arguments> createOffsetDateTimeSamplesLocalDateTimeZoneOffset() {
     return parseJsonSampleFile(SAMPLES_DT_OFFSETDATETIME_LOCALDATETIME_ZONEOFFSET)
@@ -137,4 +138,15 @@ public class OffsetDateTimeUdfsArgumentsProvider {
         );
   }
 
+  public static Stream<Arguments> tryCreateOffsetDateTimeSamplesText() {
+    return parseJsonSampleFile(SAMPLES_DT_TRY_OFFSETDATETIME_TEXT)
+        .stream()
+        .map(jo -> arguments(
+            jo.getString("param_text",null),
+            JsonExtractor.toOffsetDateTimeStruct(jo,"param_default"),
+            JsonExtractor.toOffsetDateTimeStruct(jo,"result")
+            )
+        );
+  }
+
 }
@@ -34,6 +34,7 @@ public class PeriodUdfsArgumentsProvider {
   private static final String SAMPLES_DT_PERIOD_NORMALIZE_PERIOD = "period/udf_dt_period_normalize_period_samples.json";
   private static final String SAMPLES_DT_PERIOD_PLUS_BASEPERIOD_ADDPERIOD = "period/udf_dt_period_plus_baseperiod_addperiod_samples.json";
   private static final String SAMPLES_DT_PERIOD_STRINGIFY = "period/udf_dt_period_stringify_samples.json";
+  private static final String SAMPLES_DT_TRY_PERIOD_TEXT = "period/udf_dt_try_period_text_samples.json";
 
   public static Stream<Arguments> createPeriodSamplesYearsMonthsDays() {
 
@@ -134,4 +135,15 @@ public class PeriodUdfsArgumentsProvider {
 
   }
 
+  public static Stream<Arguments> tryCreatePeriodSamplesText() {
+    return parseJsonSampleFile(SAMPLES_DT_TRY_PERIOD_TEXT)
+        .stream()
+        .map(jo -> arguments(
+            jo.getString("param_text",null),
+            JsonExtractor.toPeriodStruct(jo,"param_default"),
+            JsonExtractor.toPeriodStruct(jo,"result")
+            )
+        );
+  }
+
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import io.confluent.ksql.function.udaf.TableUdaf;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UdafDurationPercentilesTests {
+
+  private static final int SAMPLES = 50_000;
+  private static final double MAX_RELATIVE_ERROR = 0.01;
+  private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+  private static final Field[] FIELDS = {
+      DateTimeSchemas.DURATION_PERCENTILES_P50_FIELD, DateTimeSchemas.DURATION_PERCENTILES_P90_FIELD,
+      DateTimeSchemas.DURATION_PERCENTILES_P99_FIELD, DateTimeSchemas.DURATION_PERCENTILES_P999_FIELD};
+
+  private final Random random = new Random(42L);
+
+  @Test
+  @DisplayName("approximated percentiles of durations are within 1% of the exact ones")
+  void percentilesOfDurations() {
+    long[] nanos = randomLatencies();
+    TableUdaf<Struct, Struct, Struct> udaf = UdafDurationPercentiles.percentiles();
+    Struct agg = udaf.initialize();
+    for (long n : nanos) {
+      agg = udaf.aggregate(StructsConverter.toDurationStruct(Duration.ofNanos(n)), agg);
+    }
+    assertPercentiles(nanos, udaf.map(agg));
+  }
+
+  @Test
+  @DisplayName("merged partial aggregates of nanos result in the same percentiles as a single aggregate")
+  void mergedPercentilesOfNanos() {
+    long[] nanos = randomLatencies();
+    TableUdaf<Long, Struct, Struct> udaf = UdafDurationPercentiles.percentilesOfNanos();
+    Struct all = udaf.initialize();
+    Struct first = udaf.initialize();
+    Struct second = udaf.initialize();
+    for (int i = 0; i < nanos.length; i++) {
+      all = udaf.aggregate(nanos[i], all);
+      if (i % 3 == 0) {
+        first = udaf.aggregate(nanos[i], first);
+      } else {
+        second = udaf.aggregate(nanos[i], second);
+      }
+    }
+    Struct merged = udaf.merge(first, second);
+    assertEquals(udaf.map(all), udaf.map(merged));
+    assertPercentiles(nanos, udaf.map(merged));
+    assertEquals(udaf.map(all), udaf.map(udaf.merge(udaf.initialize(), all)));
+  }
+
+  @Test
+  @DisplayName("undone values no longer contribute and empty aggregates result in null")
+  void undoAndEmpty() {
+    TableUdaf<Long, Struct, Struct> udaf = UdafDurationPercentiles.percentilesOfNanos();
+    assertNull(udaf.map(udaf.initialize()));
+    Struct agg = udaf.aggregate(5L, udaf.aggregate(7L, udaf.aggregate(null, udaf.initialize())));
+    agg = udaf.undo(7L, agg);
+    assertEquals(StructsConverter.toDurationStruct(Duration.ofNanos(5)),
+        udaf.map(agg).get(DateTimeSchemas.DURATION_PERCENTILES_P999_FIELD));
+    assertNull(udaf.map(udaf.undo(5L, agg)));
+  }
+
+  private void assertPercentiles(long[] nanos, Struct percentiles) {
+    long[] sorted = nanos.clone();
+    Arrays.sort(sorted);
+    for (int p = 0; p < PERCENTILES.length; p++) {
+      long exact = sorted[(int)Math.ceil(PERCENTILES[p] * sorted.length) - 1];
+      long approx = StructsConverter.fromDurationStruct((Struct)percentiles.get(FIELDS[p])).toNanos();
+      assertTrue(Math.abs(approx - exact) <= exact * MAX_RELATIVE_ERROR,
+          () -> "exact " + exact + " but approximated " + approx);
+    }
+  }
+
+  //log-normally distributed latencies around a few milliseconds
+  private long[] randomLatencies() {
+    long[] nanos = new long[SAMPLES];
+    for (int i = 0; i < SAMPLES; i++) {
+      nanos[i] = (long)Math.exp(15 + 1.5 * random.nextGaussian());
+    }
+    return nanos;
+  }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import io.confluent.ksql.function.udaf.TableUdaf;
+import io.confluent.ksql.function.udaf.Udaf;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UdafDurationTests {
+
+  private static final int SAMPLES = 1_000;
+
+  private final Random random = new Random(42L);
+
+  @Test
+  @DisplayName("dt_duration_sum/avg/min/max match the results calculated with java.time")
+  void aggregateDurations() {
+    List<Duration> durations = randomDurations();
+    Duration sum = durations.stream().reduce(Duration.ZERO, Duration::plus);
+    assertEquals(sum, aggregate(UdafDurationSum.sum(), durations));
+    assertEquals(sum.dividedBy(durations.size()), aggregate(UdafDurationAvg.avg(), durations));
+    assertEquals(durations.stream().min(Comparator.naturalOrder()).get(), aggregate(UdafDurationMin.min(), durations));
+    assertEquals(durations.stream().max(Comparator.naturalOrder()).get(), aggregate(UdafDurationMax.max(), durations));
+  }
+
+  @Test
+  @DisplayName("merging partial aggregates equals aggregating all durations at once")
+  void mergeAggregates() {
+    List<Duration> durations = randomDurations();
+    int split = random.nextInt(durations.size());
+    for (Udaf<Struct, Struct, Struct> udaf : List.of(UdafDurationSum.sum(), UdafDurationAvg.avg(),
+        UdafDurationMin.min(), UdafDurationMax.max())) {
+      Struct merged = udaf.merge(
+          aggregateAll(udaf, durations.subList(0, split)),
+          aggregateAll(udaf, durations.subList(split, durations.size())));
+      assertEquals(aggregate(udaf, durations), StructsConverter.fromDurationStruct(udaf.map(merged)));
+      assertEquals(aggregate(udaf, durations), StructsConverter.fromDurationStruct(
+          udaf.map(udaf.merge(udaf.initialize(), aggregateAll(udaf, durations)))));
+    }
+  }
+
+  @Test
+  @DisplayName("undoing durations removes them from sums and averages")
+  void undoDurations() {
+    List<Duration> durations = randomDurations();
+    for (TableUdaf<Struct, Struct, Struct> udaf : List.of(UdafDurationSum.sum(), UdafDurationAvg.avg())) {
+      Struct agg = aggregateAll(udaf, durations);
+      for (Duration d : durations.subList(10, durations.size())) {
+        agg = udaf.undo(StructsConverter.toDurationStruct(d), agg);
+      }
+      assertEquals(aggregate(udaf, durations.subList(0, 10)), StructsConverter.fromDurationStruct(udaf.map(agg)));
+    }
+  }
+
+  @Test
+  @DisplayName("null durations are skipped and empty aggregates result in zero or null")
+  void emptyAggregates() {
+    List<Duration> nothing = new ArrayList<>();
+    nothing.add(null);
+    assertEquals(Duration.ZERO, aggregate(UdafDurationSum.sum(), nothing));
+    assertNull(UdafDurationAvg.avg().map(aggregateAll(UdafDurationAvg.avg(), nothing)));
+    assertNull(UdafDurationMin.min().map(aggregateAll(UdafDurationMin.min(), nothing)));
+    assertNull(UdafDurationMax.max().map(aggregateAll(UdafDurationMax.max(), nothing)));
+  }
+
+  @Test
+  @DisplayName("overflowing sums are rejected like Duration.plus does")
+  void overflowingSum() {
+    assertThrows(ArithmeticException.class,
+        () -> aggregate(UdafDurationSum.sum(), List.of(Duration.ofSeconds(Long.MAX_VALUE), Duration.ofNanos(1_000_000_000))));
+  }
+
+  private Duration aggregate(Udaf<Struct, Struct, Struct> udaf, List<Duration> durations) {
+    return StructsConverter.fromDurationStruct(udaf.map(aggregateAll(udaf, durations)));
+  }
+
+  private Struct aggregateAll(Udaf<Struct, Struct, Struct> udaf, List<Duration> durations) {
+    Struct agg = udaf.initialize();
+    for (Duration d : durations) {
+      agg = udaf.aggregate(d != null ? StructsConverter.toDurationStruct(d) : null, agg);
+    }
+    return agg;
+  }
+
+  private List<Duration> randomDurations() {
+    List<Duration> durations = new ArrayList<>();
+    for (int i = 0; i < SAMPLES; i++) {
+      durations.add(Duration.ofSeconds(random.nextInt() / 2, random.nextInt(1_000_000_000)));
+    }
+    return durations;
+  }
+
+}
@@ -49,6 +49,22 @@ public class UdfDurationTests {
     assertEquals(result, new UdfDuration().createDuration(text));
   }
 
+  @DisplayName("applying UDF dt_try_duration with valid text")
+  @ParameterizedTest(name = "dt_try_duration({0}) = {1}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.DurationUdfsArgumentsProvider#createDurationSamplesString")
+  void applyUdfTryDurationValidText(String text,Struct result) {
+    assertEquals(result, new UdfTryDuration().tryCreateDuration(text));
+  }
+
+  @DisplayName("applying UDF dt_try_duration with (invalid) text and default")
+  @ParameterizedTest(name = "dt_try_duration({0},{1}) = {2}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.DurationUdfsArgumentsProvider#tryCreateDurationSamplesText")
+  void applyUdfTryDurationTextDefault(String text,Struct defaultValue,Struct result) {
+    assertEquals(result, new UdfTryDuration().tryCreateDuration(text,defaultValue));
+    if (defaultValue == null)
+      assertEquals(result, new UdfTryDuration().tryCreateDuration(text));
+  }
+
   @DisplayName("applying UDF dt_duration_between with struct and struct")
   @ParameterizedTest(name = "dt_duration_between({0},{1}) = {2}")
   @MethodSource("com.github.hpgrahsl.ksqldb.functions.DurationUdfsArgumentsProvider#betweenSamplesStructStruct")
@@ -18,7 +18,10 @@
 package com.github.hpgrahsl.ksqldb.functions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.util.Arrays;
+import java.util.List;
 import org.apache.kafka.connect.data.Struct;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -47,6 +50,22 @@ public class UdfInstantTests {
     assertEquals(result, new UdfInstant().createInstant(text));
   }
 
+  @DisplayName("applying UDF dt_try_instant with valid text")
+  @ParameterizedTest(name = "dt_try_instant({0}) = {1}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.InstantUdfsArgumentsProvider#createInstantSamplesString")
+  void applyUdfTryInstantValidText(String text,Struct result) {
+    assertEquals(result, new UdfTryInstant().tryCreateInstant(text));
+  }
+
+  @DisplayName("applying UDF dt_try_instant with (invalid) text and default")
+  @ParameterizedTest(name = "dt_try_instant({0},{1}) = {2}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.InstantUdfsArgumentsProvider#tryCreateInstantSamplesText")
+  void applyUdfTryInstantTextDefault(String text,Struct defaultValue,Struct result) {
+    assertEquals(result, new UdfTryInstant().tryCreateInstant(text,defaultValue));
+    if (defaultValue == null)
+      assertEquals(result, new UdfTryInstant().tryCreateInstant(text));
+  }
+
   @DisplayName("applying UDF dt_instant_chronology with Struct, Struct, String")
   @ParameterizedTest(name = "dt_instant_chronology({0},{1},{2}) = {3}")
   @MethodSource("com.github.hpgrahsl.ksqldb.functions.InstantUdfsArgumentsProvider#checkChronologySamples")
@@ -54,6 +73,24 @@ public class UdfInstantTests {
     assertEquals(result, new UdfInstantChronology().checkChronology(baseInstant, instant, mode));
   }
 
+  @DisplayName("applying UDF dt_instant_chronology with baseInstant, instants array, chronologyMode")
+  @ParameterizedTest(name = "dt_instant_chronology({0},[{1},null,{1}],{2}) = [{3},null,{3}]")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.InstantUdfsArgumentsProvider#checkChronologySamples")
+  void applyUdfInstantChronologyBatch(Struct baseInstant,Struct instant,String chronologyMode,Boolean result) {
+    List<Boolean> results = new UdfInstantChronology().checkChronology(baseInstant, Arrays.asList(instant, null, instant), chronologyMode);
+    if (baseInstant == null || chronologyMode == null || ChronologyMode.of(chronologyMode) == null)
+      assertNull(results);
+    else
+      assertEquals(Arrays.asList(result, null, result), results);
+  }
+
+  @DisplayName("applying UDF dt_instant_chronology with baseInstant Struct and instant Struct")
+  @ParameterizedTest(name = "dt_instant_chronology({0},{1}) = {2}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.InstantUdfsArgumentsProvider#compareSamples")
+  void applyUdfInstantChronologyCompare(Struct baseInstant, Struct instant, Integer result) {
+    assertEquals(result, new UdfInstantChronology().compare(baseInstant, instant));
+  }
+
   @DisplayName("applying UDF dt_instant_minus with instant Struct and duration Struct")
   @ParameterizedTest(name = "dt_instant_minus({0},{1}) = {2}")
   @MethodSource("com.github.hpgrahsl.ksqldb.functions.InstantUdfsArgumentsProvider#minusSamplesDuration")
@@ -75,6 +112,14 @@ public class UdfInstantTests {
     assertEquals(result, new UdfInstantPlus().plus(instant, duration));
   }
 
+  @DisplayName("applying UDF dt_instant_plus with instants array and duration Struct")
+  @ParameterizedTest(name = "dt_instant_plus([{0},null,{0}],{1}) = [{2},null,{2}]")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.InstantUdfsArgumentsProvider#plusSamplesDuration")
+  void applyUdfInstantPlusBatch(Struct instant, Struct duration, Struct result) {
+    assertEquals(duration != null ? Arrays.asList(result, null, result) : null,
+        new UdfInstantPlus().plus(Arrays.asList(instant, null, instant), duration));
+  }
+
   @DisplayName("applying UDF dt_instant_plus with instant Struct, seconds and nanos")
   @ParameterizedTest(name = "dt_instant_plus({0},{1},{2}) = {3}")
   @MethodSource("com.github.hpgrahsl.ksqldb.functions.InstantUdfsArgumentsProvider#plusSamplesSecondsNanos")
@@ -89,4 +134,37 @@ public class UdfInstantTests {
     assertEquals(result, new UdfInstantStringify().stringify(instant));
   }
 
+  @DisplayName("applying UDF dt_instant_truncate with instant Struct, duration Struct and origin Struct")
+  @ParameterizedTest(name = "dt_instant_truncate({0},{1},{2}) = {3}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.InstantUdfsArgumentsProvider#truncateSamplesDuration")
+  void applyUdfInstantTruncateDuration(Struct instant, Struct bucket, Struct origin, Struct result) {
+    assertEquals(result, new UdfInstantTruncate().truncate(instant, bucket, origin));
+    if (origin != null && (Long)origin.get("SECONDS_FIELD") == 0L && (Integer)origin.get("NANOS_FIELD") == 0)
+      assertEquals(result, new UdfInstantTruncate().truncate(instant, bucket));
+  }
+
+  @DisplayName("applying UDF dt_instant_truncate with instant Struct, calendarUnit and zoneId Struct")
+  @ParameterizedTest(name = "dt_instant_truncate({0},{1},{2}) = {3}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.InstantUdfsArgumentsProvider#truncateSamplesCalendarUnit")
+  void applyUdfInstantTruncateCalendarUnit(Struct instant, String calendarUnit, Struct zoneId, Struct result) {
+    assertEquals(result, new UdfInstantTruncate().truncate(instant, calendarUnit, zoneId));
+  }
+
+  @DisplayName("applying UDF dt_instant_atzone with instant Struct and zoneId Struct")
+  @ParameterizedTest(name = "dt_instant_atzone({0},{1}) = {2}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.InstantUdfsArgumentsProvider#atZoneSamples")
+  void applyUdfInstantAtZone(Struct instant, Struct zoneId, Struct result) {
+    assertEquals(result, new UdfInstantAtZone().atZone(instant, zoneId));
+  }
+
+  @DisplayName("applying UDF dt_instant_atzone with instant Struct and zoneIds array")
+  @ParameterizedTest(name = "dt_instant_atzone({0},[{1},null,{1}]) = [{2},null,{2}]")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.InstantUdfsArgumentsProvider#atZoneSamples")
+  void applyUdfInstantAtZones(Struct instant, Struct zoneId, Struct result) {
+    List<Struct> results = new UdfInstantAtZone().atZone(instant, Arrays.asList(zoneId, null, zoneId));
+    if (instant == null)
+      assertNull(results);
+    else
+      assertEquals(Arrays.asList(result, null, result), results);
+  }
 }
@@ -18,7 +18,10 @@
 package com.github.hpgrahsl.ksqldb.functions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.util.Arrays;
+import java.util.List;
 import org.apache.kafka.connect.data.Struct;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -47,6 +50,22 @@ public class UdfLocalDateTests {
     assertEquals(result, new UdfLocalDate().createLocalDate(text));
   }
 
+  @DisplayName("applying UDF dt_try_localdate with valid text")
+  @ParameterizedTest(name = "dt_try_localdate({0}) = {1}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalDateUdfsArgumentsProvider#createLocalDateSamplesText")
+  void applyUdfTryLocalDateValidText(String text,Struct result) {
+    assertEquals(result, new UdfTryLocalDate().tryCreateLocalDate(text));
+  }
+
+  @DisplayName("applying UDF dt_try_localdate with (invalid) text and default")
+  @ParameterizedTest(name = "dt_try_localdate({0},{1}) = {2}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalDateUdfsArgumentsProvider#tryCreateLocalDateSamplesText")
+  void applyUdfTryLocalDateTextDefault(String text,Struct defaultValue,Struct result) {
+    assertEquals(result, new UdfTryLocalDate().tryCreateLocalDate(text,defaultValue));
+    if (defaultValue == null)
+      assertEquals(result, new UdfTryLocalDate().tryCreateLocalDate(text));
+  }
+
   @DisplayName("applying UDF dt_localdate with text and pattern")
   @ParameterizedTest(name = "dt_localdate({0},{1}) = {2}")
   @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalDateUdfsArgumentsProvider#createLocalDateSamplesTextPattern")
@@ -75,6 +94,17 @@ public class UdfLocalDateTests {
     assertEquals(result, new UdfLocalDateChronology().check(baseLocalDate,localDate,chronologyMode));
   }
 
+  @DisplayName("applying UDF dt_localdate_chronology with baseLocalDate, localDates array, chronologyMode")
+  @ParameterizedTest(name = "dt_localdate_chronology({0},[{1},null,{1}],{2}) = [{3},null,{3}]")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalDateUdfsArgumentsProvider#chronologySamples")
+  void applyUdfLocalDateChronologyBatch(Struct baseLocalDate,Struct localDate,String chronologyMode,Boolean result) {
+    List<Boolean> results = new UdfLocalDateChronology().check(baseLocalDate, Arrays.asList(localDate, null, localDate), chronologyMode);
+    if (baseLocalDate == null || chronologyMode == null || ChronologyMode.of(chronologyMode) == null)
+      assertNull(results);
+    else
+      assertEquals(Arrays.asList(result, null, result), results);
+  }
+
   @DisplayName("applying UDF dt_localdate_minus with baseLocalDate and duration")
   @ParameterizedTest(name = "dt_localdate_minus({0},{1}) = {2}")
   @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalDateUdfsArgumentsProvider#minusSamplesBaseLocalDatePeriod")
@@ -18,7 +18,10 @@
 package com.github.hpgrahsl.ksqldb.functions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.util.Arrays;
+import java.util.List;
 import org.apache.kafka.connect.data.Struct;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -54,6 +57,22 @@ public class UdfLocalDateTimeTests {
     assertEquals(result, new UdfLocalDateTime().createLocalDateTime(text));
   }
 
+  @DisplayName("applying UDF dt_try_localdatetime with valid text")
+  @ParameterizedTest(name = "dt_try_localdatetime({0}) = {1}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalDateTimeUdfsArgumentsProvider#createLocalDateTimeSamplesText")
+  void applyUdfTryLocalDateTimeValidText(String text,Struct result) {
+    assertEquals(result, new UdfTryLocalDateTime().tryCreateLocalDateTime(text));
+  }
+
+  @DisplayName("applying UDF dt_try_localdatetime with (invalid) text and default")
+  @ParameterizedTest(name = "dt_try_localdatetime({0},{1}) = {2}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalDateTimeUdfsArgumentsProvider#tryCreateLocalDateTimeSamplesText")
+  void applyUdfTryLocalDateTimeTextDefault(String text,Struct defaultValue,Struct result) {
+    assertEquals(result, new UdfTryLocalDateTime().tryCreateLocalDateTime(text,defaultValue));
+    if (defaultValue == null)
+      assertEquals(result, new UdfTryLocalDateTime().tryCreateLocalDateTime(text));
+  }
+
   @DisplayName("applying UDF dt_localdatetime with text and pattern")
   @ParameterizedTest(name = "dt_localdatetime({0},{1}) = {2}")
   @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalDateTimeUdfsArgumentsProvider#createLocalDateTimeSamplesTextPattern")
@@ -82,6 +101,17 @@ public class UdfLocalDateTimeTests {
     assertEquals(result, new UdfLocalDateTimeChronology().check(baseLocalDateTime, localDateTime, chronologyMode));
   }
 
+  @DisplayName("applying UDF dt_localdatetime_chronology with baseLocalDateTime, localDateTimes array, chronologyMode")
+  @ParameterizedTest(name = "dt_localdatetime_chronology({0},[{1},null,{1}],{2}) = [{3},null,{3}]")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalDateTimeUdfsArgumentsProvider#chronologySamples")
+  void applyUdfLocalDateTimeChronologyBatch(Struct baseLocalDateTime,Struct localDateTime,String chronologyMode,Boolean result) {
+    List<Boolean> results = new UdfLocalDateTimeChronology().check(baseLocalDateTime, Arrays.asList(localDateTime, null, localDateTime), chronologyMode);
+    if (baseLocalDateTime == null || chronologyMode == null || ChronologyMode.of(chronologyMode) == null)
+      assertNull(results);
+    else
+      assertEquals(Arrays.asList(result, null, result), results);
+  }
+
   @DisplayName("applying UDF dt_localdatetime_minus with baseLocalDateTime, period, duration")
   @ParameterizedTest(name = "dt_localdatetime_minus({0},{1},{2}) = {3}")
   @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalDateTimeUdfsArgumentsProvider#minusSamplesBaseLocalDateTimePeriodDuration")
@@ -96,4 +126,25 @@ public class UdfLocalDateTimeTests {
     assertEquals(result, new UdfLocalDateTimePlus().plus(baseLocalDateTime, period, duration));
   }
 
+  @DisplayName("applying UDF dt_localdatetime_plus with baseLocalDateTimes array, period, duration")
+  @ParameterizedTest(name = "dt_localdatetime_plus([{0},null,{0}],{1},{2}) = [{3},null,{3}]")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalDateTimeUdfsArgumentsProvider#plusSamplesBaseLocalDateTimePeriodDuration")
+  void applyUdfLocalDateTimePlusBaseLocalDateTimesPeriodDuration(Struct baseLocalDateTime,Struct period,Struct duration,Struct result) {
+    assertEquals(period != null && duration != null ? Arrays.asList(result, null, result) : null,
+        new UdfLocalDateTimePlus().plus(Arrays.asList(baseLocalDateTime, null, baseLocalDateTime), period, duration));
+  }
+
+  @DisplayName("applying UDF dt_localdatetime_truncate with localDateTime, duration and origin")
+  @ParameterizedTest(name = "dt_localdatetime_truncate({0},{1},{2}) = {3}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalDateTimeUdfsArgumentsProvider#truncateSamplesDuration")
+  void applyUdfLocalDateTimeTruncateDuration(Struct localDateTime, Struct bucket, Struct origin, Struct result) {
+    assertEquals(result, new UdfLocalDateTimeTruncate().truncate(localDateTime, bucket, origin));
+  }
+
+  @DisplayName("applying UDF dt_localdatetime_truncate with localDateTime and calendarUnit")
+  @ParameterizedTest(name = "dt_localdatetime_truncate({0},{1}) = {2}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalDateTimeUdfsArgumentsProvider#truncateSamplesCalendarUnit")
+  void applyUdfLocalDateTimeTruncateCalendarUnit(Struct localDateTime, String calendarUnit, Struct result) {
+    assertEquals(result, new UdfLocalDateTimeTruncate().truncate(localDateTime, calendarUnit));
+  }
 }
@@ -18,7 +18,10 @@
 package com.github.hpgrahsl.ksqldb.functions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.util.Arrays;
+import java.util.List;
 import org.apache.kafka.connect.data.Struct;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -47,6 +50,22 @@ public class UdfLocalTimeTests {
     assertEquals(result, new UdfLocalTime().createLocalTime(text));
   }
 
+  @DisplayName("applying UDF dt_try_localtime with valid text")
+  @ParameterizedTest(name = "dt_try_localtime({0}) = {1}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalTimeUdfsArgumentsProvider#createLocalTimeSamplesText")
+  void applyUdfTryLocalTimeValidText(String text,Struct result) {
+    assertEquals(result, new UdfTryLocalTime().tryCreateLocalTime(text));
+  }
+
+  @DisplayName("applying UDF dt_try_localtime with (invalid) text and default")
+  @ParameterizedTest(name = "dt_try_localtime({0},{1}) = {2}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalTimeUdfsArgumentsProvider#tryCreateLocalTimeSamplesText")
+  void applyUdfTryLocalTimeTextDefault(String text,Struct defaultValue,Struct result) {
+    assertEquals(result, new UdfTryLocalTime().tryCreateLocalTime(text,defaultValue));
+    if (defaultValue == null)
+      assertEquals(result, new UdfTryLocalTime().tryCreateLocalTime(text));
+  }
+
   @DisplayName("applying UDF dt_localtime with text and pattern")
   @ParameterizedTest(name = "dt_localtime({0},{1}) = {2}")
   @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalTimeUdfsArgumentsProvider#createLocalTimeSamplesTextPattern")
@@ -75,6 +94,17 @@ public class UdfLocalTimeTests {
     assertEquals(result, new UdfLocalTimeChronology().check(baseLocalTime,localTime,chronologyMode));
   }
 
+  @DisplayName("applying UDF dt_localtime_chronology with baseLocalTime, localTimes array, chronologyMode")
+  @ParameterizedTest(name = "dt_localtime_chronology({0},[{1},null,{1}],{2}) = [{3},null,{3}]")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalTimeUdfsArgumentsProvider#chronologySamples")
+  void applyUdfLocalTimeChronologyBatch(Struct baseLocalTime,Struct localTime,String chronologyMode,Boolean result) {
+    List<Boolean> results = new UdfLocalTimeChronology().check(baseLocalTime, Arrays.asList(localTime, null, localTime), chronologyMode);
+    if (baseLocalTime == null || chronologyMode == null || ChronologyMode.of(chronologyMode) == null)
+      assertNull(results);
+    else
+      assertEquals(Arrays.asList(result, null, result), results);
+  }
+
   @DisplayName("applying UDF dt_localtime_minus with baseLocalTime and duration")
   @ParameterizedTest(name = "dt_localtime_minus({0},{1}) = {2}")
   @MethodSource("com.github.hpgrahsl.ksqldb.functions.LocalTimeUdfsArgumentsProvider#minusSamplesBaseLocalTimeDuration")
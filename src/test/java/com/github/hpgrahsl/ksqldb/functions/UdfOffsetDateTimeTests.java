@@ -18,7 +18,10 @@
 package com.github.hpgrahsl.ksqldb.functions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.util.Arrays;
+import java.util.List;
 import org.apache.kafka.connect.data.Struct;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -47,6 +50,22 @@ public class UdfOffsetDateTimeTests {
     assertEquals(result, new UdfOffsetDateTime().createOffsetDateTime(text));
   }
 
+  @DisplayName("applying UDF dt_try_offsetdatetime with valid text")
+  @ParameterizedTest(name = "dt_try_offsetdatetime({0}) = {1}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.OffsetDateTimeUdfsArgumentsProvider#createOffsetDateTimeSamplesText")
+  void applyUdfTryOffsetDateTimeValidText(String text,Struct result) {
+    assertEquals(result, new UdfTryOffsetDateTime().tryCreateOffsetDateTime(text));
+  }
+
+  @DisplayName("applying UDF dt_try_offsetdatetime with (invalid) text and default")
+  @ParameterizedTest(name = "dt_try_offsetdatetime({0},{1}) = {2}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.OffsetDateTimeUdfsArgumentsProvider#tryCreateOffsetDateTimeSamplesText")
+  void applyUdfTryOffsetDateTimeTextDefault(String text,Struct defaultValue,Struct result) {
+    assertEquals(result, new UdfTryOffsetDateTime().tryCreateOffsetDateTime(text,defaultValue));
+    if (defaultValue == null)
+      assertEquals(result, new UdfTryOffsetDateTime().tryCreateOffsetDateTime(text));
+  }
+
   @DisplayName("applying UDF dt_offsetdatetime with text and pattern")
   @ParameterizedTest(name = "dt_offsetdatetime({0},{1}) = {2}")
   @MethodSource("com.github.hpgrahsl.ksqldb.functions.OffsetDateTimeUdfsArgumentsProvider#createOffsetDateTimeSamplesTextPattern")
@@ -75,6 +94,17 @@ public class UdfOffsetDateTimeTests {
     assertEquals(result, new UdfOffsetDateTimeChronology().check(baseOffsetDateTime, offsetDateTime, chronologyMode));
   }
 
+  @DisplayName("applying UDF dt_offsetdatetime_chronology with baseOffsetDateTime, offsetDateTimes array, chronologyMode")
+  @ParameterizedTest(name = "dt_offsetdatetime_chronology({0},[{1},null,{1}],{2}) = [{3},null,{3}]")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.OffsetDateTimeUdfsArgumentsProvider#chronologySamples")
+  void applyUdfOffsetDateTimeChronologyBatch(Struct baseOffsetDateTime,Struct offsetDateTime,String chronologyMode,Boolean result) {
+    List<Boolean> results = new UdfOffsetDateTimeChronology().check(baseOffsetDateTime, Arrays.asList(offsetDateTime, null, offsetDateTime), chronologyMode);
+    if (baseOffsetDateTime == null || chronologyMode == null || ChronologyMode.of(chronologyMode) == null)
+      assertNull(results);
+    else
+      assertEquals(Arrays.asList(result, null, result), results);
+  }
+
   @DisplayName("applying UDF dt_offsetdatetime_minus with baseOffsetDateTime, period, duration")
   @ParameterizedTest(name = "dt_offsetdatetime_minus({0},{1},{2}) = {3}")
   @MethodSource("com.github.hpgrahsl.ksqldb.functions.OffsetDateTimeUdfsArgumentsProvider#minusSamplesBaseOffsetDateTimePeriodDuration")
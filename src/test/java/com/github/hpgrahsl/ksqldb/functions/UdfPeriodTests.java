@@ -40,6 +40,22 @@ public class UdfPeriodTests {
     assertEquals(result, new UdfPeriod().createPeriod(text));
   }
 
+  @DisplayName("applying UDF dt_try_period with valid text")
+  @ParameterizedTest(name = "dt_try_period({0}) = {1}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.PeriodUdfsArgumentsProvider#createPeriodSamplesText")
+  void applyUdfTryPeriodValidText(String text,Struct result) {
+    assertEquals(result, new UdfTryPeriod().tryCreatePeriod(text));
+  }
+
+  @DisplayName("applying UDF dt_try_period with (invalid) text and default")
+  @ParameterizedTest(name = "dt_try_period({0},{1}) = {2}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.PeriodUdfsArgumentsProvider#tryCreatePeriodSamplesText")
+  void applyUdfTryPeriodTextDefault(String text,Struct defaultValue,Struct result) {
+    assertEquals(result, new UdfTryPeriod().tryCreatePeriod(text,defaultValue));
+    if (defaultValue == null)
+      assertEquals(result, new UdfTryPeriod().tryCreatePeriod(text));
+  }
+
   @DisplayName("applying UDF dt_period_between with localDateFrom and localDateTo")
   @ParameterizedTest(name = "dt_period_between({0},{1}) = {2}")
   @MethodSource("com.github.hpgrahsl.ksqldb.functions.PeriodUdfsArgumentsProvider#betweenSamplesLocalDateFromLocalDateTo")
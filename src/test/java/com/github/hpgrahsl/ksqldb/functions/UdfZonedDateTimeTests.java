@@ -18,10 +18,13 @@
 package com.github.hpgrahsl.ksqldb.functions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 import org.apache.kafka.connect.data.Struct;
 import org.junit.jupiter.api.DisplayName;
@@ -51,6 +54,22 @@ public class UdfZonedDateTimeTests {
     assertEquals(result, new UdfZonedDateTime().createZonedDateTime(text));
   }
 
+  @DisplayName("applying UDF dt_try_zoneddatetime with valid text")
+  @ParameterizedTest(name = "dt_try_zoneddatetime({0}) = {1}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.ZonedDateTimeUdfsArgumentsProvider#createZonedDateTimeSamplesText")
+  void applyUdfTryZonedDateTimeValidText(String text,Struct result) {
+    assertEquals(result, new UdfTryZonedDateTime().tryCreateZonedDateTime(text));
+  }
+
+  @DisplayName("applying UDF dt_try_zoneddatetime with (invalid) text and default")
+  @ParameterizedTest(name = "dt_try_zoneddatetime({0},{1}) = {2}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.ZonedDateTimeUdfsArgumentsProvider#tryCreateZonedDateTimeSamplesText")
+  void applyUdfTryZonedDateTimeTextDefault(String text,Struct defaultValue,Struct result) {
+    assertEquals(result, new UdfTryZonedDateTime().tryCreateZonedDateTime(text,defaultValue));
+    if (defaultValue == null)
+      assertEquals(result, new UdfTryZonedDateTime().tryCreateZonedDateTime(text));
+  }
+
   @DisplayName("applying UDF dt_zoneddatetime with text and pattern")
   @ParameterizedTest(name = "dt_zoneddatetime({0},{1}) = {2}")
   @MethodSource("com.github.hpgrahsl.ksqldb.functions.ZonedDateTimeUdfsArgumentsProvider#createZonedDateTimeSamplesTextPattern")
@@ -65,6 +84,14 @@ public class UdfZonedDateTimeTests {
     assertEquals(result, new UdfZonedDateTimeFormat().format(zonedDateTime));
   }
 
+  @DisplayName("applying UDF dt_zoneddatetime_format with zonedDateTimes array")
+  @ParameterizedTest(name = "dt_zoneddatetime_format([{0},null,{0}]) = [{1},null,{1}]")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.ZonedDateTimeUdfsArgumentsProvider#formatSamples")
+  void applyUdfZonedDateTimeFormatBatch(Struct zonedDateTime,String result) {
+    assertEquals(Arrays.asList(result, null, result),
+        new UdfZonedDateTimeFormat().format(Arrays.asList(zonedDateTime, null, zonedDateTime)));
+  }
+
   @DisplayName("applying UDF dt_zoneddatetime_format with zonedDateTime and pattern")
   @ParameterizedTest(name = "dt_zoneddatetime_format({0},{1}) = {2}")
   @MethodSource("com.github.hpgrahsl.ksqldb.functions.ZonedDateTimeUdfsArgumentsProvider#formatPatternSamples")
@@ -72,6 +99,14 @@ public class UdfZonedDateTimeTests {
     assertEquals(result, new UdfZonedDateTimeFormat().format(zonedDateTime,pattern));
   }
 
+  @DisplayName("applying UDF dt_zoneddatetime_format with zonedDateTimes array and pattern")
+  @ParameterizedTest(name = "dt_zoneddatetime_format([{0},null,{0}],{1}) = [{2},null,{2}]")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.ZonedDateTimeUdfsArgumentsProvider#formatPatternSamples")
+  void applyUdfZonedDateTimeFormatPatternBatch(Struct zonedDateTime,String pattern,String result) {
+    assertEquals(pattern != null ? Arrays.asList(result, null, result) : null,
+        new UdfZonedDateTimeFormat().format(Arrays.asList(zonedDateTime, null, zonedDateTime), pattern));
+  }
+
   @DisplayName("applying UDF dt_zoneddatetime_chronology with baseZonedDateTime, zonedDateTime, chronologyMode")
   @ParameterizedTest(name = "dt_zoneddatetime_chronology({0},{1},{2}) = {3}")
   @MethodSource("com.github.hpgrahsl.ksqldb.functions.ZonedDateTimeUdfsArgumentsProvider#chronologySamples")
@@ -79,6 +114,17 @@ public class UdfZonedDateTimeTests {
     assertEquals(result, new UdfZonedDateTimeChronology().check(baseZonedDateTime, zonedDateTime, chronologyMode));
   }
 
+  @DisplayName("applying UDF dt_zoneddatetime_chronology with baseZonedDateTime, zonedDateTimes array, chronologyMode")
+  @ParameterizedTest(name = "dt_zoneddatetime_chronology({0},[{1},null,{1}],{2}) = [{3},null,{3}]")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.ZonedDateTimeUdfsArgumentsProvider#chronologySamples")
+  void applyUdfZonedDateTimeChronologyBatch(Struct baseZonedDateTime,Struct zonedDateTime,String chronologyMode,Boolean result) {
+    List<Boolean> results = new UdfZonedDateTimeChronology().check(baseZonedDateTime, Arrays.asList(zonedDateTime, null, zonedDateTime), chronologyMode);
+    if (baseZonedDateTime == null || chronologyMode == null || ChronologyMode.of(chronologyMode) == null)
+      assertNull(results);
+    else
+      assertEquals(Arrays.asList(result, null, result), results);
+  }
+
   @DisplayName("applying UDF dt_zoneddatetime_minus with baseZonedDateTime, period, duration")
   @ParameterizedTest(name = "dt_zoneddatetime_minus({0},{1},{2}) = {3}")
   @MethodSource("com.github.hpgrahsl.ksqldb.functions.ZonedDateTimeUdfsArgumentsProvider#minusSamplesBaseZonedDateTimePeriodDuration")
@@ -93,4 +139,17 @@ public class UdfZonedDateTimeTests {
     assertEquals(result, new UdfZonedDateTimePlus().plus(baseZonedDateTime, period, duration));
   }
 
+  @DisplayName("applying UDF dt_zoneddatetime_truncate with zonedDateTime and calendarUnit")
+  @ParameterizedTest(name = "dt_zoneddatetime_truncate({0},{1}) = {2}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.ZonedDateTimeUdfsArgumentsProvider#truncateSamplesCalendarUnit")
+  void applyUdfZonedDateTimeTruncateCalendarUnit(Struct zonedDateTime, String calendarUnit, Struct result) {
+    assertEquals(result, new UdfZonedDateTimeTruncate().truncate(zonedDateTime, calendarUnit));
+  }
+
+  @DisplayName("applying UDF dt_zoneddatetime_toinstant with zonedDateTime")
+  @ParameterizedTest(name = "dt_zoneddatetime_toinstant({0}) = {1}")
+  @MethodSource("com.github.hpgrahsl.ksqldb.functions.ZonedDateTimeUdfsArgumentsProvider#toInstantSamples")
+  void applyUdfZonedDateTimeToInstant(Struct zonedDateTime, Struct result) {
+    assertEquals(result, new UdfZonedDateTimeToInstant().toInstant(zonedDateTime));
+  }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UdtfTemporalSeriesTests {
+
+  @Test
+  @DisplayName("dt_localdate_series produces the same dates as LocalDate.datesUntil")
+  void localDateSeries() {
+    LocalDate start = LocalDate.of(2020, 1, 31);
+    for (Period step : List.of(Period.ofDays(1), Period.ofDays(10), Period.ofMonths(1), Period.of(1, 2, 3))) {
+      LocalDate end = start.plusYears(3);
+      List<LocalDate> expected = start.datesUntil(end, step).collect(Collectors.toList());
+      List<LocalDate> actual = new UdtfLocalDateSeries().series(
+          StructsConverter.toLocalDateStruct(start), StructsConverter.toLocalDateStruct(end),
+          StructsConverter.toPeriodStruct(step))
+          .stream().map(StructsConverter::fromLocalDateStruct).collect(Collectors.toList());
+      assertEquals(expected, actual);
+    }
+    List<Struct> descending = new UdtfLocalDateSeries().series(
+        StructsConverter.toLocalDateStruct(start), StructsConverter.toLocalDateStruct(start.minusDays(3)),
+        StructsConverter.toPeriodStruct(Period.ofDays(-1)));
+    assertEquals(List.of(start, start.minusDays(1), start.minusDays(2)),
+        descending.stream().map(StructsConverter::fromLocalDateStruct).collect(Collectors.toList()));
+    assertThrows(IllegalArgumentException.class, () -> new UdtfLocalDateSeries().series(
+        StructsConverter.toLocalDateStruct(start), StructsConverter.toLocalDateStruct(start.plusDays(3)),
+        StructsConverter.toPeriodStruct(Period.ZERO)));
+    assertTrue(new UdtfLocalDateSeries().series(StructsConverter.toLocalDateStruct(LocalDate.of(2020, 2, 1)),
+        StructsConverter.toLocalDateStruct(LocalDate.of(2020, 1, 1)), StructsConverter.toPeriodStruct(Period.ofDays(1)))
+        .isEmpty());
+    assertTrue(new UdtfLocalDateSeries().series(StructsConverter.toLocalDateStruct(start),
+        StructsConverter.toLocalDateStruct(start.plusYears(1)), StructsConverter.toPeriodStruct(Period.of(0, 1, -1)))
+        .isEmpty());
+  }
+
+  @Test
+  @DisplayName("dt_instant_series produces the same instants as iterative java.time additions")
+  void instantSeries() {
+    Instant start = Instant.parse("2020-03-01T10:15:30.123456789Z");
+    Instant end = start.plus(Duration.ofDays(2));
+    Duration step = Duration.ofMinutes(7).plusNanos(13);
+    List<Instant> expected = new ArrayList<>();
+    for (Instant i = start; i.isBefore(end); i = i.plus(step))
+      expected.add(i);
+    assertEquals(expected, new UdtfInstantSeries().series(StructsConverter.toInstantStruct(start),
+        StructsConverter.toInstantStruct(end), StructsConverter.toDurationStruct(step))
+        .stream().map(StructsConverter::fromInstantStruct).collect(Collectors.toList()));
+    assertTrue(new UdtfInstantSeries().series(StructsConverter.toInstantStruct(end),
+        StructsConverter.toInstantStruct(start), StructsConverter.toDurationStruct(step)).isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> new UdtfInstantSeries().series(
+        StructsConverter.toInstantStruct(start), StructsConverter.toInstantStruct(end),
+        StructsConverter.toDurationStruct(step.negated())));
+  }
+
+  @Test
+  @DisplayName("dt_localdatetime_series produces the same local datetimes as iterative java.time additions")
+  void localDateTimeSeries() {
+    LocalDateTime start = LocalDateTime.of(2020, 2, 28, 22, 0);
+    LocalDateTime end = start.plusHours(30);
+    Duration step = Duration.ofMinutes(90);
+    List<LocalDateTime> expected = new ArrayList<>();
+    for (LocalDateTime ldt = start; ldt.isBefore(end); ldt = ldt.plus(step))
+      expected.add(ldt);
+    assertEquals(expected, new UdtfLocalDateTimeSeries().series(StructsConverter.toLocalDateTimeStruct(start),
+        StructsConverter.toLocalDateTimeStruct(end), StructsConverter.toDurationStruct(step))
+        .stream().map(StructsConverter::fromLocalDateTimeStruct).collect(Collectors.toList()));
+  }
+
+  @Test
+  @DisplayName("dt_zoneddatetime_series steps on the instant time-line across DST transitions")
+  void zonedDateTimeSeries() {
+    ZonedDateTime start = ZonedDateTime.of(2020, 3, 28, 12, 0, 0, 0, ZoneId.of("Europe/Vienna"));
+    ZonedDateTime end = start.plusDays(2);
+    Duration step = Duration.ofHours(1);
+    List<ZonedDateTime> expected = new ArrayList<>();
+    for (ZonedDateTime zdt = start; zdt.isBefore(end); zdt = zdt.plus(step))
+      expected.add(zdt);
+    assertEquals(47, expected.size());
+    assertEquals(expected, new UdtfZonedDateTimeSeries().series(StructsConverter.toZonedDateTimeStruct(start),
+        StructsConverter.toZonedDateTimeStruct(end), StructsConverter.toDurationStruct(step))
+        .stream().map(StructsConverter::fromZonedDateTimeStruct).collect(Collectors.toList()));
+  }
+
+  @Test
+  @DisplayName("series exceeding the max. number of rows are rejected before any row is created")
+  void seriesIsGuarded() {
+    assertThrows(IllegalArgumentException.class, () -> new UdtfInstantSeries().series(
+        StructsConverter.toInstantStruct(Instant.MIN), StructsConverter.toInstantStruct(Instant.MAX),
+        StructsConverter.toDurationStruct(Duration.ofNanos(1))));
+    assertThrows(IllegalArgumentException.class, () -> new UdtfLocalDateSeries().series(
+        StructsConverter.toLocalDateStruct(LocalDate.MIN), StructsConverter.toLocalDateStruct(LocalDate.MAX),
+        StructsConverter.toPeriodStruct(Period.ofDays(1))));
+  }
+
+  @Test
+  @DisplayName("series for null parameters are null")
+  void nullParameters() {
+    Struct start = StructsConverter.toLocalDateStruct(LocalDate.of(2020, 1, 1));
+    assertNull(new UdtfLocalDateSeries().series(start, null, StructsConverter.toPeriodStruct(Period.ofDays(1))));
+    assertNull(new UdtfInstantSeries().series(null, null, null));
+    assertNull(new UdtfLocalDateTimeSeries().series(null, null, null));
+    assertNull(new UdtfZonedDateTimeSeries().series(null, null, null));
+  }
+
+}
@@ -35,6 +35,9 @@ public class ZonedDateTimeUdfsArgumentsProvider {
   private static final String SAMPLES_DT_ZONEDDATETIME_CHRONOLOGY = "zoneddatetime/udf_dt_zoneddatetime_chronology_samples.json";
   private static final String SAMPLES_DT_ZONEDDATETIME_MINUS_BASEZONEDDATETIME_PERIOD_DURATION = "zoneddatetime/udf_dt_zoneddatetime_minus_zoneddatetime_period_duration_samples.json";
   private static final String SAMPLES_DT_ZONEDDATETIME_PLUS_BASEZONEDDATETIME_PERIOD_DURATION = "zoneddatetime/udf_dt_zoneddatetime_plus_zoneddatetime_period_duration_samples.json";
+  private static final String SAMPLES_DT_ZONEDDATETIME_TRUNCATE_CALENDARUNIT = "zoneddatetime/udf_dt_zoneddatetime_truncate_calendarunit_samples.json";
+  private static final String SAMPLES_DT_ZONEDDATETIME_TOINSTANT = "zoneddatetime/udf_dt_zoneddatetime_toinstant_samples.json";
+  private static final String SAMPLES_DT_TRY_ZONEDDATETIME_TEXT = "zoneddatetime/udf_dt_try_zoneddatetime_text_samples.json";
 
   public static Stream<Arguments> createZonedDateTimeSamplesLocalDateTimeZoneId() {
     return parseJsonSampleFile(SAMPLES_DT_ZONEDDATETIME_LOCALDATETIME_ZONEID)
@@ -137,4 +140,36 @@ public class ZonedDateTimeUdfsArgumentsProvider {
         );
   }
 
+  public static Stream<Arguments> truncateSamplesCalendarUnit() {
+    return parseJsonSampleFile(SAMPLES_DT_ZONEDDATETIME_TRUNCATE_CALENDARUNIT)
+        .stream()
+        .map(jo -> arguments(
+            JsonExtractor.toZonedDateTimeStruct(jo,"param_zonedDateTime"),
+            jo.getString("param_calendarUnit",null),
+            JsonExtractor.toZonedDateTimeStruct(jo,"result")
+            )
+        );
+  }
+
+  public static Stream<Arguments> toInstantSamples() {
+    return parseJsonSampleFile(SAMPLES_DT_ZONEDDATETIME_TOINSTANT)
+        .stream()
+        .map(jo -> arguments(
+            JsonExtractor.toZonedDateTimeStruct(jo,"param_zonedDateTime"),
+            JsonExtractor.toInstantStruct(jo,"result")
+            )
+        );
+  }
+
+  public static Stream<Arguments> tryCreateZonedDateTimeSamplesText() {
+    return parseJsonSampleFile(SAMPLES_DT_TRY_ZONEDDATETIME_TEXT)
+        .stream()
+        .map(jo -> arguments(
+            jo.getString("param_text",null),
+            JsonExtractor.toZonedDateTimeStruct(jo,"param_default"),
+            JsonExtractor.toZonedDateTimeStruct(jo,"result")
+            )
+        );
+  }
+
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.aggregates;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class DurationHistogramTests {
+
+  private static final int SAMPLES = 100_000;
+  private static final double MAX_RELATIVE_ERROR = 1.0 / (1 << (DurationHistogram.SUB_BUCKET_BITS + 1));
+
+  private final Random random = new Random(42L);
+
+  @Test
+  @DisplayName("buckets are ordered by value and small values are recorded exactly")
+  void bucketsAreOrderedAndSmallValuesExact() {
+    for (long v = -1_000; v < 1_000; v++) {
+      assertTrue(DurationHistogram.bucketOf(v) <= DurationHistogram.bucketOf(v + 1));
+    }
+    for (long v = -(2L << DurationHistogram.SUB_BUCKET_BITS) + 1; v < 2L << DurationHistogram.SUB_BUCKET_BITS; v++) {
+      assertEquals(v, DurationHistogram.valueOf(DurationHistogram.bucketOf(v)));
+    }
+    assertTrue(DurationHistogram.bucketOf(Long.MIN_VALUE) < DurationHistogram.bucketOf(Long.MIN_VALUE / 2));
+    assertTrue(DurationHistogram.bucketOf(Long.MAX_VALUE) > DurationHistogram.bucketOf(Long.MAX_VALUE / 2));
+  }
+
+  @Test
+  @DisplayName("values mapped to buckets and back stay within the relative error")
+  void valuesStayWithinRelativeError() {
+    for (int i = 0; i < SAMPLES; i++) {
+      long v = random.nextLong() >> random.nextInt(64);
+      long approx = DurationHistogram.valueOf(DurationHistogram.bucketOf(v));
+      assertTrue(Math.abs((double)approx - v) <= Math.abs((double)v) * MAX_RELATIVE_ERROR,
+          () -> v + " was approximated by " + approx);
+      assertEquals(DurationHistogram.bucketOf(v), DurationHistogram.bucketOf(approx));
+    }
+  }
+
+  @Test
+  @DisplayName("the number of stored buckets stays bounded regardless of the number of recorded values")
+  void bucketsAreBounded() {
+    Struct histogram = DurationHistogram.initialize();
+    for (int i = 0; i < 10 * SAMPLES; i++) {
+      DurationHistogram.record(random.nextLong() >> random.nextInt(64), histogram);
+    }
+    assertEquals(10 * SAMPLES, DurationHistogram.count(histogram));
+    assertTrue(((List<?>)histogram.get("BUCKETS_FIELD")).size() <= 2 * 59 * (1 << DurationHistogram.SUB_BUCKET_BITS));
+  }
+
+  @Test
+  @DisplayName("percentiles use the nearest rank and empty histograms have none")
+  void nearestRankPercentiles() {
+    Struct histogram = DurationHistogram.initialize();
+    assertNull(DurationHistogram.valuesAtPercentiles(histogram, 0.5));
+    for (long v = 1; v <= 100; v++) {
+      DurationHistogram.record(v, histogram);
+    }
+    assertArrayEquals(new long[] {1, 50, 90, 100}, DurationHistogram.valuesAtPercentiles(histogram, 0.001, 0.5, 0.9, 1.0));
+    DurationHistogram.remove(100, histogram);
+    DurationHistogram.remove(12345, histogram);
+    assertEquals(99, DurationHistogram.count(histogram));
+    assertArrayEquals(new long[] {99}, DurationHistogram.valuesAtPercentiles(histogram, 1.0));
+  }
+
+}
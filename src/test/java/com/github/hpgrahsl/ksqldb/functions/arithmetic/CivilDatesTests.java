@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.arithmetic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CivilDatesTests {
+
+  private static final int YEAR_RANGE = 10_000;
+
+  @Test
+  @DisplayName("epoch day conversions match LocalDate for every day of +/-10000 years")
+  void epochDaysMatchLocalDate() {
+    long from = LocalDate.of(-YEAR_RANGE, 1, 1).toEpochDay();
+    long to = LocalDate.of(YEAR_RANGE, 12, 31).toEpochDay();
+    for (long epochDay = from; epochDay <= to; epochDay++) {
+      LocalDate expected = LocalDate.ofEpochDay(epochDay);
+      long packed = CivilDates.toPackedDate(epochDay);
+      if (expected.getYear() != CivilDates.year(packed) || expected.getMonthValue() != CivilDates.month(packed)
+          || expected.getDayOfMonth() != CivilDates.day(packed))
+        assertEquals(expected.toString(),
+            CivilDates.year(packed) + "-" + CivilDates.month(packed) + "-" + CivilDates.day(packed));
+      if (epochDay != CivilDates.toEpochDay(expected.getYear(), expected.getMonthValue(), expected.getDayOfMonth()))
+        assertEquals(epochDay, CivilDates.toEpochDay(expected.getYear(), expected.getMonthValue(),
+            expected.getDayOfMonth()), expected.toString());
+    }
+  }
+
+  @Test
+  @DisplayName("calendar rules match java.time for every month of +/-10000 years")
+  void calendarRulesMatchJavaTime() {
+    for (int year = -YEAR_RANGE; year <= YEAR_RANGE; year++) {
+      assertEquals(Year.isLeap(year), CivilDates.isLeapYear(year), "year " + year);
+      for (int month = 1; month <= 12; month++) {
+        int length = YearMonth.of(year, month).lengthOfMonth();
+        assertEquals(length, CivilDates.lengthOfMonth(year, month), year + "-" + month);
+        assertEquals(true, CivilDates.isValid(year, month, length), year + "-" + month);
+        assertEquals(false, CivilDates.isValid(year, month, length + 1), year + "-" + month);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("epoch day conversions match LocalDate at the limits of its range")
+  void epochDaysMatchLocalDateAtLimits() {
+    assertEquals(LocalDate.MIN.toEpochDay(), CivilDates.MIN_EPOCH_DAY);
+    assertEquals(LocalDate.MAX.toEpochDay(), CivilDates.MAX_EPOCH_DAY);
+    for (LocalDate date : new LocalDate[] {LocalDate.MIN, LocalDate.MIN.plusDays(400), LocalDate.MAX,
+        LocalDate.MAX.minusDays(400), LocalDate.of(0, 2, 29), LocalDate.of(-1, 12, 31)}) {
+      long packed = CivilDates.toPackedDate(date.toEpochDay());
+      assertEquals(date, LocalDate.of((int)CivilDates.year(packed), CivilDates.month(packed), CivilDates.day(packed)));
+      assertEquals(date.toEpochDay(), CivilDates.toEpochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+    }
+    assertEquals(false, CivilDates.isValid(CivilDates.MAX_YEAR + 1L, 1, 1));
+    assertEquals(false, CivilDates.isValid(CivilDates.MIN_YEAR - 1L, 12, 31));
+    assertEquals(false, CivilDates.isValid(2020, 13, 1));
+    assertEquals(false, CivilDates.isValid(2020, 1, 0));
+  }
+
+}
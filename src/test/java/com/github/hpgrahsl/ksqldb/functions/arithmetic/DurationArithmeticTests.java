@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.arithmetic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class DurationArithmeticTests {
+
+  private static final int SAMPLES = 100_000;
+  private static final long[] EXTREMES = {0, 1, -1, 999_999_999, Long.MAX_VALUE, Long.MIN_VALUE,
+      Long.MAX_VALUE / 1_000_000_000, Long.MIN_VALUE / 1_000_000_000, Integer.MAX_VALUE, Integer.MIN_VALUE};
+
+  private final Random random = new Random(42L);
+
+  @Test
+  @DisplayName("primitive plus and minus match the Duration methods")
+  void plusMinusMatchDuration() {
+    for (int i = 0; i < SAMPLES; i++) {
+      Struct base = randomDurationStruct();
+      Struct other = randomDurationStruct();
+      assertSameResult(() -> StructsConverter.toDurationStruct(from(base).plus(from(other))), () -> DurationArithmetic.plus(base, other));
+      assertSameResult(() -> StructsConverter.toDurationStruct(from(base).minus(from(other))), () -> DurationArithmetic.minus(base, other));
+    }
+  }
+
+  @Test
+  @DisplayName("primitive plus and minus of lists match folding the Duration methods")
+  void plusMinusListsMatchDuration() {
+    for (int i = 0; i < SAMPLES / 10; i++) {
+      Struct base = randomDurationStruct();
+      List<Struct> others = new ArrayList<>();
+      for (int j = random.nextInt(5); j >= 0; j--)
+        others.add(randomDurationStruct());
+      assertSameResult(() -> {
+        Duration d = StructsConverter.fromDurationStruct(base);
+        for (Struct s : others)
+          d = d.plus(StructsConverter.fromDurationStruct(s));
+        return StructsConverter.toDurationStruct(d);
+      }, () -> DurationArithmetic.plus(base, others));
+      assertSameResult(() -> {
+        Duration d = StructsConverter.fromDurationStruct(base);
+        for (Struct s : others)
+          d = d.minus(StructsConverter.fromDurationStruct(s));
+        return StructsConverter.toDurationStruct(d);
+      }, () -> DurationArithmetic.minus(base, others));
+    }
+  }
+
+  @Test
+  @DisplayName("primitive multiply and divide match the Duration methods")
+  void multiplyDivideMatchDuration() {
+    for (int i = 0; i < SAMPLES; i++) {
+      Struct base = randomDurationStruct();
+      Struct other = randomDurationStruct();
+      long scalar = randomLong();
+      assertSameResult(() -> StructsConverter.toDurationStruct(from(base).multipliedBy(scalar)),
+          () -> DurationArithmetic.multiply(base, scalar));
+      assertSameResult(() -> StructsConverter.toDurationStruct(from(base).dividedBy(scalar)),
+          () -> DurationArithmetic.divide(base, scalar));
+      assertSameResult(() -> from(base).dividedBy(from(other)), () -> DurationArithmetic.divide(base, other));
+    }
+  }
+
+  //reading structs with unnormalized nanos may overflow already
+  private static Duration from(Struct duration) {
+    return StructsConverter.fromDurationStruct(duration);
+  }
+
+  private Struct randomDurationStruct() {
+    //the nanos field is not necessarily normalized in structs
+    return new Struct(DateTimeSchemas.DURATION_SCHEMA)
+        .put(DateTimeSchemas.DURATION_SECONDS_FIELD, randomLong())
+        .put(DateTimeSchemas.DURATION_NANOS_FIELD,
+            random.nextInt(8) == 0 ? random.nextInt() : random.nextInt(1_000_000_000));
+  }
+
+  private long randomLong() {
+    switch (random.nextInt(4)) {
+      case 0:
+        return EXTREMES[random.nextInt(EXTREMES.length)] + random.nextInt(3) - 1;
+      case 1:
+        return random.nextLong();
+      default:
+        return random.nextInt(2_000_001) - 1_000_000;
+    }
+  }
+
+  private static <T> void assertSameResult(Supplier<T> expected, Supplier<T> actual) {
+    T result;
+    try {
+      result = expected.get();
+    } catch (ArithmeticException exc) {
+      assertEquals(exc.getMessage(), assertThrows(ArithmeticException.class, actual::get).getMessage());
+      return;
+    }
+    assertEquals(result, actual.get());
+  }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.arithmetic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LocalDateArithmeticTests {
+
+  private static final int SAMPLES = 100_000;
+
+  private final Random random = new Random(42L);
+
+  @Test
+  @DisplayName("plus and minus match the LocalDate methods")
+  void plusMinusMatchLocalDate() {
+    for (int i = 0; i < SAMPLES; i++) {
+      LocalDate base = randomLocalDate();
+      Struct struct = StructsConverter.toLocalDateStruct(base);
+      int years = amount();
+      int months = amount();
+      int days = amount() * 30;
+      Period period = Period.of(amount(), amount(), amount() * 30);
+      Struct p = StructsConverter.toPeriodStruct(period);
+      assertSameResult(() -> StructsConverter.toLocalDateStruct(base.plusYears(years).plusMonths(months).plusDays(days)),
+          LocalDateArithmetic.plus(struct, years, months, days));
+      assertSameResult(() -> StructsConverter.toLocalDateStruct(base.plus(period)), LocalDateArithmetic.plus(struct, p));
+      assertSameResult(() -> StructsConverter.toLocalDateStruct(base.minus(period)), LocalDateArithmetic.minus(struct, p));
+    }
+  }
+
+  @Test
+  @DisplayName("plus and minus on epoch days match the LocalDate methods")
+  void epochDaysMatchLocalDate() {
+    for (int i = 0; i < SAMPLES; i++) {
+      int epochDay = random.nextInt(4) == 0 ? random.nextInt() : random.nextInt(2_000_000) - 1_000_000;
+      Period period = Period.of(amount(), amount(), amount() * 30);
+      Struct p = StructsConverter.toPeriodStruct(period);
+      LocalDate base = LocalDate.ofEpochDay(epochDay);
+      assertSameResult(() -> Math.toIntExact(base.plus(period).toEpochDay()), LocalDateArithmetic.plusEpochDay(epochDay, p));
+      assertSameResult(() -> Math.toIntExact(base.minus(period).toEpochDay()), LocalDateArithmetic.minusEpochDay(epochDay, p));
+    }
+  }
+
+  @Test
+  @DisplayName("between matches Period.between")
+  void betweenMatchesPeriodBetween() {
+    for (int i = 0; i < SAMPLES; i++) {
+      LocalDate from = randomLocalDate();
+      LocalDate to = random.nextBoolean() ? randomLocalDate() : from.plusDays(random.nextInt(1_000) - 500);
+      assertEquals(StructsConverter.toPeriodStruct(Period.between(from, to)),
+          LocalDateArithmetic.between(StructsConverter.toLocalDateStruct(from), StructsConverter.toLocalDateStruct(to)),
+          from + " -> " + to);
+    }
+    assertEquals(StructsConverter.toPeriodStruct(Period.between(LocalDate.MIN, LocalDate.MAX)),
+        LocalDateArithmetic.between(StructsConverter.toLocalDateStruct(LocalDate.MIN),
+            StructsConverter.toLocalDateStruct(LocalDate.MAX)));
+  }
+
+  @Test
+  @DisplayName("zero amounts keep the base while invalid dates and results out of range are left to java.time")
+  void shortcutsAndLimits() {
+    Struct base = StructsConverter.toLocalDateStruct(LocalDate.of(2020, 2, 29));
+    assertSame(base, LocalDateArithmetic.plus(base, 0, 0, 0));
+    assertSame(base, LocalDateArithmetic.minus(base, StructsConverter.toPeriodStruct(Period.ZERO)));
+    assertNull(LocalDateArithmetic.plus(base, Integer.MAX_VALUE, 0, 0));
+    assertNull(LocalDateArithmetic.plus(StructsConverter.toLocalDateStruct(LocalDate.MAX), 0, 0, 1));
+    assertNull(LocalDateArithmetic.ofEpochDay(LocalDate.MIN.toEpochDay() - 1));
+    assertEquals(StructsConverter.toLocalDateStruct(LocalDate.MAX), LocalDateArithmetic.ofEpochDay(LocalDate.MAX.toEpochDay()));
+    Struct invalid = StructsConverter.toLocalDateStruct(LocalDate.of(2021, 2, 28))
+        .put(DateTimeSchemas.LOCALDATE_DAY_FIELD, 29);
+    assertNull(LocalDateArithmetic.plus(invalid, 0, 0, 1));
+    assertNull(LocalDateArithmetic.toEpochDay(invalid));
+    assertNull(LocalDateArithmetic.between(invalid, base));
+  }
+
+  private LocalDate randomLocalDate() {
+    //month ends and leap days are the interesting days for the date-based amounts
+    LocalDate base = random.nextInt(100) == 0
+        ? LocalDate.ofEpochDay(random.nextLong() % LocalDate.MAX.toEpochDay())
+        : LocalDate.of(random.nextInt(20_001) - 10_000, random.nextInt(12) + 1, 1);
+    return random.nextBoolean()
+        ? base.withDayOfMonth(base.lengthOfMonth() - random.nextInt(3))
+        : base.withDayOfMonth(random.nextInt(28) + 1);
+  }
+
+  private int amount() {
+    switch (random.nextInt(8)) {
+      case 0:
+        return 0;
+      case 1:
+        return random.nextInt();
+      default:
+        return random.nextInt(41) - 20;
+    }
+  }
+
+  //the primitive calculation must either give the very same result or leave it to java.time
+  private static <T> void assertSameResult(Supplier<T> expected, T actual) {
+    T result;
+    try {
+      result = expected.get();
+    } catch (DateTimeException | ArithmeticException exc) {
+      assertNull(actual);
+      return;
+    }
+    assertEquals(result, actual);
+  }
+
+}
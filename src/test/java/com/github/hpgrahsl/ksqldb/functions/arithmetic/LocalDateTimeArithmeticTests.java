@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.arithmetic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import com.github.hpgrahsl.ksqldb.functions.util.KsqlStructs;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LocalDateTimeArithmeticTests {
+
+  private static final int SAMPLES = 100_000;
+
+  private final Random random = new Random(42L);
+
+  @Test
+  @DisplayName("fused plus matches chaining the LocalDateTime plus methods")
+  void fusedMatchesChained() {
+    for (int i = 0; i < SAMPLES; i++) {
+      LocalDateTime base = randomLocalDateTime();
+      long years = small();
+      long months = small();
+      long days = small() * 30;
+      long seconds = small() * 3_600L * 24 + small() * 60L + random.nextInt();
+      long nanos = random.nextInt();
+      assertSameResult(() -> base.plusYears(years).plusMonths(months).plusDays(days)
+              .plusSeconds(seconds).plusNanos(nanos),
+          LocalDateTimeArithmetic.plus(StructsConverter.toLocalDateTimeStruct(base), years, months, days, seconds, nanos));
+    }
+  }
+
+  @Test
+  @DisplayName("fused plus and minus match adding and subtracting periods and durations")
+  void fusedMatchesPeriodDuration() {
+    for (int i = 0; i < SAMPLES; i++) {
+      LocalDateTime base = randomLocalDateTime();
+      Period period = Period.of(small(), small(), small() * 30);
+      Duration duration = Duration.ofSeconds(random.nextInt(), random.nextInt(1_000_000_000));
+      Struct struct = StructsConverter.toLocalDateTimeStruct(base);
+      Struct p = StructsConverter.toPeriodStruct(period);
+      Struct d = StructsConverter.toDurationStruct(duration);
+      assertSameResult(() -> base.plus(period).plus(duration), LocalDateTimeArithmetic.plus(struct, p, d));
+      assertSameResult(() -> base.minus(period).minus(duration), LocalDateTimeArithmetic.minus(struct, p, d));
+    }
+  }
+
+  @Test
+  @DisplayName("fused plus keeps the base for zero amounts and gives up on invalid or extreme values")
+  void fusedShortcutsAndLimits() {
+    Struct base = StructsConverter.toLocalDateTimeStruct(LocalDateTime.of(2020, 2, 29, 23, 59, 59, 999_999_999));
+    assertSame(base, LocalDateTimeArithmetic.plus(base, 0, 0, 0, 0, 0));
+    assertSame(base, LocalDateTimeArithmetic.minus(base, StructsConverter.toPeriodStruct(Period.ZERO), StructsConverter.toDurationStruct(Duration.ZERO)));
+    assertSameResult(() -> LocalDateTime.of(2020, 2, 29, 23, 59, 59, 999_999_999).plusYears(1).plusMonths(1),
+        LocalDateTimeArithmetic.plus(base, 1, 1, 0, 0, 0));
+    assertSameResult(() -> LocalDateTime.of(2020, 2, 29, 23, 59, 59, 999_999_999).plusNanos(1),
+        LocalDateTimeArithmetic.plus(base, 0, 0, 0, 0, 1));
+    assertNull(LocalDateTimeArithmetic.plus(base, Integer.MAX_VALUE, 0, 0, 0, 0));
+    assertNull(LocalDateTimeArithmetic.plus(base, 0, 0, 0, Long.MAX_VALUE, 0));
+    assertNull(LocalDateTimeArithmetic.minus(base, StructsConverter.toPeriodStruct(Period.ZERO),
+        StructsConverter.toDurationStruct(Duration.ofSeconds(Long.MIN_VALUE))));
+    assertNull(LocalDateTimeArithmetic.plus(StructsConverter.toLocalDateTimeStruct(LocalDateTime.MAX), 0, 0, 0, -1, 0));
+    Struct invalid = StructsConverter.toLocalDateTimeStruct(LocalDateTime.of(2021, 2, 28, 12, 0));
+    ((Struct)invalid.get(DateTimeSchemas.LOCALDATETIME_LOCALDATE_FIELD)).put(DateTimeSchemas.LOCALDATE_DAY_FIELD, 29);
+    assertNull(LocalDateTimeArithmetic.plus(invalid, 0, 0, 0, 0, 0));
+  }
+
+  private LocalDateTime randomLocalDateTime() {
+    //month ends and leap days are the interesting days for the date-based amounts
+    LocalDateTime base = LocalDateTime.of(random.nextInt(4_001) - 2_000, random.nextInt(12) + 1, 1,
+        random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000));
+    return random.nextBoolean()
+        ? base.withDayOfMonth(base.toLocalDate().lengthOfMonth() - random.nextInt(3))
+        : base.withDayOfMonth(random.nextInt(28) + 1);
+  }
+
+  private int small() {
+    return random.nextInt(4) == 0 ? 0 : random.nextInt(41) - 20;
+  }
+
+  //the fused calculation must either give the very same result or leave it to java.time
+  private static void assertSameResult(Supplier<LocalDateTime> chained, Struct fused) {
+    LocalDateTime expected;
+    try {
+      expected = chained.get();
+    } catch (DateTimeException exc) {
+      assertNull(fused);
+      return;
+    }
+    assertEquals(StructsConverter.toLocalDateTimeStruct(expected), fused, expected.toString());
+  }
+
+  @Test
+  @DisplayName("inputs based on the schemas ksqlDB derives from the signature result in structs of the DateTimeSchemas")
+  void ksqlStructsAreSupported() {
+    LocalDateTime ldt = LocalDateTime.of(2020, 1, 31, 22, 30, 15, 500);
+    Struct base = KsqlStructs.of(StructsConverter.toLocalDateTimeStruct(ldt));
+    assertEquals(StructsConverter.toLocalDateTimeStruct(ldt.plusYears(1).plusMonths(1).plusDays(1)),
+        LocalDateTimeArithmetic.plus(base, 1, 1, 1, 0, 0));
+    assertEquals(StructsConverter.toLocalDateTimeStruct(ldt.plusDays(1).plusSeconds(7_200).plusNanos(1)),
+        LocalDateTimeArithmetic.plus(base, 0, 0, 1, 7_200, 1));
+    Period period = Period.of(0, 1, 2);
+    assertEquals(StructsConverter.toLocalDateTimeStruct(ldt.plus(period)),
+        LocalDateTimeArithmetic.plus(base, KsqlStructs.of(StructsConverter.toPeriodStruct(period)),
+            KsqlStructs.of(StructsConverter.toDurationStruct(Duration.ZERO))));
+    assertEquals(StructsConverter.toLocalDateTimeStruct(ldt.minus(period).minusSeconds(1)),
+        LocalDateTimeArithmetic.minus(base, KsqlStructs.of(StructsConverter.toPeriodStruct(period)),
+            KsqlStructs.of(StructsConverter.toDurationStruct(Duration.ofSeconds(1)))));
+  }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.arithmetic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Random;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LocalTimeArithmeticTests {
+
+  private static final int SAMPLES = 100_000;
+
+  private final Random random = new Random(42L);
+
+  @Test
+  @DisplayName("plus and minus match the LocalTime methods")
+  void plusMinusMatchLocalTime() {
+    for (int i = 0; i < SAMPLES; i++) {
+      LocalTime base = randomLocalTime();
+      Struct struct = StructsConverter.toLocalTimeStruct(base);
+      int hours = amount();
+      int minutes = amount();
+      int seconds = amount();
+      int nanos = amount();
+      Duration duration = randomDuration();
+      Struct d = StructsConverter.toDurationStruct(duration);
+      assertEquals(StructsConverter.toLocalTimeStruct(base.plusHours(hours).plusMinutes(minutes).plusSeconds(seconds).plusNanos(nanos)),
+          LocalTimeArithmetic.plus(struct, hours, minutes, seconds, nanos));
+      assertEquals(StructsConverter.toLocalTimeStruct(base.minusHours(hours).minusMinutes(minutes).minusSeconds(seconds).minusNanos(nanos)),
+          LocalTimeArithmetic.plus(struct, -(long)hours, -(long)minutes, -(long)seconds, -(long)nanos));
+      assertEquals(StructsConverter.toLocalTimeStruct(base.plus(duration)), LocalTimeArithmetic.plus(struct, d));
+      assertEquals(StructsConverter.toLocalTimeStruct(base.minus(duration)), LocalTimeArithmetic.minus(struct, d));
+    }
+  }
+
+  @Test
+  @DisplayName("between matches Duration.between")
+  void betweenMatchesDurationBetween() {
+    for (int i = 0; i < SAMPLES; i++) {
+      LocalTime from = randomLocalTime();
+      LocalTime to = randomLocalTime();
+      assertEquals(StructsConverter.toDurationStruct(Duration.between(from, to)),
+          LocalTimeArithmetic.between(StructsConverter.toLocalTimeStruct(from), StructsConverter.toLocalTimeStruct(to)),
+          from + " -> " + to);
+      assertEquals(StructsConverter.toDurationStruct(Duration.between(from, to)),
+          LocalTimeArithmetic.between(StructsConverter.toLocalTimeStruct(from), to.toNanoOfDay()));
+    }
+  }
+
+  @Test
+  @DisplayName("zero amounts and whole days keep the base while invalid structs are left to java.time")
+  void shortcutsAndLimits() {
+    Struct base = StructsConverter.toLocalTimeStruct(LocalTime.of(23, 59, 59, 999_999_999));
+    assertSame(base, LocalTimeArithmetic.plus(base, 0, 0, 0, 0));
+    assertSame(base, LocalTimeArithmetic.plus(base, StructsConverter.toDurationStruct(Duration.ofDays(-3))));
+    assertEquals(StructsConverter.toLocalTimeStruct(LocalTime.MIDNIGHT), LocalTimeArithmetic.plus(base, 0, 0, 0, 1));
+    LocalTime lt = StructsConverter.fromLocalTimeStruct(base);
+    assertEquals(StructsConverter.toLocalTimeStruct(
+        lt.plusHours(Long.MAX_VALUE).plusMinutes(Long.MIN_VALUE).plusSeconds(Long.MAX_VALUE).plusNanos(Long.MIN_VALUE)),
+        LocalTimeArithmetic.plus(base, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE));
+    Struct invalid = StructsConverter.toLocalTimeStruct(LocalTime.NOON)
+        .put(DateTimeSchemas.LOCALTIME_HOUR_FIELD, 24);
+    assertNull(LocalTimeArithmetic.plus(invalid, 0, 0, 0, 1));
+    assertNull(LocalTimeArithmetic.plus(invalid, StructsConverter.toDurationStruct(Duration.ofSeconds(1))));
+    assertNull(LocalTimeArithmetic.between(invalid, base));
+    Struct unnormalized = StructsConverter.toDurationStruct(Duration.ofSeconds(1))
+        .put(DateTimeSchemas.DURATION_NANOS_FIELD, -1);
+    assertNull(LocalTimeArithmetic.plus(base, unnormalized));
+  }
+
+  private LocalTime randomLocalTime() {
+    switch (random.nextInt(8)) {
+      case 0:
+        return LocalTime.MIDNIGHT;
+      case 1:
+        return LocalTime.MAX;
+      default:
+        return LocalTime.ofNanoOfDay(Math.floorMod(random.nextLong(), LocalTime.MAX.toNanoOfDay() + 1));
+    }
+  }
+
+  private Duration randomDuration() {
+    return random.nextInt(8) == 0
+        ? Duration.ofSeconds(random.nextLong(), random.nextInt(1_000_000_000))
+        : Duration.ofSeconds(random.nextInt(200_000) - 100_000, random.nextInt(1_000_000_000));
+  }
+
+  private int amount() {
+    switch (random.nextInt(8)) {
+      case 0:
+        return 0;
+      case 1:
+        return random.nextInt();
+      default:
+        return random.nextInt(101) - 50;
+    }
+  }
+
+}
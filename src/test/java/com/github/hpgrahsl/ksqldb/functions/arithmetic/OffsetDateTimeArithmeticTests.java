@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.arithmetic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import com.github.hpgrahsl.ksqldb.functions.util.KsqlStructs;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class OffsetDateTimeArithmeticTests {
+
+  private static final OffsetDateTime BASE =
+      OffsetDateTime.of(2020, 1, 31, 22, 30, 0, 500, ZoneOffset.ofHoursMinutes(-9, -30));
+
+  @Test
+  @DisplayName("fused plus and minus keep the offset and match the OffsetDateTime methods")
+  void fusedMatchesOffsetDateTime() {
+    Struct base = StructsConverter.toOffsetDateTimeStruct(BASE);
+    assertEquals(StructsConverter.toOffsetDateTimeStruct(
+            BASE.plusYears(1).plusMonths(1).plusDays(1).plusHours(2).plusMinutes(-3).plusSeconds(4).plusNanos(-5)),
+        OffsetDateTimeArithmetic.plus(base, 1, 1, 1, 2 * 3_600 - 3 * 60 + 4, -5));
+    Period period = Period.of(1, 1, -40);
+    Duration duration = Duration.ofSeconds(-90_000, 1);
+    assertEquals(StructsConverter.toOffsetDateTimeStruct(BASE.plus(period).plus(duration)),
+        OffsetDateTimeArithmetic.plus(base, StructsConverter.toPeriodStruct(period),
+            StructsConverter.toDurationStruct(duration)));
+    assertEquals(StructsConverter.toOffsetDateTimeStruct(BASE.minus(period).minus(duration)),
+        OffsetDateTimeArithmetic.minus(base, StructsConverter.toPeriodStruct(period),
+            StructsConverter.toDurationStruct(duration)));
+  }
+
+  @Test
+  @DisplayName("fused plus keeps the base for zero amounts and gives up on invalid offsets")
+  void fusedShortcutsAndInvalidOffsets() {
+    Struct base = StructsConverter.toOffsetDateTimeStruct(BASE);
+    assertSame(base, OffsetDateTimeArithmetic.plus(base, 0, 0, 0, 0, 0));
+    base.put(DateTimeSchemas.OFFSETDATETIME_OFFSET_FIELD, new Struct(DateTimeSchemas.ZONEOFFSET_SCHEMA)
+        .put(DateTimeSchemas.ZONEOFFSET_TOTALSECONDS_FIELD, 18 * 3_600 + 1));
+    assertNull(OffsetDateTimeArithmetic.plus(base, 0, 0, 1, 0, 0));
+  }
+
+  @Test
+  @DisplayName("inputs based on the schemas ksqlDB derives from the signature result in structs of the DateTimeSchemas")
+  void ksqlStructsAreSupported() {
+    Struct base = KsqlStructs.of(StructsConverter.toOffsetDateTimeStruct(BASE));
+    assertEquals(StructsConverter.toOffsetDateTimeStruct(BASE.plusSeconds(90)),
+        OffsetDateTimeArithmetic.plus(base, 0, 0, 0, 90, 0));
+    assertEquals(StructsConverter.toOffsetDateTimeStruct(BASE.plusMonths(1)),
+        OffsetDateTimeArithmetic.plus(base, 0, 1, 0, 0, 0));
+    Period period = Period.of(1, 1, -40);
+    Duration duration = Duration.ofSeconds(-90_000, 1);
+    assertEquals(StructsConverter.toOffsetDateTimeStruct(BASE.plus(period).plus(duration)),
+        OffsetDateTimeArithmetic.plus(base, KsqlStructs.of(StructsConverter.toPeriodStruct(period)),
+            KsqlStructs.of(StructsConverter.toDurationStruct(duration))));
+    assertEquals(StructsConverter.toOffsetDateTimeStruct(BASE.minus(period)),
+        OffsetDateTimeArithmetic.minus(base, KsqlStructs.of(StructsConverter.toPeriodStruct(period)),
+            KsqlStructs.of(StructsConverter.toDurationStruct(Duration.ZERO))));
+  }
+
+}
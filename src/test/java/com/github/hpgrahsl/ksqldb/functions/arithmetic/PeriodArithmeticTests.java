@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.arithmetic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class PeriodArithmeticTests {
+
+  private static final int SAMPLES = 100_000;
+
+  private final Random random = new Random(42L);
+
+  @Test
+  @DisplayName("primitive plus, minus, multiply and normalize match the Period methods")
+  void arithmeticMatchesPeriod() {
+    for (int i = 0; i < SAMPLES; i++) {
+      Period b = randomPeriod();
+      Period o = randomPeriod();
+      int scalar = randomInt();
+      Struct base = StructsConverter.toPeriodStruct(b);
+      Struct other = StructsConverter.toPeriodStruct(o);
+      assertSameResult(() -> StructsConverter.toPeriodStruct(b.plus(o)), () -> PeriodArithmetic.plus(base, other));
+      assertSameResult(() -> StructsConverter.toPeriodStruct(b.minus(o)), () -> PeriodArithmetic.minus(base, other));
+      assertSameResult(() -> StructsConverter.toPeriodStruct(b.multipliedBy(scalar)),
+          () -> PeriodArithmetic.multiply(base, scalar));
+      assertSameResult(() -> StructsConverter.toPeriodStruct(b.normalized()), () -> PeriodArithmetic.normalize(base));
+    }
+  }
+
+  @Test
+  @DisplayName("primitive plus and minus of lists match folding the Period methods")
+  void plusMinusListsMatchPeriod() {
+    for (int i = 0; i < SAMPLES / 10; i++) {
+      Period b = randomPeriod();
+      List<Period> others = new ArrayList<>();
+      for (int j = random.nextInt(5); j >= 0; j--)
+        others.add(randomPeriod());
+      Struct base = StructsConverter.toPeriodStruct(b);
+      List<Struct> structs = new ArrayList<>();
+      others.forEach(o -> structs.add(StructsConverter.toPeriodStruct(o)));
+      assertSameResult(() -> StructsConverter.toPeriodStruct(others.stream().reduce(b, Period::plus)),
+          () -> PeriodArithmetic.plus(base, structs));
+      assertSameResult(() -> StructsConverter.toPeriodStruct(others.stream().reduce(b, Period::minus)),
+          () -> PeriodArithmetic.minus(base, structs));
+    }
+  }
+
+  @Test
+  @DisplayName("unchanged periods are returned as the very same struct")
+  void unchangedPeriodsAreKept() {
+    Struct base = StructsConverter.toPeriodStruct(Period.of(1, 11, 40));
+    assertSame(base, PeriodArithmetic.multiply(base, 1));
+    assertSame(base, PeriodArithmetic.normalize(base));
+  }
+
+  private Period randomPeriod() {
+    return Period.of(randomInt(), randomInt(), randomInt());
+  }
+
+  private int randomInt() {
+    switch (random.nextInt(4)) {
+      case 0:
+        return random.nextBoolean() ? Integer.MAX_VALUE - random.nextInt(3) : Integer.MIN_VALUE + random.nextInt(3);
+      case 1:
+        return random.nextInt();
+      default:
+        return random.nextInt(201) - 100;
+    }
+  }
+
+  private static void assertSameResult(Supplier<Struct> expected, Supplier<Struct> actual) {
+    Struct result;
+    try {
+      result = expected.get();
+    } catch (ArithmeticException exc) {
+      assertEquals(exc.getMessage(), assertThrows(ArithmeticException.class, actual::get).getMessage());
+      return;
+    }
+    assertEquals(result, actual.get());
+  }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.arithmetic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import com.github.hpgrahsl.ksqldb.functions.util.KsqlStructs;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.List;
+import java.util.Random;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ZonedDateTimeArithmeticTests {
+
+  private static final List<String> ZONES = List.of("Europe/Vienna", "America/New_York", "Europe/Dublin",
+      "Australia/Lord_Howe", "America/St_Johns", "Antarctica/Troll", "Pacific/Apia", "Asia/Kolkata", "UTC", "+05:30");
+  private static final int SAMPLES = 50_000;
+
+  private final Random random = new Random(42L);
+
+  @Test
+  @DisplayName("fused plus matches chaining the ZonedDateTime plus methods around transitions")
+  void fusedMatchesChainedAroundTransitions() {
+    for (int i = 0; i < SAMPLES; i++) {
+      ZoneId zone = ZoneId.of(ZONES.get(random.nextInt(ZONES.size())));
+      //local datetimes around a transition with an arbitrary (possibly invalid) offset in the struct
+      long epochSecond = (random.nextLong() % (260L * 365 * 86_400)) - 70L * 365 * 86_400;
+      ZoneOffsetTransition t = zone.getRules().nextTransition(Instant.ofEpochSecond(epochSecond));
+      if (t != null && random.nextInt(4) > 0)
+        epochSecond = t.toEpochSecond() + random.nextInt(14_400) - 7_200;
+      ZonedDateTime base = ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, random.nextInt(1_000_000_000)), zone);
+      Struct struct = StructsConverter.toZonedDateTimeStruct(base);
+      if (random.nextInt(8) == 0)
+        struct.put(DateTimeSchemas.ZONEDDATETIME_OFFSET_FIELD, StructsConverter.toZoneOffsetStruct(
+            ZoneOffset.ofTotalSeconds(base.getOffset().getTotalSeconds() + (random.nextInt(5) - 2) * 1_800)));
+      assertSameResult(struct, small(), small(), small() * 30, small() * 24, small() * 60, small() * 3_600,
+          random.nextInt());
+    }
+  }
+
+  @Test
+  @DisplayName("fused plus matches chaining for single amounts and extreme values")
+  void fusedMatchesChainedForExtremes() {
+    Struct struct = StructsConverter.toZonedDateTimeStruct(
+        ZonedDateTime.of(LocalDateTime.of(2020, 3, 29, 2, 30), ZoneId.of("Europe/Vienna")));
+    assertSameResult(struct, 0, 0, 0, 0, 0, 0, 0);
+    assertSameResult(struct, 1, 0, 0, 0, 0, 0, 0);
+    assertSameResult(struct, 0, 0, 0, 0, 0, 0, -1);
+    assertSameResult(struct, 0, 0, 0, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE);
+    assertSameResult(struct, Integer.MAX_VALUE, 0, 0, 0, 0, 0, 0);
+    assertSameResult(struct, 999_999_999 - 2020, 11, 0, 0, 0, 0, 0);
+    assertSameResult(struct, 999_999_999 - 2020, 0, 0, 10, 0, 0, 0);
+    Struct max = StructsConverter.toZonedDateTimeStruct(ZonedDateTime.of(LocalDateTime.MAX, ZoneOffset.UTC));
+    assertSameResult(max, 0, 0, 0, 1, -1, 0, 0);
+    assertSameResult(max, 0, 0, -1, 24, 0, 0, 0);
+  }
+  @Test
+  @DisplayName("inputs based on the schemas ksqlDB derives from the signature result in structs of the DateTimeSchemas")
+  void ksqlStructsAreSupported() {
+    ZonedDateTime zdt = ZonedDateTime.of(2020, 3, 28, 2, 30, 0, 500, ZoneId.of("Europe/Vienna"));
+    Struct base = KsqlStructs.of(StructsConverter.toZonedDateTimeStruct(zdt));
+    assertEquals(StructsConverter.toZonedDateTimeStruct(zdt.plusMonths(1).plusDays(-1)),
+        ZonedDateTimeArithmetic.plus(base, 0, 1, -1, 0, 0, 0, 0));
+    assertEquals(StructsConverter.toZonedDateTimeStruct(zdt.plusDays(1).plusHours(1).plusNanos(1)),
+        ZonedDateTimeArithmetic.plus(base, 0, 0, 1, 1, 0, 0, 1));
+    //the local time 02:30 falls into the gap of the next day and is shifted by the chained calls
+    assertEquals(StructsConverter.toZonedDateTimeStruct(zdt.plusDays(1)),
+        ZonedDateTimeArithmetic.plus(base, 0, 0, 1, 0, 0, 0, 0));
+  }
+
+
+  private int small() {
+    return random.nextInt(4) == 0 ? 0 : random.nextInt(41) - 20;
+  }
+
+  private static void assertSameResult(Struct base, long years, long months, long days,
+      long hours, long minutes, long seconds, long nanos) {
+    Struct expected;
+    try {
+      expected = StructsConverter.toZonedDateTimeStruct(StructsConverter.fromZonedDateTimeStruct(base)
+          .plusYears(years).plusMonths(months).plusDays(days)
+          .plusHours(hours).plusMinutes(minutes).plusSeconds(seconds).plusNanos(nanos));
+    } catch (DateTimeException exc) {
+      assertThrows(DateTimeException.class,
+          () -> ZonedDateTimeArithmetic.plus(base, years, months, days, hours, minutes, seconds, nanos));
+      return;
+    }
+    assertEquals(expected, ZonedDateTimeArithmetic.plus(base, years, months, days, hours, minutes, seconds, nanos),
+        base + " + " + years + "Y" + months + "M" + days + "DT" + hours + "H" + minutes + "M" + seconds + "S" + nanos);
+  }
+
+}
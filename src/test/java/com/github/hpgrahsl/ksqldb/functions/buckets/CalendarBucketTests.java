@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.buckets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CalendarBucketTests {
+
+  @Test
+  @DisplayName("every date is floored to the first day of its calendar unit")
+  void floorToCalendarUnits() {
+    for (LocalDate date = LocalDate.of(2019, 12, 1); date.isBefore(LocalDate.of(2021, 2, 1)); date = date.plusDays(1)) {
+      assertEquals(date, CalendarBucket.DAY.floor(date));
+      LocalDate week = CalendarBucket.WEEK.floor(date);
+      assertEquals(DayOfWeek.MONDAY, week.getDayOfWeek());
+      assertEquals(true, !week.isAfter(date) && week.plusWeeks(1).isAfter(date));
+      assertEquals(LocalDate.of(date.getYear(), date.getMonth(), 1), CalendarBucket.MONTH.floor(date));
+      assertEquals(LocalDate.of(date.getYear(), date.getMonth().firstMonthOfQuarter(), 1), CalendarBucket.QUARTER.floor(date));
+      assertEquals(LocalDate.of(date.getYear(), 1, 1), CalendarBucket.YEAR.floor(date));
+    }
+  }
+
+  @Test
+  @DisplayName("calendar units are looked up case-insensitively and invalid units are rejected")
+  void lookupCalendarUnits() {
+    assertEquals(CalendarBucket.QUARTER, CalendarBucket.of("QUARTER"));
+    assertEquals(CalendarBucket.QUARTER, CalendarBucket.of("quarter"));
+    assertEquals(CalendarBucket.QUARTER, CalendarBucket.of("Quarter"));
+    assertThrows(IllegalArgumentException.class, () -> CalendarBucket.of("FORTNIGHT"));
+  }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.buckets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import java.math.BigInteger;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TimeBucketsTests {
+
+  private static final BigInteger NANOS_PER_SECOND = BigInteger.valueOf(1_000_000_000L);
+
+  private final Random random = new Random(42L);
+
+  @Test
+  @DisplayName("floored instants match exact arithmetic for arbitrary bucket widths and origins")
+  void floorMatchesExactArithmetic() {
+    long[] maxSeconds = {1L, 86_400L, 10_000_000_000L, Instant.MAX.getEpochSecond() / 2};
+    for (int i = 0; i < 100_000; i++) {
+      long range = maxSeconds[i % maxSeconds.length];
+      Instant instant = randomInstant(range);
+      Instant origin = randomInstant(range);
+      long bucketSeconds = i % 3 == 0 ? 0 : 1 + Math.floorMod(random.nextLong(), range);
+      int bucketNanos = i % 3 == 1 ? 0 : 1 + random.nextInt(999_999_999);
+      assertEquals(floorExact(instant, bucketSeconds, bucketNanos, origin),
+          StructsConverter.fromInstantStruct(TimeBuckets.floorInstant(
+              instant.getEpochSecond(), instant.getNano(), bucketSeconds, bucketNanos,
+              origin.getEpochSecond(), origin.getNano())),
+          instant + " / " + bucketSeconds + "s" + bucketNanos + "ns / " + origin);
+    }
+  }
+
+  @Test
+  @DisplayName("instants at the start of a bucket are kept as they are")
+  void floorKeepsBucketStarts() {
+    assertEquals(StructsConverter.toInstantStruct(Instant.EPOCH), TimeBuckets.floorInstant(0L, 0, 60L, 0, 0L, 0));
+    assertEquals(StructsConverter.toInstantStruct(Instant.ofEpochSecond(-60L, 0)),
+        TimeBuckets.floorInstant(-1L, 999_999_999, 60L, 0, 0L, 0));
+    assertEquals(StructsConverter.toInstantStruct(Instant.ofEpochSecond(5L, 250_000_000)),
+        TimeBuckets.floorInstant(5L, 250_000_000, 0L, 250_000_000, 0L, 0));
+  }
+
+  @Test
+  @DisplayName("non-positive bucket widths and results beyond the range of Instant are rejected")
+  void invalidBuckets() {
+    assertThrows(IllegalArgumentException.class, () -> TimeBuckets.floorInstant(0L, 0, 0L, 0, 0L, 0));
+    assertThrows(IllegalArgumentException.class, () -> TimeBuckets.floorInstant(0L, 0, -1L, 0, 0L, 0));
+    assertThrows(DateTimeException.class, () -> TimeBuckets.floorInstant(
+        Instant.MIN.getEpochSecond(), 0, 86_400L, 0, 1L, 0));
+    assertThrows(DateTimeException.class, () -> TimeBuckets.floorInstant(
+        Instant.MIN.getEpochSecond(), 0, 0L, 3, 0L, 1));
+  }
+
+  private Instant randomInstant(long range) {
+    return Instant.ofEpochSecond(random.nextLong() % range, random.nextInt(1_000_000_000));
+  }
+
+  private static Instant floorExact(Instant instant, long bucketSeconds, int bucketNanos, Instant origin) {
+    BigInteger bucket = BigInteger.valueOf(bucketSeconds).multiply(NANOS_PER_SECOND).add(BigInteger.valueOf(bucketNanos));
+    BigInteger diff = toNanos(instant).subtract(toNanos(origin));
+    BigInteger floor = toNanos(origin).add(diff.subtract(diff.mod(bucket)));
+    BigInteger nanos = floor.mod(NANOS_PER_SECOND);
+    return Instant.ofEpochSecond(floor.subtract(nanos).divide(NANOS_PER_SECOND).longValueExact(), nanos.longValue());
+  }
+
+  private static BigInteger toNanos(Instant instant) {
+    return BigInteger.valueOf(instant.getEpochSecond()).multiply(NANOS_PER_SECOND)
+        .add(BigInteger.valueOf(instant.getNano()));
+  }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.clock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.hpgrahsl.ksqldb.functions.UdfDurationBetween;
+import com.github.hpgrahsl.ksqldb.functions.UdfInstant;
+import com.github.hpgrahsl.ksqldb.functions.UdfPeriodBetween;
+import com.github.hpgrahsl.ksqldb.functions.UdfZonedDateTime;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UdfClockTests {
+
+  private static final ZoneId ZONE = ZoneId.of("Europe/Vienna");
+  private static final Instant FROZEN_AT = Instant.parse("2020-07-24T20:07:24.123Z");
+
+  @Test
+  @DisplayName("frozen clock always returns the same instant in its zone")
+  void frozenClock() {
+    Clock clock = UdfClock.of("FROZEN", ZONE, 1L, FROZEN_AT);
+    assertEquals(FROZEN_AT, clock.instant());
+    assertEquals(ZONE, clock.getZone());
+  }
+
+  @Test
+  @DisplayName("coarse clock lags behind the system clock by at most a few ticks and advances")
+  void coarseClock() throws InterruptedException {
+    try (CoarseClock clock = (CoarseClock)UdfClock.of("coarse", ZONE, 5L, FROZEN_AT)) {
+      Instant first = clock.instant();
+      assertFalse(first.isAfter(Instant.now()));
+      assertTrue(Duration.between(first, Instant.now()).toMillis() < 1_000);
+      Thread.sleep(50);
+      assertTrue(clock.instant().isAfter(first));
+      assertEquals(ZoneId.of("UTC"), clock.withZone(ZoneId.of("UTC")).getZone());
+      assertSame(clock, clock.withZone(ZONE));
+    }
+    assertThrows(IllegalArgumentException.class, () -> CoarseClock.start(0L, ZONE));
+  }
+
+  @Test
+  @DisplayName("closed coarse clocks stop ticking for all their zones and read the system clock instead")
+  void closedCoarseClock() throws InterruptedException {
+    CoarseClock clock = CoarseClock.start(60_000L, ZONE);
+    CoarseClock utc = (CoarseClock)clock.withZone(ZoneId.of("UTC"));
+    Thread.sleep(5);
+    assertEquals(clock.instant(), utc.instant());
+    utc.close();
+    assertTrue(clock.isClosed());
+    Instant first = clock.instant();
+    Thread.sleep(5);
+    assertTrue(clock.instant().isAfter(first));
+  }
+
+  @Test
+  @DisplayName("invalid clock modes are rejected")
+  void invalidMode() {
+    assertThrows(IllegalArgumentException.class, () -> UdfClock.of("sundial", ZONE, 1L, FROZEN_AT));
+  }
+
+  @Test
+  @DisplayName("UDFs referring to the current date/time use the injected clock")
+  void udfsUseInjectedClock() {
+    Clock previous = UdfClock.current();
+    try {
+      UdfClock.use(Clock.fixed(FROZEN_AT, ZONE));
+      assertEquals(StructsConverter.toInstantStruct(FROZEN_AT), new UdfInstant().createInstant());
+      assertEquals(StructsConverter.toZonedDateTimeStruct(ZonedDateTime.ofInstant(FROZEN_AT, ZONE)),
+          new UdfZonedDateTime().createZonedDateTime());
+      assertEquals(StructsConverter.toPeriodStruct(Period.ofYears(1)),
+          new UdfPeriodBetween().between(StructsConverter.toLocalDateStruct(LocalDate.of(2019, 7, 24))));
+      assertEquals(StructsConverter.toDurationStruct(Duration.ofMinutes(7).plusSeconds(24).plusMillis(123)),
+          new UdfDurationBetween().between(StructsConverter.toLocalTimeStruct(LocalTime.of(22, 0))));
+    } finally {
+      UdfClock.use(previous);
+    }
+  }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.compact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CompactEncodingsTests {
+
+  private static final int SAMPLES = 10_000;
+
+  private final Random random = new Random(42L);
+
+  @Test
+  @DisplayName("epoch nanos and epoch micros round trip instants")
+  void epochNanosAndMicrosRoundTrip() {
+    for (int i = 0; i < SAMPLES; i++) {
+      Instant instant = Instant.ofEpochSecond(random.nextInt(), random.nextInt(1_000_000_000));
+      assertEquals(instant, CompactEncodings.fromEpochNanos(CompactEncodings.toEpochNanos(instant)));
+      assertEquals(instant.truncatedTo(ChronoUnit.MICROS),
+          CompactEncodings.fromEpochMicros(CompactEncodings.toEpochMicros(instant)));
+    }
+    assertThrows(ArithmeticException.class, () -> CompactEncodings.toEpochNanos(Instant.MAX));
+  }
+
+  @Test
+  @DisplayName("epoch nanos plus/minus matches Instant.plus/minus")
+  void epochNanosPlusMinus() {
+    for (int i = 0; i < SAMPLES; i++) {
+      Instant instant = Instant.ofEpochSecond(random.nextInt(), random.nextInt(1_000_000_000));
+      Duration d = Duration.ofSeconds(random.nextInt(), random.nextInt(1_000_000_000));
+      long epochNanos = CompactEncodings.toEpochNanos(instant);
+      assertEquals(instant.plus(d), CompactEncodings.fromEpochNanos(CompactEncodings.plusEpochNanos(epochNanos, d)));
+      assertEquals(instant.minus(d), CompactEncodings.fromEpochNanos(CompactEncodings.minusEpochNanos(epochNanos, d)));
+    }
+  }
+
+  @Test
+  @DisplayName("epoch day round trips local dates")
+  void epochDayRoundTrip() {
+    for (int i = 0; i < SAMPLES; i++) {
+      LocalDate ld = LocalDate.ofEpochDay(random.nextInt(7_300_000) - 3_650_000);
+      assertEquals(ld, CompactEncodings.fromEpochDay(CompactEncodings.toEpochDay(ld)));
+    }
+  }
+
+  @Test
+  @DisplayName("nano of day plus/minus matches LocalTime.plus/minus")
+  void nanoOfDayPlusMinus() {
+    for (int i = 0; i < SAMPLES; i++) {
+      LocalTime lt = LocalTime.ofNanoOfDay((long)(random.nextDouble() * 86_400_000_000_000L));
+      Duration d = Duration.ofSeconds(random.nextLong() / 1_000_000_000L, random.nextInt(1_000_000_000));
+      long nanoOfDay = CompactEncodings.toNanoOfDay(lt);
+      assertEquals(lt.plus(d), CompactEncodings.fromNanoOfDay(CompactEncodings.plusNanoOfDay(nanoOfDay, d)));
+      assertEquals(lt.minus(d), CompactEncodings.fromNanoOfDay(CompactEncodings.minusNanoOfDay(nanoOfDay, d)));
+    }
+    assertThrows(DateTimeException.class, () -> CompactEncodings.plusNanoOfDay(-1L, Duration.ZERO));
+  }
+
+  @Test
+  @DisplayName("packed local datetimes round trip and keep their chronological order")
+  void packedRoundTripAndOrder() {
+    for (int i = 0; i < SAMPLES; i++) {
+      LocalDateTime ldt1 = randomLocalDateTime();
+      LocalDateTime ldt2 = random.nextInt(4) == 0 ? ldt1 : randomLocalDateTime();
+      long p1 = CompactEncodings.toPacked(ldt1);
+      long p2 = CompactEncodings.toPacked(ldt2);
+      assertEquals(ldt1.truncatedTo(ChronoUnit.MICROS), CompactEncodings.fromPacked(p1));
+      assertEquals(Integer.signum(ldt1.truncatedTo(ChronoUnit.MICROS).compareTo(ldt2.truncatedTo(ChronoUnit.MICROS))),
+          Long.signum(Long.compare(p1, p2)));
+    }
+    assertEquals(LocalDateTime.of(CompactEncodings.MIN_PACKED_YEAR, 1, 1, 0, 0),
+        CompactEncodings.fromPacked(CompactEncodings.toPacked(LocalDateTime.of(CompactEncodings.MIN_PACKED_YEAR, 1, 1, 0, 0))));
+    assertThrows(DateTimeException.class,
+        () -> CompactEncodings.toPacked(LocalDateTime.of(CompactEncodings.MAX_PACKED_YEAR + 1, 1, 1, 0, 0)));
+  }
+
+  private LocalDateTime randomLocalDateTime() {
+    return LocalDateTime.of(random.nextInt(2 * CompactEncodings.MAX_PACKED_YEAR) - CompactEncodings.MAX_PACKED_YEAR,
+        1 + random.nextInt(12), 1 + random.nextInt(28),
+        random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000));
+  }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.formats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class DateTimeFormatterCacheTests {
+
+  @Test
+  @DisplayName("repeated lookups of the same pattern and locale return the cached formatter")
+  void cachedFormatterIsReused() {
+    DateTimeFormatterCache cache = new DateTimeFormatterCache(4);
+    assertSame(cache.get("yyyy-MM-dd", Locale.ENGLISH), cache.get("yyyy-MM-dd", Locale.ENGLISH));
+    assertEquals(1, cache.misses());
+    assertEquals(1, cache.hits());
+  }
+
+  @Test
+  @DisplayName("the same pattern with different locales results in distinct formatters")
+  void formattersAreKeyedByLocale() {
+    DateTimeFormatterCache cache = new DateTimeFormatterCache(4);
+    assertNotSame(cache.get("MMM", Locale.ENGLISH), cache.get("MMM", Locale.GERMAN));
+    assertEquals(Locale.GERMAN, cache.get("MMM", Locale.GERMAN).getLocale());
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  @DisplayName("the least recently used formatter gets evicted once the capacity is exceeded")
+  void leastRecentlyUsedIsEvicted() {
+    DateTimeFormatterCache cache = new DateTimeFormatterCache(2);
+    cache.get("HH", Locale.ENGLISH);
+    cache.get("mm", Locale.ENGLISH);
+    cache.get("HH", Locale.ENGLISH);
+    cache.get("ss", Locale.ENGLISH);
+    assertEquals(2, cache.size());
+    cache.get("HH", Locale.ENGLISH);
+    assertEquals(2, cache.hits());
+    cache.get("mm", Locale.ENGLISH);
+    assertEquals(4, cache.misses());
+  }
+
+  @Test
+  @DisplayName("concurrent lookups of many patterns never grow the cache beyond its capacity")
+  void concurrentLookupsStayBounded() {
+    DateTimeFormatterCache cache = new DateTimeFormatterCache(8);
+    IntStream.range(0, 10_000).parallel()
+        .forEach(i -> assertEquals(DateTimeFormatter.ofPattern("'" + (i % 64) + "'").toString(),
+            cache.get("'" + (i % 64) + "'", i % 2 == 0 ? Locale.ENGLISH : Locale.GERMAN).toString()));
+    assertEquals(10_000, cache.hits() + cache.misses());
+    assertTrue(cache.size() <= 8);
+  }
+
+  @Test
+  @DisplayName("invalid patterns are rejected and not cached")
+  void invalidPatternIsNotCached() {
+    DateTimeFormatterCache cache = new DateTimeFormatterCache(2);
+    assertThrows(IllegalArgumentException.class, () -> cache.get("yyyy-MM-dd{", Locale.ENGLISH));
+    assertEquals(0, cache.size());
+  }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.formats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import com.github.hpgrahsl.ksqldb.functions.structs.StructsConverter;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class IsoDateTimeFormatterTests {
+
+  private static final int SAMPLES = 20_000;
+  private static final String[] ZONES = {"Europe/Vienna", "America/New_York", "Asia/Kolkata", "UTC", "Z", "+05:45"};
+
+  private final Random random = new Random(42L);
+
+  @Test
+  @DisplayName("formatting instant structs matches Instant.toString")
+  void formatInstant() {
+    for (int i = 0; i < SAMPLES; i++) {
+      Instant instant = Instant.ofEpochSecond(randomSeconds(i % 10 == 0 ? Instant.MAX.getEpochSecond() : 253_402_300_799L),
+          randomNanos());
+      assertEquals(instant.toString(), IsoDateTimeFormatter.formatInstant(StructsConverter.toInstantStruct(instant)));
+    }
+    Struct unnormalized = new Struct(DateTimeSchemas.INSTANT_SCHEMA)
+        .put(DateTimeSchemas.INSTANT_SECONDS_FIELD, 10L)
+        .put(DateTimeSchemas.INSTANT_NANOS_FIELD, -1);
+    assertEquals(StructsConverter.fromInstantStruct(unnormalized).toString(), IsoDateTimeFormatter.formatInstant(unnormalized));
+  }
+
+  @Test
+  @DisplayName("formatting duration structs matches Duration.toString")
+  void formatDuration() {
+    for (int i = 0; i < SAMPLES; i++) {
+      Duration duration = Duration.ofSeconds(randomSeconds(i % 10 == 0 ? Long.MAX_VALUE : 1_000_000L), randomNanos());
+      assertEquals(duration.toString(), IsoDateTimeFormatter.formatDuration(StructsConverter.toDurationStruct(duration)));
+    }
+    for (long seconds : new long[]{Long.MIN_VALUE, -61, -60, -1, 0, 1, 59, 60, 3_600, Long.MAX_VALUE}) {
+      for (int nanos : new int[]{0, 1, 500_000_000, 999_999_999}) {
+        Duration duration = Duration.ofSeconds(seconds, nanos);
+        assertEquals(duration.toString(), IsoDateTimeFormatter.formatDuration(StructsConverter.toDurationStruct(duration)));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("formatting period structs matches Period.toString")
+  void formatPeriod() {
+    for (int i = 0; i < SAMPLES; i++) {
+      Period period = Period.of(randomInt(), randomInt(), randomInt());
+      assertEquals(period.toString(), IsoDateTimeFormatter.formatPeriod(StructsConverter.toPeriodStruct(period)));
+    }
+  }
+
+  @Test
+  @DisplayName("formatting local date, time and datetime structs matches the ISO_LOCAL_* formatters")
+  void formatLocalDateTime() {
+    for (int i = 0; i < SAMPLES; i++) {
+      LocalDateTime ldt = randomLocalDateTime(i);
+      assertEquals(ldt.toLocalDate().format(DateTimeFormatter.ISO_LOCAL_DATE),
+          IsoDateTimeFormatter.formatLocalDate(StructsConverter.toLocalDateStruct(ldt.toLocalDate())));
+      assertEquals(ldt.toLocalTime().format(DateTimeFormatter.ISO_LOCAL_TIME),
+          IsoDateTimeFormatter.formatLocalTime(StructsConverter.toLocalTimeStruct(ldt.toLocalTime())));
+      assertEquals(ldt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+          IsoDateTimeFormatter.formatLocalDateTime(StructsConverter.toLocalDateTimeStruct(ldt)));
+    }
+  }
+
+  @Test
+  @DisplayName("formatting offset and zoned datetime structs matches the ISO_OFFSET_DATE_TIME and ISO_ZONED_DATE_TIME formatters")
+  void formatOffsetAndZonedDateTime() {
+    for (int i = 0; i < SAMPLES; i++) {
+      LocalDateTime ldt = randomLocalDateTime(i);
+      OffsetDateTime odt = OffsetDateTime.of(ldt, ZoneOffset.ofTotalSeconds(random.nextInt(129_601) - 64_800));
+      ZonedDateTime zdt = ZonedDateTime.of(ldt, ZoneId.of(ZONES[random.nextInt(ZONES.length)]));
+      assertEquals(odt.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME),
+          IsoDateTimeFormatter.formatOffsetDateTime(StructsConverter.toOffsetDateTimeStruct(odt)));
+      assertEquals(zdt.format(DateTimeFormatter.ISO_ZONED_DATE_TIME),
+          IsoDateTimeFormatter.formatZonedDateTime(StructsConverter.toZonedDateTimeStruct(zdt)));
+    }
+  }
+
+  @Test
+  @DisplayName("structs with invalid values are rejected like before")
+  void invalidStructsAreRejected() {
+    Struct localDate = new Struct(DateTimeSchemas.LOCALDATE_SCHEMA)
+        .put(DateTimeSchemas.LOCALDATE_YEAR_FIELD, 2019)
+        .put(DateTimeSchemas.LOCALDATE_MONTH_FIELD, 2)
+        .put(DateTimeSchemas.LOCALDATE_DAY_FIELD, 29);
+    Struct localTime = new Struct(DateTimeSchemas.LOCALTIME_SCHEMA)
+        .put(DateTimeSchemas.LOCALTIME_HOUR_FIELD, 24)
+        .put(DateTimeSchemas.LOCALTIME_MINUTE_FIELD, 0)
+        .put(DateTimeSchemas.LOCALTIME_SECOND_FIELD, 0)
+        .put(DateTimeSchemas.LOCALTIME_NANO_FIELD, 0);
+    assertThrows(DateTimeException.class, () -> IsoDateTimeFormatter.formatLocalDate(localDate));
+    assertThrows(DateTimeException.class, () -> IsoDateTimeFormatter.formatLocalTime(localTime));
+  }
+
+  private LocalDateTime randomLocalDateTime(int i) {
+    long maxSeconds = i % 10 == 0 ? LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC) : 253_402_300_799L;
+    return LocalDateTime.ofEpochSecond(randomSeconds(maxSeconds), randomNanos(), ZoneOffset.UTC);
+  }
+
+  private long randomSeconds(long maxAbs) {
+    return (long)((random.nextDouble() * 2 - 1) * maxAbs);
+  }
+
+  private int randomInt() {
+    switch (random.nextInt(3)) {
+      case 0:
+        return 0;
+      case 1:
+        return random.nextInt(100) - 50;
+      default:
+        return random.nextInt();
+    }
+  }
+
+  private int randomNanos() {
+    switch (random.nextInt(4)) {
+      case 0:
+        return 0;
+      case 1:
+        return random.nextInt(1_000) * 1_000_000;
+      case 2:
+        return random.nextInt(1_000_000) * 1_000;
+      default:
+        return random.nextInt(1_000_000_000);
+    }
+  }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.formats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class IsoDateTimeParserTests {
+
+  private static final int SAMPLES = 20_000;
+  private static final String[] ZONES = {"Europe/Vienna", "America/New_York", "Asia/Kolkata", "Australia/Lord_Howe"};
+
+  private final Random random = new Random(42L);
+
+  @Test
+  @DisplayName("fast path parsing of random ISO strings matches java.time parsing")
+  void fastPathMatchesJavaTime() {
+    for (int i = 0; i < SAMPLES; i++) {
+      LocalDateTime ldt = LocalDateTime.ofEpochSecond(random.nextInt() * 8L, randomNanos(), ZoneOffset.UTC);
+      ZoneOffset offset = ZoneOffset.ofTotalSeconds((random.nextInt(144) - 72) * 900 + random.nextInt(2) * 30);
+      ZonedDateTime zdt = ZonedDateTime.of(ldt, ZoneId.of(ZONES[random.nextInt(ZONES.length)]));
+
+      String instant = ldt.toInstant(ZoneOffset.UTC).toString();
+      String zoned = zdt.toString();
+      assertEquals(Instant.parse(instant), fastPath(IsoDateTimeParser.tryParseInstant(instant), instant));
+      assertEquals(LocalDate.parse(ldt.toLocalDate().toString()),
+          fastPath(IsoDateTimeParser.tryParseLocalDate(ldt.toLocalDate().toString()), ldt.toString()));
+      assertEquals(LocalTime.parse(ldt.toLocalTime().toString()),
+          fastPath(IsoDateTimeParser.tryParseLocalTime(ldt.toLocalTime().toString()), ldt.toString()));
+      assertEquals(LocalDateTime.parse(ldt.toString()),
+          fastPath(IsoDateTimeParser.tryParseLocalDateTime(ldt.toString()), ldt.toString()));
+      assertEquals(OffsetDateTime.parse(ldt.atOffset(offset).toString()),
+          fastPath(IsoDateTimeParser.tryParseOffsetDateTime(ldt.atOffset(offset).toString()), ldt.atOffset(offset).toString()));
+      assertEquals(ZonedDateTime.parse(ldt.atOffset(offset).toString()),
+          fastPath(IsoDateTimeParser.tryParseZonedDateTime(ldt.atOffset(offset).toString()), ldt.atOffset(offset).toString()));
+      assertEquals(ZonedDateTime.parse(zoned), fastPath(IsoDateTimeParser.tryParseZonedDateTime(zoned), zoned));
+    }
+  }
+
+  @Test
+  @DisplayName("zoned datetimes with an offset which is invalid for the zone are resolved like java.time does")
+  void zonedDateTimeResolvesInstantWithZone() {
+    for (String text : new String[]{"2020-03-29T02:30+01:00[Europe/Vienna]", "2020-10-25T02:30+01:00[Europe/Vienna]",
+        "2020-10-25T02:30+02:00[Europe/Vienna]", "2020-07-24T20:07:24.123+05:00[Europe/Vienna]"}) {
+      assertEquals(ZonedDateTime.parse(text), fastPath(IsoDateTimeParser.tryParseZonedDateTime(text), text));
+    }
+  }
+
+  @ParameterizedTest(name = "[{index}] ''{0}''")
+  @ValueSource(strings = {"2020-07-24T20:07:24.123z", "2020-07-24t20:07:24Z", "+12020-07-24T20:07:24Z",
+      "2020-07-24T20:07Z", "2020-07-24T24:00:00Z", "2020-07-24T23:59:60Z", "2020-07-24T20:07:24.Z",
+      "2020-07-24T20:07:24+01:00[UTC]", "2020-07-24T20:07:24Z[GMT0]", "2020-07-24T20:07:24+19:00",
+      "2020-07-24T20:07:24+01", "2020-07-24T20:07:24.1234567890Z", "2020-02-30", "2019-02-29", "2020-13-01",
+      "2020-07-24T20:07:24+01:00[Europe/Atlantis]", "2020-07-24T20:07:24+01:00Europe/Vienna]", "20:61", "", "T"})
+  @DisplayName("unusual or invalid strings take the fallback path and behave exactly like java.time")
+  void fallbackMatchesJavaTime(String text) {
+    assertSameOutcome(text, Instant::parse, IsoDateTimeParser::parseInstant);
+    assertSameOutcome(text, LocalDate::parse, IsoDateTimeParser::parseLocalDate);
+    assertSameOutcome(text, LocalTime::parse, IsoDateTimeParser::parseLocalTime);
+    assertSameOutcome(text, LocalDateTime::parse, IsoDateTimeParser::parseLocalDateTime);
+    assertSameOutcome(text, OffsetDateTime::parse, IsoDateTimeParser::parseOffsetDateTime);
+    assertSameOutcome(text, ZonedDateTime::parse, IsoDateTimeParser::parseZonedDateTime);
+  }
+
+  @ParameterizedTest(name = "[{index}] ''{0}''")
+  @ValueSource(strings = {"2020-07-24T20:07:24.123Z", "2020-07-24T20:07:24.123z", "+12020-07-24T20:07:24Z",
+      "2020-07-24T24:00:00Z", "2020-07-24T20:07:24+01:00[Europe/Vienna]", "2020-07-24T20:07:24+01:00[Europe/Atlantis]",
+      "2020-07-24T20:07:24+19:00", "2020-02-30", "2019-02-29", "2020-07-24", "20:61", "20:07:60", "20:07", "",
+      "PT1H30M", "-P1DT-2H0.5S", "pt1,5s", "PT", "P", "P1H", "PT1.1234567890S", "P106751991167301D",
+      "P1Y2M3W4D", "P2147483648Y", "Z", "z", "+1", "-0130", "+01:30:15", "+18:00", "+18:00:01", "+01:0", "+0130:15"})
+  @DisplayName("lenient parsing returns null exactly for the strings java.time rejects")
+  void orNullMatchesJavaTime(String text) {
+    assertNullWhereThrown(text, Instant::parse, IsoDateTimeParser::parseInstantOrNull);
+    assertNullWhereThrown(text, LocalDate::parse, IsoDateTimeParser::parseLocalDateOrNull);
+    assertNullWhereThrown(text, LocalTime::parse, IsoDateTimeParser::parseLocalTimeOrNull);
+    assertNullWhereThrown(text, LocalDateTime::parse, IsoDateTimeParser::parseLocalDateTimeOrNull);
+    assertNullWhereThrown(text, OffsetDateTime::parse, IsoDateTimeParser::parseOffsetDateTimeOrNull);
+    assertNullWhereThrown(text, ZonedDateTime::parse, IsoDateTimeParser::parseZonedDateTimeOrNull);
+    assertNullWhereThrown(text, Duration::parse, IsoDateTimeParser::parseDurationOrNull);
+    assertNullWhereThrown(text, Period::parse, IsoDateTimeParser::parsePeriodOrNull);
+    assertNullWhereThrown(text, ZoneOffset::of, IsoDateTimeParser::parseZoneOffsetOrNull);
+  }
+
+  private static <T> T fastPath(T parsed, String text) {
+    assertNotNull(parsed, "fast path expected for " + text);
+    return parsed;
+  }
+
+  private static <T> void assertSameOutcome(String text, Function<String, T> expected, Function<String, T> actual) {
+    T result;
+    try {
+      result = expected.apply(text);
+    } catch (DateTimeParseException exc) {
+      assertThrows(DateTimeParseException.class, () -> actual.apply(text), text);
+      return;
+    }
+    assertEquals(result, actual.apply(text), text);
+  }
+
+  private static <T> void assertNullWhereThrown(String text, Function<String, T> expected, Function<String, T> actual) {
+    T result;
+    try {
+      result = expected.apply(text);
+    } catch (DateTimeException exc) {
+      assertNull(actual.apply(text), text);
+      return;
+    }
+    assertEquals(result, actual.apply(text), text);
+  }
+
+  private int randomNanos() {
+    switch (random.nextInt(4)) {
+      case 0:
+        return 0;
+      case 1:
+        return random.nextInt(1_000) * 1_000_000;
+      case 2:
+        return random.nextInt(1_000_000) * 1_000;
+      default:
+        return random.nextInt(1_000_000_000);
+    }
+  }
+
+}
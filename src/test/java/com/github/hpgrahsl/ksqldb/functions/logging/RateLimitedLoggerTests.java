@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Proxy;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+public class RateLimitedLoggerTests {
+
+  private final List<Object[]> logged = new ArrayList<>();
+  private final AtomicLong clock = new AtomicLong();
+
+  //records the arguments of every logger call
+  private final Logger logger = (Logger) Proxy.newProxyInstance(Logger.class.getClassLoader(),
+      new Class<?>[]{Logger.class}, (proxy, method, args) -> {
+        if (method.getName().equals("error"))
+          logged.add(args.length == 2 && args[1] instanceof Object[]
+              ? concat(args[0], (Object[]) args[1]) : args);
+        return method.getReturnType() == boolean.class ? Boolean.TRUE : null;
+      });
+
+  @Test
+  @DisplayName("a burst of errors is logged after which further errors are suppressed")
+  void burstIsLoggedAndRestSuppressed() {
+    RateLimitedLogger rateLimited = new RateLimitedLogger(logger, 6, 3, clock::get);
+    for (int i = 0; i < 10; i++)
+      rateLimited.error("invalid '{}'", i);
+    assertEquals(3, logged.size());
+    assertEquals(7, rateLimited.suppressed());
+    assertEquals("invalid '{}' ({} similar errors suppressed)", logged.get(0)[0]);
+  }
+
+  @Test
+  @DisplayName("permits are refilled over time and the next error reports the suppressed count")
+  void permitsRefillOverTime() {
+    RateLimitedLogger rateLimited = new RateLimitedLogger(logger, 6, 1, clock::get);
+    rateLimited.error("invalid '{}' and '{}'", "a", "b");
+    rateLimited.error("invalid '{}' and '{}'", "c", "d");
+    rateLimited.error("invalid '{}' and '{}'", "e", "f");
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(9));
+    rateLimited.error("invalid '{}' and '{}'", "g", "h");
+    assertEquals(1, logged.size());
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    rateLimited.error("invalid '{}' and '{}'", "i", "j");
+    assertEquals(2, logged.size());
+    assertEquals(Arrays.asList("invalid '{}' and '{}' ({} similar errors suppressed)", "i", "j", 3L),
+        Arrays.asList(logged.get(1)));
+    assertEquals(0, rateLimited.suppressed());
+  }
+
+  @Test
+  @DisplayName("the stack trace is only logged for the first error of each exception class")
+  void stackTraceOncePerErrorClass() {
+    RateLimitedLogger rateLimited = new RateLimitedLogger(logger, 60, 10, clock::get);
+    DateTimeException first = new DateTimeException("first");
+    DateTimeException second = new DateTimeException("second");
+    IllegalArgumentException other = new IllegalArgumentException("other");
+    rateLimited.error("failed for '{}'", "x", first);
+    rateLimited.error("failed for '{}'", "y", second);
+    rateLimited.error("failed for '{}'", "z", other);
+    assertEquals(first, logged.get(0)[logged.get(0).length - 1]);
+    assertEquals(0L, logged.get(1)[logged.get(1).length - 1]);
+    assertEquals(second, logged.get(1)[2]);
+    assertEquals(other, logged.get(2)[logged.get(2).length - 1]);
+  }
+
+  @Test
+  @DisplayName("rate and burst have to be positive")
+  void invalidSettingsAreRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new RateLimitedLogger(logger, 0, 1, clock::get));
+    assertThrows(IllegalArgumentException.class, () -> new RateLimitedLogger(logger, 1, 0, clock::get));
+  }
+
+  private static Object[] concat(Object format, Object[] args) {
+    Object[] all = new Object[args.length + 1];
+    all[0] = format;
+    System.arraycopy(args, 0, all, 1, args.length);
+    return all;
+  }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UdfMetricsTests {
+
+  @Test
+  @DisplayName("every invocation is counted and timed when sampling all of them")
+  void invocationsAreCounted() {
+    UdfMetrics metrics = new UdfMetrics("dt_test", 1);
+    for (int i = 0; i < 10; i++)
+      metrics.end(metrics.begin());
+    assertEquals(10, metrics.getInvocations());
+    assertEquals(10, metrics.getSampledLatencies());
+    assertEquals(0, metrics.getNullResults());
+    assertEquals(0, metrics.getExceptions());
+  }
+
+  @Test
+  @DisplayName("measured calls count null results and exceptions once and pass both through")
+  void nullResultsAndExceptionsAreCounted() {
+    UdfMetrics metrics = new UdfMetrics("dt_test", 1);
+    assertEquals("result", metrics.measure(() -> "result"));
+    assertNull(metrics.measure(() -> null));
+    RuntimeException exc = new IllegalArgumentException();
+    assertSame(exc, assertThrows(IllegalArgumentException.class, () -> metrics.measure(() -> {
+      throw exc;
+    })));
+    assertEquals(3, metrics.getInvocations());
+    assertEquals(3, metrics.getSampledLatencies());
+    assertEquals(1, metrics.getNullResults());
+    assertEquals(1, metrics.getExceptions());
+  }
+
+  @Test
+  @DisplayName("latencies are reported as upper bound of their power of two bucket")
+  void latencyPercentiles() {
+    UdfMetrics metrics = new UdfMetrics("dt_test", 1);
+    assertEquals(0, metrics.getLatencyP50Nanos());
+    for (int i = 0; i < 98; i++)
+      metrics.record(100);
+    metrics.record(1_000);
+    metrics.record(1_000_000);
+    assertEquals(127, metrics.getLatencyP50Nanos());
+    assertEquals(1_023, metrics.getLatencyP99Nanos());
+    assertEquals(1_048_575, metrics.getLatencyMaxNanos());
+    metrics.record(-1);
+    assertEquals(101, metrics.getSampledLatencies());
+    assertEquals(0, metrics.latencyAt(0.0));
+  }
+
+  @Test
+  @DisplayName("reset clears all counters and latencies")
+  void resetClearsAll() {
+    UdfMetrics metrics = new UdfMetrics("dt_test", 1);
+    metrics.end(metrics.begin());
+    metrics.record(42);
+    metrics.reset();
+    assertEquals(0, metrics.getInvocations());
+    assertEquals(0, metrics.getSampledLatencies());
+    assertEquals(0, metrics.getLatencyMaxNanos());
+  }
+
+  @Test
+  @DisplayName("disabled metrics neither count nor alter results and exceptions")
+  void disabledMetricsArePassive() {
+    UdfMetrics metrics = UdfMetrics.of("dt_test");
+    if (UdfMetrics.ENABLED)
+      return;
+    assertEquals("result", metrics.call(() -> "result"));
+    assertNull(metrics.call(() -> null));
+    RuntimeException exc = new IllegalArgumentException();
+    assertSame(exc, assertThrows(IllegalArgumentException.class, () -> metrics.call(() -> {
+      throw exc;
+    })));
+    assertEquals("fallback", metrics.rejected("fallback"));
+    assertEquals(0, metrics.getInvocations());
+    assertEquals(0, metrics.getNullResults());
+    assertEquals(0, metrics.getExceptions());
+    assertEquals(0, metrics.getRejects());
+  }
+
+}
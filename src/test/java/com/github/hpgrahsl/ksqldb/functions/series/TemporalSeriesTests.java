@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.series;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TemporalSeriesTests {
+
+  @Test
+  @DisplayName("elements are only created when they are accessed")
+  void seriesIsLazy() {
+    AtomicInteger created = new AtomicInteger();
+    List<Long> series = TemporalSeries.of(1_000, i -> {
+      created.incrementAndGet();
+      return i * 2;
+    });
+    assertEquals(1_000, series.size());
+    assertEquals(0, created.get());
+    assertEquals(Long.valueOf(10), series.get(5));
+    assertEquals(1, created.get());
+    assertThrows(IndexOutOfBoundsException.class, () -> series.get(1_000));
+  }
+
+  @Test
+  @DisplayName("series larger than the max. number of rows are rejected")
+  void seriesIsGuarded() {
+    assertEquals(10, TemporalSeries.of(10, i -> i, 10).size());
+    assertThrows(IllegalArgumentException.class, () -> TemporalSeries.of(11, i -> i, 10));
+    assertThrows(IllegalArgumentException.class, () -> TemporalSeries.of(Long.MAX_VALUE, i -> i));
+  }
+
+  @Test
+  @DisplayName("number of steps covers the range including a last partial step")
+  void stepsOfRange() {
+    assertEquals(0, TemporalSeries.steps(Duration.ZERO, Duration.ofSeconds(1)));
+    assertEquals(0, TemporalSeries.steps(Duration.ofSeconds(-5), Duration.ofSeconds(1)));
+    assertEquals(5, TemporalSeries.steps(Duration.ofSeconds(5), Duration.ofSeconds(1)));
+    assertEquals(6, TemporalSeries.steps(Duration.ofSeconds(5).plusNanos(1), Duration.ofSeconds(1)));
+    assertEquals(2, TemporalSeries.steps(Duration.ofMinutes(90), Duration.ofHours(1)));
+    assertEquals(Long.MAX_VALUE, TemporalSeries.steps(Duration.ofSeconds(Long.MAX_VALUE), Duration.ofNanos(1)));
+    assertThrows(IllegalArgumentException.class, () -> TemporalSeries.steps(Duration.ofSeconds(5), Duration.ZERO));
+    assertThrows(IllegalArgumentException.class,
+        () -> TemporalSeries.steps(Duration.ofSeconds(5), Duration.ofSeconds(-1)));
+  }
+
+  @Test
+  @DisplayName("number of date steps matches LocalDate.datesUntil and is 0 for ranges against the direction of the step")
+  void stepsOfDateRange() {
+    Random random = new Random(42L);
+    for (int i = 0; i < 100_000; i++) {
+      LocalDate start = LocalDate.ofEpochDay(random.nextInt(800_000) - 400_000);
+      LocalDate end = start.plusDays(random.nextInt(20_000) - 10_000);
+      int sign = random.nextBoolean() ? 1 : -1;
+      Period step = Period.of(sign * random.nextInt(3), sign * random.nextInt(14), sign * random.nextInt(70));
+      if (step.isZero())
+        continue;
+      boolean matching = step.toTotalMonths() * sign >= 0 && end.compareTo(start) * sign > 0;
+      assertEquals(matching ? start.datesUntil(end, step).count() : 0, TemporalSeries.steps(start, end, step),
+          start + " -> " + end + " by " + step);
+    }
+    LocalDate start = LocalDate.of(2020, 1, 31);
+    assertEquals(0, TemporalSeries.steps(start, start, Period.ofDays(1)));
+    assertEquals(0, TemporalSeries.steps(start, LocalDate.of(2020, 1, 1), Period.ofMonths(1)));
+    assertEquals(0, TemporalSeries.steps(start, LocalDate.of(2020, 3, 1), Period.ofDays(-1)));
+    assertEquals(0, TemporalSeries.steps(start, LocalDate.of(2021, 1, 1), Period.of(0, 1, -1)));
+    assertEquals(LocalDate.MIN.datesUntil(LocalDate.MAX, Period.ofMonths(7)).count(),
+        TemporalSeries.steps(LocalDate.MIN, LocalDate.MAX, Period.ofMonths(7)));
+    assertEquals(LocalDate.MAX.datesUntil(LocalDate.MIN, Period.of(-1, -1, -1)).count(),
+        TemporalSeries.steps(LocalDate.MAX, LocalDate.MIN, Period.of(-1, -1, -1)));
+    assertThrows(IllegalArgumentException.class, () -> TemporalSeries.steps(start, start.plusDays(3), Period.ZERO));
+  }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.structs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class StructsComparatorTests {
+
+  private static final int SAMPLES = 10_000;
+  private static final String[] ZONES = {"UTC", "Europe/Vienna", "America/New_York", "Asia/Kolkata", "Pacific/Chatham"};
+
+  private final Random random = new Random(42L);
+
+  @Test
+  @DisplayName("comparing instant structs matches Instant.compareTo")
+  void compareInstantStructs() {
+    for (int i = 0; i < SAMPLES; i++) {
+      Instant i1 = randomInstant();
+      Instant i2 = random.nextInt(4) == 0 ? i1 : randomInstant();
+      assertEquals(Integer.signum(i1.compareTo(i2)), Integer.signum(StructsComparator.compareInstantStructs(
+          StructsConverter.toInstantStruct(i1), StructsConverter.toInstantStruct(i2))));
+    }
+  }
+
+  @Test
+  @DisplayName("comparing local date structs matches LocalDate.compareTo")
+  void compareLocalDateStructs() {
+    for (int i = 0; i < SAMPLES; i++) {
+      LocalDate ld1 = randomLocalDateTime().toLocalDate();
+      LocalDate ld2 = random.nextInt(4) == 0 ? ld1 : randomLocalDateTime().toLocalDate();
+      assertEquals(Integer.signum(ld1.compareTo(ld2)), Integer.signum(StructsComparator.compareLocalDateStructs(
+          StructsConverter.toLocalDateStruct(ld1), StructsConverter.toLocalDateStruct(ld2))));
+    }
+  }
+
+  @Test
+  @DisplayName("comparing local time structs matches LocalTime.compareTo")
+  void compareLocalTimeStructs() {
+    for (int i = 0; i < SAMPLES; i++) {
+      LocalTime lt1 = randomLocalDateTime().toLocalTime();
+      LocalTime lt2 = random.nextInt(4) == 0 ? lt1 : randomLocalDateTime().toLocalTime();
+      assertEquals(Integer.signum(lt1.compareTo(lt2)), Integer.signum(StructsComparator.compareLocalTimeStructs(
+          StructsConverter.toLocalTimeStruct(lt1), StructsConverter.toLocalTimeStruct(lt2))));
+    }
+  }
+
+  @Test
+  @DisplayName("comparing local datetime structs matches LocalDateTime.compareTo")
+  void compareLocalDateTimeStructs() {
+    for (int i = 0; i < SAMPLES; i++) {
+      LocalDateTime ldt1 = randomLocalDateTime();
+      LocalDateTime ldt2 = random.nextInt(4) == 0 ? ldt1 : randomLocalDateTime();
+      assertEquals(Integer.signum(ldt1.compareTo(ldt2)), Integer.signum(StructsComparator.compareLocalDateTimeStructs(
+          StructsConverter.toLocalDateTimeStruct(ldt1), StructsConverter.toLocalDateTimeStruct(ldt2))));
+    }
+  }
+
+  @Test
+  @DisplayName("comparing offset datetime structs matches the instant based OffsetDateTime ordering")
+  void compareOffsetDateTimeStructs() {
+    for (int i = 0; i < SAMPLES; i++) {
+      OffsetDateTime odt1 = OffsetDateTime.of(randomLocalDateTime(), randomOffset());
+      OffsetDateTime odt2 = random.nextInt(4) == 0
+          ? odt1.withOffsetSameInstant(randomOffset()) : OffsetDateTime.of(randomLocalDateTime(), randomOffset());
+      assertEquals(Integer.signum(odt1.toInstant().compareTo(odt2.toInstant())),
+          Integer.signum(StructsComparator.compareOffsetDateTimeStructs(
+              StructsConverter.toOffsetDateTimeStruct(odt1), StructsConverter.toOffsetDateTimeStruct(odt2))));
+    }
+  }
+
+  @Test
+  @DisplayName("comparing zoned datetime structs matches the instant based ZonedDateTime ordering")
+  void compareZonedDateTimeStructs() {
+    for (int i = 0; i < SAMPLES; i++) {
+      ZonedDateTime zdt1 = ZonedDateTime.of(randomLocalDateTime(), randomZone());
+      ZonedDateTime zdt2 = random.nextInt(4) == 0
+          ? zdt1.withZoneSameInstant(randomZone()) : ZonedDateTime.of(randomLocalDateTime(), randomZone());
+      assertEquals(Integer.signum(zdt1.toInstant().compareTo(zdt2.toInstant())),
+          Integer.signum(StructsComparator.compareZonedDateTimeStructs(
+              StructsConverter.toZonedDateTimeStruct(zdt1), StructsConverter.toZonedDateTimeStruct(zdt2))));
+    }
+  }
+
+  @Test
+  @DisplayName("epoch days are calculated the same way as LocalDate.toEpochDay")
+  void toEpochDay() {
+    for (LocalDate ld = LocalDate.of(-2001, 1, 1); ld.getYear() <= 2401; ld = ld.plusDays(1)) {
+      assertEquals(ld.toEpochDay(), StructsComparator.toEpochDay(ld.getYear(), ld.getMonthValue(), ld.getDayOfMonth()));
+    }
+  }
+
+  private Instant randomInstant() {
+    return Instant.ofEpochSecond(random.nextInt() * 64L, random.nextInt(1_000_000_000));
+  }
+
+  private LocalDateTime randomLocalDateTime() {
+    return LocalDateTime.ofEpochSecond(random.nextInt() * 16L, random.nextInt(4) * 250_000_000, ZoneOffset.UTC);
+  }
+
+  private ZoneOffset randomOffset() {
+    return ZoneOffset.ofTotalSeconds((random.nextInt(73) - 36) * 900);
+  }
+
+  private ZoneId randomZone() {
+    return ZoneId.of(ZONES[random.nextInt(ZONES.length)]);
+  }
+
+}
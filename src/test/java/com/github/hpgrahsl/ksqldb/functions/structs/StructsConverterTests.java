@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.structs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.github.hpgrahsl.ksqldb.functions.schemas.DateTimeSchemas;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.apache.kafka.connect.data.Struct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class StructsConverterTests {
+
+  @Test
+  @DisplayName("well-known constant values are converted to the shared struct instances by the shared converters only")
+  void constantsAreShared() {
+    assertSame(StructsConverter.sharedInstantStruct(Instant.EPOCH), StructsConverter.sharedInstantStruct(Instant.ofEpochSecond(0L, 0L)));
+    assertSame(StructsConverter.sharedDurationStruct(Duration.ZERO), StructsConverter.sharedDurationStruct(Duration.ofSeconds(5).minusSeconds(5)));
+    assertSame(StructsConverter.sharedPeriodStruct(Period.ZERO), StructsConverter.sharedPeriodStruct(Period.of(0, 0, 0)));
+    assertSame(StructsConverter.sharedZoneOffsetStruct(ZoneOffset.UTC), StructsConverter.sharedZoneOffsetStruct(ZoneOffset.ofTotalSeconds(0)));
+    assertSame(StructsConverter.sharedZoneIdStruct(ZoneId.of("UTC")), StructsConverter.sharedZoneIdStruct(ZoneId.of("UTC")));
+    assertSame(StructsConverter.sharedZoneIdStruct(ZoneId.of("GMT")), StructsConverter.sharedZoneIdStruct(ZoneId.of("GMT")));
+    assertNotSame(StructsConverter.sharedZoneIdStruct(ZoneId.of("Pacific/Chatham")),
+        StructsConverter.sharedZoneIdStruct(ZoneId.of("Pacific/Chatham")));
+    assertEquals(StructsConverter.toDurationStruct(Duration.ofNanos(1)), StructsConverter.sharedDurationStruct(Duration.ofNanos(1)));
+  }
+
+  @Test
+  @DisplayName("the general purpose converters always build fresh structs which callers may modify")
+  void convertersDoNotShareConstants() {
+    assertNotSame(StructsConverter.sharedInstantStruct(Instant.EPOCH), StructsConverter.toInstantStruct(Instant.EPOCH));
+    assertNotSame(StructsConverter.sharedPeriodStruct(Period.ZERO), StructsConverter.toPeriodStruct(Period.ZERO));
+    assertNotSame(StructsConverter.sharedZoneOffsetStruct(ZoneOffset.UTC), StructsConverter.toZoneOffsetStruct(ZoneOffset.UTC));
+    assertNotSame(StructsConverter.sharedZoneIdStruct(ZoneId.of("UTC")), StructsConverter.toZoneIdStruct(ZoneId.of("UTC")));
+    StructsConverter.toDurationStruct(Duration.ZERO).put(DateTimeSchemas.DURATION_SECONDS_FIELD, 1L);
+    assertEquals(Duration.ZERO, StructsConverter.fromDurationStruct(StructsConverter.sharedDurationStruct(Duration.ZERO)));
+    assertEquals(Duration.ZERO, StructsConverter.fromDurationStruct(StructsConverter.toDurationStruct(0L, 0)));
+  }
+
+  @Test
+  @DisplayName("the shared struct instances equal freshly built ones and convert back to the constants")
+  void constantsAreEqualToBuiltStructs() {
+    assertEquals(new Struct(DateTimeSchemas.DURATION_SCHEMA)
+        .put(DateTimeSchemas.DURATION_SECONDS_FIELD, 0L)
+        .put(DateTimeSchemas.DURATION_NANOS_FIELD, 0), StructsConverter.sharedDurationStruct(Duration.ZERO));
+    assertEquals(new Struct(DateTimeSchemas.ZONEID_SCHEMA)
+        .put(DateTimeSchemas.ZONEID_ID_FIELD, "UTC"), StructsConverter.sharedZoneIdStruct(ZoneId.of("UTC")));
+    assertEquals(Instant.EPOCH, StructsConverter.fromInstantStruct(StructsConverter.sharedInstantStruct(Instant.EPOCH)));
+    assertEquals(Duration.ZERO, StructsConverter.fromDurationStruct(StructsConverter.sharedDurationStruct(Duration.ZERO)));
+    assertEquals(Period.ZERO, StructsConverter.fromPeriodStruct(StructsConverter.sharedPeriodStruct(Period.ZERO)));
+    assertEquals(ZoneOffset.UTC, StructsConverter.fromZoneOffsetStruct(StructsConverter.sharedZoneOffsetStruct(ZoneOffset.UTC)));
+    assertEquals(ZoneId.of("UTC"), StructsConverter.fromZoneIdStruct(StructsConverter.sharedZoneIdStruct(ZoneId.of("UTC"))));
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.structs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ZoneIdCacheTests {
+
+  @Test
+  @DisplayName("repeated lookups of the same ID return the interned ZoneId")
+  void cachedZoneIdIsReused() {
+    ZoneIdCache cache = new ZoneIdCache(4);
+    ZoneId zone = cache.get("Europe/Vienna");
+    assertEquals(ZoneId.of("Europe/Vienna"), zone);
+    assertSame(zone, cache.get("Europe/Vienna"));
+    assertSame(zone.getRules(), cache.get("Europe/Vienna").getRules());
+    assertEquals(1, cache.misses());
+    assertEquals(2, cache.hits());
+  }
+
+  @Test
+  @DisplayName("IDs beyond the capacity are resolved but not cached")
+  void capacityIsBounded() {
+    ZoneIdCache cache = new ZoneIdCache(2);
+    cache.get("Europe/Vienna");
+    cache.get("America/New_York");
+    assertEquals(ZoneId.of("UTC+01:00"), cache.get("UTC+01:00"));
+    assertEquals(2, cache.size());
+    cache.get("Europe/Vienna");
+    cache.get("UTC+01:00");
+    assertEquals(1, cache.hits());
+    assertEquals(4, cache.misses());
+  }
+
+  @Test
+  @DisplayName("invalid IDs are rejected and not cached")
+  void invalidIdIsNotCached() {
+    ZoneIdCache cache = new ZoneIdCache(2);
+    assertThrows(DateTimeException.class, () -> cache.get("Europe/Atlantis"));
+    assertThrows(DateTimeException.class, () -> cache.get("+25:00"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  @DisplayName("finding IDs returns null instead of throwing for invalid IDs")
+  void findInvalidIdReturnsNull() {
+    ZoneIdCache cache = new ZoneIdCache(4);
+    assertEquals(ZoneId.of("Europe/Vienna"), cache.find("Europe/Vienna"));
+    assertEquals(ZoneId.of("UTC+01:00"), cache.find("UTC+01:00"));
+    assertEquals(ZoneId.of("+01:00"), cache.find("+01:00"));
+    assertNull(cache.find("Europe/Atlantis"));
+    assertNull(cache.find("+25:00"));
+    assertNull(cache.find("GMT+x"));
+    assertNull(cache.find(""));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  @DisplayName("offset style IDs are resolved but never take up the slots of region IDs")
+  void offsetStyleIdsAreNotCached() {
+    ZoneIdCache cache = new ZoneIdCache(2);
+    for (int hours = -18; hours <= 18; hours++) {
+      cache.get(String.format("%+03d:00", hours));
+      cache.get(String.format("UTC%+03d:00", hours));
+    }
+    assertEquals(0, cache.size());
+    assertThrows(DateTimeException.class, () -> cache.get("europe/vienna"));
+    ZoneId zone = cache.get("Europe/Vienna");
+    assertSame(zone, cache.get("Europe/Vienna"));
+    assertEquals(1, cache.size());
+  }
+
+}
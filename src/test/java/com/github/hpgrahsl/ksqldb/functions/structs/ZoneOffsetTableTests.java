@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.structs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ZoneOffsetTableTests {
+
+  private static final List<String> ZONES = List.of("Europe/Vienna", "America/New_York", "America/Sao_Paulo",
+      "Australia/Lord_Howe", "Africa/Casablanca", "Asia/Kolkata", "Pacific/Apia", "UTC", "+05:30");
+
+  private final Random random = new Random(42L);
+
+  @Test
+  @DisplayName("offsets match the zone rules within and outside of the expanded years")
+  void offsetsMatchZoneRules() {
+    for (String id : ZONES) {
+      ZoneRules rules = ZoneId.of(id).getRules();
+      ZoneOffsetTable table = new ZoneOffsetTable(ZoneId.of(id), 1950, 2050);
+      for (int i = 0; i < 20_000; i++) {
+        long epochSecond = random.nextLong() % (200L * 365 * 86_400);
+        assertEquals(rules.getOffset(Instant.ofEpochSecond(epochSecond)), table.offsetAt(epochSecond),
+            id + " @ " + epochSecond);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("offsets change exactly at the transitions")
+  void offsetsChangeAtTransitions() {
+    for (String id : ZONES) {
+      ZoneRules rules = ZoneId.of(id).getRules();
+      ZoneOffsetTable table = new ZoneOffsetTable(ZoneId.of(id), 1950, 2050);
+      ZoneOffsetTransition t = rules.nextTransition(Instant.parse("1950-01-01T00:00:00Z"));
+      int transitions = 0;
+      while (t != null && t.getInstant().isBefore(Instant.parse("2051-01-01T00:00:00Z"))) {
+        assertEquals(t.getOffsetBefore(), table.offsetAt(t.toEpochSecond() - 1), id + " before " + t);
+        assertEquals(t.getOffsetAfter(), table.offsetAt(t.toEpochSecond()), id + " at " + t);
+        t = rules.nextTransition(t.getInstant());
+        transitions++;
+      }
+      assertEquals(transitions, table.size());
+    }
+  }
+
+  @Test
+  @DisplayName("local datetimes are resolved like ZonedDateTime.ofLocal including gaps and overlaps")
+  void localOffsetsMatchOfLocal() {
+    for (String id : ZONES) {
+      ZoneId zone = ZoneId.of(id);
+      ZoneOffsetTable table = new ZoneOffsetTable(zone, 1950, 2050);
+      for (int i = 0; i < 20_000; i++) {
+        //half of the samples are placed around transitions where gaps and overlaps occur
+        long localEpochSecond = random.nextLong() % (200L * 365 * 86_400);
+        ZoneOffsetTransition t = zone.getRules().nextTransition(Instant.ofEpochSecond(localEpochSecond));
+        if (random.nextBoolean() && t != null)
+          localEpochSecond = t.toEpochSecond() + t.getOffsetBefore().getTotalSeconds() + random.nextInt(14_400) - 7_200;
+        LocalDateTime ldt = LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC);
+        ZoneOffset preferred = ZoneOffset.ofTotalSeconds((random.nextInt(8) - 4) * 1_800
+            + zone.getRules().getOffset(ldt).getTotalSeconds());
+        ZoneOffset offset = table.localOffset(localEpochSecond, preferred);
+        if (zone.getRules().getValidOffsets(ldt).isEmpty())
+          assertNull(offset, id + " @ " + ldt);
+        else
+          assertEquals(ZonedDateTime.ofLocal(ldt, zone, preferred).getOffset(), offset, id + " @ " + ldt + " " + preferred);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("tables are built once per zone and shared")
+  void tablesAreShared() {
+    ZoneOffsetTable table = ZoneOffsetTable.of("Europe/Vienna");
+    assertSame(table, ZoneOffsetTable.of("Europe/Vienna"));
+    assertEquals(ZoneId.of("Europe/Vienna"), table.zone());
+  }
+
+  @Test
+  @DisplayName("fixed offset zones and zones beyond the capacity are answered by the zone rules without a table")
+  void zonesWithoutTable() {
+    for (String id : List.of("+01:00:01", "UTC+05", "GMT-03:30", "UTC")) {
+      ZoneOffsetTable table = ZoneOffsetTable.of(id);
+      assertEquals(0, table.size());
+      assertEquals(ZoneId.of(id).getRules().getOffset(Instant.EPOCH), table.offsetAt(0L));
+      assertSame(table, ZoneOffsetTable.of(id));
+    }
+    ZoneOffsetTable table = ZoneOffsetTable.of(ZoneId.of("Pacific/Chatham"), 0);
+    assertEquals(0, table.size());
+    assertSame(table, ZoneOffsetTable.of(ZoneId.of("Pacific/Chatham"), 0));
+    ZoneRules rules = ZoneId.of("Pacific/Chatham").getRules();
+    for (int i = 0; i < 20_000; i++) {
+      long epochSecond = random.nextLong() % (200L * 365 * 86_400);
+      assertEquals(rules.getOffset(Instant.ofEpochSecond(epochSecond)), table.offsetAt(epochSecond));
+      LocalDateTime ldt = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+      List<ZoneOffset> valid = rules.getValidOffsets(ldt);
+      assertEquals(valid.isEmpty() ? null : valid.get(0), table.localOffset(epochSecond, ZoneOffset.ofHours(-12)));
+    }
+  }
+
+}
@@ -17,7 +17,6 @@
 
 package com.github.hpgrahsl.ksqldb.functions.util;
 
-import java.io.FileInputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -28,8 +27,8 @@ public class JsonObjectFileArgumentsProvider {
 
   public static List<JsonObject> parseJsonSampleFile(String filePath) {
     try (var jr = Json.createReader(
-        new FileInputStream(Objects.requireNonNull(JsonObjectFileArgumentsProvider.class
-            .getClassLoader().getResource(filePath)).getFile()))) {
+        Objects.requireNonNull(JsonObjectFileArgumentsProvider.class
+            .getClassLoader().getResourceAsStream(filePath)))) {
       return jr.readArray().getValuesAs(JsonObject.class);
     } catch (Exception e) {
       e.printStackTrace();
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2020. Hans-Peter Grahsl (grahslhp@gmail.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.github.hpgrahsl.ksqldb.functions.util;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+
+/*
+ * rebuilds structs the way ksqlDB passes them to the functions i.e. based on a schema derived from the
+ * function signature in which every field is optional, so they are equal in content but not in schema
+ * to the structs of the DateTimeSchemas
+ */
+public class KsqlStructs {
+
+  public static Struct of(Struct struct) {
+    Struct copy = new Struct(toKsqlSchema(struct.schema()));
+    for (Field field : struct.schema().fields()) {
+      Object value = struct.get(field);
+      copy.put(field.name(), value instanceof Struct ? of((Struct)value) : value);
+    }
+    return copy;
+  }
+
+  private static Schema toKsqlSchema(Schema schema) {
+    switch (schema.type()) {
+      case STRUCT:
+        SchemaBuilder builder = SchemaBuilder.struct().optional();
+        for (Field field : schema.fields())
+          builder.field(field.name(), toKsqlSchema(field.schema()));
+        return builder.build();
+      case INT32:
+        return Schema.OPTIONAL_INT32_SCHEMA;
+      case INT64:
+        return Schema.OPTIONAL_INT64_SCHEMA;
+      case STRING:
+        return Schema.OPTIONAL_STRING_SCHEMA;
+      default:
+        throw new IllegalArgumentException("unsupported schema type " + schema.type());
+    }
+  }
+
+}